@@ -0,0 +1,152 @@
+package com.cafe.blog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가상 사용자 한 명의 HTTP 클라이언트
+ * SecurityConfig 의 폼 로그인(POST /login)으로 받은 세션 쿠키를 이후 요청에 사용합니다.
+ */
+public class BlogClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final String userId;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public BlogClient(String baseUrl, String userId, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.userId = userId;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())  // 사용자마다 세션 쿠키를 따로 유지
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    public String userId() {
+        return userId;
+    }
+
+    /**
+     * 폼 로그인. 성공하면 "/" 로, 실패하면 "/login?error" 로 리다이렉트됩니다.
+     */
+    public void login(String password) throws IOException, InterruptedException {
+        String form = "username=" + encode(userId) + "&password=" + encode(password);
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri("/login"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Login failed for " + userId + ": " + response.statusCode() + " " + location);
+        }
+    }
+
+    public int getPost(long postId) throws IOException, InterruptedException {
+        return send(get("/posts/" + postId)).statusCode();
+    }
+
+    public int searchPost(String keyword) throws IOException, InterruptedException {
+        return send(get("/posts?searchType=TITLE&searchKeyword=" + encode(keyword))).statusCode();
+    }
+
+    /**
+     * @return 작성된 게시글 id
+     */
+    public long createPost(String title, String content, List<String> tags) throws IOException, InterruptedException {
+        Map<String, Object> body = Map.of(
+                "userAccountDto", Map.of("userId", userId),
+                "title", title,
+                "content", content,
+                "tags", tags
+        );
+        return expect(send(postJson("/posts", body)), 201).get("id").asLong();
+    }
+
+    /**
+     * 분할 업로드 후 게시글에 첨부합니다. (init -> chunk 순차 전송 -> complete)
+     */
+    public void upload(long postId, byte[] data, int chunkSize) throws IOException, InterruptedException {
+        Map<String, Object> init = Map.of("fileName", "load-test.bin", "contentType", "application/octet-stream", "totalSize", data.length);
+        String uploadId = expect(send(postJson("/uploads", init)), 201).get("uploadId").asText();
+
+        for (int offset = 0; offset < data.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, data.length - offset);
+            expect(send(HttpRequest.newBuilder(uri("/uploads/" + uploadId + "?offset=" + offset))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/octet-stream")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(data, offset, length))
+                    .build()), 200);
+        }
+
+        expect(send(HttpRequest.newBuilder(uri("/uploads/" + uploadId + "/complete?postId=" + postId))
+                .timeout(TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build()), 200);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest postJson(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode expect(HttpResponse<byte[]> response, int status) throws IOException {
+        if (response.statusCode() != status) {
+            throw new UnexpectedStatusException(response.statusCode(), response.request().method() + " " + response.uri());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 기대하지 않은 응답 코드 (429 는 요청 제한으로 따로 집계)
+     */
+    public static class UnexpectedStatusException extends IOException {
+
+        private final int status;
+
+        public UnexpectedStatusException(int status, String request) {
+            super(request + " -> " + status);
+            this.status = status;
+        }
+
+        public int status() {
+            return status;
+        }
+    }
+}
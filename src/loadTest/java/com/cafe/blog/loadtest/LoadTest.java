@@ -0,0 +1,236 @@
+package com.cafe.blog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트 (./gradlew loadTest)
+ *
+ * 1. 시드: 사용자와 게시글을 준비하고 모든 가상 사용자가 폼 로그인합니다.
+ * 2. 실행: 설정한 도착률로 요청을 보냅니다. (open model, 응답을 기다리지 않고 다음 요청을 예약)
+ *    각 요청은 임의의 가상 사용자가 설정한 비율(read/search/write/upload)에 따라 보냅니다.
+ *    지연 시간은 예정된 시작 시각부터 재므로, 앱이 느려져 요청이 밀려도 대기 시간이 빠지지 않습니다. (coordinated omission 방지)
+ * 3. 결과: 요청 종류별 처리량과 p50/p90/p99/max 를 출력하고 reportDir 에 기록합니다.
+ *    p99 가 SLO 를 넘거나 오류율이 maxErrorRate 를 넘으면 종료 코드 1 로 끝나 빌드가 실패합니다.
+ */
+public class LoadTest {
+
+    private final LoadTestConfig config;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();  // 부하 발생기 쪽 대기열이 넘쳐 보내지 못한 요청
+    private final List<VirtualUser> users = new ArrayList<>();
+    private final Operation[] weightedOperations;
+    private final byte[] uploadData;
+    private volatile long measureStartNanos;
+
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+
+        List<Operation> weighted = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("loadTest.mix.* must have at least one positive weight");
+        }
+        this.weightedOperations = weighted.toArray(Operation[]::new);
+
+        this.uploadData = new byte[Math.toIntExact(config.uploadSize())];
+        new Random(7).nextBytes(uploadData);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTest loadTest = new LoadTest(LoadTestConfig.load());
+        loadTest.seed();
+        loadTest.run();
+        boolean passed = loadTest.report();
+        System.exit(passed ? 0 : 1);
+    }
+
+    void seed() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Seeder seeder = new Seeder(config);
+        seeder.seedUsers();
+
+        List<BlogClient> clients = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            BlogClient client = new BlogClient(config.baseUrl(), Seeder.userId(i), objectMapper);
+            client.login(Seeder.PASSWORD);
+            clients.add(client);
+        }
+
+        Map<String, List<Long>> posts = seeder.seedPosts(clients);
+        for (BlogClient client : clients) {
+            users.add(new VirtualUser(client, new CopyOnWriteArrayList<>(posts.get(client.userId()))));
+        }
+        System.out.printf("Seeded %d users, %d posts%n", users.size(), posts.values().stream().mapToInt(List::size).sum());
+    }
+
+    void run() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(config.maxConcurrency(), config.maxConcurrency(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.maxConcurrency() * 100));
+
+        long start = System.nanoTime();
+        measureStartNanos = start + config.warmup().toNanos();
+        long end = measureStartNanos + config.duration().toNanos();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.arrivalRate();
+
+        System.out.printf("Running %.0f req/s for %s (warmup %s)%n", config.arrivalRate(), config.duration(), config.warmup());
+        long next = start;
+        while (next < end) {
+            long now = System.nanoTime();
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
+            }
+            long intendedStart = next;
+            try {
+                executor.execute(() -> execute(intendedStart));
+            } catch (RejectedExecutionException e) {
+                if (intendedStart >= measureStartNanos) {
+                    dropped.increment();
+                }
+            }
+            // 지수 분포 간격 (포아송 도착)
+            next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void execute(long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        VirtualUser user = users.get(random.nextInt(users.size()));
+        Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+        boolean measured = intendedStart >= measureStartNanos;
+        OperationStats operationStats = stats.get(operation);
+
+        try {
+            boolean ok = switch (operation) {
+                case READ -> isSuccess(user.client().getPost(user.randomPost(random)));
+                case SEARCH -> isSuccess(user.client().searchPost(Seeder.WORDS[random.nextInt(Seeder.WORDS.length)]));
+                case WRITE -> {
+                    long postId = user.client().createPost(Seeder.title(random), Seeder.body(random), List.of(Seeder.word(random)));
+                    user.posts().add(postId);
+                    yield true;
+                }
+                case UPLOAD -> {
+                    user.client().upload(user.randomPost(random), uploadData, Math.toIntExact(config.chunkSize()));
+                    yield true;
+                }
+            };
+            if (measured) {
+                if (ok) {
+                    operationStats.success(System.nanoTime() - intendedStart);
+                } else {
+                    operationStats.error();
+                }
+            }
+        } catch (BlogClient.UnexpectedStatusException e) {
+            if (measured) {
+                if (e.status() == 429) {
+                    operationStats.throttled();
+                } else {
+                    operationStats.error();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (measured) {
+                operationStats.error();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isSuccess(int status) throws BlogClient.UnexpectedStatusException {
+        if (status == 429) {
+            throw new BlogClient.UnexpectedStatusException(status, "throttled");
+        }
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * 결과를 출력하고 SLO 를 확인합니다.
+     * @return SLO 를 모두 만족하면 true
+     */
+    boolean report() throws IOException {
+        double seconds = config.duration().toNanos() / 1e9;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-8s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "throttled", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+
+        long total = 0;
+        long errors = dropped.sum();
+        List<String> violations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            OperationStats s = stats.get(operation);
+            long attempts = s.count() + s.errors() + s.throttledCount();
+            if (attempts == 0) {
+                continue;
+            }
+            total += attempts;
+            errors += s.errors();
+            out.append(String.format(Locale.ROOT, "%-8s %9d %8d %9d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    operation.key(), s.count(), s.errors(), s.throttledCount(), s.count() / seconds,
+                    s.percentileMillis(50), s.percentileMillis(90), s.percentileMillis(99), s.maxMillis()));
+
+            if (config.sloP99().containsKey(operation) && s.count() > 0) {
+                double sloMillis = config.sloP99().get(operation).toNanos() / 1e6;
+                if (s.percentileMillis(99) > sloMillis) {
+                    violations.add(String.format(Locale.ROOT, "%s p99 %.1fms > %.1fms", operation.key(), s.percentileMillis(99), sloMillis));
+                }
+            }
+        }
+
+        double errorRate = total == 0 ? 0 : (double) errors / total;
+        out.append(String.format(Locale.ROOT, "total %d requests, %.1f req/s, error rate %.4f, dropped by generator %d%n",
+                total, total / seconds, errorRate, dropped.sum()));
+        if (errorRate > config.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "error rate %.4f > %.4f", errorRate, config.maxErrorRate()));
+        }
+        if (dropped.sum() > 0) {
+            violations.add("load generator could not keep up (raise loadTest.maxConcurrency)");
+        }
+        violations.forEach(violation -> out.append("SLO VIOLATION: ").append(violation).append('\n'));
+        out.append(violations.isEmpty() ? "PASSED" : "FAILED").append('\n');
+
+        System.out.print(out);
+        Path reportDir = Path.of(config.reportDir());
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("summary.txt"), out);
+        return violations.isEmpty();
+    }
+
+    /**
+     * 로그인한 가상 사용자와 그 사용자가 작성한 게시글 (업로드는 자신의 게시글에만 첨부 가능)
+     */
+    private record VirtualUser(BlogClient client, List<Long> posts) {
+
+        long randomPost(ThreadLocalRandom random) {
+            return posts.get(random.nextInt(posts.size()));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.cafe.blog.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정
+ * load-test.properties 의 기본값에 같은 이름의 시스템 프로퍼티(-DloadTest.xxx)를 덮어씁니다.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        int users,
+        int postsPerUser,
+        double arrivalRate,
+        int maxConcurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        long uploadSize,
+        long chunkSize,
+        Map<Operation, Duration> sloP99,
+        double maxErrorRate,
+        String reportDir
+) {
+
+    private static final String PREFIX = "loadTest.";
+
+    public static LoadTestConfig load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/load-test.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith(PREFIX)) {
+                properties.setProperty(key.toString(), value.toString());
+            }
+        });
+
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        Map<Operation, Duration> sloP99 = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, Integer.parseInt(get(properties, "mix." + operation.key(), "0")));
+            String slo = get(properties, "slo." + operation.key() + ".p99", "");
+            if (!slo.isBlank()) {
+                sloP99.put(operation, DurationStyle.detectAndParse(slo));
+            }
+        }
+
+        return new LoadTestConfig(
+                get(properties, "baseUrl", "http://localhost:8080"),
+                get(properties, "jdbcUrl", "jdbc:mariadb://localhost:3308/cafe-blog-database"),
+                getOrEnv(properties, "jdbcUsername", "SPRING_DATASOURCE_USERNAME"),
+                getOrEnv(properties, "jdbcPassword", "SPRING_DATASOURCE_PASSWORD"),
+                Integer.parseInt(get(properties, "users", "50")),
+                Integer.parseInt(get(properties, "postsPerUser", "20")),
+                Double.parseDouble(get(properties, "arrivalRate", "100")),
+                Integer.parseInt(get(properties, "maxConcurrency", "64")),
+                DurationStyle.detectAndParse(get(properties, "warmup", "30s")),
+                DurationStyle.detectAndParse(get(properties, "duration", "2m")),
+                mix,
+                DataSize.parse(get(properties, "uploadSize", "4MB")).toBytes(),
+                DataSize.parse(get(properties, "chunkSize", "1MB")).toBytes(),
+                sloP99,
+                Double.parseDouble(get(properties, "slo.maxErrorRate", "0.01")),
+                get(properties, "reportDir", "build/reports/load-test")
+        );
+    }
+
+    private static String get(Properties properties, String key, String defaultValue) {
+        return properties.getProperty(PREFIX + key, defaultValue).trim();
+    }
+
+    private static String getOrEnv(Properties properties, String key, String env) {
+        String value = get(properties, key, "");
+        return value.isEmpty() ? System.getenv(env) : value;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cafe.blog.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트에서 보내는 요청 종류
+ */
+public enum Operation {
+    READ,    // GET /posts/{postId}
+    SEARCH,  // GET /posts?searchType=TITLE&searchKeyword=...
+    WRITE,   // POST /posts
+    UPLOAD;  // POST /uploads -> PUT /uploads/{id} (chunk) -> POST /uploads/{id}/complete
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
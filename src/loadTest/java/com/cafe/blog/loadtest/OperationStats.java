@@ -0,0 +1,50 @@
+package com.cafe.blog.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 결과 (지연 시간 분포, 오류 수)
+ * 지연 시간은 예정된 시작 시각부터 응답 완료까지이며, 성공한 요청만 분포에 기록합니다.
+ */
+public class OperationStats {
+
+    private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder throttled = new LongAdder();  // 429 (요청 제한) 은 오류와 따로 센다.
+
+    public void success(long latencyNanos) {
+        latency.recordValue(Math.min(latencyNanos, latency.getHighestTrackableValue()));
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public void throttled() {
+        throttled.increment();
+    }
+
+    public long count() {
+        return latency.getTotalCount();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long throttledCount() {
+        return throttled.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return latency.getMaxValue() / 1_000_000.0;
+    }
+}
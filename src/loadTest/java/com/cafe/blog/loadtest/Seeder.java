@@ -0,0 +1,118 @@
+package com.cafe.blog.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트용 시드 데이터
+ *
+ * - 사용자: 가입 API 가 없으므로 JDBC 로 user_account 에 직접 넣습니다. (lt-user-N, 비밀번호는 PASSWORD)
+ * - 게시글: 작성 경로(검증, 태그 인덱스, 렌더링)를 그대로 타도록 API 로 작성합니다.
+ * 이미 있는 사용자/게시글은 다시 만들지 않으므로 여러 번 실행해도 같은 데이터에서 시작합니다.
+ */
+public class Seeder {
+
+    public static final String PASSWORD = "load-test-password";
+    static final String[] WORDS = {"coffee", "latte", "espresso", "mocha", "bean", "roast", "cafe", "brew", "drip", "cold"};
+
+    private final LoadTestConfig config;
+
+    public Seeder(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static String userId(int index) {
+        return "lt-user-" + index;
+    }
+
+    public void seedUsers() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.jdbcUsername(), config.jdbcPassword())) {
+            Set<String> existing = new HashSet<>();
+            try (PreparedStatement select = connection.prepareStatement("select user_id from user_account where user_id like 'lt-user-%'");
+                 ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getString(1));
+                }
+            }
+
+            String hash = new BCryptPasswordEncoder().encode(PASSWORD);  // 모두 같은 비밀번호이므로 한 번만 계산
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into user_account (user_id, user_password, email, nickname, memo, created_at, created_by, modified_at, modified_by) " +
+                            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < config.users(); i++) {
+                    String userId = userId(i);
+                    if (existing.contains(userId)) {
+                        continue;
+                    }
+                    insert.setString(1, userId);
+                    insert.setString(2, hash);
+                    insert.setString(3, userId + "@load-test.local");
+                    insert.setString(4, userId);
+                    insert.setString(5, "load test");
+                    insert.setTimestamp(6, now);
+                    insert.setString(7, "load-test");
+                    insert.setTimestamp(8, now);
+                    insert.setString(9, "load-test");
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 사용자별 게시글 id (없는 만큼 API 로 작성)
+     */
+    public Map<String, List<Long>> seedPosts(List<BlogClient> clients) throws Exception {
+        Map<String, List<Long>> posts = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.jdbcUsername(), config.jdbcPassword());
+             PreparedStatement select = connection.prepareStatement(
+                     "select user_id, id from post where user_id like 'lt-user-%' and deleted = false");
+             ResultSet rs = select.executeQuery()) {
+            while (rs.next()) {
+                posts.computeIfAbsent(rs.getString(1), key -> new ArrayList<>()).add(rs.getLong(2));
+            }
+        }
+
+        Random random = new Random(42);
+        for (BlogClient client : clients) {
+            List<Long> ids = posts.computeIfAbsent(client.userId(), key -> new ArrayList<>());
+            while (ids.size() < config.postsPerUser()) {
+                ids.add(client.createPost(title(random), body(random), List.of(word(random), word(random))));
+            }
+        }
+        return posts;
+    }
+
+    static String title(Random random) {
+        return word(random) + " " + word(random) + " " + random.nextInt(10_000);
+    }
+
+    static String body(Random random) {
+        StringBuilder sb = new StringBuilder("# ").append(word(random)).append("\n\n");
+        int words = 100 + random.nextInt(900);
+        for (int i = 0; i < words; i++) {
+            sb.append(word(random)).append(i % 20 == 19 ? ".\n\n" : " ");
+        }
+        return sb.toString();
+    }
+
+    static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
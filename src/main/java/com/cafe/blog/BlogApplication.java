@@ -1,11 +1,14 @@
 package com.cafe.blog;
 
+import com.cafe.blog.config.BlogRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @ConfigurationPropertiesScan
 @SpringBootApplication
+@ImportRuntimeHints(BlogRuntimeHints.class)
 public class BlogApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,164 @@
+package com.cafe.blog.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 무효화를 모아서 보내는 InvalidationBus 의 공통 구현
+ *
+ * - 발행한 노드의 캐시는 커밋 직후 바로 무효화합니다.
+ * - 다른 노드로 보낼 무효화는 flushInterval 동안 모으며, 같은 key 는 가장 높은 버전 하나로 합칩니다.
+ *   (한 게시글을 연달아 수정해도 메시지는 하나)
+ * - 받은 무효화마다 발행 시각부터의 지연을 blog.cache.invalidation.lag 로 기록합니다. (노드 간 시계 차이 포함)
+ *
+ * 전송 실패한 묶음은 다음 주기에 다시 보냅니다.
+ */
+@Slf4j
+public abstract class BatchingInvalidationBus implements InvalidationBus, InitializingBean, DisposableBean {
+
+    private final Duration flushInterval;
+    private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+    private final Map<Key, Invalidation> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("cache-invalidation-"));
+    private final Timer lag;
+
+    protected BatchingInvalidationBus(String backend, Duration flushInterval, MeterRegistry meterRegistry) {
+        this.flushInterval = flushInterval;
+        this.lag = Timer.builder("blog.cache.invalidation.lag")
+                .description("Time from publishing a cache invalidation until a node applies it")
+                .tag("backend", backend)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void invalidate(String cache, String key, LongSupplier version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(cache, key, version.getAsLong());
+                }
+            });
+        } else {
+            publish(cache, key, version.getAsLong());
+        }
+    }
+
+    @Override
+    public void subscribe(String cache, InvalidationListener listener) {
+        listeners.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private void publish(String cache, String key, long version) {
+        Invalidation invalidation = new Invalidation(cache, key, version, System.currentTimeMillis());
+        apply(invalidation);  // 자기 노드는 바로 반영
+        pending.merge(new Key(cache, key), invalidation, BatchingInvalidationBus::newer);
+    }
+
+    /**
+     * 모아 둔 무효화를 한 번에 보냅니다.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Invalidation> batch = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            Invalidation invalidation = pending.remove(key);
+            if (invalidation != null) {
+                batch.add(invalidation);
+            }
+        }
+        try {
+            send(batch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to send {} cache invalidations, retrying later", batch.size(), e);
+            batch.forEach(invalidation -> pending.merge(
+                    new Key(invalidation.cache(), invalidation.key()), invalidation, BatchingInvalidationBus::newer));
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자기 노드)가 보낸 무효화를 적용합니다.
+     */
+    protected void receive(List<Invalidation> batch) {
+        long now = System.currentTimeMillis();
+        for (Invalidation invalidation : batch) {
+            apply(invalidation);
+            lag.record(Math.max(0, now - invalidation.publishedAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    protected abstract void send(List<Invalidation> batch);
+
+    /**
+     * 전송 수단 준비 (구독, 폴링 등록 등)
+     */
+    protected void start() {
+    }
+
+    /**
+     * 무효화 전용 스레드에서 주기적으로 실행합니다. 예외가 나도 다음 주기는 계속 실행됩니다.
+     */
+    protected void schedule(Runnable task, Duration interval) {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation task failed", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void apply(Invalidation invalidation) {
+        List<InvalidationListener> subscribed = listeners.get(invalidation.cache());
+        if (subscribed != null) {
+            for (InvalidationListener listener : subscribed) {
+                listener.invalidate(invalidation.key(), invalidation.version());
+            }
+        }
+    }
+
+    /**
+     * 같은 key 의 무효화는 높은 버전으로 합치고, 지연은 먼저 발행된 시각부터 잽니다.
+     */
+    private static Invalidation newer(Invalidation a, Invalidation b) {
+        Invalidation newer = a.version() >= b.version() ? a : b;
+        return new Invalidation(newer.cache(), newer.key(), newer.version(), Math.min(a.publishedAt(), b.publishedAt()));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        start();
+        schedule(this::flush, flushInterval);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        flush();  // 남은 무효화 전송
+    }
+
+    private record Key(String cache, String key) {
+    }
+}
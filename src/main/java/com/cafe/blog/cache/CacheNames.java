@@ -0,0 +1,14 @@
+package com.cafe.blog.cache;
+
+/**
+ * 노드 사이에 무효화를 주고받는 캐시 이름
+ */
+public final class CacheNames {
+
+    public static final String POSTS = "posts";  // 게시글 상세 (key: postId)
+    public static final String USERS = "users";  // 사용자 정보 (key: userId)
+    public static final String SESSIONS = "sessions";  // 로그인 세션 near cache (key: 세션 id)
+
+    private CacheNames() {
+    }
+}
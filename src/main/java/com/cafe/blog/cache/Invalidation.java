@@ -0,0 +1,11 @@
+package com.cafe.blog.cache;
+
+/**
+ * 캐시 무효화 메시지
+ * @param cache 캐시 이름 (CacheNames)
+ * @param key 캐시 key
+ * @param version 변경된 행의 버전 (VersionedCache.versionOf), 이보다 오래된 값만 지운다.
+ * @param publishedAt 발행 시각 (epoch ms, 무효화 지연 측정용)
+ */
+public record Invalidation(String cache, String key, long version, long publishedAt) {
+}
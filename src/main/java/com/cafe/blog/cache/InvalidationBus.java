@@ -0,0 +1,19 @@
+package com.cafe.blog.cache;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 사이의 캐시 무효화 전달
+ * 발행한 노드의 캐시는 바로 무효화하고, 다른 노드에는 짧은 주기로 모아서(같은 key 는 하나로 합쳐) 전달합니다.
+ */
+public interface InvalidationBus {
+
+    /**
+     * 캐시 key 를 무효화합니다.
+     * 트랜잭션 안에서 호출하면 커밋된 후에 발행합니다. 버전(modifiedAt)은 flush 때 정해지므로 커밋 후에 읽습니다.
+     * @param version 변경된 행의 버전 (버전이 바뀌지 않는 변경은 VersionedCache.UNVERSIONED)
+     */
+    void invalidate(String cache, String key, LongSupplier version);
+
+    void subscribe(String cache, InvalidationListener listener);
+}
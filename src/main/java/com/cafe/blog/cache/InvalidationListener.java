@@ -0,0 +1,7 @@
+package com.cafe.blog.cache;
+
+@FunctionalInterface
+public interface InvalidationListener {
+
+    void invalidate(String key, long version);
+}
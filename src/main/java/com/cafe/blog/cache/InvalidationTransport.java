@@ -0,0 +1,19 @@
+package com.cafe.blog.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * pub/sub 무효화 전송 수단 (Redis pub/sub, 메시지 브로커 등)
+ * 전달은 최선 노력(best effort)이면 충분합니다. 놓친 무효화는 캐시 ttl 이 지나면 만료됩니다.
+ * 빈으로 등록하지 않으면 프로세스 안에서만 전달하는 LocalInvalidationTransport 를 사용합니다.
+ */
+public interface InvalidationTransport {
+
+    void publish(List<Invalidation> batch);
+
+    /**
+     * 자기 노드가 발행한 메시지도 받아도 됩니다. (버전 비교로 무시됨)
+     */
+    void subscribe(Consumer<List<Invalidation>> subscriber);
+}
@@ -0,0 +1,137 @@
+package com.cafe.blog.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 테이블로 무효화를 전달합니다. (blog.cache.invalidation.backend=jdbc)
+ * 별도 메시지 브로커 없이, 모은 무효화를 cache_invalidation 에 batch INSERT 하고 각 노드가 pollInterval 마다 읽어 갑니다.
+ *
+ * IDENTITY id 는 커밋 순서와 다를 수 있으므로(다른 노드의 batch 가 늦게 커밋된 작은 id), 마지막으로 읽은 id 까지 사이에
+ * 건너뛴 id 를 기억해 두고 gapTimeout 동안 다시 확인합니다. (그동안 나타나지 않으면 롤백된 것으로 봄)
+ * 오래된 행은 retention 이 지나면 지웁니다.
+ */
+public class JdbcInvalidationBus extends BatchingInvalidationBus {
+
+    /**
+     * 한 번에 건너뛴 id 가 이보다 많으면 auto_increment 값이 뛴 것으로 보고 다시 확인하지 않음
+     */
+    static final int MAX_GAP_SPAN = 10_000;
+
+    private static final String INSERT =
+            "insert into cache_invalidation (cache_name, cache_key, version, published_at) values (?, ?, ?, ?)";
+    private static final String SELECT_AFTER =
+            "select id, cache_name, cache_key, version, published_at from cache_invalidation where id > ? order by id limit ?";
+    private static final String SELECT_IN =
+            "select id, cache_name, cache_key, version, published_at from cache_invalidation where id in (%s) order by id";
+    private static final String SELECT_MAX_ID =
+            "select max(id) from cache_invalidation";
+    private static final String DELETE_BEFORE =
+            "delete from cache_invalidation where published_at < ?";
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getLong("id"),
+            new Invalidation(rs.getString("cache_name"), rs.getString("cache_key"),
+                    rs.getLong("version"), rs.getTimestamp("published_at").getTime()));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration pollInterval;
+    private final int pollBatchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();  // 아직 보지 못한 id -> 건너뛴 시각 (폴링 스레드에서만 사용)
+    private long lastSeenId;  // 기동 시점의 마지막 id 부터, 이전 무효화는 필요 없음 (캐시가 비어 있음)
+
+    public JdbcInvalidationBus(JdbcTemplate jdbcTemplate, Duration flushInterval, Duration pollInterval,
+                               int pollBatchSize, Duration gapTimeout, Duration retention, MeterRegistry meterRegistry) {
+        super("jdbc", flushInterval, meterRegistry);
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollInterval = pollInterval;
+        this.pollBatchSize = pollBatchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    @Override
+    protected void start() {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+        lastSeenId = maxId == null ? 0 : maxId;
+        schedule(this::poll, pollInterval);
+        schedule(this::purge, Duration.ofMinutes(1));
+    }
+
+    @Override
+    protected void send(List<Invalidation> batch) {
+        jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, invalidation) -> {
+            ps.setString(1, invalidation.cache());
+            ps.setString(2, invalidation.key());
+            ps.setLong(3, invalidation.version());
+            ps.setTimestamp(4, Timestamp.from(Instant.ofEpochMilli(invalidation.publishedAt())));
+        });
+    }
+
+    void poll() {
+        List<Row> rows;
+        do {
+            rows = jdbcTemplate.query(SELECT_AFTER, ROW_MAPPER, lastSeenId, pollBatchSize);
+            long now = System.currentTimeMillis();
+            List<Invalidation> batch = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                if (row.id() - lastSeenId - 1 <= MAX_GAP_SPAN) {
+                    for (long missing = lastSeenId + 1; missing < row.id(); missing++) {
+                        gaps.put(missing, now);
+                    }
+                }
+                lastSeenId = row.id();
+                batch.add(row.invalidation());
+            }
+            if (!batch.isEmpty()) {
+                receive(batch);
+            }
+        } while (rows.size() == pollBatchSize);
+
+        recheckGaps();
+    }
+
+    void purge() {
+        jdbcTemplate.update(DELETE_BEFORE, Timestamp.from(Instant.now().minus(retention)));
+    }
+
+    /**
+     * 건너뛴 id 중 그 사이 커밋된 행을 적용합니다. gapTimeout 이 지난 id 는 잊습니다.
+     */
+    private void recheckGaps() {
+        long expired = System.currentTimeMillis() - gapTimeout.toMillis();
+        Iterator<Long> skippedAt = gaps.values().iterator();  // 건너뛴 순서
+        while (skippedAt.hasNext() && skippedAt.next() <= expired) {
+            skippedAt.remove();
+        }
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < ids.size(); from += pollBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + pollBatchSize));
+            List<Row> rows = jdbcTemplate.query(SELECT_IN.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))),
+                    ROW_MAPPER, chunk.toArray());
+            List<Invalidation> batch = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                gaps.remove(row.id());
+                batch.add(row.invalidation());
+            }
+            if (!batch.isEmpty()) {
+                receive(batch);
+            }
+        }
+    }
+
+    private record Row(long id, Invalidation invalidation) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.cafe.blog.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 안에서만 전달하는 전송 수단
+ * 단일 인스턴스 배포와 테스트에서 사용합니다. 여러 PubSubInvalidationBus 가 하나를 공유하면 여러 노드처럼 동작합니다.
+ */
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<List<Invalidation>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<Invalidation> batch) {
+        for (Consumer<List<Invalidation>> subscriber : subscribers) {
+            subscriber.accept(batch);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<Invalidation>> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,30 @@
+package com.cafe.blog.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * pub/sub 으로 무효화를 전달합니다. (blog.cache.invalidation.backend=pubsub)
+ * 전송 수단은 InvalidationTransport 빈으로 바꿀 수 있으며, 기본은 프로세스 안에서만 전달합니다.
+ */
+public class PubSubInvalidationBus extends BatchingInvalidationBus {
+
+    private final InvalidationTransport transport;
+
+    public PubSubInvalidationBus(InvalidationTransport transport, Duration flushInterval, MeterRegistry meterRegistry) {
+        super("pubsub", flushInterval, meterRegistry);
+        this.transport = transport;
+    }
+
+    @Override
+    protected void start() {
+        transport.subscribe(this::receive);
+    }
+
+    @Override
+    protected void send(List<Invalidation> batch) {
+        transport.publish(batch);
+    }
+}
@@ -0,0 +1,147 @@
+package com.cafe.blog.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 버전이 있는 로컬 캐시
+ * 값마다 원본 행의 버전(AuditingFields.modifiedAt)을 함께 저장하고, 무효화도 버전으로 처리합니다.
+ *
+ * - 무효화 버전보다 오래된 값은 지우고, 그 버전을 tombstoneTtl 동안 기억하여
+ *   무효화 전에 DB 에서 읽었다가 늦게 저장하려는 오래된 값을 거부합니다.
+ * - 같거나 더 새로운 버전의 값은 무효화되지 않으므로, 같은 무효화를 여러 번 받아도 (자기 노드가 발행한 것 포함) 안전합니다.
+ * - 무효화를 놓치더라도 값은 ttl 이 지나면 만료됩니다.
+ */
+public class VersionedCache<V> implements InvalidationListener {
+
+    public static final long UNVERSIONED = 0;  // 버전과 무관하게 값을 지움 (modifiedAt 이 바뀌지 않는 변경, 예: 댓글 수)
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long tombstoneTtlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder staleRejections = new LongAdder();
+
+    public VersionedCache(String name, int maxSize, Duration ttl, Duration tombstoneTtl) {
+        this(name, maxSize, ttl, tombstoneTtl, System::nanoTime);
+    }
+
+    VersionedCache(String name, int maxSize, Duration ttl, Duration tombstoneTtl, LongSupplier nanoClock) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * modifiedAt 을 마이크로초 단위 버전으로 변환합니다. (DATETIME(6) 정밀도)
+     */
+    public static long versionOf(LocalDateTime modifiedAt) {
+        if (modifiedAt == null) {
+            return UNVERSIONED;
+        }
+        Instant instant = modifiedAt.toInstant(ZoneOffset.UTC);
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.value == null) {
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * @return 저장했으면 true, 더 새로운 버전이 이미 있거나 무효화된 버전보다 오래된 값이면 false
+     */
+    public boolean put(String key, long version, V value) {
+        long now = nanoClock.getAsLong();
+        boolean[] stored = {false};
+        entries.compute(key, (k, old) -> {
+            if (old != null && !old.isExpired(now) && version < old.version) {
+                return old;
+            }
+            stored[0] = true;
+            return new Entry<>(value, version, now + ttlNanos);
+        });
+        if (!stored[0]) {
+            staleRejections.increment();
+        }
+        evictIfFull(now);
+        return stored[0];
+    }
+
+    @Override
+    public void invalidate(String key, long version) {
+        if (version == UNVERSIONED) {
+            entries.computeIfPresent(key, (k, old) -> old.value == null ? old : null);
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        entries.compute(key, (k, old) -> old != null && !old.isExpired(now) && old.version >= version
+                ? old
+                : new Entry<>(null, version, now + tombstoneTtlNanos));
+        evictIfFull(now);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 무효화보다 늦게 도착하여 거부한 오래된 값의 수
+     */
+    public long staleRejections() {
+        return staleRejections.sum();
+    }
+
+    /**
+     * 만료된 항목을 먼저 지우고, 그래도 넘치면 임의의 항목을 지워 maxSize 의 90% 로 줄입니다.
+     */
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (entries.size() > maxSize * 9L / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * value 가 null 이면 무효화 기록(tombstone)
+     */
+    private record Entry<V>(V value, long version, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt - now < 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 제목 자동완성 인덱스 설정 (blog.autocomplete)
+ * 메모리 사용량은 대략 maxTitles x maxTermsPerTitle 개의 단어 시작 위치에 비례합니다.
+ * @param maxTitles 인덱스에 올리는 최대 게시글 수 (넘으면 댓글 수가 많은 게시글 우선)
+ * @param maxTermsPerTitle 제목당 색인하는 단어 시작 위치 수 (1 이면 제목 앞부분만 일치)
+ * @param maxPrefixLength 색인하는 접두어 최대 길이 (더 긴 입력은 이 길이까지 찾은 후보에서 거름)
+ * @param topK 접두어마다 미리 계산해 두는 결과 수 (한 번에 돌려주는 최대 결과 수)
+ * @param rebuildInterval 전체 재구축 주기 (댓글 수 기반 인기도 갱신)
+ */
+@ConfigurationProperties("blog.autocomplete")
+public record AutocompleteProperties(
+        @DefaultValue("500000") int maxTitles,
+        @DefaultValue("4") int maxTermsPerTitle,
+        @DefaultValue("20") int maxPrefixLength,
+        @DefaultValue("10") int topK,
+        @DefaultValue("1h") Duration rebuildInterval
+) {
+}
@@ -0,0 +1,47 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.dto.security.BlogPrincipal;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostUpdated;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * GraalVM native image 빌드 시 리플렉션/직렬화 정보를 등록합니다.
+ * Jackson 이 record 의 생성자와 접근자를 리플렉션으로 사용하고,
+ * 세션에 저장되는 BlogPrincipal 은 Java 직렬화를 사용하기 때문에 AOT 분석만으로는 누락될 수 있습니다.
+ */
+public class BlogRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // 요청 바인딩에 사용되는 DTO (record), 응답은 BlogJsonModule 의 직렬화기가 리플렉션 없이 씀
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                PostDto.class,
+                UserAccountDto.class,
+                BlogPrincipal.class
+        );
+
+        // SSE 피드로 전송되는 이벤트 (SseEmitter 의 data 는 AOT 가 타입을 알 수 없음)
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                PostCreated.class,
+                PostUpdated.class,
+                PostDeleted.class
+        );
+
+        // 세션 직렬화 대상
+        hints.serialization()
+                .registerType(BlogPrincipal.class)
+                .registerType(TypeReference.of("org.springframework.security.core.authority.SimpleGrantedAuthority"))
+                .registerType(TypeReference.of("java.util.ImmutableCollections$SetN"))
+                .registerType(TypeReference.of("java.util.ImmutableCollections$Set12"));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.InvalidationTransport;
+import com.cafe.blog.cache.JdbcInvalidationBus;
+import com.cafe.blog.cache.LocalInvalidationTransport;
+import com.cafe.blog.cache.PubSubInvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 로컬 읽기 캐시와 노드 간 무효화 (blog.cache)
+ * 여러 인스턴스로 배포해도 다른 노드의 updatePost/updateUser 가 무효화로 전달되어 오래된 값을 돌려주지 않습니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public VersionedCache<PostDto> postCache(CacheProperties properties, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        return register(new VersionedCache<>(CacheNames.POSTS, properties.posts().maxSize(),
+                properties.posts().ttl(), properties.posts().tombstoneTtl()), invalidationBus, meterRegistry);
+    }
+
+    @Bean
+    public VersionedCache<UserAccountDto> userCache(CacheProperties properties, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        return register(new VersionedCache<>(CacheNames.USERS, properties.users().maxSize(),
+                properties.users().ttl(), properties.users().tombstoneTtl()), invalidationBus, meterRegistry);
+    }
+
+    private static <V> VersionedCache<V> register(VersionedCache<V> cache, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        invalidationBus.subscribe(cache.name(), cache);
+        Gauge.builder("blog.cache.size", cache, VersionedCache::size)
+                .tag("cache", cache.name())
+                .register(meterRegistry);
+        FunctionCounter.builder("blog.cache.stale.rejected", cache, VersionedCache::staleRejections)
+                .description("Values read before an invalidation and rejected by version")
+                .tag("cache", cache.name())
+                .register(meterRegistry);
+        return cache;
+    }
+
+    @Slf4j
+    @Configuration
+    static class Backends {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "blog.cache.invalidation", name = "backend", havingValue = "pubsub", matchIfMissing = true)
+        public InvalidationBus pubSubInvalidationBus(InvalidationTransport transport, CacheProperties properties, MeterRegistry meterRegistry) {
+            return new PubSubInvalidationBus(transport, properties.invalidation().flushInterval(), meterRegistry);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "blog.cache.invalidation", name = "backend", havingValue = "pubsub", matchIfMissing = true)
+        public InvalidationTransport localInvalidationTransport() {
+            log.warn("No InvalidationTransport bean: cache invalidations reach this instance only. "
+                    + "Use blog.cache.invalidation.backend=jdbc when running more than one instance");
+            return new LocalInvalidationTransport();
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "blog.cache.invalidation", name = "backend", havingValue = "jdbc")
+        public InvalidationBus jdbcInvalidationBus(JdbcTemplate jdbcTemplate, CacheProperties properties, MeterRegistry meterRegistry) {
+            CacheProperties.Invalidation invalidation = properties.invalidation();
+            return new JdbcInvalidationBus(jdbcTemplate, invalidation.flushInterval(), invalidation.pollInterval(),
+                    invalidation.pollBatchSize(), invalidation.gapTimeout(), invalidation.retention(), meterRegistry);
+        }
+    }
+}
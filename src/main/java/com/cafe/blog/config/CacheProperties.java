@@ -0,0 +1,65 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 로컬 캐시와 노드 간 무효화 설정 (blog.cache)
+ * @param invalidation 무효화 전달 설정
+ * @param posts 게시글 상세 캐시
+ * @param users 사용자 정보 캐시
+ */
+@ConfigurationProperties("blog.cache")
+public record CacheProperties(
+        @DefaultValue Invalidation invalidation,
+        @DefaultValue Spec posts,
+        @DefaultValue Spec users
+) {
+
+    /**
+     * @param backend 전달 방식 (pubsub: InvalidationTransport 빈, 없으면 프로세스 안에서만 / jdbc: cache_invalidation 테이블 폴링)
+     *                여러 인스턴스로 배포할 때는 InvalidationTransport 빈을 등록하거나 jdbc 를 사용 (prod 프로필은 jdbc)
+     * @param flushInterval 무효화를 모아서 보내는 주기
+     * @param pollInterval jdbc 테이블 폴링 주기
+     * @param pollBatchSize jdbc 폴링 한 번에 읽는 행 수
+     * @param gapTimeout jdbc 폴링에서 건너뛴 id(늦게 커밋되는 다른 노드의 batch)를 다시 확인하는 시간
+     * @param retention jdbc 테이블에 무효화를 남겨 두는 기간 (gapTimeout 보다 길어야 함)
+     */
+    public record Invalidation(
+            @DefaultValue("pubsub") String backend,
+            @DefaultValue("100ms") Duration flushInterval,
+            @DefaultValue("1s") Duration pollInterval,
+            @DefaultValue("500") int pollBatchSize,
+            @DefaultValue("1m") Duration gapTimeout,
+            @DefaultValue("10m") Duration retention
+    ) {
+
+        public Invalidation {
+            if (!backend.equals("pubsub") && !backend.equals("jdbc")) {
+                throw new IllegalArgumentException("blog.cache.invalidation.backend must be pubsub or jdbc: " + backend);
+            }
+            if (pollBatchSize < 1) {
+                throw new IllegalArgumentException("blog.cache.invalidation.poll-batch-size must be positive");
+            }
+            // 건너뛴 id 를 다시 확인하는 동안 행이 지워지면 늦게 커밋된 무효화를 놓친다.
+            if (retention.compareTo(gapTimeout) <= 0) {
+                throw new IllegalArgumentException("blog.cache.invalidation.retention (" + retention
+                        + ") must be longer than gap-timeout (" + gapTimeout + ")");
+            }
+        }
+    }
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param ttl 값의 유효 기간 (무효화를 놓쳤을 때 오래된 값이 남는 최대 시간)
+     * @param tombstoneTtl 무효화된 버전을 기억하는 기간 (이보다 늦게 도착한 오래된 값을 거부)
+     */
+    public record Spec(
+            @DefaultValue("10000") int maxSize,
+            @DefaultValue("5m") Duration ttl,
+            @DefaultValue("30s") Duration tombstoneTtl
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 게시글 본문 압축 설정
+ * 압축된 본문은 DB 의 LIKE 검색(내용 검색)에 걸리지 않으므로, 내용 검색을 쓰는 환경에서는 켜지 않습니다.
+ * @param enabled 저장 시 압축 여부 (꺼도 이미 압축된 본문은 읽을 수 있다)
+ * @param threshold 이 크기 이상의 본문만 압축
+ * @param level Deflater 압축 레벨 (1~9)
+ * @param backfill 기동 시 기존 게시글 본문을 압축하는 작업 실행 여부
+ * @param backfillBatchSize backfill 한 번에 처리하는 행 수
+ */
+@ConfigurationProperties(prefix = "blog.content-compression")
+public record ContentCompressionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4KB") DataSize threshold,
+        @DefaultValue("6") int level,
+        @DefaultValue("false") boolean backfill,
+        @DefaultValue("200") int backfillBatchSize
+) {
+}
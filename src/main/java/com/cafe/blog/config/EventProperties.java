@@ -0,0 +1,32 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 도메인 이벤트 전달 설정
+ * @param lanes 전달 레인 수 (게시글 id 로 레인을 정하므로 같은 게시글의 이벤트는 순서가 유지된다)
+ * @param queueCapacity 레인별 대기 이벤트 수 (넘치면 retryDelay 뒤에 다시 전달)
+ * @param pollInterval 각 노드가 domain_event 를 읽는 주기 (다른 노드에서 발생한 이벤트의 지연)
+ * @param pollBatchSize 한 번에 읽는 이벤트 수
+ * @param gapTimeout 건너뛴 id 를 다시 확인하는 시간 (가장 긴 트랜잭션보다 길게, 기동 시 이만큼 앞의 이벤트부터 읽음)
+ * @param retryDelay 전달에 실패한 이벤트를 다시 전달하기까지 기다리는 시간
+ * @param maxAttempts 최대 전달 시도 횟수 (넘으면 로그를 남기고 포기)
+ * @param purgeInterval 보관 기간이 지난 이벤트 삭제 주기
+ * @param retention 이벤트 보관 기간
+ */
+@ConfigurationProperties(prefix = "blog.events")
+public record EventProperties(
+        @DefaultValue("4") int lanes,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("500") int pollBatchSize,
+        @DefaultValue("5m") Duration gapTimeout,
+        @DefaultValue("10s") Duration retryDelay,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("10m") Duration purgeInterval,
+        @DefaultValue("7d") Duration retention
+) {
+}
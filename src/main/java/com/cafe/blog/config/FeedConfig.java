@@ -0,0 +1,28 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.service.PostFeedHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+public class FeedConfig {
+
+    /**
+     * SSE 이벤트 전송은 고정 크기 풀에서 처리합니다.
+     * 연결마다 스레드를 두지 않고, 전송할 이벤트가 있는 구독자만 풀의 스레드를 잠시 사용합니다.
+     * (Executor 를 빈으로 노출하면 Boot 의 applicationTaskExecutor 가 등록되지 않으므로 허브 내부에서만 사용합니다.)
+     */
+    @Bean
+    public PostFeedHub postFeedHub(FeedProperties properties, MeterRegistry meterRegistry) {
+        return new PostFeedHub(
+                properties,
+                meterRegistry,
+                Executors.newFixedThreadPool(properties.sendThreads(), new CustomizableThreadFactory("feed-"))
+        );
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 SSE 피드 설정
+ * @param bufferSize 구독자별 전송 대기 버퍼 크기 (가득 차면 느린 구독자로 보고 연결을 끊는다)
+ * @param maxSubscribers 동시 구독자 상한
+ * @param heartbeatInterval 하트비트 전송 주기
+ * @param emitterTimeout SSE 연결 유지 시간 (만료되면 클라이언트가 재연결한다)
+ * @param sendThreads 이벤트 전송 스레드 수 (구독자 수와 무관하게 고정)
+ * @param sendTimeout 한 번의 전송이 이 시간을 넘으면 멈춘 구독자로 보고 연결을 끊는다
+ * @param retryAfter 구독자 상한에 도달했을 때 Retry-After 로 안내하는 시간
+ */
+@ConfigurationProperties(prefix = "blog.feed")
+public record FeedProperties(
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("10000") int maxSubscribers,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration emitterTimeout,
+        @DefaultValue("4") int sendThreads,
+        @DefaultValue("10s") Duration sendTimeout,
+        @DefaultValue("10s") Duration retryAfter
+) {
+}
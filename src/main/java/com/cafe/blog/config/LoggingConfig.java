@@ -0,0 +1,59 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.logging.RequestCorrelationFilter;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * 요청 로그 상관관계 (blog.logging)
+ * 요청 id 와 SQL 추적 여부는 MDC 로 전달하며, Reactor 스케줄러(PostReadService 의 boundedElastic)로
+ * 넘어가는 작업에도 예약 시점의 MDC 를 복사하여 같은 요청 id 로 로그가 남도록 합니다.
+ */
+@Configuration
+public class LoggingConfig implements InitializingBean, DisposableBean {
+
+    private static final String MDC_HOOK = "mdc";
+
+    @Bean
+    public FilterRegistrationBean<RequestCorrelationFilter> requestCorrelationFilter(LoggingProperties properties) {
+        FilterRegistrationBean<RequestCorrelationFilter> registration = new FilterRegistrationBean<>(new RequestCorrelationFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);  // Spring Security 필터보다 먼저 (인증 실패 로그에도 요청 id)
+        return registration;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Schedulers.onScheduleHook(MDC_HOOK, task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            if (context == null) {
+                return task;
+            }
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                MDC.setContextMap(context);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        MDC.clear();
+                    } else {
+                        MDC.setContextMap(previous);
+                    }
+                }
+            };
+        });
+    }
+
+    @Override
+    public void destroy() {
+        Schedulers.resetOnScheduleHook(MDC_HOOK);
+    }
+}
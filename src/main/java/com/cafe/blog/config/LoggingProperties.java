@@ -0,0 +1,20 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청 로그 설정
+ * @param requestIdHeader 요청 id 를 주고받는 헤더 (없으면 새로 만들어 응답에 실어 보냄)
+ * @param sqlTraceSampleRate SQL 과 바인드 값을 로그로 남길 요청의 비율 (0 이면 표본 추출 안 함)
+ * @param sqlTraceHeader 이 헤더에 sqlTraceToken 과 같은 값을 보낸 요청은 SQL 을 로그로 남김
+ * @param sqlTraceToken SQL 추적 헤더 값 (비어 있으면 헤더로 켤 수 없음)
+ */
+@ConfigurationProperties(prefix = "blog.logging")
+public record LoggingProperties(
+        @DefaultValue("X-Request-Id") String requestIdHeader,
+        @DefaultValue("0") double sqlTraceSampleRate,
+        @DefaultValue("X-Sql-Trace") String sqlTraceHeader,
+        @DefaultValue("") String sqlTraceToken
+) {
+}
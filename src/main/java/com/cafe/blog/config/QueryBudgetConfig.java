@@ -0,0 +1,64 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.querybudget.QueryBudgetEnforcer;
+import com.cafe.blog.querybudget.QueryBudgetFilter;
+import com.cafe.blog.querybudget.QueryBudgetMethodInterceptor;
+import com.cafe.blog.querybudget.QueryCountingDataSourcePostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * SQL 실행 예산 (blog.query-budget)
+ * HTTP 요청과 @Transactional 서비스 메소드마다 SQL 수, 읽은 행 수, 반복 쿼리(N+1)를 확인합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.query-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    @Bean
+    public static QueryCountingDataSourcePostProcessor queryCountingDataSourcePostProcessor() {
+        return new QueryCountingDataSourcePostProcessor();
+    }
+
+    @Bean
+    public QueryBudgetEnforcer queryBudgetEnforcer(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        return new QueryBudgetEnforcer(properties, meterRegistry);
+    }
+
+    /**
+     * @Transactional 이 붙은 @Service 의 메소드에 적용합니다.
+     * 인프라 역할로 등록하여, 트랜잭션 프록시를 만드는 auto proxy creator 가 함께 적용합니다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor queryBudgetAdvisor(@Lazy QueryBudgetEnforcer queryBudgetEnforcer) {
+        ComposablePointcut transactionalService = new ComposablePointcut(new AnnotationClassFilter(Service.class, true))
+                .intersection(new AnnotationClassFilter(Transactional.class, true))  // 클래스에 @Transactional
+                .union(new AnnotationMatchingPointcut(Service.class, Transactional.class, true));  // 메소드에 @Transactional
+        return new DefaultPointcutAdvisor(transactionalService, new QueryBudgetMethodInterceptor(queryBudgetEnforcer));
+    }
+
+    /**
+     * DispatcherServlet 바로 앞에서 요청을 감쌉니다. (세션, 인증 필터의 SQL 은 요청 예산에 넣지 않음)
+     */
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(@Lazy QueryBudgetEnforcer queryBudgetEnforcer) {
+        FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(new QueryBudgetFilter(queryBudgetEnforcer));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
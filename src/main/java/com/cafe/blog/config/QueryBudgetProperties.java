@@ -0,0 +1,48 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * SQL 실행 예산 (blog.query-budget)
+ * @param enabled DataSource 집계 사용 여부
+ * @param mode 예산 초과 시 동작 (warn: 로그, fail: 예외)
+ * @param stackTraceSampleRate warn 모드에서 반복 쿼리 지점의 스택을 수집할 비율 (fail 모드는 항상 수집)
+ * @param defaultBudget 따로 지정하지 않은 범위의 예산
+ * @param budgets 범위별 예산 (키: "GET /posts/{postId}" 같은 요청 패턴 또는 "PostService.searchPost" 같은 메소드)
+ */
+@ConfigurationProperties("blog.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("warn") Mode mode,
+        @DefaultValue("0.01") double stackTraceSampleRate,
+        @DefaultValue Budget defaultBudget,
+        Map<String, Budget> budgets
+) {
+
+    public QueryBudgetProperties {
+        budgets = budgets == null ? Map.of() : Map.copyOf(budgets);
+    }
+
+    public Budget budgetFor(String scope) {
+        return budgets.getOrDefault(scope, defaultBudget);
+    }
+
+    /**
+     * @param maxStatements 범위 안에서 실행할 수 있는 SQL 수
+     * @param maxRows 범위 안에서 읽을 수 있는 행 수
+     * @param maxRepeats 같은 모양(값만 다른)의 쿼리를 실행할 수 있는 횟수, 넘으면 N+1 로 판단
+     */
+    public record Budget(
+            @DefaultValue("30") int maxStatements,
+            @DefaultValue("10000") long maxRows,
+            @DefaultValue("4") int maxRepeats
+    ) {
+    }
+
+    public enum Mode {
+        WARN, FAIL
+    }
+}
@@ -0,0 +1,65 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.ratelimit.JdbcRateLimiter;
+import com.cafe.blog.ratelimit.LocalRateLimiter;
+import com.cafe.blog.ratelimit.RateLimitInterceptor;
+import com.cafe.blog.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "blog.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer, SchedulingConfigurer {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitConfig(RateLimitProperties properties, RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 인터셉터는 Spring Security 필터 뒤에서 실행되므로 로그인 사용자를 알 수 있습니다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, properties.policies(), meterRegistry));
+    }
+
+    /**
+     * 사용하지 않는 버킷/끝난 창은 cleanupInterval 마다 정리합니다.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(rateLimiter::cleanup, properties.cleanupInterval());
+    }
+
+    @Configuration
+    static class Backends {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "blog.rate-limit", name = "backend", havingValue = "local", matchIfMissing = true)
+        public RateLimiter localRateLimiter() {
+            return new LocalRateLimiter();
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "blog.rate-limit", name = "backend", havingValue = "jdbc")
+        public RateLimiter jdbcRateLimiter(JdbcTemplate jdbcTemplate) {
+            return new JdbcRateLimiter(jdbcTemplate, Clock.systemUTC());
+        }
+    }
+
+}
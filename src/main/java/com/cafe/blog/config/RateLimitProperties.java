@@ -0,0 +1,41 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 요청 제한 설정
+ * @param enabled 사용 여부
+ * @param backend local (노드별 토큰 버킷) 또는 jdbc (DB 로 노드 간 한도 공유)
+ * @param cleanupInterval 사용하지 않는 버킷/끝난 창 정리 주기
+ * @param policies 정책 이름별 설정 (요청은 처음으로 일치하는 정책 하나만 적용)
+ */
+@ConfigurationProperties(prefix = "blog.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("local") String backend,
+        @DefaultValue("5m") Duration cleanupInterval,
+        Map<String, Policy> policies
+) {
+
+    public RateLimitProperties {
+        policies = policies == null ? Map.of() : policies;
+    }
+
+    /**
+     * @param method HTTP 메서드 (비우면 모든 메서드)
+     * @param path 경로 패턴 (PathPattern 형식, 예: /posts/**)
+     * @param capacity period 동안 허용하는 요청 수 (버킷 크기)
+     * @param period 버킷이 모두 채워지는 시간
+     */
+    public record Policy(
+            String method,
+            String path,
+            long capacity,
+            @DefaultValue("1m") Duration period
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 논블로킹 게시글 조회 API 설정
+ * @param enabled 조회 API 활성화 여부
+ * @param batchSize 스트리밍 조회 시 한 번에 가져오는 행 수 (keyset 페이지 크기)
+ */
+@ConfigurationProperties(prefix = "blog.reactive-read")
+public record ReactiveReadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") int batchSize
+) {
+}
@@ -0,0 +1,37 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 연관 게시글 인덱스 설정 (blog.related)
+ * 게시글마다 hashes 개의 int 서명과 bands 개의 버킷 항목을 메모리에 둡니다.
+ * @param hashes MinHash 서명 길이 (클수록 유사도 추정이 정확하지만 메모리와 계산량 증가)
+ * @param bands LSH 밴드 수 (hashes 의 약수, 밴드가 많을수록 덜 비슷한 게시글도 후보가 됨)
+ * @param shingleSize 본문을 나누는 글자 단위 shingle 길이
+ * @param maxTextLength 서명에 사용하는 제목+본문 최대 글자 수
+ * @param maxPosts 인덱스에 올리는 최대 게시글 수 (재구축 시 최신 게시글 우선)
+ * @param maxBucketSize 버킷 하나에 넣는 최대 게시글 수 (흔한 내용이 모든 조회의 후보가 되지 않도록)
+ * @param minSimilarity 결과에 포함하는 최소 추정 유사도 (Jaccard)
+ * @param rebuildBatchSize 재구축 시 한 번에 읽어 병렬로 서명을 계산하는 게시글 수
+ * @param rebuildCron 전체 재구축 시각 (기동 시에도 한 번 구축)
+ */
+@ConfigurationProperties("blog.related")
+public record RelatedPostProperties(
+        @DefaultValue("64") int hashes,
+        @DefaultValue("16") int bands,
+        @DefaultValue("5") int shingleSize,
+        @DefaultValue("20000") int maxTextLength,
+        @DefaultValue("200000") int maxPosts,
+        @DefaultValue("500") int maxBucketSize,
+        @DefaultValue("0.2") double minSimilarity,
+        @DefaultValue("500") int rebuildBatchSize,
+        @DefaultValue("0 0 4 * * *") String rebuildCron
+) {
+
+    public RelatedPostProperties {
+        if (bands <= 0 || hashes % bands != 0) {
+            throw new IllegalArgumentException("blog.related.hashes (" + hashes + ") must be a multiple of bands (" + bands + ")");
+        }
+    }
+}
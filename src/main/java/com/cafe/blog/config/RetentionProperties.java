@@ -0,0 +1,22 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 보관/정리 설정
+ * @param purgeAfter 소프트 삭제 후 완전히 삭제할 때까지의 기간 (이 기간 동안은 DB 에서 복구 가능)
+ * @param archiveAfter 작성 후 이 기간이 지난 게시글은 post_archive 로 옮긴다. (0 이면 보관하지 않음)
+ * @param batchSize 한 트랜잭션에서 처리하는 게시글 수
+ * @param interval 정리 작업 주기
+ */
+@ConfigurationProperties(prefix = "blog.retention")
+public record RetentionProperties(
+        @DefaultValue("30d") Duration purgeAfter,
+        @DefaultValue("730d") Duration archiveAfter,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1h") Duration interval
+) {
+}
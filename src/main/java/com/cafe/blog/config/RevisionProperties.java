@@ -0,0 +1,18 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 수정 이력 설정
+ * @param snapshotInterval 이 수만큼 변경분을 쌓으면 전체 본문을 저장한다. (한 리비전 복원 시 적용하는 변경분 수의 상한)
+ * @param maxDiffEdits 줄 단위 diff 에서 찾는 최대 편집 수, 넘으면 바뀐 구간 전체를 교체로 기록 (diff 시간 상한)
+ * @param diffContext 두 리비전 비교 결과에서 바뀐 줄 앞뒤로 보여 주는 줄 수
+ */
+@ConfigurationProperties(prefix = "blog.revision")
+public record RevisionProperties(
+        @DefaultValue("20") int snapshotInterval,
+        @DefaultValue("2000") int maxDiffEdits,
+        @DefaultValue("3") int diffContext
+) {
+}
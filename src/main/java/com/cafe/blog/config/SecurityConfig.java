@@ -26,6 +26,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
                                 .requestMatchers("/posts/**").authenticated()  // 인증된 사용자만 접근 가능
+                                .requestMatchers("/uploads/**").authenticated()
                                 .anyRequest().permitAll()  // 그 외 요청은 모두 허용
                 )
                 .formLogin(formLogin ->
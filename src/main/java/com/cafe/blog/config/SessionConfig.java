@@ -0,0 +1,76 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.session.NearCacheSessionRepository;
+import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * 공유 세션 저장소 (blog.session, spring.session.jdbc)
+ * 세션은 Spring Session JDBC 테이블(SPRING_SESSION)에 저장하고, NearCacheSessionRepository 가 앞에서 DB 접근을 줄입니다.
+ * SessionRepository 빈을 직접 등록하므로 Boot 의 JDBC 세션 자동 설정 대신 스키마 초기화도 여기서 등록합니다.
+ */
+@Configuration
+@EnableSpringHttpSession
+@EnableConfigurationProperties(JdbcSessionProperties.class)
+public class SessionConfig {
+
+    @Bean
+    public NearCacheSessionRepository sessionRepository(JdbcTemplate jdbcTemplate,
+                                                        PlatformTransactionManager transactionManager,
+                                                        JdbcSessionProperties jdbcSessionProperties,
+                                                        SessionProperties properties,
+                                                        InvalidationBus invalidationBus) {
+        JdbcIndexedSessionRepository jdbcRepository = new JdbcIndexedSessionRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+        jdbcRepository.setTableName(jdbcSessionProperties.getTableName());
+        jdbcRepository.setDefaultMaxInactiveInterval(properties.timeout());
+        jdbcRepository.setConversionService(conversionService());
+
+        VersionedCache<MapSession> nearCache = new VersionedCache<>(CacheNames.SESSIONS, properties.nearCacheMaxSize(),
+                properties.nearCacheTtl(), properties.nearCacheTtl());
+        invalidationBus.subscribe(CacheNames.SESSIONS, nearCache);
+
+        @SuppressWarnings("unchecked")
+        SessionRepository<Session> delegate = (SessionRepository<Session>) (SessionRepository<?>) jdbcRepository;
+        return new NearCacheSessionRepository(delegate, jdbcTemplate, jdbcSessionProperties.getTableName(),
+                nearCache, invalidationBus, properties.cleanupBatchSize());
+    }
+
+    /**
+     * spring.session.jdbc.initialize-schema (기본 embedded: H2 테스트에서만 생성, MariaDB 는 Flyway migration 으로 생성하므로 never)
+     */
+    @Bean
+    public JdbcSessionDataSourceScriptDatabaseInitializer jdbcSessionDataSourceScriptDatabaseInitializer(
+            DataSource dataSource, JdbcSessionProperties jdbcSessionProperties) {
+        return new JdbcSessionDataSourceScriptDatabaseInitializer(dataSource, jdbcSessionProperties);
+    }
+
+    /**
+     * 세션 속성(보안 컨텍스트)은 Java 직렬화로 저장합니다.
+     * devtools 재시작 클래스로더에서도 BlogPrincipal 을 역직렬화할 수 있도록 애플리케이션 클래스로더를 사용합니다.
+     */
+    private static GenericConversionService conversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter());
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(SessionConfig.class.getClassLoader()));
+        return conversionService;
+    }
+}
@@ -0,0 +1,26 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 공유 세션 저장소 설정 (blog.session)
+ * @param timeout 세션 유지 시간 (마지막 요청 이후)
+ * @param nearCacheTtl 노드가 세션을 DB 에서 다시 읽지 않고 재사용하는 시간
+ * @param nearCacheMaxSize near cache 최대 세션 수
+ * @param writeBehindInterval 마지막 접근 시각을 모아서 DB 에 기록하는 주기
+ * @param cleanupInterval 만료 세션 정리 주기
+ * @param cleanupBatchSize 만료 세션을 한 번에 지우는 수
+ */
+@ConfigurationProperties("blog.session")
+public record SessionProperties(
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("10s") Duration nearCacheTtl,
+        @DefaultValue("100000") int nearCacheMaxSize,
+        @DefaultValue("10s") Duration writeBehindInterval,
+        @DefaultValue("1m") Duration cleanupInterval,
+        @DefaultValue("500") int cleanupBatchSize
+) {
+}
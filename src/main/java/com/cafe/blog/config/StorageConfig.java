@@ -0,0 +1,92 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.storage.AttachmentStorage;
+import com.cafe.blog.storage.LocalFileSystemAttachmentStorage;
+import com.cafe.blog.storage.S3AttachmentStorage;
+import com.cafe.blog.storage.UploadAdmission;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "blog.storage", name = "type", havingValue = "local", matchIfMissing = true)
+    public AttachmentStorage localAttachmentStorage(StorageProperties properties) {
+        return new LocalFileSystemAttachmentStorage(Paths.get(properties.local().root()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "blog.storage", name = "type", havingValue = "s3")
+    public AttachmentStorage s3AttachmentStorage(StorageProperties properties) {
+        StorageProperties.S3 s3 = properties.s3();
+        Region region = Region.of(s3.region());
+        AwsCredentialsProvider credentials = credentialsProvider(s3);
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(s3.pathStyleAccess())
+                .build();
+
+        var clientBuilder = S3Client.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        // multipart 업로드: partSize 단위로 나눠 병렬 전송
+        var asyncClientBuilder = S3AsyncClient.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .forcePathStyle(s3.pathStyleAccess())
+                .multipartEnabled(true)
+                .multipartConfiguration(multipart -> multipart
+                        .minimumPartSizeInBytes(s3.partSize().toBytes())
+                        .thresholdInBytes(s3.partSize().toBytes()));
+        var presignerBuilder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+
+        if (StringUtils.hasText(s3.endpoint())) {
+            URI endpoint = URI.create(s3.endpoint());
+            clientBuilder.endpointOverride(endpoint);
+            asyncClientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+
+        return new S3AttachmentStorage(
+                clientBuilder.build(),
+                asyncClientBuilder.build(),
+                presignerBuilder.build(),
+                Executors.newFixedThreadPool(s3.uploadThreads(), new CustomizableThreadFactory("s3-upload-")),
+                s3.bucket()
+        );
+    }
+
+    @Bean
+    public UploadAdmission uploadAdmission(UploadProperties properties, MeterRegistry meterRegistry) {
+        return new UploadAdmission(properties.admission(), meterRegistry);
+    }
+
+    private AwsCredentialsProvider credentialsProvider(StorageProperties.S3 s3) {
+        if (StringUtils.hasText(s3.accessKey())) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(s3.accessKey(), s3.secretKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 첨부파일 저장소 설정
+ * @param type local (로컬 디스크) 또는 s3 (S3 호환 스토리지)
+ * @param local 로컬 디스크 설정
+ * @param s3 S3 호환 스토리지 설정
+ */
+@ConfigurationProperties(prefix = "blog.storage")
+public record StorageProperties(
+        @DefaultValue("local") String type,
+        @DefaultValue Local local,
+        @DefaultValue S3 s3
+) {
+
+    /**
+     * @param root 파일 저장 경로
+     */
+    public record Local(
+            @DefaultValue("upload") String root
+    ) {
+    }
+
+    /**
+     * @param endpoint 엔드포인트 (MinIO 등 S3 호환 스토리지를 사용할 때 지정, AWS 는 비워 둔다)
+     * @param region 리전
+     * @param bucket 버킷
+     * @param accessKey 접근 키 (비우면 기본 자격 증명 체인 사용)
+     * @param secretKey 비밀 키
+     * @param pathStyleAccess path-style 주소 사용 여부 (MinIO 는 true)
+     * @param partSize multipart 업로드 part 크기
+     * @param uploadThreads 업로드 스트림을 읽는 스레드 수
+     * @param presignTtl presigned 다운로드 URL 유효 시간
+     */
+    public record S3(
+            String endpoint,
+            @DefaultValue("ap-northeast-2") String region,
+            @DefaultValue("cafe-blog") String bucket,
+            String accessKey,
+            String secretKey,
+            @DefaultValue("false") boolean pathStyleAccess,
+            @DefaultValue("8MB") DataSize partSize,
+            @DefaultValue("4") int uploadThreads,
+            @DefaultValue("10m") Duration presignTtl
+    ) {
+    }
+}
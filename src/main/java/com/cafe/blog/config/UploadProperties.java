@@ -0,0 +1,45 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 분할(chunk) 업로드 설정
+ * @param stagingDir chunk 를 모으는 스테이징 디렉터리 (완료되면 첨부파일 저장소로 옮기고 삭제)
+ * @param maxFileSize 분할 업로드로 받을 수 있는 최대 파일 크기
+ * @param chunkSize 클라이언트에 안내하는 chunk 크기
+ * @param maxChunkSize 한 요청에서 받을 수 있는 최대 chunk 크기
+ * @param sessionTtl 업로드 세션 유지 시간 (만료되면 스테이징 파일과 함께 정리)
+ * @param cleanupInterval 만료 세션 정리 주기
+ * @param admission 업로드 디스크 I/O 입장 제어 (단일 요청 업로드와 분할 업로드 모두 적용)
+ */
+@ConfigurationProperties(prefix = "blog.upload")
+public record UploadProperties(
+        @DefaultValue("upload/.parts") String stagingDir,
+        @DefaultValue("5GB") DataSize maxFileSize,
+        @DefaultValue("8MB") DataSize chunkSize,
+        @DefaultValue("32MB") DataSize maxChunkSize,
+        @DefaultValue("24h") Duration sessionTtl,
+        @DefaultValue("1h") Duration cleanupInterval,
+        @DefaultValue Admission admission
+) {
+
+    /**
+     * @param maxConcurrentWriters 동시에 파일을 쓰는 업로드 수
+     * @param maxQueueDepth 슬롯을 기다릴 수 있는 최대 요청 수 (넘으면 바로 거절)
+     * @param queueTimeout 슬롯 대기 시간 (넘으면 거절)
+     * @param bytesPerSecond 모든 업로드가 나눠 쓰는 초당 쓰기 바이트 (0 이면 제한 없음)
+     * @param retryAfter 거절 시 Retry-After 로 안내하는 시간
+     */
+    public record Admission(
+            @DefaultValue("4") int maxConcurrentWriters,
+            @DefaultValue("32") int maxQueueDepth,
+            @DefaultValue("5s") Duration queueTimeout,
+            @DefaultValue("0") DataSize bytesPerSecond,
+            @DefaultValue("5s") Duration retryAfter
+    ) {
+    }
+}
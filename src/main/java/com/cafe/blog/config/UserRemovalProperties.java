@@ -0,0 +1,24 @@
+package com.cafe.blog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 회원 삭제 설정
+ * @param batchSize 한 트랜잭션에서 지우는 게시글(댓글) 수
+ * @param interval 진행 중인 회원 삭제를 이어서 처리하는 주기
+ * @param attachmentBatchSize 첨부파일 삭제 큐에서 한 번에 읽는 수
+ * @param attachmentMaxAttempts 이 횟수만큼 실패한 첨부파일은 더 이상 시도하지 않고 큐에 남겨 둔다. (수동 확인)
+ * @param attachmentInterval 첨부파일 삭제 큐 처리 주기
+ */
+@ConfigurationProperties(prefix = "blog.user-removal")
+public record UserRemovalProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10s") Duration interval,
+        @DefaultValue("100") int attachmentBatchSize,
+        @DefaultValue("5") int attachmentMaxAttempts,
+        @DefaultValue("30s") Duration attachmentInterval
+) {
+}
@@ -0,0 +1,92 @@
+package com.cafe.blog.controller;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.service.AttachmentService;
+import com.cafe.blog.storage.AttachmentStat;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/posts/{postId}/attachment")
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    public AttachmentController(AttachmentService attachmentService) {
+        this.attachmentService = attachmentService;
+    }
+
+    /**
+     * 첨부파일 다운로드
+     * presigned URL 을 지원하는 저장소면 302 로 스토리지에 직접 받도록 하고,
+     * 아니면 Range 헤더(단일 구간)를 해석하여 필요한 구간만 읽어 전송합니다.
+     */
+    @GetMapping
+    public ResponseEntity<?> download(
+            @PathVariable Long postId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader) throws IOException {
+        PostDto post = attachmentService.getAttachmentOwner(postId);
+
+        Optional<URI> presigned = attachmentService.presignedDownloadUrl(post);
+        if (presigned.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(presigned.get()).build();
+        }
+
+        AttachmentStat stat = attachmentService.stat(post)
+                .orElseThrow(() -> new PostNotFoundException("Attachment of post " + postId + " not found."));
+        long size = stat.size();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentType(stat.contentType() != null
+                ? MediaType.parseMediaType(stat.contentType())
+                : MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(post.fileName(), StandardCharsets.UTF_8)
+                .build());
+        if (stat.lastModified() != null) {
+            headers.setLastModified(stat.lastModified());
+        }
+
+        if (rangeHeader == null) {
+            headers.setContentLength(size);
+            return new ResponseEntity<>(new InputStreamResource(attachmentService.openRange(post, 0, -1)), headers, HttpStatus.OK);
+        }
+
+        // 여러 구간 요청은 첫 구간만 응답한다. (multipart/byteranges 미지원)
+        long start;
+        long end;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            if (ranges.isEmpty()) {
+                throw new IllegalArgumentException("Empty range: " + rangeHeader);
+            }
+            start = ranges.get(0).getRangeStart(size);
+            end = ranges.get(0).getRangeEnd(size);
+        } catch (IllegalArgumentException e) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        }
+        long length = end - start + 1;
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        headers.setContentLength(length);
+        return new ResponseEntity<>(new InputStreamResource(attachmentService.openRange(post, start, length)), headers, HttpStatus.PARTIAL_CONTENT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.cafe.blog.controller;
+
+import com.cafe.blog.dto.CommentDto;
+import com.cafe.blog.dto.CommentPageDto;
+import com.cafe.blog.dto.security.BlogPrincipal;
+import com.cafe.blog.service.CommentService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/posts/{postId}/comments")
+@Validated
+public class CommentController {
+
+    private final CommentService commentService;
+
+    public CommentController(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CommentPageDto> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(commentService.getComments(postId, cursor, size));
+    }
+
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")  // 인증된 사용자만 접근 가능
+    public ResponseEntity<CommentDto> createComment(
+            @PathVariable Long postId,
+            @Valid @RequestBody CommentDto commentDto,
+            @AuthenticationPrincipal BlogPrincipal principal) {
+        CommentDto createdComment = commentService.createComment(postId, commentDto, principal);  // 작성자는 로그인 사용자
+        return new ResponseEntity<>(createdComment, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/{commentId}")
+    @PreAuthorize("isAuthenticated()")  // 인증된 사용자만 접근 가능
+    public ResponseEntity<Void> deleteComment(@PathVariable Long postId, @PathVariable Long commentId,
+                                              @AuthenticationPrincipal BlogPrincipal principal) {
+        commentService.deleteComment(postId, commentId, principal);  // 작성자 또는 관리자만 삭제 가능
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -1,16 +1,28 @@
 package com.cafe.blog.controller;
 
 import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.PostHtmlDto;
+import com.cafe.blog.dto.PostRevisionDiffDto;
+import com.cafe.blog.dto.PostRevisionDto;
+import com.cafe.blog.dto.PostSuggestionDto;
+import com.cafe.blog.dto.RelatedPostDto;
+import com.cafe.blog.service.PostRevisionService;
 import com.cafe.blog.service.PostService;
+import com.cafe.blog.service.PostTitleIndex;
+import com.cafe.blog.service.RelatedPostIndex;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/posts")
@@ -18,9 +30,18 @@ import java.io.IOException;
 public class PostController {
 
     private final PostService postService;
+    private final PostTitleIndex postTitleIndex;
+    private final RelatedPostIndex relatedPostIndex;
+    private final PostRevisionService postRevisionService;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService,
+                          PostTitleIndex postTitleIndex,
+                          RelatedPostIndex relatedPostIndex,
+                          PostRevisionService postRevisionService) {
         this.postService = postService;
+        this.postTitleIndex = postTitleIndex;
+        this.relatedPostIndex = relatedPostIndex;
+        this.postRevisionService = postRevisionService;
     }
 
     @PostMapping
@@ -42,9 +63,70 @@ public class PostController {
         return new ResponseEntity<>(updatedPost, HttpStatus.OK);
     }
 
+    /**
+     * 렌더링된 본문 HTML. ETag 는 (postId, modifiedAt) 이므로 본문이 바뀌지 않았으면 304 로 응답합니다.
+     */
+    @GetMapping(value = "/{postId}/html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<String> getPostHtml(@PathVariable Long postId, WebRequest webRequest) {
+        PostHtmlDto html = postService.getPostHtml(postId);
+        if (webRequest.checkNotModified(html.etag())) {
+            return null;  // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .eTag(html.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())  // 매번 ETag 로 재검증
+                .body(html.html());
+    }
+
+    /**
+     * 제목 자동완성. 입력할 때마다 호출되므로 DB 를 조회하지 않고 메모리 인덱스(PostTitleIndex)에서 찾습니다.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<PostSuggestionDto>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postTitleIndex.suggest(query, size));
+    }
+
+    /**
+     * 연관 게시글 (메모리의 MinHash/LSH 인덱스에서 조회, RelatedPostIndex)
+     */
+    @GetMapping("/{postId}/related")
+    public ResponseEntity<List<RelatedPostDto>> getRelatedPosts(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(relatedPostIndex.related(postId, size));
+    }
+
+    /**
+     * 수정 이력 (최신순, 본문 제외). 처음 수정할 때부터 기록되며, 리비전 1 은 처음 수정하기 전의 본문입니다.
+     */
+    @GetMapping("/{postId}/revisions")
+    public ResponseEntity<List<PostRevisionDto>> getRevisions(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postRevisionService.getRevisions(postId, size));
+    }
+
+    @GetMapping("/{postId}/revisions/{revision}")
+    public ResponseEntity<PostRevisionDto> getRevision(@PathVariable Long postId, @PathVariable int revision) {
+        return ResponseEntity.ok(postRevisionService.getRevision(postId, revision));
+    }
+
+    /**
+     * 두 리비전의 본문 비교 (unified diff 형식의 hunk)
+     */
+    @GetMapping("/{postId}/revisions/diff")
+    public ResponseEntity<PostRevisionDiffDto> diffRevisions(
+            @PathVariable Long postId,
+            @RequestParam int from,
+            @RequestParam int to) {
+        return ResponseEntity.ok(postRevisionService.diff(postId, from, to));
+    }
+
     @DeleteMapping("/{postId}")
     @PreAuthorize("isAuthenticated()")  // 인증된 사용자만 접근 가능
-    public ResponseEntity<Void> deletePost(@PathVariable Long postId) throws IOException {
+    public ResponseEntity<Void> deletePost(@PathVariable Long postId) {
         postService.deletePost(postId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
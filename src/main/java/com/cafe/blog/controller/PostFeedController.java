@@ -0,0 +1,28 @@
+package com.cafe.blog.controller;
+
+import com.cafe.blog.service.PostFeedHub;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/posts")
+public class PostFeedController {
+
+    private final PostFeedHub postFeedHub;
+
+    public PostFeedController(PostFeedHub postFeedHub) {
+        this.postFeedHub = postFeedHub;
+    }
+
+    /**
+     * 게시글 생성/수정/삭제 이벤트를 Server-Sent Events 로 구독합니다.
+     * 목록을 주기적으로 폴링하는 대신 이 연결로 변경 사항을 받습니다.
+     */
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return postFeedHub.subscribe();
+    }
+}
@@ -0,0 +1,66 @@
+package com.cafe.blog.controller;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.entity.constant.SearchType;
+import com.cafe.blog.entity.constant.TagMatch;
+import com.cafe.blog.service.PostReadService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * 게시글 조회 API (논블로킹)
+ * Reactor 타입을 반환하면 Spring MVC 가 비동기 요청으로 처리하므로, 조회 중에는 서블릿 스레드를 반납합니다.
+ */
+@RestController
+@RequestMapping("/posts")
+@ConditionalOnProperty(prefix = "blog.reactive-read", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostReadController {
+
+    private final PostReadService postReadService;
+
+    public PostReadController(PostReadService postReadService) {
+        this.postReadService = postReadService;
+    }
+
+    @GetMapping
+    public Mono<Page<PostDto>> searchPost(
+            @RequestParam(defaultValue = "TITLE") SearchType searchType,
+            @RequestParam(required = false) String searchKeyword,
+            @RequestParam(required = false) Set<String> tags,
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        if (tags != null && !tags.isEmpty()) {
+            // 태그 필터는 비트맵 인덱스에서 먼저 계산한다. (정렬은 최신순 고정)
+            return postReadService.searchPostByTags(tags, tagMatch, searchType, searchKeyword, pageable);
+        }
+        return postReadService.searchPost(searchType, searchKeyword, pageable);
+    }
+
+    /**
+     * 검색 결과 전체를 NDJSON 으로 스트리밍합니다. 클라이언트가 읽는 속도에 맞춰 DB 에서 배치 단위로 조회합니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PostDto> streamPost(
+            @RequestParam(defaultValue = "TITLE") SearchType searchType,
+            @RequestParam(required = false) String searchKeyword) {
+        return postReadService.streamPost(searchType, searchKeyword);
+    }
+
+    @GetMapping("/{postId}")
+    public Mono<PostDto> getPost(@PathVariable Long postId) {
+        return postReadService.getPost(postId);
+    }
+}
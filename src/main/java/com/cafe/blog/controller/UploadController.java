@@ -0,0 +1,66 @@
+package com.cafe.blog.controller;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UploadSessionDto;
+import com.cafe.blog.service.ChunkedUploadService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 대용량 첨부파일 분할 업로드
+ * 1. POST /uploads 로 세션 생성
+ * 2. PUT /uploads/{uploadId}?offset= 로 chunk 전송 (병렬 가능, 실패한 chunk 만 재전송)
+ * 3. POST /uploads/{uploadId}/complete?postId= 로 게시글에 첨부
+ */
+@RestController
+@RequestMapping("/uploads")
+@Validated
+@PreAuthorize("isAuthenticated()")  // 인증된 사용자만 접근 가능
+public class UploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    public UploadController(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDto> init(@Valid @RequestBody UploadSessionDto request) throws IOException {
+        return new ResponseEntity<>(chunkedUploadService.init(request), HttpStatus.CREATED);
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionDto> writeChunk(
+            @PathVariable String uploadId,
+            @RequestParam @PositiveOrZero long offset,
+            @RequestHeader(HttpHeaders.CONTENT_LENGTH) @PositiveOrZero long contentLength,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.writeChunk(uploadId, offset, contentLength, body));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDto> getStatus(@PathVariable String uploadId) {
+        return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<PostDto> complete(@PathVariable String uploadId, @RequestParam Long postId) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.complete(uploadId, postId));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(@PathVariable String uploadId) throws IOException {
+        chunkedUploadService.abort(uploadId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -0,0 +1,52 @@
+package com.cafe.blog.dto;
+
+import com.cafe.blog.entity.Comment;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UserAccount;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+public record CommentDto(
+        Long id,
+        Long postId,
+        UserAccountDto userAccountDto,  // 응답용 (작성 시에는 로그인 사용자를 작성자로 사용)
+
+        @NotBlank(message = "Content cannot be blank")
+        @Size(max = 1000, message = "Content must be at most 1000 characters")
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+
+    public static CommentDto of(Long postId, UserAccountDto userAccountDto, String content) {
+        return new CommentDto(null, postId, userAccountDto, content, null, null, null, null);
+    }
+
+    /**
+     * Comment 엔티티를 CommentDto 로 변환합니다.
+     * 게시글은 지연 로딩 프록시이므로 id 만 사용합니다. (추가 쿼리 없음)
+     * @param entity
+     * @return
+     */
+    public static CommentDto from(Comment entity) {
+        return new CommentDto(
+                entity.getId(),
+                entity.getPost().getId(),
+                UserAccountDto.from(entity.getUserAccount()),
+                entity.getContent(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy()
+        );
+    }
+
+    public Comment toEntity(Post post, UserAccount userAccount) {
+        return Comment.of(post, userAccount, content);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.cafe.blog.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이지
+ * @param comments 댓글 목록 (최신순)
+ * @param nextCursor 다음 페이지 조회 시 넘길 커서 (마지막 페이지면 null)
+ */
+public record CommentPageDto(
+        List<CommentDto> comments,
+        Long nextCursor
+) {
+
+    public static CommentPageDto of(List<CommentDto> comments, Long nextCursor) {
+        return new CommentPageDto(comments, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
@@ -1,13 +1,13 @@
 package com.cafe.blog.dto;
 
+import com.cafe.blog.entity.ArchivedPost;
 import com.cafe.blog.entity.Post;
 import com.cafe.blog.entity.UserAccount;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
-
-import java.time.LocalDateTime;
+import java.util.Set;
 
 public record PostDto (
         Long id,
@@ -27,7 +27,11 @@ public record PostDto (
         String modifiedBy,
         String fileName,
         String filePath,
-        String fileType
+        String fileType,
+        int commentCount,
+
+        @Size(max = 10, message = "At most 10 tags are allowed")
+        Set<String> tags
 ){
 
     /**
@@ -39,11 +43,11 @@ public record PostDto (
      * @return
      */
     public static PostDto of(UserAccountDto userAccountDto, String title, String content, String fileName, String filePath, String fileType) {
-        return new PostDto(null, userAccountDto, title, content, null, null, null, null, fileName, filePath, fileType);
+        return new PostDto(null, userAccountDto, title, content, null, null, null, null, fileName, filePath, fileType, 0, Set.of());
     }
 
     public static PostDto of(Long id, UserAccountDto userAccountDto, String title, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, String fileName, String filePath, String fileType) {
-        return new PostDto(id, userAccountDto, title, content, createdAt, createdBy, modifiedAt, modifiedBy, fileName, filePath, fileType);
+        return new PostDto(id, userAccountDto, title, content, createdAt, createdBy, modifiedAt, modifiedBy, fileName, filePath, fileType, 0, Set.of());
     }
 
 
@@ -65,22 +69,76 @@ public record PostDto (
                 postEntity.getModifiedBy(),
                 postEntity.getFileName(),
                 postEntity.getFilePath(),
-                postEntity.getFileType()
+                postEntity.getFileType(),
+                postEntity.getCommentCount(),
+                Set.copyOf(postEntity.getTags())
+        );
+    }
+
+    /**
+     * 목록 응답용으로 본문(content)을 제외하고 변환합니다.
+     * 본문은 post_content 에 지연 로딩되므로, 목록에서는 본문 테이블을 읽지 않습니다. (본문은 상세 조회로 확인)
+     * @param postEntity
+     * @return
+     */
+    public static PostDto summaryFrom(Post postEntity) {
+        return new PostDto(
+                postEntity.getId(),
+                UserAccountDto.from(postEntity.getUserAccount()),
+                postEntity.getTitle(),
+                null,
+                postEntity.getCreatedAt(),
+                postEntity.getCreatedBy(),
+                postEntity.getModifiedAt(),
+                postEntity.getModifiedBy(),
+                postEntity.getFileName(),
+                postEntity.getFilePath(),
+                postEntity.getFileType(),
+                postEntity.getCommentCount(),
+                Set.copyOf(postEntity.getTags())
+        );
+    }
+
+    /**
+     * 보관된 게시글을 PostDto 로 변환합니다. (원본 게시글과 같은 형태로 응답)
+     * @param archivedPost
+     * @return
+     */
+    public static PostDto from(ArchivedPost archivedPost) {
+        return new PostDto(
+                archivedPost.getId(),
+                UserAccountDto.from(archivedPost.getUserAccount()),
+                archivedPost.getTitle(),
+                archivedPost.getContent(),
+                archivedPost.getCreatedAt(),
+                archivedPost.getCreatedBy(),
+                archivedPost.getModifiedAt(),
+                archivedPost.getModifiedBy(),
+                archivedPost.getFileName(),
+                archivedPost.getFilePath(),
+                archivedPost.getFileType(),
+                archivedPost.getCommentCount(),
+                Set.copyOf(archivedPost.getTagSet())
         );
     }
 
     /**
      * PostDto 객체를 Post 엔티티로 변환하기 위해 사용합니다. 이 메소드는 DTO에서 엔티티로의 변환을 담당합니다.
      * PostDto 객체를 데이터베이스에 저장하거나 업데이트하기 위해 Post 엔티티로 변환할 때 사용합니다.
+     * 파일 관련 필드(fileName, filePath, fileType)는 응답용이며 옮기지 않습니다.
+     * 요청 본문의 저장소 key 를 믿으면 다른 사용자의 파일을 자기 게시글에 연결하여 내려받거나 삭제할 수 있으므로,
+     * 첨부파일은 서버가 저장한 업로드에서만 설정합니다. (PostService, ChunkedUploadService)
      * @param userAccount
      * @return
      */
     public Post toEntity(UserAccount userAccount) {
-        return Post.of(
+        Post post = Post.of(
                 userAccount,
                 title,
                 content
-        ).withFileDetails(fileName, filePath, fileType); // 파일 관련 필드 설정;
+        );
+        post.setTags(tags);
+        return post;
     }
 
 }
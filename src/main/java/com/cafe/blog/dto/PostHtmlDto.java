@@ -0,0 +1,21 @@
+package com.cafe.blog.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 렌더링된 게시글 본문
+ * @param postId 게시글 ID
+ * @param modifiedAt 게시글 수정일시 (본문이 바뀌면 함께 바뀜)
+ * @param html 렌더링된 HTML
+ */
+public record PostHtmlDto(Long postId, LocalDateTime modifiedAt, String html) {
+
+    /**
+     * (postId, modifiedAt) 으로 만든 ETag. 본문이 바뀌지 않았으면 같은 값이므로 클라이언트 캐시를 재사용할 수 있습니다.
+     */
+    public String etag() {
+        long version = modifiedAt == null ? 0 : modifiedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"" + postId + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,18 @@
+package com.cafe.blog.dto;
+
+import com.cafe.blog.revision.LineDiff;
+
+import java.util.List;
+
+/**
+ * 두 리비전의 본문 비교 (unified diff 형식의 hunk)
+ */
+public record PostRevisionDiffDto(
+        Long postId,
+        int fromRevision,
+        int toRevision,
+        String fromTitle,
+        String toTitle,
+        List<LineDiff.Hunk> hunks
+) {
+}
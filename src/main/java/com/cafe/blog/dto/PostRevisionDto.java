@@ -0,0 +1,24 @@
+package com.cafe.blog.dto;
+
+import com.cafe.blog.repository.PostRevisionRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 리비전
+ * @param content 리비전의 본문 (목록에서는 null)
+ */
+public record PostRevisionDto(
+        Long postId,
+        int revision,
+        String title,
+        String content,
+        LocalDateTime editedAt,
+        String editedBy
+) {
+
+    public static PostRevisionDto summaryFrom(Long postId, PostRevisionRepository.RevisionSummary summary) {
+        return new PostRevisionDto(postId, summary.getRevision(), summary.getTitle(), null, summary.getEditedAt(), summary.getEditedBy());
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.cafe.blog.dto;
+
+/**
+ * 제목 자동완성 결과
+ * @param postId 게시글 id
+ * @param title 게시글 제목
+ */
+public record PostSuggestionDto(
+        Long postId,
+        String title
+) {
+}
@@ -0,0 +1,14 @@
+package com.cafe.blog.dto;
+
+/**
+ * 연관 게시글
+ * @param postId 게시글 id
+ * @param title 게시글 제목
+ * @param similarity 추정 유사도 (제목+본문 shingle 집합의 Jaccard, 0~1)
+ */
+public record RelatedPostDto(
+        Long postId,
+        String title,
+        double similarity
+) {
+}
@@ -0,0 +1,56 @@
+package com.cafe.blog.dto;
+
+import com.cafe.blog.entity.UploadSession;
+import com.cafe.blog.entity.constant.UploadStatus;
+import com.cafe.blog.storage.ByteRangeSet;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분할 업로드 세션 상태
+ * @param uploadId 업로드 ID
+ * @param chunkSize 권장 chunk 크기
+ * @param receivedBytes 받은 바이트 수
+ * @param missing 아직 받지 못한 구간 [start, end) - 재개 시 이 구간만 다시 보내면 된다.
+ */
+public record UploadSessionDto(
+        String uploadId,
+
+        @NotBlank(message = "File name cannot be blank")
+        @Size(max = 255, message = "File name must be at most 255 characters")
+        String fileName,
+        String contentType,
+
+        @PositiveOrZero(message = "Total size cannot be negative")
+        long totalSize,
+        Long chunkSize,
+        long receivedBytes,
+        List<ByteRangeSet.Range> missing,
+        UploadStatus status,
+        LocalDateTime expiresAt
+) {
+
+    public static UploadSessionDto of(String fileName, String contentType, long totalSize) {
+        return new UploadSessionDto(null, fileName, contentType, totalSize, null, 0, List.of(), null, null);
+    }
+
+    public static UploadSessionDto from(UploadSession entity, long chunkSize) {
+        ByteRangeSet received = entity.receivedRangeSet();
+        return new UploadSessionDto(
+                entity.getId(),
+                entity.getFileName(),
+                entity.getContentType(),
+                entity.getTotalSize(),
+                chunkSize,
+                received.receivedBytes(),
+                received.missing(entity.getTotalSize()),
+                entity.getStatus(),
+                entity.getExpiresAt()
+        );
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.cafe.blog.dto;
+
+import com.cafe.blog.entity.UserRemoval;
+import com.cafe.blog.entity.constant.RemovalStep;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 삭제 진행 상태
+ * @param step 진행 중인 단계 (DONE 이면 완료)
+ * @param deletedPosts 지금까지 지운 게시글 수
+ * @param deletedComments 지금까지 지운 댓글 수
+ */
+public record UserRemovalDto(
+        String userId,
+        RemovalStep step,
+        long deletedPosts,
+        long deletedComments,
+        LocalDateTime requestedAt,
+        LocalDateTime finishedAt
+) {
+
+    public static UserRemovalDto from(UserRemoval entity) {
+        return new UserRemovalDto(
+                entity.getUserId(),
+                entity.getStep(),
+                entity.getDeletedPosts(),
+                entity.getDeletedComments(),
+                entity.getRequestedAt(),
+                entity.getFinishedAt()
+        );
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.cafe.blog.entity;
+
+import com.cafe.blog.entity.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 보관된 게시글 (post_archive)
+ * 오래된 게시글을 post 테이블에서 옮겨 hot 테이블과 인덱스를 작게 유지합니다.
+ * id 와 작성 정보는 원본 그대로 유지하며, 수정할 수 없습니다. (PostService.getPost 에서 투명하게 조회)
+ * 삭제와 댓글 수 갱신만 ArchivedPostService 에서 합니다.
+ */
+@Getter
+@ToString
+@Table(name = "post_archive", indexes = @Index(columnList = "archivedAt"))
+@Entity
+public class ArchivedPost implements Persistable<Long> {
+    @Id
+    private Long id; // 원본 게시글 ID
+
+    @JoinColumn(name = "userId")
+    @ManyToOne(optional = false)
+    private UserAccount userAccount;
+
+    @Column(length = 500, nullable = false)
+    private String title;
+
+    @ToString.Exclude
+    @Convert(converter = CompressedTextConverter.class)  // 큰 본문은 압축하여 저장 (blog.content-compression)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(length = 255)
+    private String fileName;
+
+    @Column(length = 2048)
+    private String filePath;
+
+    @Column(length = 255)
+    private String fileType;
+
+    @Column(nullable = false)
+    private int commentCount;
+
+    @Column(length = 600)
+    private String tags; // 태그 (쉼표로 구분)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, length = 100)
+    private String createdBy;
+
+    @Column(nullable = false)
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false, length = 100)
+    private String modifiedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt; // 보관 일시
+
+    @Transient
+    private boolean isNew = true;  // id 를 직접 지정하므로 save 시 merge(SELECT) 대신 persist 하도록 표시
+
+    protected ArchivedPost() {
+    }
+
+    public static ArchivedPost from(Post post, LocalDateTime archivedAt) {
+        ArchivedPost archived = new ArchivedPost();
+        archived.id = post.getId();
+        archived.userAccount = post.getUserAccount();
+        archived.title = post.getTitle();
+        archived.content = post.getContent();
+        archived.fileName = post.getFileName();
+        archived.filePath = post.getFilePath();
+        archived.fileType = post.getFileType();
+        archived.commentCount = post.getCommentCount();
+        archived.tags = String.join(",", post.getTags());
+        archived.createdAt = post.getCreatedAt();
+        archived.createdBy = post.getCreatedBy();
+        archived.modifiedAt = post.getModifiedAt();
+        archived.modifiedBy = post.getModifiedBy();
+        archived.archivedAt = archivedAt;
+        return archived;
+    }
+
+    public Set<String> getTagSet() {
+        if (tags == null || tags.isEmpty()) {
+            return Set.of();
+        }
+        return new LinkedHashSet<>(Arrays.asList(tags.split(",")));
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+}
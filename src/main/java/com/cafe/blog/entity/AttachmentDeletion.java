@@ -0,0 +1,34 @@
+package com.cafe.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제할 첨부파일 (지연 삭제 큐)
+ * 게시글 행을 지우는 트랜잭션에서 파일 key 를 함께 기록하고, AttachmentDeletionQueue 가 커밋된 행만 읽어 저장소에서 지웁니다.
+ * 행이 남아 있는 한 서버가 종료되어도 파일 삭제가 누락되지 않습니다.
+ */
+@Getter
+@ToString
+@Entity
+public class AttachmentDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 2048, nullable = false)
+    private String fileKey; // 첨부파일 저장소 key
+
+    @Column(nullable = false)
+    private int attempts; // 실패한 삭제 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    protected AttachmentDeletion() {
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.cafe.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 (blog.cache.invalidation.backend=jdbc)
+ * 기록과 조회는 JdbcInvalidationBus 가 직접 수행하며, 엔티티는 테이블 정의에만 사용합니다.
+ */
+@Getter
+@ToString
+@Table(indexes = @Index(columnList = "publishedAt"))
+@Entity
+public class CacheInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 폴링 위치
+
+    @Column(nullable = false, length = 50)
+    private String cacheName; // 캐시 이름
+
+    @Column(nullable = false, length = 200)
+    private String cacheKey; // 캐시 key
+
+    @Column(nullable = false)
+    private long version; // 변경된 행의 버전 (modifiedAt, 마이크로초)
+
+    @Column(nullable = false)
+    private LocalDateTime publishedAt; // 발행 시각 (지연 측정, 정리 기준)
+
+    protected CacheInvalidation() {
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.cafe.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@ToString(callSuper = true)
+@Table(indexes = {
+        @Index(columnList = "postId, id"),  // 게시글별 커서 페이지 조회
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@Entity
+public class Comment extends AuditingFields {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ToString.Exclude
+    @JoinColumn(name = "postId", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))  // 보관(post_archive)으로 옮긴 게시글의 댓글도 유지
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    private Post post; // 게시글 (ID)
+
+    @JoinColumn(name = "userId")
+    @ManyToOne(optional = false)
+    private UserAccount userAccount; // 유저 정보 (ID)
+
+    @Column(length = 1000, nullable = false)
+    @Setter private String content;
+
+    protected Comment() {
+    }
+
+    private Comment(Post post, UserAccount userAccount, String content) {
+        this.post = post;
+        this.userAccount = userAccount;
+        this.content = content;
+    }
+
+    public static Comment of(Post post, UserAccount userAccount, String content) {
+        return new Comment(post, userAccount, content);
+    }
+
+}
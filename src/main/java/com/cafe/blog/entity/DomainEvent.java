@@ -0,0 +1,54 @@
+package com.cafe.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 저장소 (outbox)
+ * 이벤트를 발생시킨 트랜잭션 안에서 기록하고, 모든 노드가 id 순서로 읽어 가므로 다른 노드의 처리기에도 전달됩니다.
+ * 처리 여부는 노드마다 메모리에 두며, 행은 보관 기간이 지나면 발생 시각으로 지웁니다.
+ * (processed_at, attempts, last_error 컬럼은 이전 버전 노드가 쓰므로 테이블에만 남아 있음)
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "occurredAt"),  // 기동 위치, 보관 기간이 지난 이벤트 삭제
+        @Index(columnList = "postId")
+})
+@Entity
+public class DomainEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId; // 이벤트 대상 게시글 (ID)
+
+    @Column(length = 50, nullable = false)
+    private String eventType; // 이벤트 종류 (PostCreated 등)
+
+    @ToString.Exclude
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload; // 이벤트 JSON
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    protected DomainEvent() {
+    }
+
+    private DomainEvent(Long postId, String eventType, String payload, LocalDateTime occurredAt) {
+        this.postId = postId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public static DomainEvent of(Long postId, String eventType, String payload, LocalDateTime occurredAt) {
+        return new DomainEvent(postId, eventType, payload, occurredAt);
+    }
+
+}
@@ -4,14 +4,25 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 
 @Getter
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "title"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "deletedAt")  // 소프트 삭제 게시글 정리
 })
+@SQLRestriction("deleted = false")  // 소프트 삭제된 게시글은 모든 조회에서 제외
 @Entity
 public class Post extends AuditingFields {
     @Id
@@ -26,8 +37,10 @@ public class Post extends AuditingFields {
     @Column(length = 500, nullable = false)
     @Setter private String title;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
-    @Setter private String content;
+    @ToString.Exclude
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "contentId", unique = true)  // 기존 post.content 이전(V3__MovePostContent) 전까지는 비어 있을 수 있음
+    private PostContent postContent; // 본문 (별도 테이블, 상세 조회에서만 로딩)
 
     @Column(length = 255)
     @Setter private String fileName;
@@ -38,6 +51,63 @@ public class Post extends AuditingFields {
     @Column(length = 255)
     @Setter private String fileType;
 
+    @Column(nullable = false)
+    private int commentCount; // 댓글 수 (비정규화, PostRepository.adjustCommentCount 로만 변경)
+
+    @Column(nullable = false)
+    private boolean deleted; // 삭제 여부 (PostRepository.softDelete 로만 변경, PostRetentionJob 이 보관 기간 후 완전히 삭제)
+
+    private LocalDateTime deletedAt; // 삭제 일시
+
+    @ToString.Exclude
+    @BatchSize(size = 100)  // 목록 조회 시 태그를 게시글마다 조회하지 않고 묶어서 조회
+    @ElementCollection
+    @CollectionTable(name = "post_tag", joinColumns = @JoinColumn(name = "postId"), indexes = @Index(columnList = "tag"))
+    @Column(name = "tag", length = 50, nullable = false)
+    private Set<String> tags = new LinkedHashSet<>(); // 태그 (소문자로 정규화)
+
+    public void setTags(Collection<String> tags) {
+        this.tags.clear();
+        if (tags != null) {
+            tags.stream()
+                    .filter(tag -> tag != null && !tag.isBlank())
+                    .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                    .forEach(this.tags::add);
+        }
+    }
+
+    /**
+     * 본문을 반환합니다. 지연 로딩이므로 처음 호출할 때 post_content 를 조회합니다.
+     * 목록처럼 본문이 필요 없는 곳에서는 호출하지 않습니다. (PostDto.summaryFrom)
+     */
+    public String getContent() {
+        return postContent == null ? null : postContent.getContent();
+    }
+
+    /**
+     * 본문과 렌더링된 HTML 을 함께 바꿉니다.
+     * 본문이 바뀌면 post 행의 수정일시도 갱신합니다. (본문은 다른 테이블이라 post 행이 바뀌지 않으면 감사 필드가 갱신되지 않음)
+     */
+    public void setContent(String content, String renderedHtml) {
+        if (postContent == null) {
+            postContent = PostContent.of(content);
+        } else if (!Objects.equals(postContent.getContent(), content)) {
+            postContent.setContent(content);
+            this.modifiedAt = LocalDateTime.now();  // 감사 리스너가 저장 시 다시 설정
+        }
+        postContent.setRenderedHtml(renderedHtml);
+    }
+
+    public String getRenderedHtml() {
+        return postContent == null ? null : postContent.getRenderedHtml();
+    }
+
+    public void setRenderedHtml(String renderedHtml) {
+        if (postContent != null) {
+            postContent.setRenderedHtml(renderedHtml);
+        }
+    }
+
     public Post withFileDetails(String fileName, String filePath, String fileType) {
         this.fileName = fileName;
         this.filePath = filePath;
@@ -55,7 +125,7 @@ public class Post extends AuditingFields {
     private Post(UserAccount userAccount, String title, String content) {
         this.userAccount = userAccount;
         this.title = title;
-        this.content = content;
+        this.postContent = PostContent.of(content);
     }
 
     /**
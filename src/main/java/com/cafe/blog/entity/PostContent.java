@@ -0,0 +1,45 @@
+package com.cafe.blog.entity;
+
+import com.cafe.blog.entity.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 게시글 본문 (post_content)
+ * 본문(TEXT)을 post 테이블에서 분리하여, 목록/제목 검색/메타데이터 수정은 좁은 post 행만 읽고 씁니다.
+ * Post 가 FK(contentId)를 가진 쪽이므로 지연 로딩(프록시)이 동작하며, 상세 조회에서만 함께 읽습니다.
+ * 렌더링된 HTML 도 함께 저장하여, 조회 시에는 렌더링하지 않습니다.
+ */
+@Getter
+@ToString
+@Table(name = "post_content")
+@Entity
+public class PostContent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ToString.Exclude
+    @Convert(converter = CompressedTextConverter.class)  // 큰 본문은 압축하여 저장 (blog.content-compression)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    @Setter private String content;
+
+    @ToString.Exclude
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @Setter private String renderedHtml; // content 를 렌더링한 HTML (MarkdownRenderer, 본문이 바뀔 때만 다시 렌더링)
+
+    protected PostContent() {
+    }
+
+    private PostContent(String content) {
+        this.content = content;
+    }
+
+    public static PostContent of(String content) {
+        return new PostContent(content);
+    }
+
+}
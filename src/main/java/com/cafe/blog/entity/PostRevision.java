@@ -0,0 +1,73 @@
+package com.cafe.blog.entity;
+
+import com.cafe.blog.entity.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 수정 이력 (post_revision)
+ * 매 수정마다 본문 전체를 저장하지 않고 이전 리비전과의 줄 단위 변경분(RevisionDelta)만 저장합니다.
+ * snapshotInterval 리비전마다 (또는 변경분이 본문만큼 커지면) 전체 본문을 저장하므로, 한 리비전을 복원할 때 적용하는 변경분 수가 제한됩니다.
+ * 리비전 1 은 처음 수정하기 전의 본문입니다.
+ */
+@Getter
+@ToString
+@Table(name = "post_revision", uniqueConstraints = @UniqueConstraint(columnNames = {"postId", "revision"}))  // 동시 수정 시 같은 번호는 하나만 기록
+@Entity
+public class PostRevision {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId; // 게시글 ID (보관된 게시글의 이력도 유지하므로 FK 없음)
+
+    @Column(nullable = false)
+    private int revision; // 리비전 번호 (1부터)
+
+    @Column(nullable = false)
+    private int baseRevision; // 복원을 시작할 전체 본문 리비전 (snapshot 이면 자기 자신)
+
+    @Column(length = 500, nullable = false)
+    private String title;
+
+    @ToString.Exclude
+    @Convert(converter = CompressedTextConverter.class)  // 큰 snapshot 은 압축하여 저장 (blog.content-compression)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content; // snapshot 이면 전체 본문, 아니면 이전 리비전과의 변경분
+
+    @Column(nullable = false)
+    private LocalDateTime editedAt;
+
+    @Column(nullable = false, length = 100)
+    private String editedBy;
+
+    protected PostRevision() {
+    }
+
+    private PostRevision(Long postId, int revision, int baseRevision, String title, String content, LocalDateTime editedAt, String editedBy) {
+        this.postId = postId;
+        this.revision = revision;
+        this.baseRevision = baseRevision;
+        this.title = title;
+        this.content = content;
+        this.editedAt = editedAt;
+        this.editedBy = editedBy;
+    }
+
+    public static PostRevision snapshot(Long postId, int revision, String title, String content, LocalDateTime editedAt, String editedBy) {
+        return new PostRevision(postId, revision, revision, title, content, editedAt, editedBy);
+    }
+
+    public static PostRevision delta(Long postId, int revision, int baseRevision, String title, String delta, LocalDateTime editedAt, String editedBy) {
+        return new PostRevision(postId, revision, baseRevision, title, delta, editedAt, editedBy);
+    }
+
+    public boolean isSnapshot() {
+        return revision == baseRevision;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.cafe.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 요청 제한 창 (blog.rate-limit.backend=jdbc)
+ * 갱신은 JdbcRateLimiter 가 조건부 UPDATE 로 직접 수행하며, 엔티티는 테이블 정의에만 사용합니다.
+ */
+@Getter
+@ToString
+@Table(indexes = @Index(columnList = "windowEnd"))
+@Entity
+public class RateLimitWindow {
+    @Id
+    @Column(length = 300)
+    private String bucketKey; // 정책:사용자@창 시작 시각
+
+    @Column(nullable = false)
+    private int hits; // 창 안의 요청 수
+
+    @Column(nullable = false)
+    private LocalDateTime windowEnd; // 창 종료 시각 (지나면 정리)
+
+    protected RateLimitWindow() {
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.cafe.blog.entity;
+
+import com.cafe.blog.entity.constant.UploadStatus;
+import com.cafe.blog.storage.ByteRangeSet;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할(chunk) 업로드 세션
+ * chunk 는 스테이징 파일에 바로 기록하고, 여기에는 받은 바이트 구간만 저장하여 중단된 업로드를 이어서 받을 수 있게 합니다.
+ */
+@Getter
+@ToString(callSuper = true)
+@Table(indexes = {
+        @Index(columnList = "expiresAt"),
+        @Index(columnList = "createdBy")
+})
+@Entity
+public class UploadSession extends AuditingFields {
+    @Id
+    @Column(length = 36)
+    private String id; // 업로드 ID (UUID)
+
+    @Column(length = 255, nullable = false)
+    private String fileName;
+
+    @Column(length = 255)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long totalSize; // 전체 파일 크기
+
+    @Column(length = 4000, nullable = false)
+    private String receivedRanges = ""; // 받은 구간 (ByteRangeSet 직렬화)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    @Setter private UploadStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt; // 이 시각까지 완료되지 않으면 정리
+
+    protected UploadSession() {
+    }
+
+    private UploadSession(String id, String fileName, String contentType, long totalSize, LocalDateTime expiresAt) {
+        this.id = id;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.totalSize = totalSize;
+        this.status = UploadStatus.IN_PROGRESS;
+        this.expiresAt = expiresAt;
+    }
+
+    public static UploadSession of(String id, String fileName, String contentType, long totalSize, LocalDateTime expiresAt) {
+        return new UploadSession(id, fileName, contentType, totalSize, expiresAt);
+    }
+
+    public ByteRangeSet receivedRangeSet() {
+        return ByteRangeSet.parse(receivedRanges);
+    }
+
+    public void addReceivedRange(long start, long end) {
+        ByteRangeSet ranges = receivedRangeSet();
+        ranges.add(start, end);
+        this.receivedRanges = ranges.toString();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.cafe.blog.entity;
+
+import com.cafe.blog.entity.constant.RemovalStep;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 삭제 진행 상태
+ * 회원의 게시글, 댓글을 UserRemovalJob 이 묶음 단위로 지우며, 묶음마다 같은 트랜잭션에서 단계와 커서(마지막으로 지운 id)를 기록하므로
+ * 서버가 중간에 종료되어도 이어서 진행합니다.
+ * 계정 행은 마지막 단계에서 지우며, 그 전까지는 로그인할 수 없습니다. (CustomUserDetailsService)
+ */
+@Getter
+@ToString
+@Table(indexes = @Index(columnList = "step"))
+@Entity
+public class UserRemoval {
+    @Id
+    @Column(length = 50)
+    private String userId; // 삭제할 회원 ID (계정 삭제 후에도 진행 기록으로 남음)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RemovalStep step;
+
+    @Column(nullable = false)
+    private long lastId; // 현재 단계에서 마지막으로 지운 행의 id (keyset 커서)
+
+    @Column(nullable = false)
+    private long deletedPosts; // 지운 게시글 수 (보관된 게시글 포함)
+
+    @Column(nullable = false)
+    private long deletedComments; // 지운 댓글 수 (회원의 게시글에 달린 댓글 포함)
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt; // 마지막 묶음 처리 시각
+
+    private LocalDateTime finishedAt;
+
+    protected UserRemoval() {
+    }
+
+    private UserRemoval(String userId, LocalDateTime requestedAt) {
+        this.userId = userId;
+        restart(requestedAt);
+    }
+
+    public static UserRemoval of(String userId, LocalDateTime requestedAt) {
+        return new UserRemoval(userId, requestedAt);
+    }
+
+    /**
+     * 같은 ID 로 다시 가입했다가 삭제하는 경우 처음부터 다시 진행
+     */
+    public void restart(LocalDateTime requestedAt) {
+        this.step = RemovalStep.POSTS;
+        this.lastId = 0;
+        this.deletedPosts = 0;
+        this.deletedComments = 0;
+        this.requestedAt = requestedAt;
+        this.updatedAt = requestedAt;
+        this.finishedAt = null;
+    }
+
+    public boolean isDone() {
+        return step == RemovalStep.DONE;
+    }
+
+    public void advance(long lastId, int posts, int comments, LocalDateTime now) {
+        this.lastId = lastId;
+        this.deletedPosts += posts;
+        this.deletedComments += comments;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 삭제 중에 기존 로그인 세션으로 작성한 글이 남아 있으면 처음 단계부터 다시 진행 (지운 수는 유지)
+     */
+    public void rewind(LocalDateTime now) {
+        this.step = RemovalStep.POSTS;
+        this.lastId = 0;
+        this.updatedAt = now;
+    }
+
+    public void nextStep(LocalDateTime now) {
+        this.step = step.next();
+        this.lastId = 0;
+        this.updatedAt = now;
+        if (step == RemovalStep.DONE) {
+            this.finishedAt = now;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.cafe.blog.entity.constant;
+
+import lombok.Getter;
+
+/**
+ * 회원 삭제 진행 단계 (순서대로 진행)
+ */
+public enum RemovalStep {
+    POSTS("게시글 삭제"),
+    ARCHIVED_POSTS("보관된 게시글 삭제"),
+    COMMENTS("다른 게시글에 남긴 댓글 삭제"),
+    ACCOUNT("계정 삭제"),
+    DONE("완료"),
+    ;
+
+    @Getter
+    private final String description;
+
+    RemovalStep(String description) {
+        this.description = description;
+    }
+
+    public RemovalStep next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,16 @@
+package com.cafe.blog.entity.constant;
+
+import lombok.Getter;
+
+public enum TagMatch {
+    ALL("모든 태그 포함"),
+    ANY("하나 이상 포함"),
+    ;
+
+    @Getter
+    private final String description;
+
+    TagMatch(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,16 @@
+package com.cafe.blog.entity.constant;
+
+import lombok.Getter;
+
+public enum UploadStatus {
+    IN_PROGRESS("업로드 중"),
+    COMPLETED("완료"),
+    ;
+
+    @Getter
+    private final String description;
+
+    UploadStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,50 @@
+package com.cafe.blog.entity.converter;
+
+import com.cafe.blog.config.ContentCompressionProperties;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 큰 본문을 압축하여 저장하는 컨버터
+ * Hibernate 가 스프링 빈 컨테이너로 생성하므로 설정을 주입받으며,
+ * 설정 빈이 없는 환경(@DataJpaTest 등)에서는 기본 생성자로 만들어져 압축하지 않습니다. (읽기는 항상 가능)
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final boolean enabled;
+    private final long threshold;
+    private final int level;
+
+    public CompressedTextConverter() {
+        this.enabled = false;
+        this.threshold = Long.MAX_VALUE;
+        this.level = 6;
+    }
+
+    @Autowired
+    public CompressedTextConverter(ContentCompressionProperties properties) {
+        this.enabled = properties.enabled();
+        this.threshold = properties.threshold().toBytes();
+        this.level = properties.level();
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (!enabled || attribute == null || attribute.length() * 3L < threshold) {
+            return ContentCodec.raw(attribute);  // 글자당 최대 3바이트: 확실히 작은 본문은 인코딩하지 않고 건너뛴다.
+        }
+        if (attribute.getBytes(StandardCharsets.UTF_8).length < threshold) {
+            return ContentCodec.raw(attribute);
+        }
+        return ContentCodec.encode(attribute, level);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return ContentCodec.decode(dbData);
+    }
+}
@@ -0,0 +1,93 @@
+package com.cafe.blog.entity.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 압축 형식
+ *
+ * 압축된 값은 [MARKER][버전][Base64 본문] 형태의 문자열입니다.
+ * MARKER(U+0001) 로 시작하지 않는 값은 압축하지 않은 원문으로 읽으므로, 압축 적용 전의 행과 기준 크기보다 작은 본문은 그대로 둘 수 있습니다.
+ * 원문이 MARKER 로 시작하는 경우(제어 문자를 붙여 넣은 본문 등)에만 [MARKER][VERSION_RAW][원문] 으로 감싸 저장하여
+ * 압축 형식으로 잘못 읽지 않도록 합니다.
+ */
+public final class ContentCodec {
+
+    public static final char MARKER = '\u0001';
+    public static final char VERSION_RAW = '0';
+    public static final char VERSION_DEFLATE = '1';
+
+    private ContentCodec() {
+    }
+
+    public static boolean isEncoded(String value) {
+        return value != null && value.length() >= 2 && value.charAt(0) == MARKER;
+    }
+
+    /**
+     * 압축하지 않고 저장할 값을 반환합니다. MARKER 로 시작하는 원문만 감쌉니다.
+     */
+    public static String raw(String content) {
+        if (content == null || content.isEmpty() || content.charAt(0) != MARKER) {
+            return content;
+        }
+        return MARKER + String.valueOf(VERSION_RAW) + content;
+    }
+
+    /**
+     * 압축한 값이 원문보다 짧을 때만 압축 형식을 반환하고, 아니면 원문을 그대로 반환합니다.
+     */
+    public static String encode(String content, int level) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            String encoded = MARKER + String.valueOf(VERSION_DEFLATE) + Base64.getEncoder().encodeToString(out.toByteArray());
+            return encoded.length() < raw.length ? encoded : raw(content);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decode(String value) {
+        if (!isEncoded(value)) {
+            return value;
+        }
+        return switch (value.charAt(1)) {
+            case VERSION_RAW -> value.substring(2);
+            case VERSION_DEFLATE -> inflate(Base64.getDecoder().decode(value.substring(2)));
+            default -> throw new IllegalStateException("Unknown content encoding version: " + value.charAt(1));
+        };
+    }
+
+    private static String inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed content");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
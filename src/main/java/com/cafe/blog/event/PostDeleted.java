@@ -0,0 +1,14 @@
+package com.cafe.blog.event;
+
+import java.time.LocalDateTime;
+
+public record PostDeleted(
+        Long postId,
+        LocalDateTime occurredAt
+) implements PostEvent {
+
+    public static PostDeleted of(Long postId) {
+        return new PostDeleted(postId, LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.cafe.blog.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 생명주기 도메인 이벤트
+ * PostService 가 트랜잭션 안에서 발행하면 PostEventOutbox 가 같은 트랜잭션에 기록하고,
+ * 커밋 이후 PostEventHandler 들에게 비동기로 전달합니다.
+ */
+public sealed interface PostEvent permits PostCreated, PostUpdated, PostDeleted {
+
+    Long postId();
+
+    LocalDateTime occurredAt();
+
+}
@@ -0,0 +1,15 @@
+package com.cafe.blog.event;
+
+/**
+ * 게시글 이벤트 처리기
+ * 빈으로 등록하면 PostEventOutbox 가 커밋 이후 비동기로 전달합니다.
+ * 다른 노드에서 발생한 이벤트도 전달되므로(blog.events.poll-interval 지연) 노드별 메모리 상태를 고치는 데 사용합니다.
+ *
+ * - 같은 게시글의 이벤트는 발생 순서대로, 다른 게시글의 이벤트는 병렬로 전달됩니다.
+ * - 장애 후 재전달될 수 있으므로(at-least-once) 같은 이벤트를 여러 번 받아도 결과가 같도록 구현합니다.
+ */
+public interface PostEventHandler {
+
+    void onPostEvent(PostEvent event);
+
+}
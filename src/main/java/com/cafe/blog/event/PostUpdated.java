@@ -0,0 +1,18 @@
+package com.cafe.blog.event;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record PostUpdated(
+        Long postId,
+        String title,
+        String userId,
+        Set<String> tags,
+        LocalDateTime occurredAt
+) implements PostEvent {
+
+    public static PostUpdated of(Long postId, String title, String userId, Set<String> tags) {
+        return new PostUpdated(postId, title, userId, Set.copyOf(tags), LocalDateTime.now());
+    }
+
+}
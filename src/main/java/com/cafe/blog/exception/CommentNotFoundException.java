@@ -0,0 +1,12 @@
+package com.cafe.blog.exception;
+
+public class CommentNotFoundException extends RuntimeException {
+
+    public CommentNotFoundException(String message) {
+        super(message);
+    }
+
+    public CommentNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package com.cafe.blog.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 게시글 피드 구독자가 상한에 도달하여 구독을 받지 않은 경우
+ * 클라이언트는 retryAfter 이후 다시 연결합니다.
+ */
+@Getter
+public class FeedUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public FeedUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
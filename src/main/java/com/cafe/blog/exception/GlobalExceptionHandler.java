@@ -0,0 +1,43 @@
+package com.cafe.blog.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 업로드 포화: 대기시키지 않고 바로 503 + Retry-After 로 응답
+    @ExceptionHandler(UploadRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleUploadRejected(UploadRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    // 피드 구독자 상한: 503 + Retry-After 로 응답하여 클라이언트가 나중에 다시 연결하도록 한다.
+    @ExceptionHandler(FeedUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleFeedUnavailable(FeedUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    // 없거나 삭제된 게시글, 리비전: 404
+    @ExceptionHandler({PostNotFoundException.class, RevisionNotFoundException.class})
+    public ResponseEntity<ProblemDetail> handleNotFound(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage()));
+    }
+
+    // 보관된 게시글 수정: 읽기 전용이므로 409
+    @ExceptionHandler(PostArchivedException.class)
+    public ResponseEntity<ProblemDetail> handlePostArchived(PostArchivedException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage()));
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.cafe.blog.exception;
+
+/**
+ * 보관(post_archive)된 게시글은 읽기 전용이므로 수정할 수 없습니다. (삭제와 댓글은 가능)
+ */
+public class PostArchivedException extends RuntimeException {
+
+    public PostArchivedException(String message) {
+        super(message);
+    }
+
+    public PostArchivedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cafe.blog.exception;
+
+/**
+ * SQL 실행 예산 초과 또는 N+1 (blog.query-budget.mode=fail)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
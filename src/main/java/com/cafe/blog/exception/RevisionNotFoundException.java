@@ -0,0 +1,12 @@
+package com.cafe.blog.exception;
+
+public class RevisionNotFoundException extends RuntimeException {
+
+    public RevisionNotFoundException(String message) {
+        super(message);
+    }
+
+    public RevisionNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
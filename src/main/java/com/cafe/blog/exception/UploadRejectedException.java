@@ -0,0 +1,20 @@
+package com.cafe.blog.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 업로드 동시 쓰기 한도를 넘어 요청을 받지 않은 경우
+ * 클라이언트는 retryAfter 이후 다시 시도합니다.
+ */
+@Getter
+public class UploadRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UploadRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
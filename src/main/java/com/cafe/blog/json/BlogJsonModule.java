@@ -0,0 +1,22 @@
+package com.cafe.blog.json;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 JSON 직렬화기 (Spring Boot 가 ObjectMapper 에 자동 등록)
+ * 목록/상세/스트리밍 응답에 가장 많이 쓰이는 PostDto, UserAccountDto 와 Page 를 직접 작성한 직렬화기로 씁니다.
+ * 요청 본문의 역직렬화는 기존대로 record 생성자를 사용합니다.
+ */
+@Component
+public class BlogJsonModule extends SimpleModule {
+
+    public BlogJsonModule() {
+        super("BlogJsonModule");
+        addSerializer(PostDto.class, new PostDtoSerializer());
+        addSerializer(UserAccountDto.class, new UserAccountDtoSerializer());
+        addSerializer(new PageSerializer());
+    }
+}
@@ -0,0 +1,61 @@
+package com.cafe.blog.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime 을 ISO-8601 문자열(DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 형식)로 씁니다.
+ * 포매터는 값마다 StringBuilder 와 String 을 만들므로, 호출한 쪽의 char 버퍼에 직접 채워 씁니다.
+ */
+final class JsonDateTimes {
+
+    static final int BUFFER_SIZE = 29;  // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+
+    private JsonDateTimes() {
+    }
+
+    static void write(JsonGenerator gen, LocalDateTime value, char[] buffer) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));  // 4자리를 넘는 연도 (부호 포함)
+            return;
+        }
+
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            // 소수점 이하는 뒤의 0 을 뺀 만큼만 (ISO_LOCAL_TIME 과 같음)
+            int fractionDigits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                fractionDigits--;
+            }
+            buffer[19] = '.';
+            digits(buffer, 20, nano, fractionDigits);
+            length = 20 + fractionDigits;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
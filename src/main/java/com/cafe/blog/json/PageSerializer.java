@@ -0,0 +1,67 @@
+package com.cafe.blog.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+
+/**
+ * Page 응답 직렬화
+ * PageImpl 을 그대로 직렬화하면 pageable, sort 등 구현 내부 구조가 응답에 드러나고 버전에 따라 바뀌므로,
+ * Spring Data 의 PagedModel 과 같은 고정된 형식으로 씁니다.
+ * <pre>
+ * {"content": [...], "page": {"size": 10, "number": 0, "totalElements": 42, "totalPages": 5}}
+ * </pre>
+ * 행은 목록을 다시 만들지 않고 하나씩 응답 스트림에 바로 씁니다.
+ */
+public class PageSerializer extends StdSerializer<Page<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    public PageSerializer() {
+        super(Page.class, false);
+    }
+
+    @Override
+    public void serialize(Page<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+        gen.writeFieldName(CONTENT);
+        gen.writeStartArray(page, page.getNumberOfElements());
+        Class<?> rowType = null;
+        JsonSerializer<Object> rowSerializer = null;
+        for (Object row : page) {
+            if (row == null) {
+                gen.writeNull();
+                continue;
+            }
+            if (row.getClass() != rowType) {  // 한 페이지의 행은 대부분 같은 타입이므로 한 번만 찾는다.
+                rowType = row.getClass();
+                rowSerializer = provider.findValueSerializer(rowType);
+            }
+            rowSerializer.serialize(row, gen, provider);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(PAGE);
+        gen.writeStartObject();
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(page.getNumber());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,87 @@
+package com.cafe.blog.json;
+
+import com.cafe.blog.dto.PostDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * PostDto 응답 직렬화
+ * 리플렉션(BeanSerializer) 대신 필드를 정해진 순서로 직접 씁니다. 필드 이름은 미리 인코딩해 두고(SerializedString),
+ * 날짜는 문자열을 만들지 않고 버퍼에 채워 씁니다. 값이 없는 필드(목록의 content 등)는 생략합니다.
+ */
+public class PostDtoSerializer extends StdSerializer<PostDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USER_ACCOUNT = new SerializedString("userAccountDto");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString CREATED_BY = new SerializedString("createdBy");
+    private static final SerializedString MODIFIED_AT = new SerializedString("modifiedAt");
+    private static final SerializedString MODIFIED_BY = new SerializedString("modifiedBy");
+    private static final SerializedString FILE_NAME = new SerializedString("fileName");
+    private static final SerializedString FILE_PATH = new SerializedString("filePath");
+    private static final SerializedString FILE_TYPE = new SerializedString("fileType");
+    private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+    private static final SerializedString TAGS = new SerializedString("tags");
+
+    public PostDtoSerializer() {
+        super(PostDto.class);
+    }
+
+    @Override
+    public void serialize(PostDto post, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] dateBuffer = new char[JsonDateTimes.BUFFER_SIZE];
+        gen.writeStartObject(post);
+        if (post.id() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(post.id());
+        }
+        if (post.userAccountDto() != null) {
+            gen.writeFieldName(USER_ACCOUNT);
+            gen.writeStartObject(post.userAccountDto());
+            UserAccountDtoSerializer.writeFields(post.userAccountDto(), gen, dateBuffer);
+            gen.writeEndObject();
+        }
+        writeString(gen, TITLE, post.title());
+        writeString(gen, CONTENT, post.content());
+        writeDateTime(gen, CREATED_AT, post.createdAt(), dateBuffer);
+        writeString(gen, CREATED_BY, post.createdBy());
+        writeDateTime(gen, MODIFIED_AT, post.modifiedAt(), dateBuffer);
+        writeString(gen, MODIFIED_BY, post.modifiedBy());
+        writeString(gen, FILE_NAME, post.fileName());
+        writeString(gen, FILE_PATH, post.filePath());
+        writeString(gen, FILE_TYPE, post.fileType());
+        gen.writeFieldName(COMMENT_COUNT);
+        gen.writeNumber(post.commentCount());
+        if (post.tags() != null) {
+            gen.writeFieldName(TAGS);
+            gen.writeStartArray(post.tags(), post.tags().size());
+            for (String tag : post.tags()) {
+                gen.writeString(tag);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    static void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value, char[] buffer) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            JsonDateTimes.write(gen, value, buffer);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.cafe.blog.json;
+
+import com.cafe.blog.dto.UserAccountDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * UserAccountDto 응답 직렬화
+ * 비밀번호(해시)는 응답에 포함하지 않으며, 값이 없는 필드는 생략합니다.
+ */
+public class UserAccountDtoSerializer extends StdSerializer<UserAccountDto> {
+
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString NICKNAME = new SerializedString("nickname");
+    private static final SerializedString MEMO = new SerializedString("memo");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString CREATED_BY = new SerializedString("createdBy");
+    private static final SerializedString MODIFIED_AT = new SerializedString("modifiedAt");
+    private static final SerializedString MODIFIED_BY = new SerializedString("modifiedBy");
+
+    public UserAccountDtoSerializer() {
+        super(UserAccountDto.class);
+    }
+
+    @Override
+    public void serialize(UserAccountDto user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(user);
+        writeFields(user, gen, new char[JsonDateTimes.BUFFER_SIZE]);
+        gen.writeEndObject();
+    }
+
+    static void writeFields(UserAccountDto user, JsonGenerator gen, char[] dateBuffer) throws IOException {
+        PostDtoSerializer.writeString(gen, USER_ID, user.userId());
+        PostDtoSerializer.writeString(gen, EMAIL, user.email());
+        PostDtoSerializer.writeString(gen, NICKNAME, user.nickname());
+        PostDtoSerializer.writeString(gen, MEMO, user.memo());
+        PostDtoSerializer.writeDateTime(gen, CREATED_AT, user.createdAt(), dateBuffer);
+        PostDtoSerializer.writeString(gen, CREATED_BY, user.createdBy());
+        PostDtoSerializer.writeDateTime(gen, MODIFIED_AT, user.modifiedAt(), dateBuffer);
+        PostDtoSerializer.writeString(gen, MODIFIED_BY, user.modifiedBy());
+    }
+}
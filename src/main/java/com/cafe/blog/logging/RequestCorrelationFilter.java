@@ -0,0 +1,88 @@
+package com.cafe.blog.logging;
+
+import com.cafe.blog.config.LoggingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 요청 id 를 MDC(requestId)에 넣고 응답 헤더로 돌려줍니다.
+ * 같은 요청에서 남긴 로그(컨트롤러, PostService, SQL 추적)는 모두 같은 requestId 로 묶입니다.
+ *
+ * SQL 추적은 blog.logging.sql-trace-sample-rate 비율로 고른 요청과,
+ * SQL 추적 헤더에 설정한 토큰을 보낸 요청에서만 켭니다. (MDC sqlTrace)
+ */
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");  // 로그 위조 방지
+    private static final String REQUEST_ID_ATTRIBUTE = RequestCorrelationFilter.class.getName() + ".requestId";
+    private static final String SQL_TRACE_ATTRIBUTE = RequestCorrelationFilter.class.getName() + ".sqlTrace";
+
+    private final LoggingProperties properties;
+
+    public RequestCorrelationFilter(LoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 비동기 요청의 재디스패치(SSE, Mono 응답)는 최초 요청에서 정한 값을 그대로 사용
+        String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        Boolean sqlTrace = (Boolean) request.getAttribute(SQL_TRACE_ATTRIBUTE);
+        if (requestId == null) {
+            requestId = requestId(request);
+            sqlTrace = sqlTrace(request);
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+            request.setAttribute(SQL_TRACE_ATTRIBUTE, sqlTrace);
+            response.setHeader(properties.requestIdHeader(), requestId);
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        if (Boolean.TRUE.equals(sqlTrace)) {
+            MDC.put(SqlTrace.MDC_KEY, "true");
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+            MDC.remove(SqlTrace.MDC_KEY);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private String requestId(HttpServletRequest request) {
+        String requestId = request.getHeader(properties.requestIdHeader());
+        if (requestId != null && VALID_REQUEST_ID.matcher(requestId).matches()) {
+            return requestId;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private boolean sqlTrace(HttpServletRequest request) {
+        String token = request.getHeader(properties.sqlTraceHeader());
+        if (token != null && StringUtils.hasText(properties.sqlTraceToken())
+                && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), properties.sqlTraceToken().getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        double sampleRate = properties.sqlTraceSampleRate();
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
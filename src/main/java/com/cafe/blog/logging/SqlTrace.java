@@ -0,0 +1,62 @@
+package com.cafe.blog.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 추적
+ * RequestCorrelationFilter 가 표본으로 고른 요청(MDC sqlTrace)에서만 SQL, 바인드 값, 실행 시간을 로그로 남깁니다.
+ * Hibernate 의 SQL/바인드 로그처럼 전역으로 켜지 않으므로 나머지 요청은 로그 비용이 없습니다.
+ */
+public final class SqlTrace {
+
+    public static final String MDC_KEY = "sqlTrace";
+
+    private static final Logger log = LoggerFactory.getLogger("com.cafe.blog.sql");
+    private static final int MAX_VALUE_LENGTH = 200;  // 본문 같은 긴 값은 잘라서 기록
+
+    private SqlTrace() {
+    }
+
+    public static boolean isActive() {
+        return MDC.get(MDC_KEY) != null;
+    }
+
+    /**
+     * @param binds 실행한 바인드 값들 (batch 면 addBatch 마다 하나, 바인드가 없으면 빈 목록)
+     */
+    public static void log(String sql, List<Map<Integer, Object>> binds, long elapsedNanos) {
+        if (binds.size() <= 1) {
+            log.info("{}ms {} {}", elapsedNanos / 1_000_000, sql, binds.isEmpty() ? "[]" : format(binds.get(0)));
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Map<Integer, Object> bind : binds) {
+            sb.append(format(bind));
+        }
+        log.info("{}ms {} batch={} {}", elapsedNanos / 1_000_000, sql, binds.size(), sb);
+    }
+
+    private static String format(Map<Integer, Object> bind) {
+        StringBuilder sb = new StringBuilder("[");
+        for (Object value : bind.values()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            if (value instanceof byte[] bytes) {
+                sb.append('<').append(bytes.length).append(" bytes>");
+            } else if (value instanceof CharSequence text && text.length() > MAX_VALUE_LENGTH) {
+                sb.append('\'').append(text, 0, MAX_VALUE_LENGTH).append("...'");
+            } else if (value instanceof CharSequence text) {
+                sb.append('\'').append(text).append('\'');
+            } else {
+                sb.append(value);
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.cafe.blog.markdown;
+
+import org.commonmark.node.Link;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
+/**
+ * 게시글 본문(Markdown)을 HTML 로 변환합니다.
+ *
+ * - 본문에 직접 쓴 HTML 은 태그로 해석하지 않고 이스케이프하며, 링크/이미지 주소는 허용된 스킴(http, https, mailto 등)만 남깁니다.
+ *   따라서 결과 HTML 을 그대로 응답해도 스크립트가 실행되지 않습니다.
+ * - 작성/수정 시에 한 번 렌더링하여 post_content 에 저장하고, 조회 시에는 저장된 HTML 을 그대로 응답합니다.
+ * - Parser, HtmlRenderer 는 불변이며 스레드에 안전합니다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    private final Parser parser = Parser.builder().build();
+
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                if (node instanceof Link) {
+                    attributes.put("rel", "nofollow noopener noreferrer");  // 사용자가 작성한 외부 링크
+                }
+            })
+            .build();
+
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        StringBuilder html = new StringBuilder(markdown.length() + markdown.length() / 4);
+        render(new StringReader(markdown), html);
+        return html.toString();
+    }
+
+    /**
+     * Reader 에서 읽어 out 에 바로 씁니다.
+     * 긴 본문도 원문 문자열이나 결과 HTML 문자열을 중간에 한 번 더 만들지 않습니다.
+     * (참조 링크 정의가 문서 뒤쪽에 올 수 있으므로 구문 트리는 문서 전체를 읽은 뒤에 만들어집니다.)
+     */
+    public void render(Reader markdown, Appendable out) {
+        try {
+            Node document = parser.parseReader(markdown);
+            renderer.render(document, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render markdown", e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.cafe.blog.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 기존 post.content 컬럼을 post_content 테이블로 옮깁니다. (Flyway V3)
+ *
+ * post_content 테이블과 post.content_id 컬럼은 바로 앞의 V2__create_post_content.sql 이 만듭니다.
+ * Flyway 가 한 번만, 노드 하나에서만 실행하고(나머지 노드는 잠금을 기다린 후 건너뜀) 웹 요청을 받기 전에 끝납니다.
+ * 예전 컬럼이 있으면 본문을 묶음 단위로 post_content 에 복사하여 연결하고, 새 버전은 이 컬럼에 쓰지 않으므로 NULL 을 허용하도록 바꿉니다.
+ * 본문 문자열은 그대로 복사하므로 압축 저장된 본문도 그대로 유지되며, 이미 연결된 행은 건너뛰므로 중단 후 다시 실행해도 됩니다.
+ *
+ * 컬럼 삭제는 이전 버전 노드가 모두 내려간 뒤의 다음 릴리스에서 별도 migration 으로 진행합니다.
+ * (rolling 배포 중 이전 버전 노드는 아직 post.content 를 읽고 쓰므로, 그 migration 은 그 사이 연결되지 않은 행을 같은 방식으로 옮긴 후 삭제)
+ *
+ * Spring 빈으로 등록하면 Boot 가 Flyway 에 전달합니다. (클래스 이름이 버전과 설명)
+ */
+@Slf4j
+@Component
+public class V3__MovePostContent extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 묶음마다 직접 커밋하므로 migration 전체를 하나의 트랜잭션으로 묶지 않습니다.
+     */
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(context.getConnection(), true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        if (!hasLegacyContentColumn(jdbcTemplate)) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        long migrated = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> migrateBatch(jdbcTemplate));
+            migrated += Objects.requireNonNull(moved);
+            if (moved < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        jdbcTemplate.execute("alter table post modify content text null");
+        log.info("Moved {} post bodies to post_content", migrated);
+    }
+
+    private int migrateBatch(JdbcTemplate jdbcTemplate) {
+        List<Row> rows = jdbcTemplate.query(
+                "select id, content from post where content_id is null order by id limit ?",
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("content")),
+                BATCH_SIZE);
+
+        List<Object[]> links = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement("insert into post_content (content) values (?)", new String[]{"id"});
+                statement.setString(1, row.content() == null ? "" : row.content());
+                return statement;
+            }, keyHolder);
+            links.add(new Object[]{Objects.requireNonNull(keyHolder.getKey()).longValue(), row.id()});
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate("update post set content_id = ? where id = ?", links);
+        }
+        return rows.size();
+    }
+
+    private boolean hasLegacyContentColumn(JdbcTemplate jdbcTemplate) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String[] name : new String[][]{{"post", "content"}, {"POST", "CONTENT"}}) {  // 식별자 대소문자는 DB 마다 다름
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, name[0], name[1])) {
+                    if (columns.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    private record Row(long id, String content) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.cafe.blog.querybudget;
+
+import com.cafe.blog.config.QueryBudgetProperties;
+import com.cafe.blog.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 범위를 열고, 닫을 때 예산과 N+1 여부를 확인합니다.
+ * warn 모드는 로그(샘플링한 스택 포함)와 메트릭만 남기고, fail 모드는 QueryBudgetExceededException 을 던집니다.
+ */
+@Slf4j
+public class QueryBudgetEnforcer {
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetEnforcer(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public QueryScope open(String name) {
+        boolean captureStackTrace = properties.mode() == QueryBudgetProperties.Mode.FAIL
+                || ThreadLocalRandom.current().nextDouble() < properties.stackTraceSampleRate();
+        // 스택은 기본 예산의 반복 한도를 넘는 시점에 수집 (범위별 예산은 닫을 때 확인)
+        return QueryCounter.open(name, properties.defaultBudget().maxRepeats() + 1, captureStackTrace);
+    }
+
+    /**
+     * 범위를 닫고 확인합니다.
+     * @param budgetKey 예산을 찾을 키 (요청은 닫을 때에야 매칭된 패턴을 알 수 있으므로 따로 받음)
+     */
+    public void close(QueryScope scope, String budgetKey) {
+        QueryCounter.close(scope);
+
+        QueryBudgetProperties.Budget budget = properties.budgetFor(budgetKey);
+        List<String> violations = new ArrayList<>();
+        if (scope.statements() > budget.maxStatements()) {
+            violations.add("statements " + scope.statements() + " > " + budget.maxStatements());
+            meterRegistry.counter("blog.query-budget.violations", "kind", "statements").increment();
+        }
+        if (scope.rows() > budget.maxRows()) {
+            violations.add("rows " + scope.rows() + " > " + budget.maxRows());
+            meterRegistry.counter("blog.query-budget.violations", "kind", "rows").increment();
+        }
+        Map<String, Integer> repeated = scope.repeatedShapes(budget.maxRepeats() + 1);
+        if (!repeated.isEmpty()) {
+            repeated.forEach((shape, count) -> violations.add("N+1: " + count + "x " + shape));
+            meterRegistry.counter("blog.query-budget.violations", "kind", "repeated").increment();
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        String message = "Query budget exceeded in " + budgetKey + " " + scope + ": " + String.join("; ", violations);
+        if (properties.mode() == QueryBudgetProperties.Mode.FAIL) {
+            throw new QueryBudgetExceededException(message, scope.stackTrace());
+        }
+        if (scope.stackTrace() != null) {
+            log.warn(message, scope.stackTrace());
+        } else {
+            log.warn(message);
+        }
+    }
+}
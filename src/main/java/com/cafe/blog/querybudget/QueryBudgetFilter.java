@@ -0,0 +1,40 @@
+package com.cafe.blog.querybudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위로 SQL 을 집계합니다. (범위 이름: "GET /posts/{postId}")
+ * 요청 스레드에서 실행된 SQL 만 집계하며, 비동기로 처리되는 요청은 요청 스레드를 반납할 때 닫습니다.
+ *
+ * 필터 체인을 감싸고 있으므로 fail 모드의 QueryBudgetExceededException 이 호출한 쪽(MockMvc 등)까지 전달됩니다.
+ * (HandlerInterceptor.afterCompletion 에서 던진 예외는 DispatcherServlet 이 로그만 남기고 삼킴)
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetEnforcer enforcer;
+
+    public QueryBudgetFilter(QueryBudgetEnforcer enforcer) {
+        this.enforcer = enforcer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryScope scope = enforcer.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            QueryCounter.close(scope);  // 요청이 이미 실패했으므로 예산은 확인하지 않음
+            throw e;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        enforcer.close(scope, request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+    }
+}
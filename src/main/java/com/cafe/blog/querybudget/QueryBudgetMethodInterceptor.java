@@ -0,0 +1,39 @@
+package com.cafe.blog.querybudget;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * @Transactional 서비스 메소드 단위로 SQL 을 집계합니다. (범위 이름: "PostService.searchPost")
+ * 논블로킹 조회(PostReadService)처럼 요청 스레드가 아닌 곳에서 실행되는 서비스 호출도 이 범위로 확인됩니다.
+ */
+public class QueryBudgetMethodInterceptor implements MethodInterceptor {
+
+    private final QueryBudgetEnforcer enforcer;
+
+    public QueryBudgetMethodInterceptor(QueryBudgetEnforcer enforcer) {
+        this.enforcer = enforcer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() == null ? invocation.getMethod().getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+        String name = targetClass.getSimpleName() + "." + invocation.getMethod().getName();
+
+        QueryScope scope = enforcer.open(name);
+        boolean completed = false;
+        try {
+            Object result = invocation.proceed();
+            completed = true;
+            return result;
+        } finally {
+            if (completed) {
+                enforcer.close(scope, name);
+            } else {
+                QueryCounter.close(scope);  // 이미 예외로 끝난 호출은 원래 예외를 그대로 전달
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.cafe.blog.querybudget;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 열린 QueryScope 들에 SQL 실행을 기록합니다.
+ * 범위는 중첩될 수 있으며 (요청 안의 서비스 메소드 등), 실행된 SQL 은 열린 모든 범위에 기록됩니다.
+ * 열린 범위가 없으면 아무것도 하지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<QueryScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryCounter() {
+    }
+
+    public static QueryScope open(String name, int repeatThreshold, boolean captureStackTrace) {
+        QueryScope scope = new QueryScope(name, repeatThreshold, captureStackTrace);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    public static void close(QueryScope scope) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    /**
+     * work 를 실행하는 동안의 SQL 을 집계합니다. (테스트용)
+     */
+    public static QueryScope capture(Runnable work) {
+        QueryScope scope = open("capture", Integer.MAX_VALUE, false);
+        try {
+            work.run();
+        } finally {
+            close(scope);
+        }
+        return scope;
+    }
+
+    static void onStatement(String sql) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (QueryScope scope : scopes) {
+            scope.statement(shape);
+        }
+    }
+
+    static void onRow() {
+        Deque<QueryScope> scopes = SCOPES.get();
+        for (QueryScope scope : scopes) {
+            scope.row();
+        }
+    }
+
+    /**
+     * 값만 다른 쿼리가 같은 모양이 되도록 정규화합니다.
+     * 리터럴은 ? 로 바꾸고, IN (?, ?, ...) 목록은 길이와 관계없이 IN (?) 로 합칩니다.
+     */
+    static String shapeOf(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String shape = STRING.matcher(sql).replaceAll("?");
+        shape = NUMBER.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,162 @@
+package com.cafe.blog.querybudget;
+
+import com.cafe.blog.logging.SqlTrace;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * SQL 실행과 읽은 행 수를 QueryCounter 에 알리는 DataSource 프록시
+ * Hibernate 와 JdbcTemplate 이 모두 이 DataSource 를 거치므로 두 경로의 SQL 이 함께 집계됩니다.
+ * 열린 범위가 없으면 ThreadLocal 확인 외에는 비용이 없습니다.
+ * SQL 추적(SqlTrace)이 켜진 요청에서는 바인드 값을 모아 실행 시간과 함께 로그로 남깁니다.
+ */
+public final class QueryCountingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private QueryCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                result instanceof Connection connection && method.getName().equals("getConnection")
+                        ? connection(connection)
+                        : result);
+    }
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, target, (method, args, result) -> {
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;  // prepareStatement(sql, ...)
+                return statement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement statement(Statement target, String preparedSql) {
+        Class<? extends Statement> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        boolean trace = SqlTrace.isActive();  // 추적하지 않는 요청은 바인드 값을 모으지 않음
+        return proxy(type, target, new Handler() {
+
+            private Map<Integer, Object> binds;
+            private List<Map<Integer, Object>> batch;
+            private long startedAt;
+
+            @Override
+            public void before(Method method, Object[] args) {
+                String name = method.getName();
+                if (EXECUTE_METHODS.contains(name)) {
+                    QueryCounter.onStatement(sql(args));
+                    startedAt = System.nanoTime();
+                } else if (trace) {
+                    bind(name, args);
+                }
+            }
+
+            @Override
+            public Object after(Method method, Object[] args, Object result) {
+                if (trace && EXECUTE_METHODS.contains(method.getName())) {
+                    SqlTrace.log(sql(args), executedBinds(), System.nanoTime() - startedAt);
+                }
+                if (result instanceof ResultSet resultSet && !method.getName().equals("getGeneratedKeys")) {
+                    return resultSet(resultSet);
+                }
+                return result;
+            }
+
+            private String sql(Object[] args) {
+                return args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql;
+            }
+
+            private void bind(String name, Object[] args) {
+                if (name.equals("addBatch")) {
+                    if (batch == null) {
+                        batch = new ArrayList<>();
+                    }
+                    batch.add(binds == null ? Map.of() : binds);
+                    binds = null;
+                } else if (name.equals("clearParameters")) {
+                    binds = null;
+                } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    if (binds == null) {
+                        binds = new TreeMap<>();
+                    }
+                    binds.put(index, name.equals("setNull") ? null : args[1]);
+                }
+            }
+
+            private List<Map<Integer, Object>> executedBinds() {
+                if (batch != null) {
+                    List<Map<Integer, Object>> executed = batch;
+                    batch = null;
+                    return executed;
+                }
+                return binds == null ? List.of() : List.of(binds);
+            }
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet target) {
+        return proxy(ResultSet.class, target, (method, args, result) -> {
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                QueryCounter.onRow();
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "unwrap" -> {
+                    if (args[0] instanceof Class<?> iface && iface.isInstance(target)) {
+                        return target;
+                    }
+                }
+                default -> {
+                }
+            }
+            handler.before(method, args);
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            return handler.after(method, args, result);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        default void before(Method method, Object[] args) {
+        }
+
+        Object after(Method method, Object[] args, Object result);
+    }
+}
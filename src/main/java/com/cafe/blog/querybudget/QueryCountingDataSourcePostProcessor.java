@@ -0,0 +1,19 @@
+package com.cafe.blog.querybudget;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 QueryCountingDataSource 로 감쌉니다.
+ */
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return QueryCountingDataSource.wrap(dataSource);
+        }
+        return bean;
+    }
+}
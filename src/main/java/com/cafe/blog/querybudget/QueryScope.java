@@ -0,0 +1,79 @@
+package com.cafe.blog.querybudget;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 범위(HTTP 요청, 서비스 메소드, 테스트 캡처) 안에서 실행된 SQL 집계
+ * 한 스레드에서만 사용하므로 동기화하지 않습니다.
+ */
+public class QueryScope {
+
+    private final String name;
+    private final int repeatThreshold;
+    private final boolean captureStackTrace;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();  // 정규화한 SQL -> 실행 횟수
+    private int statements;
+    private long rows;
+    private Throwable stackTrace;
+
+    QueryScope(String name, int repeatThreshold, boolean captureStackTrace) {
+        this.name = name;
+        this.repeatThreshold = repeatThreshold;
+        this.captureStackTrace = captureStackTrace;
+    }
+
+    void statement(String shape) {
+        statements++;
+        int count = shapes.merge(shape, 1, Integer::sum);
+        if (count == repeatThreshold && captureStackTrace && stackTrace == null) {
+            // 처음으로 반복(N+1)이 확인된 지점의 호출 경로
+            stackTrace = new Throwable("Repeated query (" + repeatThreshold + " times) in " + name + ": " + shape);
+        }
+    }
+
+    void row() {
+        rows++;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * minCount 번 이상 실행된 같은 모양의 쿼리 (N+1 후보)
+     */
+    public Map<String, Integer> repeatedShapes(int minCount) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= minCount) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+
+    public Map<String, Integer> shapes() {
+        return Map.copyOf(shapes);
+    }
+
+    /**
+     * 반복 쿼리가 확인된 지점의 스택 (수집하지 않았으면 null)
+     */
+    public Throwable stackTrace() {
+        return stackTrace;
+    }
+
+    @Override
+    public String toString() {
+        return name + " [statements=" + statements + ", rows=" + rows + "]";
+    }
+}
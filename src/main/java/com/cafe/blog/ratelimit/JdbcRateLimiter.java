@@ -0,0 +1,63 @@
+package com.cafe.blog.ratelimit;
+
+import com.cafe.blog.config.RateLimitProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * DB 공유 요청 제한 저장소
+ * 여러 노드가 같은 한도를 나눠 쓰도록 period 단위 고정 창(fixed window)의 요청 수를 rate_limit_window 테이블에 셉니다.
+ * 한도 확인과 증가는 조건부 UPDATE 한 번으로 처리하여 노드 사이의 경합에도 한도를 넘지 않습니다.
+ */
+public class JdbcRateLimiter implements RateLimiter {
+
+    private static final String INCREMENT =
+            "update rate_limit_window set hits = hits + 1 where bucket_key = ? and hits < ?";
+    private static final String INSERT =
+            "insert into rate_limit_window (bucket_key, hits, window_end) values (?, 1, ?)";
+    private static final String DELETE_EXPIRED =
+            "delete from rate_limit_window where window_end < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public JdbcRateLimiter(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitProperties.Policy policy) {
+        long periodMillis = policy.period().toMillis();
+        long now = clock.millis();
+        long windowStart = now - now % periodMillis;
+        long windowEnd = windowStart + periodMillis;
+        String windowKey = key + "@" + windowStart;
+
+        if (jdbcTemplate.update(INCREMENT, windowKey, policy.capacity()) == 1) {
+            return RateLimitResult.allowed(RateLimitResult.UNKNOWN_REMAINING);  // 남은 횟수를 위해 다시 조회하지 않는다.
+        }
+        try {
+            jdbcTemplate.update(INSERT, windowKey, Timestamp.from(Instant.ofEpochMilli(windowEnd)));
+            return RateLimitResult.allowed(policy.capacity() - 1);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 창을 만들었다: 한 번 더 조건부 증가
+            if (jdbcTemplate.update(INCREMENT, windowKey, policy.capacity()) == 1) {
+                return RateLimitResult.allowed(RateLimitResult.UNKNOWN_REMAINING);
+            }
+        }
+        return RateLimitResult.rejected((windowEnd - now) * 1_000_000);
+    }
+
+    /**
+     * 끝난 창 정리
+     */
+    @Override
+    public void cleanup() {
+        jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(clock.instant()));
+    }
+}
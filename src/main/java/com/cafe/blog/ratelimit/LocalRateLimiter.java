@@ -0,0 +1,47 @@
+package com.cafe.blog.ratelimit;
+
+import com.cafe.blog.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 내 토큰 버킷 저장소
+ * 버킷은 처음 요청할 때 만들고, 가득 찬(오래 쓰지 않은) 버킷은 cleanup 에서 정리합니다.
+ * 공유 저장소 없이 단일 노드나 테스트에서 사용합니다.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    public LocalRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitProperties.Policy policy) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.computeIfAbsent(key,
+                k -> new TokenBucket(policy.capacity(), policy.period().toNanos(), now));
+        return bucket.tryConsume(now);
+    }
+
+    /**
+     * 가득 찬 버킷 정리 (다시 요청하면 가득 찬 상태로 새로 만들어지므로 결과는 같다)
+     */
+    @Override
+    public void cleanup() {
+        long now = nanoClock.getAsLong();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
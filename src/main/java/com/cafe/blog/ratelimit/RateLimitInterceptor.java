@@ -0,0 +1,86 @@
+package com.cafe.blog.ratelimit;
+
+import com.cafe.blog.config.RateLimitProperties;
+import com.cafe.blog.dto.security.BlogPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정책별 요청 제한
+ * 로그인 사용자는 사용자 이름, 비로그인 요청은 클라이언트 IP 로 구분하여 한도를 적용하고,
+ * 한도를 넘으면 컨트롤러를 호출하지 않고 429 와 Retry-After 로 응답합니다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final List<MatchingPolicy> policies;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, Map<String, RateLimitProperties.Policy> policies, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.policies = policies.entrySet().stream()
+                .map(entry -> new MatchingPolicy(entry.getKey(), entry.getValue(), PathPatternParser.defaultInstance.parse(entry.getValue().path())))
+                .toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;  // 비동기(SSE, 스트리밍) 재디스패치는 이미 한 번 검사한 요청
+        }
+
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getLookupPathForRequest(request));
+        for (MatchingPolicy policy : policies) {
+            if (!policy.matches(request.getMethod(), path)) {
+                continue;
+            }
+
+            RateLimitResult result = rateLimiter.tryAcquire(policy.name() + ":" + clientKey(request), policy.policy());
+            if (result.allowed()) {
+                if (result.remaining() != RateLimitResult.UNKNOWN_REMAINING) {
+                    response.setHeader(REMAINING_HEADER, String.valueOf(result.remaining()));
+                }
+                return true;
+            }
+
+            meterRegistry.counter("blog.rate-limit.rejected", "policy", policy.name()).increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (long) Math.ceil(result.retryAfterNanos() / 1e9))));
+            response.setHeader(REMAINING_HEADER, "0");
+            return false;
+        }
+        return true;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof BlogPrincipal principal) {
+            return "user:" + principal.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();  // 프록시 뒤라면 server.forward-headers-strategy 로 실제 IP 를 받는다.
+    }
+
+    private record MatchingPolicy(String name, RateLimitProperties.Policy policy, PathPattern pattern) {
+
+        boolean matches(String method, PathContainer path) {
+            return (policy.method() == null || policy.method().equalsIgnoreCase(method)) && pattern.matches(path);
+        }
+    }
+}
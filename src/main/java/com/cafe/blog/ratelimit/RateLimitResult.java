@@ -0,0 +1,31 @@
+package com.cafe.blog.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 허용 여부
+ * @param allowed 허용 여부
+ * @param remaining 남은 허용 횟수 (알 수 없으면 UNKNOWN_REMAINING)
+ * @param retryAfterNanos 거절된 경우 다시 시도할 수 있을 때까지 남은 시간
+ */
+public record RateLimitResult(
+        boolean allowed,
+        long remaining,
+        long retryAfterNanos
+) {
+
+    public static final long UNKNOWN_REMAINING = -1;
+
+    public static RateLimitResult allowed(long remaining) {
+        return new RateLimitResult(true, remaining, 0);
+    }
+
+    public static RateLimitResult rejected(long retryAfterNanos) {
+        return new RateLimitResult(false, 0, retryAfterNanos);
+    }
+
+    public Duration retryAfter() {
+        return Duration.ofNanos(retryAfterNanos);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.cafe.blog.ratelimit;
+
+import com.cafe.blog.config.RateLimitProperties;
+
+/**
+ * 요청 제한 저장소
+ * 노드마다 따로 세는 로컬 구현과, 여러 노드가 한도를 공유하는 구현을 설정(blog.rate-limit.backend)으로 선택합니다.
+ */
+public interface RateLimiter {
+
+    /**
+     * key 의 요청 한 건을 정책에 따라 허용하거나 거절합니다.
+     * @param key 정책 이름과 사용자(또는 IP)를 조합한 키
+     * @param policy 적용할 정책
+     */
+    RateLimitResult tryAcquire(String key, RateLimitProperties.Policy policy);
+
+    /**
+     * 더 이상 필요 없는 상태 정리 (주기적으로 호출)
+     */
+    void cleanup();
+
+}
@@ -0,0 +1,66 @@
+package com.cafe.blog.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 토큰 버킷
+ * period 동안 capacity 개의 토큰이 고르게 채워지며, 요청마다 토큰을 하나씩 사용합니다.
+ *
+ * 상태(남은 토큰, 마지막 충전 시각)는 불변 객체 하나로 묶어 CAS 로 교체하므로 잠금 없이 동시에 호출할 수 있습니다.
+ * 시각은 호출하는 쪽에서 넘겨 테스트에서 시간을 직접 제어할 수 있게 합니다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long periodNanos;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, long periodNanos, long nowNanos) {
+        if (capacity <= 0 || periodNanos <= 0) {
+            throw new IllegalArgumentException("capacity and period must be positive");
+        }
+        this.capacity = capacity;
+        this.periodNanos = periodNanos;
+        this.tokensPerNano = (double) capacity / periodNanos;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     * @return 허용 여부, 남은 토큰 수, 거절 시 다음 토큰까지 남은 시간
+     */
+    public RateLimitResult tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, nowNanos);
+            State next;
+            RateLimitResult result;
+            if (tokens >= 1) {
+                next = new State(tokens - 1, Math.max(current.refilledAt(), nowNanos));
+                result = RateLimitResult.allowed((long) (tokens - 1));
+            } else {
+                next = new State(tokens, Math.max(current.refilledAt(), nowNanos));
+                result = RateLimitResult.rejected((long) Math.ceil((1 - tokens) * periodNanos / capacity));
+            }
+            if (state.compareAndSet(current, next)) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 마지막 사용 이후 버킷이 가득 찼는지 여부 (오래 쓰지 않은 버킷 정리에 사용)
+     */
+    public boolean isFull(long nowNanos) {
+        return refill(state.get(), nowNanos) >= capacity;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.refilledAt());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.ArchivedPost;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+
+    // 회원 삭제: 회원의 보관된 게시글 id 를 id 순서로
+    @Query("select a.id from ArchivedPost a where a.userAccount.userId = :userId and a.id > :lastId order by a.id asc")
+    List<Long> findIdsByUserIdAfter(@Param("userId") String userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 보관된 게시글의 댓글 수 (비정규화)
+    @Modifying
+    @Query("update ArchivedPost a set a.commentCount = a.commentCount + :delta where a.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 보관된 게시글 삭제 (지운 행 수 반환)
+    @Modifying
+    @Query("delete from ArchivedPost a where a.id = :postId")
+    int deleteArchived(@Param("postId") Long postId);
+
+}
@@ -0,0 +1,34 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.AttachmentDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AttachmentDeletionRepository extends JpaRepository<AttachmentDeletion, Long> {
+
+    // 게시글 행을 지우기 전에 같은 트랜잭션에서 첨부파일 key 를 한 번의 INSERT ... SELECT 로 옮긴다.
+    @Modifying
+    @Query(value = "insert into attachment_deletion (file_key, attempts, enqueued_at) " +
+            "select file_path, 0, :now from post where id in :postIds and file_path is not null", nativeQuery = true)
+    int enqueueByPostIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "insert into attachment_deletion (file_key, attempts, enqueued_at) " +
+            "select file_path, 0, :now from post_archive where id in :postIds and file_path is not null", nativeQuery = true)
+    int enqueueByArchivedPostIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    @Query("select a from AttachmentDeletion a where a.id > :lastId and a.attempts < :maxAttempts order by a.id asc")
+    List<AttachmentDeletion> findPending(@Param("lastId") Long lastId, @Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Modifying
+    @Query("update AttachmentDeletion a set a.attempts = a.attempts + 1 where a.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+}
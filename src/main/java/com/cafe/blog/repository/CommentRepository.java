@@ -0,0 +1,48 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 커서 페이지: cursor 보다 작은 id 를 최신순으로 조회 (offset 스캔 없음)
+    @Query("select c from Comment c join fetch c.userAccount " +
+            "where c.post.id = :postId and c.id < :cursor order by c.id desc")
+    List<Comment> findPageByPostId(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 여러 게시글의 댓글 수를 한 번의 쿼리로 조회
+    @Query("select c.post.id as postId, count(c) as commentCount from Comment c " +
+            "where c.post.id in :postIds group by c.post.id")
+    List<PostCommentCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id in :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 회원 삭제: 회원이 남긴 댓글을 id 순서로
+    @Query("select c.id as commentId, c.post.id as postId from Comment c " +
+            "where c.userAccount.userId = :userId and c.id > :lastId order by c.id asc")
+    List<CommentTarget> findRemovalTargets(@Param("userId") String userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    interface CommentTarget {
+        Long getCommentId();
+        Long getPostId();
+    }
+
+    interface PostCommentCount {
+        Long getPostId();
+        Long getCommentCount();
+    }
+
+}
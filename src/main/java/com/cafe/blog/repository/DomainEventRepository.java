@@ -0,0 +1,32 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.DomainEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DomainEventRepository extends JpaRepository<DomainEvent, Long> {
+
+    // 이 id 다음에 기록된 이벤트 (id 순)
+    @Query("select e from DomainEvent e where e.id > :after order by e.id asc")
+    List<DomainEvent> findAfter(@Param("after") long after, Pageable pageable);
+
+    // 이 시각 이전에 발생한 마지막 이벤트 (기동 시 읽기 시작할 위치)
+    @Query("select max(e.id) from DomainEvent e where e.occurredAt < :before")
+    Long findMaxIdOccurredBefore(@Param("before") LocalDateTime before);
+
+    // 같은 게시글의 더 최근 이벤트가 기록되어 있는지 (늦게 도착한 이벤트는 건너뜀)
+    boolean existsByPostIdAndIdGreaterThan(Long postId, Long id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DomainEvent e where e.occurredAt < :before")
+    int deleteOccurredBefore(@Param("before") LocalDateTime before);
+
+}
@@ -1,19 +1,156 @@
 package com.cafe.blog.repository;
 
 import com.cafe.blog.entity.Post;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 제목으로 검색
     Page<Post> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
-    // 내용으로 검색
-    Page<Post> findByContentContainingIgnoreCase(String content, Pageable pageable);
+    // 내용으로 검색 (본문은 post_content 에 있으므로 조인)
+    Page<Post> findByPostContent_ContentContainingIgnoreCase(String content, Pageable pageable);
 
     // 유저 아이디로 검색
     Page<Post> findByUserAccount_UserId(String userId, Pageable pageable);
 
+    // 상세 조회: 작성자, 본문, 태그를 한 번에 조회 (트랜잭션 밖에서도 PostDto 로 변환 가능)
+    @Query("select p from Post p join fetch p.userAccount left join fetch p.postContent left join fetch p.tags where p.id = :postId")
+    Optional<Post> findWithContentById(@Param("postId") Long postId);
+
+    // 수정: 같은 게시글의 동시 수정을 행 잠금으로 순서대로 처리 (수정 전 상태와 리비전 번호가 겹치지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.id = :postId")
+    Optional<Post> findByIdForUpdate(@Param("postId") Long postId);
+
+    // 스트리밍 조회용 keyset 페이지: lastId 이후의 게시글을 id 오름차순으로 가져온다. (offset 스캔 없음)
+    @Query("select p from Post p join fetch p.userAccount where p.id > :lastId order by p.id asc")
+    List<Post> findAllAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select p from Post p join fetch p.userAccount " +
+            "where p.id > :lastId and lower(p.title) like lower(concat('%', :title, '%')) order by p.id asc")
+    List<Post> findByTitleAfter(@Param("title") String title, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select p from Post p join fetch p.userAccount " +
+            "where p.id > :lastId and lower(p.postContent.content) like lower(concat('%', :content, '%')) order by p.id asc")
+    List<Post> findByContentAfter(@Param("content") String content, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select p from Post p join fetch p.userAccount " +
+            "where p.id > :lastId and p.userAccount.userId = :userId order by p.id asc")
+    List<Post> findByUserIdAfter(@Param("userId") String userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 태그 비트맵 인덱스로 고른 게시글 id 의 행만 조회
+    @Query("select p from Post p join fetch p.userAccount where p.id in :ids")
+    List<Post> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 태그 후보 id 중 검색어 조건을 만족하는 id 만 조회 (좁은 id 컬럼만 반환)
+    @Query("select p.id from Post p where p.id in :ids and lower(p.title) like lower(concat('%', :title, '%'))")
+    List<Long> filterIdsByTitle(@Param("ids") Collection<Long> ids, @Param("title") String title);
+
+    @Query("select p.id from Post p where p.id in :ids and lower(p.postContent.content) like lower(concat('%', :content, '%'))")
+    List<Long> filterIdsByContent(@Param("ids") Collection<Long> ids, @Param("content") String content);
+
+    @Query("select p.id from Post p where p.id in :ids and p.userAccount.userId = :userId")
+    List<Long> filterIdsByUserId(@Param("ids") Collection<Long> ids, @Param("userId") String userId);
+
+    // 인덱스 구축용 스트리밍 조회는 fetch size 를 지정해야 드라이버가 결과 전체를 메모리에 올리지 않고 나누어 읽는다.
+    String STREAM_FETCH_SIZE = "500";
+
+    // 태그 인덱스 구축용: (게시글 id, 태그) 쌍을 스트리밍
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select p.id as postId, t as tag from Post p join p.tags t")
+    Stream<PostTagView> streamAllTags();
+
+    // 제목 자동완성 인덱스 구축용: (게시글 id, 제목, 댓글 수) 를 스트리밍
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select p.id as postId, p.title as title, p.commentCount as commentCount from Post p")
+    Stream<PostTitleView> streamAllTitles();
+
+    // 연관 게시글 인덱스 구축용: 최신 게시글부터 (게시글 id, 제목, 본문) 을 pageable 의 크기만큼 스트리밍
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select p.id as postId, p.title as title, c.content as content from Post p left join p.postContent c order by p.id desc")
+    Stream<PostTextView> streamRecentTexts(Pageable pageable);
+
+    // 비정규화된 댓글 수를 DB 에서 원자적으로 증감한다. (읽고-쓰기 경쟁 없음)
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 소프트 삭제: 행은 남기고 이후 모든 조회에서 제외 (@SQLRestriction)
+    @Modifying
+    @Query("update Post p set p.deleted = true, p.deletedAt = :deletedAt where p.id = :postId")
+    int softDelete(@Param("postId") Long postId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 보관 대상: 오래된 게시글을 id 순으로 잠가서 조회 (다른 노드가 잠근 행은 건너뛰어 같은 게시글을 함께 옮기지 않음)
+    @Query(value = "select id from post where deleted = false and created_at < :before order by id limit :limit " +
+            "for update skip locked", nativeQuery = true)
+    List<Long> lockArchiveTargetIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 보관할 게시글 (작성자, 본문 포함)
+    @Query("select p from Post p join fetch p.userAccount left join fetch p.postContent where p.id in :ids order by p.id asc")
+    List<Post> findArchiveTargets(@Param("ids") Collection<Long> ids);
+
+    // 소프트 삭제된 게시글은 JPQL 에서 보이지 않으므로 native 로 조회 (다른 노드가 잠근 행은 건너뜀)
+    @Query(value = "select id as postId, content_id as contentId, file_path as filePath from post " +
+            "where deleted = true and deleted_at < :before order by id limit :limit for update skip locked", nativeQuery = true)
+    List<PurgeTarget> findPurgeTargets(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 회원 삭제: 회원의 게시글을 id 순서로 (소프트 삭제된 게시글 포함)
+    @Query(value = "select id as postId, content_id as contentId, file_path as filePath from post " +
+            "where user_id = :userId and id > :lastId order by id limit :limit", nativeQuery = true)
+    List<PurgeTarget> findRemovalTargets(@Param("userId") String userId, @Param("lastId") Long lastId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from post_tag where post_id in :postIds", nativeQuery = true)
+    int deleteTagsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "delete from post where id in :postIds", nativeQuery = true)
+    int deleteAllByIdInIncludingDeleted(@Param("postIds") Collection<Long> postIds);
+
+    // post 행을 지운 뒤 호출 (post.content_id 가 post_content 를 참조)
+    @Modifying
+    @Query(value = "delete from post_content where id in :contentIds", nativeQuery = true)
+    int deleteContentsByIdIn(@Param("contentIds") Collection<Long> contentIds);
+
+    interface PurgeTarget {
+        Long getPostId();
+        Long getContentId();
+        String getFilePath();
+    }
+
+    interface PostTagView {
+        Long getPostId();
+        String getTag();
+    }
+
+    interface PostTitleView {
+        Long getPostId();
+        String getTitle();
+        int getCommentCount();
+    }
+
+    interface PostTextView {
+        Long getPostId();
+        String getTitle();
+        String getContent();
+    }
+
 }
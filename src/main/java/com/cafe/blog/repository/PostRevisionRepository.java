@@ -0,0 +1,47 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.PostRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    // 마지막 리비전 번호와 기준 snapshot (본문은 읽지 않음)
+    @Query("select r.revision as revision, r.baseRevision as baseRevision from PostRevision r " +
+            "where r.postId = :postId order by r.revision desc")
+    List<RevisionHead> findHeads(@Param("postId") Long postId, Pageable pageable);
+
+    // 리비전을 복원하는 데 필요한 행: 기준 snapshot 부터 해당 리비전까지 (한 번의 쿼리)
+    @Query("select r from PostRevision r where r.postId = :postId and r.revision <= :revision and r.revision >= " +
+            "(select b.baseRevision from PostRevision b where b.postId = :postId and b.revision = :revision) " +
+            "order by r.revision asc")
+    List<PostRevision> findChain(@Param("postId") Long postId, @Param("revision") int revision);
+
+    @Query("select r.revision as revision, r.title as title, r.editedAt as editedAt, r.editedBy as editedBy " +
+            "from PostRevision r where r.postId = :postId order by r.revision desc")
+    List<RevisionSummary> findSummaries(@Param("postId") Long postId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from PostRevision r where r.postId in :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    interface RevisionHead {
+        int getRevision();
+        int getBaseRevision();
+    }
+
+    interface RevisionSummary {
+        int getRevision();
+        String getTitle();
+        LocalDateTime getEditedAt();
+        String getEditedBy();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // 병렬 chunk 가 받은 구간을 동시에 갱신하므로 행 잠금 후 병합
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from UploadSession u where u.id = :id")
+    Optional<UploadSession> findByIdForUpdate(@Param("id") String id);
+
+    List<UploadSession> findByExpiresAtBefore(LocalDateTime now);
+
+}
@@ -0,0 +1,26 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.UserRemoval;
+import com.cafe.blog.entity.constant.RemovalStep;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRemovalRepository extends JpaRepository<UserRemoval, String> {
+
+    // 여러 노드가 같은 회원을 동시에 처리하지 않도록 묶음마다 진행 행을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from UserRemoval r where r.userId = :userId")
+    Optional<UserRemoval> findByIdForUpdate(@Param("userId") String userId);
+
+    @Query("select r.userId from UserRemoval r where r.step <> :step order by r.requestedAt")
+    List<String> findUserIdsByStepNot(@Param("step") RemovalStep step);
+
+    boolean existsByUserIdAndStepNot(String userId, RemovalStep step);
+
+}
@@ -0,0 +1,226 @@
+package com.cafe.blog.revision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줄 단위 diff (Myers, O((N+M)D))
+ * 공통 앞/뒤 줄을 먼저 잘라내므로 일부만 고친 긴 본문도 바뀐 구간만 비교합니다.
+ * 편집 거리가 maxEdits 를 넘으면 (전체를 다시 쓴 경우) 최소 편집을 찾지 않고 바뀐 구간 전체를 삭제 후 삽입으로 처리합니다.
+ */
+public final class LineDiff {
+
+    private LineDiff() {
+    }
+
+    public enum Type {
+        EQUAL, DELETE, INSERT
+    }
+
+    /**
+     * 편집 구간 [oldStart, oldEnd), [newStart, newEnd) (0부터 시작)
+     * DELETE 는 newStart == newEnd, INSERT 는 oldStart == oldEnd 입니다.
+     */
+    public record Edit(Type type, int oldStart, int oldEnd, int newStart, int newEnd) {
+
+        public int length() {
+            return type == Type.INSERT ? newEnd - newStart : oldEnd - oldStart;
+        }
+    }
+
+    /**
+     * unified diff 의 hunk (시작 줄은 1부터, 줄 앞에 ' ', '-', '+')
+     */
+    public record Hunk(int oldStart, int oldLines, int newStart, int newLines, List<String> lines) {
+    }
+
+    /**
+     * 본문을 줄로 나눕니다. 마지막 줄바꿈도 빈 줄로 남겨 join 으로 그대로 복원됩니다.
+     */
+    public static List<String> lines(String text) {
+        return text == null || text.isEmpty() ? List.of() : Arrays.asList(text.split("\n", -1));
+    }
+
+    public static String join(List<String> lines) {
+        return String.join("\n", lines);
+    }
+
+    /**
+     * a 를 b 로 바꾸는 편집 목록 (같은 종류의 인접 구간은 합쳐짐)
+     */
+    public static List<Edit> diff(List<String> a, List<String> b, int maxEdits) {
+        int n = a.size();
+        int m = b.size();
+        int prefix = 0;
+        while (prefix < n && prefix < m && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix && a.get(n - 1 - suffix).equals(b.get(m - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        add(edits, Type.EQUAL, 0, prefix, 0, prefix);
+        middle(a.subList(prefix, n - suffix), b.subList(prefix, m - suffix), prefix, maxEdits, edits);
+        add(edits, Type.EQUAL, n - suffix, n, m - suffix, m);
+        return edits;
+    }
+
+    /**
+     * 편집 목록을 context 줄의 앞뒤 문맥과 함께 hunk 로 묶습니다.
+     */
+    public static List<Hunk> hunks(List<Edit> edits, List<String> a, List<String> b, int context) {
+        List<Hunk> hunks = new ArrayList<>();
+        int i = 0;
+        while (i < edits.size()) {
+            if (edits.get(i).type() == Type.EQUAL) {
+                i++;
+                continue;
+            }
+
+            // 사이의 같은 구간이 짧으면 (앞뒤 문맥이 겹치면) 하나의 hunk 로 묶는다.
+            int start = i;
+            int end = i;
+            int j = i + 1;
+            while (j < edits.size()) {
+                Edit edit = edits.get(j);
+                if (edit.type() != Type.EQUAL) {
+                    end = j++;
+                } else if (j + 1 < edits.size() && edit.length() <= 2 * context) {
+                    end = j + 1;
+                    j += 2;
+                } else {
+                    break;
+                }
+            }
+
+            int before = start > 0 ? Math.min(context, edits.get(start - 1).length()) : 0;
+            int after = end + 1 < edits.size() ? Math.min(context, edits.get(end + 1).length()) : 0;
+            int oldStart = edits.get(start).oldStart() - before;
+            int newStart = edits.get(start).newStart() - before;
+            int oldEnd = edits.get(end).oldEnd() + after;
+            int newEnd = edits.get(end).newEnd() + after;
+
+            List<String> lines = new ArrayList<>();
+            for (int k = oldStart; k < edits.get(start).oldStart(); k++) {
+                lines.add(" " + a.get(k));
+            }
+            for (int e = start; e <= end; e++) {
+                Edit edit = edits.get(e);
+                switch (edit.type()) {
+                    case EQUAL -> a.subList(edit.oldStart(), edit.oldEnd()).forEach(line -> lines.add(" " + line));
+                    case DELETE -> a.subList(edit.oldStart(), edit.oldEnd()).forEach(line -> lines.add("-" + line));
+                    case INSERT -> b.subList(edit.newStart(), edit.newEnd()).forEach(line -> lines.add("+" + line));
+                }
+            }
+            for (int k = edits.get(end).oldEnd(); k < oldEnd; k++) {
+                lines.add(" " + a.get(k));
+            }
+
+            hunks.add(new Hunk(oldStart + 1, oldEnd - oldStart, newStart + 1, newEnd - newStart, lines));
+            i = end + 1;
+        }
+        return hunks;
+    }
+
+    private static void middle(List<String> a, List<String> b, int offset, int maxEdits, List<Edit> edits) {
+        int n = a.size();
+        int m = b.size();
+        if (n == 0 || m == 0) {
+            add(edits, Type.DELETE, offset, offset + n, offset, offset);
+            add(edits, Type.INSERT, offset + n, offset + n, offset, offset + m);
+            return;
+        }
+
+        // 줄 비교를 정수 비교로
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = new int[n];
+        int[] y = new int[m];
+        for (int i = 0; i < n; i++) {
+            x[i] = ids.computeIfAbsent(a.get(i), key -> ids.size());
+        }
+        for (int i = 0; i < m; i++) {
+            y[i] = ids.computeIfAbsent(b.get(i), key -> ids.size());
+        }
+
+        int limit = Math.min(n + m, Math.max(maxEdits, 1));
+        int zero = limit + 1;  // v[zero + k]: 대각선 k 에서 가장 멀리 간 x
+        int[] v = new int[2 * limit + 3];
+        List<int[]> trace = new ArrayList<>();  // trace[d]: d 번째 단계가 끝난 뒤 v 의 [-d, d] 구간
+        for (int d = 0; d <= limit; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int xk = k == -d || (k != d && v[zero + k - 1] < v[zero + k + 1])
+                        ? v[zero + k + 1]        // 아래로: b 의 줄 삽입
+                        : v[zero + k - 1] + 1;   // 오른쪽: a 의 줄 삭제
+                int yk = xk - k;
+                while (xk < n && yk < m && x[xk] == y[yk]) {
+                    xk++;
+                    yk++;
+                }
+                v[zero + k] = xk;
+                if (xk >= n && yk >= m) {
+                    backtrack(trace, d, n, m, offset, edits);
+                    return;
+                }
+            }
+            trace.add(Arrays.copyOfRange(v, zero - d, zero + d + 1));
+        }
+
+        // 편집 거리가 너무 크면 전체 교체
+        add(edits, Type.DELETE, offset, offset + n, offset, offset);
+        add(edits, Type.INSERT, offset + n, offset + n, offset, offset + m);
+    }
+
+    private static void backtrack(List<int[]> trace, int distance, int n, int m, int offset, List<Edit> edits) {
+        List<Edit> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            int[] prev = trace.get(d - 1);
+            int k = x - y;
+            boolean down = k == -d || (k != d && prev[k - 1 + d - 1] < prev[k + 1 + d - 1]);
+            int prevK = down ? k + 1 : k - 1;
+            int prevX = prev[prevK + d - 1];
+            int prevY = prevX - prevK;
+            int snakeX = down ? prevX : prevX + 1;
+            int snakeY = snakeX - k;
+            if (x > snakeX) {
+                reversed.add(new Edit(Type.EQUAL, snakeX, x, snakeY, y));
+            }
+            reversed.add(down
+                    ? new Edit(Type.INSERT, prevX, prevX, prevY, prevY + 1)
+                    : new Edit(Type.DELETE, prevX, prevX + 1, prevY, prevY));
+            x = prevX;
+            y = prevY;
+        }
+        if (x > 0) {
+            reversed.add(new Edit(Type.EQUAL, 0, x, 0, y));
+        }
+
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            Edit edit = reversed.get(i);
+            add(edits, edit.type(), offset + edit.oldStart(), offset + edit.oldEnd(), offset + edit.newStart(), offset + edit.newEnd());
+        }
+    }
+
+    /**
+     * 빈 구간은 버리고, 앞 구간과 종류가 같으면 합칩니다.
+     */
+    private static void add(List<Edit> edits, Type type, int oldStart, int oldEnd, int newStart, int newEnd) {
+        if (oldStart == oldEnd && newStart == newEnd) {
+            return;
+        }
+        if (!edits.isEmpty()) {
+            Edit last = edits.get(edits.size() - 1);
+            if (last.type() == type && last.oldEnd() == oldStart && last.newEnd() == newStart) {
+                edits.set(edits.size() - 1, new Edit(type, last.oldStart(), oldEnd, last.newStart(), newEnd));
+                return;
+            }
+        }
+        edits.add(new Edit(type, oldStart, oldEnd, newStart, newEnd));
+    }
+}
@@ -0,0 +1,83 @@
+package com.cafe.blog.revision;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이전 리비전 본문에 적용하는 줄 단위 변경분
+ * 한 줄에 명령 하나씩 기록하며, 삽입할 줄은 명령 다음 줄부터 그대로 이어집니다. (줄에는 줄바꿈이 없으므로 구분이 필요 없음)
+ * <pre>
+ * =12      이전 본문의 12 줄을 그대로 사용
+ * -3       이전 본문의 3 줄을 건너뜀
+ * +2       다음 2 줄을 삽입
+ * </pre>
+ */
+public final class RevisionDelta {
+
+    private RevisionDelta() {
+    }
+
+    public static String encode(List<LineDiff.Edit> edits, List<String> newLines) {
+        StringBuilder delta = new StringBuilder();
+        for (LineDiff.Edit edit : edits) {
+            if (!delta.isEmpty()) {
+                delta.append('\n');
+            }
+            switch (edit.type()) {
+                case EQUAL -> delta.append('=').append(edit.length());
+                case DELETE -> delta.append('-').append(edit.length());
+                case INSERT -> {
+                    delta.append('+').append(edit.length());
+                    for (String line : newLines.subList(edit.newStart(), edit.newEnd())) {
+                        delta.append('\n').append(line);
+                    }
+                }
+            }
+        }
+        return delta.toString();
+    }
+
+    /**
+     * 이전 본문의 줄에 변경분을 적용합니다.
+     * @throws IllegalStateException 변경분이 이전 본문과 맞지 않는 경우
+     */
+    public static List<String> apply(List<String> oldLines, String delta) {
+        List<String> commands = LineDiff.lines(delta);
+        List<String> result = new ArrayList<>(oldLines.size() + 16);
+        int position = 0;
+        int i = 0;
+        while (i < commands.size()) {
+            String command = commands.get(i++);
+            int count = Integer.parseInt(command, 1, command.length(), 10);
+            switch (command.charAt(0)) {
+                case '=' -> {
+                    checkRange(oldLines, position, count);
+                    result.addAll(oldLines.subList(position, position + count));
+                    position += count;
+                }
+                case '-' -> {
+                    checkRange(oldLines, position, count);
+                    position += count;
+                }
+                case '+' -> {
+                    if (i + count > commands.size()) {
+                        throw new IllegalStateException("Revision delta is truncated");
+                    }
+                    result.addAll(commands.subList(i, i + count));
+                    i += count;
+                }
+                default -> throw new IllegalStateException("Unknown revision delta command: " + command);
+            }
+        }
+        if (position != oldLines.size()) {
+            throw new IllegalStateException("Revision delta does not match the previous revision");
+        }
+        return result;
+    }
+
+    private static void checkRange(List<String> oldLines, int position, int count) {
+        if (position + count > oldLines.size()) {
+            throw new IllegalStateException("Revision delta does not match the previous revision");
+        }
+    }
+}
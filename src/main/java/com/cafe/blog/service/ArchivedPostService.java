@@ -0,0 +1,61 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.AttachmentDeletionRepository;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관(post_archive)된 게시글에 대한 쓰기
+ *
+ * 보관된 게시글은 PostService.getPost 에서 그대로 조회되므로 작성자가 계속 삭제하고 댓글을 달 수 있어야 합니다.
+ * - 삭제: 소프트 삭제 없이 바로 지웁니다. (댓글과 수정 이력도 함께, 첨부파일은 attachment_deletion 에 넣어 커밋 후 삭제)
+ *   보관된 게시글은 이미 인덱스와 목록에서 빠져 있어, 정리를 미룰 이유가 없습니다. (회원 삭제의 보관 게시글 처리와 같음)
+ * - 댓글: 댓글은 게시글 FK 가 없어 그대로 저장되며, 댓글 수만 post_archive 에서 갱신합니다.
+ * - 수정: 보관된 게시글은 읽기 전용입니다. (PostArchivedException, 409)
+ *
+ * 호출한 쪽(PostService, CommentService)의 트랜잭션 안에서 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ArchivedPostService {
+
+    private final ArchivedPostRepository archivedPostRepository;
+    private final CommentRepository commentRepository;
+    private final PostRevisionRepository postRevisionRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+
+    public boolean exists(Long postId) {
+        return archivedPostRepository.existsById(postId);
+    }
+
+    /**
+     * 보관된 게시글을 삭제합니다.
+     * 보관 행을 먼저 지워(행 잠금) 동시에 들어온 댓글 작성과 순서를 정한 뒤 댓글을 지웁니다.
+     * @return 보관된 게시글이 없으면 false
+     */
+    public boolean delete(Long postId) {
+        attachmentDeletionRepository.enqueueByArchivedPostIdIn(List.of(postId), LocalDateTime.now());  // 보관 행이 없으면 아무것도 넣지 않음
+        if (archivedPostRepository.deleteArchived(postId) == 0) {
+            return false;
+        }
+        commentRepository.deleteByPostId(postId);
+        postRevisionRepository.deleteByPostIdIn(List.of(postId));
+        return true;
+    }
+
+    /**
+     * @return 보관된 게시글이 없으면 false
+     */
+    public boolean adjustCommentCount(Long postId, int delta) {
+        return archivedPostRepository.adjustCommentCount(postId, delta) > 0;
+    }
+}
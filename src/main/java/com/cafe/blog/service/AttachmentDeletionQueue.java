@@ -0,0 +1,87 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.UserRemovalProperties;
+import com.cafe.blog.entity.AttachmentDeletion;
+import com.cafe.blog.repository.AttachmentDeletionRepository;
+import com.cafe.blog.storage.AttachmentStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 첨부파일 지연 삭제
+ * 게시글을 지운 트랜잭션이 커밋되어 큐(attachment_deletion)에 남은 key 만 저장소에서 지웁니다.
+ * 저장소 호출은 트랜잭션 밖에서 하고, 결과(큐에서 제거, 실패 횟수 증가)만 묶음마다 짧은 트랜잭션으로 기록합니다.
+ * 여러 노드가 같은 행을 동시에 처리해도 삭제는 멱등이므로 문제없습니다.
+ */
+@Slf4j
+@Component
+public class AttachmentDeletionQueue {
+
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final UserRemovalProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttachmentDeletionQueue(AttachmentDeletionRepository attachmentDeletionRepository,
+                                   AttachmentStorage attachmentStorage,
+                                   UserRemovalProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.attachmentDeletionRepository = attachmentDeletionRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 큐에 쌓인 첨부파일을 지웁니다. 실패한 파일은 다음 주기에 다시 시도합니다.
+     * @return 지운 파일 수
+     */
+    @Scheduled(fixedDelayString = "${blog.user-removal.attachment-interval:PT30S}")
+    public int drain() {
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            List<AttachmentDeletion> batch = attachmentDeletionRepository.findPending(lastId, properties.attachmentMaxAttempts(),
+                    PageRequest.of(0, properties.attachmentBatchSize()));
+            List<Long> deleted = new ArrayList<>(batch.size());
+            List<Long> failed = new ArrayList<>();
+            for (AttachmentDeletion deletion : batch) {
+                try {
+                    attachmentStorage.delete(deletion.getFileKey());
+                    deleted.add(deletion.getId());
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Failed to delete attachment {} (attempt {})", deletion.getFileKey(), deletion.getAttempts() + 1, e);
+                    failed.add(deletion.getId());
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!deleted.isEmpty()) {
+                        attachmentDeletionRepository.deleteAllByIdInBatch(deleted);
+                    }
+                    if (!failed.isEmpty()) {
+                        attachmentDeletionRepository.incrementAttempts(failed);
+                    }
+                });
+                lastId = batch.get(batch.size() - 1).getId();  // 실패한 행은 이번 주기에 다시 읽지 않는다.
+            }
+
+            total += deleted.size();
+            if (batch.size() < properties.attachmentBatchSize()) {
+                if (total > 0) {
+                    log.info("Deleted {} queued attachments", total);
+                }
+                return total;
+            }
+        }
+    }
+}
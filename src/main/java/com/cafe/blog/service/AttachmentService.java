@@ -0,0 +1,47 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.StorageProperties;
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.storage.AttachmentStat;
+import com.cafe.blog.storage.AttachmentStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * 게시글 첨부파일 다운로드
+ * 저장소가 presigned URL 을 지원하면 클라이언트를 스토리지로 보내고, 아니면 요청 구간(Range)만 읽어 전송합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttachmentService {
+
+    private final PostService postService;
+    private final AttachmentStorage attachmentStorage;
+    private final StorageProperties storageProperties;
+
+    public PostDto getAttachmentOwner(Long postId) {
+        PostDto post = postService.getPost(postId);
+        if (post.filePath() == null) {
+            throw new PostNotFoundException("Post with id " + postId + " has no attachment.");
+        }
+        return post;
+    }
+
+    public Optional<URI> presignedDownloadUrl(PostDto post) {
+        return attachmentStorage.presignedDownloadUrl(post.filePath(), storageProperties.s3().presignTtl());
+    }
+
+    public Optional<AttachmentStat> stat(PostDto post) throws IOException {
+        return attachmentStorage.stat(post.filePath());
+    }
+
+    public InputStream openRange(PostDto post, long offset, long length) throws IOException {
+        return attachmentStorage.getRange(post.filePath(), offset, length);
+    }
+}
@@ -0,0 +1,287 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.config.UploadProperties;
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UploadSessionDto;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UploadSession;
+import com.cafe.blog.entity.constant.UploadStatus;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.exception.UploadSessionNotFoundException;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.UploadSessionRepository;
+import com.cafe.blog.storage.AttachmentStorage;
+import com.cafe.blog.storage.UploadAdmission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 분할(chunk) 업로드
+ * init -> chunk 전송(offset 지정, 병렬 가능) -> complete 순서로 진행합니다.
+ *
+ * 스테이징 파일은 init 에서 전체 크기로 미리 늘려 두고, chunk 는 요청 스레드에서 해당 위치에 바로 기록(FileChannel 위치 지정 쓰기)하므로
+ * chunk 전체를 메모리에 모으지 않으며, 서로 다른 구간의 chunk 는 순서와 관계없이 동시에 기록할 수 있습니다. 받은 구간은 세션 행을 잠근 짧은 트랜잭션에서만 병합하므로
+ * 파일 I/O 동안 DB 커넥션을 붙잡지 않습니다.
+ * 쓰기 슬롯(UploadAdmission)은 클라이언트에게서 다 읽어 둔 조각(WRITE_SLICE_SIZE)을 디스크에 쓰는 동안만 잡으므로, 느린 클라이언트가 슬롯을 붙잡지 않습니다.
+ * 세션은 만든 사용자만 조회, 전송, 완료, 취소할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final int WRITE_SLICE_SIZE = 1024 * 1024;  // 쓰기 슬롯 하나로 기록하는 단위 (요청마다 이만큼만 메모리에 둠)
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final PostRepository postRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final UploadAdmission uploadAdmission;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InvalidationBus invalidationBus;
+    private final UploadProperties properties;
+    private final AuditorAware<String> auditorAware;
+    private final TransactionTemplate transactionTemplate;
+    private final Path stagingDir;
+
+    public ChunkedUploadService(UploadSessionRepository uploadSessionRepository,
+                                PostRepository postRepository,
+                                AttachmentStorage attachmentStorage,
+                                UploadAdmission uploadAdmission,
+                                ApplicationEventPublisher eventPublisher,
+                                InvalidationBus invalidationBus,
+                                UploadProperties properties,
+                                AuditorAware<String> auditorAware,
+                                PlatformTransactionManager transactionManager) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.postRepository = postRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.uploadAdmission = uploadAdmission;
+        this.eventPublisher = eventPublisher;
+        this.invalidationBus = invalidationBus;
+        this.properties = properties;
+        this.auditorAware = auditorAware;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stagingDir = Paths.get(properties.stagingDir()).toAbsolutePath().normalize();
+    }
+
+    public UploadSessionDto init(UploadSessionDto request) throws IOException {
+        if (request.totalSize() > properties.maxFileSize().toBytes()) {
+            throw new IllegalArgumentException("File is too large: " + request.totalSize() + " bytes");
+        }
+
+        String fileName = StringUtils.getFilename(StringUtils.cleanPath(request.fileName()));
+        UploadSession session = UploadSession.of(
+                UUID.randomUUID().toString(),
+                fileName,
+                request.contentType(),
+                request.totalSize(),
+                LocalDateTime.now().plus(properties.sessionTtl())
+        );
+
+        Files.createDirectories(stagingDir);
+        Path part = Files.createFile(partFile(session.getId()));
+        try (RandomAccessFile file = new RandomAccessFile(part.toFile(), "rw")) {
+            file.setLength(request.totalSize());  // 파일 끝을 넘는 위치에는 transferFrom 이 기록하지 않으므로 미리 늘려 둔다. (대부분 sparse 파일)
+        }
+        transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.save(session));
+        return toDto(session);
+    }
+
+    /**
+     * chunk 를 스테이징 파일의 offset 위치에 기록하고 받은 구간을 병합합니다.
+     * 연결이 끊겨 일부만 받았더라도 실제로 기록한 구간까지는 반영하여, 클라이언트는 missing 구간만 다시 보내면 됩니다.
+     * 도중에 쓰기 슬롯을 얻지 못해 거절(503)된 경우도 마찬가지입니다.
+     */
+    public UploadSessionDto writeChunk(String uploadId, long offset, long length, InputStream body) throws IOException {
+        UploadSession session = findOwnSession(uploadId);
+        checkInProgress(session);
+        if (offset < 0 || length < 0 || offset + length > session.getTotalSize()) {
+            throw new IllegalArgumentException("Chunk out of range: offset=" + offset + ", length=" + length);
+        }
+        if (length > properties.maxChunkSize().toBytes()) {
+            throw new IllegalArgumentException("Chunk is too large: " + length + " bytes");
+        }
+
+        long written = 0;
+        byte[] slice = new byte[(int) Math.min(length, WRITE_SLICE_SIZE)];
+        try (FileChannel channel = FileChannel.open(partFile(uploadId), StandardOpenOption.WRITE)) {
+            while (written < length) {
+                int read = body.readNBytes(slice, 0, (int) Math.min(slice.length, length - written));  // 클라이언트 속도로 읽는 동안은 슬롯을 잡지 않음
+                if (read == 0) {
+                    break;  // 클라이언트가 chunk 를 다 보내지 않고 종료
+                }
+                writeSlice(channel, offset + written, slice, read);
+                written += read;
+            }
+        } finally {
+            recordRange(uploadId, offset, offset + written);
+        }
+
+        if (written < length) {
+            throw new IOException("Chunk truncated: received " + written + " of " + length + " bytes");
+        }
+        return getStatus(uploadId);
+    }
+
+    public UploadSessionDto getStatus(String uploadId) {
+        return toDto(findOwnSession(uploadId));
+    }
+
+    /**
+     * 모든 구간을 받았으면 스테이징 파일을 첨부파일 저장소로 옮기고 게시글에 첨부합니다.
+     * 저장소 전송은 트랜잭션 밖에서 수행하고, 게시글 갱신과 세션 완료 처리만 한 트랜잭션으로 묶습니다.
+     */
+    public PostDto complete(String uploadId, Long postId) throws IOException {
+        UploadSession session = findOwnSession(uploadId);
+        checkInProgress(session);
+        if (!session.receivedRangeSet().covers(session.getTotalSize())) {
+            throw new IllegalStateException("Upload is incomplete: " + session.receivedRangeSet().missing(session.getTotalSize()));
+        }
+
+        Path part = partFile(uploadId);
+        String key = uploadId + "/" + session.getFileName();
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire();
+             InputStream content = uploadAdmission.throttle(Files.newInputStream(part))) {
+            attachmentStorage.put(key, content, session.getTotalSize(), session.getContentType());
+        }
+
+        Attached attached;
+        try {
+            attached = transactionTemplate.execute(status -> attach(uploadId, postId, key));
+        } catch (RuntimeException e) {
+            attachmentStorage.delete(key);  // 첨부하지 못한 파일은 남기지 않는다.
+            throw e;
+        }
+
+        Files.deleteIfExists(part);
+        if (attached.replacedKey() != null) {
+            attachmentStorage.delete(attached.replacedKey());
+        }
+        return attached.post();
+    }
+
+    public void abort(String uploadId) throws IOException {
+        UploadSession session = findOwnSession(uploadId);
+        checkInProgress(session);
+        transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.deleteById(uploadId));
+        Files.deleteIfExists(partFile(uploadId));
+    }
+
+    /**
+     * 만료된 세션과 스테이징 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${blog.upload.cleanup-interval:PT1H}")
+    public void purgeExpired() {
+        for (UploadSession session : uploadSessionRepository.findByExpiresAtBefore(LocalDateTime.now())) {
+            try {
+                Files.deleteIfExists(partFile(session.getId()));
+                transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.deleteById(session.getId()));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to purge upload session {}", session.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 읽어 둔 조각을 쓰기 슬롯을 잡고 대역폭 예산 안에서 position 위치에 기록합니다.
+     */
+    private void writeSlice(FileChannel channel, long position, byte[] slice, int length) throws IOException {
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire();
+             ReadableByteChannel source = Channels.newChannel(uploadAdmission.throttle(new ByteArrayInputStream(slice, 0, length)))) {
+            long end = position + length;
+            while (position < end) {
+                position += channel.transferFrom(source, position, end - position);
+            }
+        }
+    }
+
+    private void recordRange(String uploadId, long start, long end) {
+        if (start == end) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            UploadSession locked = uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .orElseThrow(() -> new UploadSessionNotFoundException("Upload session " + uploadId + " not found."));
+            locked.addReceivedRange(start, end);
+        });
+    }
+
+    private Attached attach(String uploadId, Long postId, String key) {
+        UploadSession locked = uploadSessionRepository.findByIdForUpdate(uploadId)
+                .orElseThrow(() -> new UploadSessionNotFoundException("Upload session " + uploadId + " not found."));
+        checkInProgress(locked);  // 동시에 complete 가 들어온 경우 하나만 성공
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post with id " + postId + " not found."));
+        if (!Objects.equals(post.getCreatedBy(), locked.getCreatedBy())) {
+            throw new AccessDeniedException("Only the author can attach files to post " + postId);
+        }
+
+        String replacedKey = post.getFilePath();
+        post.withFileDetails(locked.getFileName(), key, locked.getContentType());
+        locked.setStatus(UploadStatus.COMPLETED);
+        eventPublisher.publishEvent(PostUpdated.of(post.getId(), post.getTitle(), post.getUserAccount().getUserId(), post.getTags()));  // 커밋 후 전달
+        invalidationBus.invalidate(CacheNames.POSTS, postId.toString(), () -> VersionedCache.versionOf(post.getModifiedAt()));
+        return new Attached(PostDto.from(post), replacedKey);
+    }
+
+    /**
+     * 현재 사용자가 만든 세션만 반환합니다. (uploadId 를 알아낸 다른 사용자가 파일을 덮어쓰거나 취소하지 못하도록)
+     */
+    private UploadSession findOwnSession(String uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new UploadSessionNotFoundException("Upload session " + uploadId + " not found."));
+        String currentUser = auditorAware.getCurrentAuditor().orElse(null);
+        if (currentUser == null || !currentUser.equals(session.getCreatedBy())) {
+            throw new AccessDeniedException("Upload session " + uploadId + " belongs to another user");
+        }
+        return session;
+    }
+
+    private void checkInProgress(UploadSession session) {
+        if (session.getStatus() != UploadStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Upload session " + session.getId() + " is " + session.getStatus());
+        }
+    }
+
+    private Path partFile(String uploadId) {
+        return stagingDir.resolve(UUID.fromString(uploadId) + ".part");  // UUID 형식만 허용 (경로 조작 방지)
+    }
+
+    private UploadSessionDto toDto(UploadSession session) {
+        return UploadSessionDto.from(session, properties.chunkSize().toBytes());
+    }
+
+    /**
+     * 첨부 결과
+     * @param post 첨부 후 게시글
+     * @param replacedKey 교체되어 삭제할 기존 첨부파일 key (없으면 null)
+     */
+    private record Attached(PostDto post, String replacedKey) {
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.dto.CommentDto;
+import com.cafe.blog.dto.CommentPageDto;
+import com.cafe.blog.dto.security.BlogPrincipal;
+import com.cafe.blog.entity.Comment;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.exception.CommentNotFoundException;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final ArchivedPostService archivedPostService;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * 게시글의 댓글을 커서 기반으로 조회합니다.
+     * size + 1 건을 조회하여 다음 페이지 존재 여부를 판단하므로 count 쿼리가 필요 없습니다.
+     * @param postId
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDto getComments(Long postId, Long cursor, int size) {
+        long from = cursor == null ? Long.MAX_VALUE : cursor;
+        List<Comment> comments = commentRepository.findPageByPostId(postId, from, PageRequest.of(0, size + 1));
+
+        boolean hasNext = comments.size() > size;
+        List<CommentDto> page = comments.stream()
+                .limit(size)
+                .map(CommentDto::from)
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+        return CommentPageDto.of(page, nextCursor);
+    }
+
+    /**
+     * 여러 게시글의 댓글 수를 한 번의 쿼리로 조회합니다. 댓글이 없는 게시글은 0 입니다.
+     * 목록 화면은 Post.commentCount (비정규화 값)를 사용하고, 이 메소드는 정확한 값이 필요할 때 사용합니다.
+     * @param postIds
+     * @return postId -> 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCommentCounts(Collection<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        postIds.forEach(postId -> counts.put(postId, 0L));
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+
+        commentRepository.countByPostIds(postIds)
+                .forEach(count -> counts.put(count.getPostId(), count.getCommentCount()));
+        return counts;
+    }
+
+    /**
+     * 로그인 사용자를 작성자로 댓글을 작성합니다.
+     * 요청 본문의 사용자 정보는 사용하지 않습니다. (다른 사용자 이름으로 작성하지 못하도록)
+     * 보관된 게시글에도 작성할 수 있습니다. (댓글은 게시글 FK 가 없고, 댓글 수는 post_archive 에서 갱신)
+     */
+    public CommentDto createComment(Long postId, CommentDto commentDto, BlogPrincipal principal) {
+        // 댓글 수 증가가 곧 게시글 존재 확인 (갱신된 행이 없으면 게시글이 없다)
+        if (!adjustCommentCount(postId, 1)) {
+            throw new PostNotFoundException("Post with id " + postId + " not found.");
+        }
+
+        Post post = postRepository.getReferenceById(postId);
+        UserAccount userAccount = userAccountRepository.getReferenceById(principal.getUsername());
+        Comment comment = commentRepository.save(commentDto.toEntity(post, userAccount));
+        invalidateCommentCount(postId);
+        return CommentDto.from(comment);
+    }
+
+    /**
+     * 댓글은 작성자 또는 관리자만 삭제할 수 있습니다.
+     */
+    public void deleteComment(Long postId, Long commentId, BlogPrincipal principal) {
+        Comment comment = commentRepository.findById(commentId)
+                .filter(found -> found.getPost().getId().equals(postId))
+                .orElseThrow(() -> new CommentNotFoundException("Comment with id " + commentId + " not found."));
+        boolean admin = principal.getAuthorities().stream().anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!admin && !principal.getUsername().equals(comment.getCreatedBy())) {
+            throw new AccessDeniedException("Only the author can delete comment " + commentId);
+        }
+
+        commentRepository.delete(comment);
+        adjustCommentCount(postId, -1);
+        invalidateCommentCount(postId);
+    }
+
+    /**
+     * 게시글, 없으면 보관된 게시글의 댓글 수를 바꿉니다.
+     * @return 둘 다 없으면 false
+     */
+    private boolean adjustCommentCount(Long postId, int delta) {
+        return postRepository.adjustCommentCount(postId, delta) > 0 || archivedPostService.adjustCommentCount(postId, delta);
+    }
+
+    /**
+     * 댓글 수는 modifiedAt 을 바꾸지 않으므로 버전과 무관하게 캐시된 게시글을 지웁니다.
+     */
+    private void invalidateCommentCount(Long postId) {
+        invalidationBus.invalidate(CacheNames.POSTS, postId.toString(), () -> VersionedCache.UNVERSIONED);
+    }
+}
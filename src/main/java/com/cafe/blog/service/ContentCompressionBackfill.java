@@ -0,0 +1,89 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.ContentCompressionProperties;
+import com.cafe.blog.entity.converter.CompressedTextConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 기존 게시글 본문 압축 (blog.content-compression.backfill=true 일 때 기동 후 백그라운드에서 한 번 실행)
+ *
+ * post_content 를 id 순 keyset 으로 묶음씩 읽어, 압축 대상인 본문만 JDBC batch UPDATE 로 바꿉니다.
+ * 엔티티를 거치지 않으므로 게시글의 수정일시/수정자는 바뀌지 않으며, 이미 압축된 행은 건너뛰므로 중단 후 다시 실행해도 됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.content-compression", name = "backfill", havingValue = "true")
+public class ContentCompressionBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ContentCompressionProperties properties;
+    private final CompressedTextConverter converter;
+
+    public ContentCompressionBackfill(JdbcTemplate jdbcTemplate,
+                                      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                      ContentCompressionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+        this.converter = new CompressedTextConverter(properties);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.warn("Content compression backfill skipped: blog.content-compression.enabled is false");
+            return;
+        }
+        taskExecutor.execute(this::run);
+    }
+
+    /**
+     * @return 압축한 행 수
+     */
+    public long run() {
+        long lastId = 0;
+        long compressed = 0;
+        long savedChars = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(
+                    "select id, content from post_content where id > ? order by id limit ?",
+                    (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("content")),
+                    lastId, properties.backfillBatchSize());
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Row row : rows) {
+                String stored = converter.convertToDatabaseColumn(converter.convertToEntityAttribute(row.content()));
+                if (!Objects.equals(stored, row.content())) {
+                    updates.add(new Object[]{stored, row.id()});
+                    savedChars += row.content().length() - stored.length();
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("update post_content set content = ? where id = ?", updates);
+                compressed += updates.size();
+            }
+            lastId = rows.get(rows.size() - 1).id();
+        }
+
+        log.info("Content compression backfill finished: {} rows compressed, {} chars saved", compressed, savedChars);
+        return compressed;
+    }
+
+    private record Row(long id, String content) {
+    }
+}
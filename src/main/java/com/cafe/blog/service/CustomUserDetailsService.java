@@ -1,8 +1,11 @@
 package com.cafe.blog.service;
 
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.dto.UserAccountDto;
 import com.cafe.blog.dto.security.BlogPrincipal;
-import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.entity.constant.RemovalStep;
 import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.repository.UserRemovalRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,21 +15,40 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserAccountRepository userAccountRepository;
+    private final UserRemovalRepository userRemovalRepository;
+    private final VersionedCache<UserAccountDto> userCache;
 
-    public CustomUserDetailsService(UserAccountRepository userAccountRepository) {
+    public CustomUserDetailsService(UserAccountRepository userAccountRepository,
+                                    UserRemovalRepository userRemovalRepository,
+                                    VersionedCache<UserAccountDto> userCache) {
         this.userAccountRepository = userAccountRepository;
+        this.userRemovalRepository = userRemovalRepository;
+        this.userCache = userCache;
     }
 
+    /**
+     * 사용자 정보 캐시(UserAccountService.searchUser 와 공유)를 거쳐 조회합니다.
+     * 다른 노드에서 비밀번호를 바꾸면 무효화되므로 이전 비밀번호로 로그인할 수 없습니다.
+     * 삭제 중인 회원(계정 행은 마지막에 지움)은 로그인할 수 없습니다.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserAccount userAccount = userAccountRepository.findById(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        if (userRemovalRepository.existsByUserIdAndStepNot(username, RemovalStep.DONE)) {
+            throw new UsernameNotFoundException("User is being removed: " + username);
+        }
+        UserAccountDto userAccount = userCache.get(username);
+        if (userAccount == null) {
+            userAccount = userAccountRepository.findById(username)
+                    .map(UserAccountDto::from)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+            userCache.put(username, VersionedCache.versionOf(userAccount.modifiedAt()), userAccount);
+        }
         return BlogPrincipal.of(
-                userAccount.getUserId(),
-                userAccount.getUserPassword(),
-                userAccount.getEmail(),
-                userAccount.getNickname(),
-                userAccount.getMemo()
+                userAccount.userId(),
+                userAccount.userPassword(),
+                userAccount.email(),
+                userAccount.nickname(),
+                userAccount.memo()
         );
     }
 }
@@ -0,0 +1,340 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.EventProperties;
+import com.cafe.blog.entity.DomainEvent;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostEvent;
+import com.cafe.blog.event.PostEventHandler;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.DomainEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 이벤트 outbox
+ *
+ * - 이벤트는 발행한 트랜잭션 안에서 domain_event 테이블에 기록합니다. (롤백되면 기록도 사라짐)
+ * - 처리기(검색 인덱스, SSE 피드 등)는 노드마다 메모리에 있으므로, 모든 노드가 domain_event 를 pollInterval 마다
+ *   자기 위치(cursor)부터 읽어 자기 처리기에 전달합니다. 처리 여부는 노드마다 다르므로 테이블에 기록하지 않습니다.
+ *   발행한 노드는 기다리지 않도록 커밋 직후 바로 전달하고, 같은 이벤트를 poll 에서 다시 전달하지 않습니다.
+ * - 게시글 id 로 고른 단일 스레드 레인에서 전달하므로, 요청 스레드는 처리기를 기다리지 않고 같은 게시글의 이벤트는 순서대로 처리됩니다.
+ * - IDENTITY id 는 커밋 순서와 다를 수 있으므로(늦게 커밋된 작은 id), 읽다가 건너뛴 id 는 gapTimeout 동안 다시 확인합니다.
+ *   (그동안 나타나지 않으면 롤백된 것으로 봄)
+ * - 늦게 커밋되었거나 재시도하는 이벤트는 같은 게시글의 더 최근 이벤트보다 늦게 도착할 수 있습니다.
+ *   이벤트는 게시글의 전체 상태(제목, 태그 등)를 담으므로, 같은 게시글의 더 최근 이벤트가 기록되어 있으면 전달하지 않습니다.
+ *   (이미 전달했거나 곧 전달됨) 삭제된 게시글이 늦게 도착한 이벤트로 인덱스에 다시 들어가지 않습니다.
+ * - 기동 시에는 gapTimeout 만큼 앞의 이벤트부터 읽습니다. 그 이전 상태는 처리기들이 기동 시 DB 에서 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class PostEventOutbox implements DisposableBean {
+
+    /**
+     * 한 번에 건너뛴 id 가 이보다 많으면 auto_increment 값이 뛴 것으로 보고 다시 확인하지 않음
+     */
+    static final int MAX_GAP_SPAN = 10_000;
+
+    private final DomainEventRepository domainEventRepository;
+    private final List<PostEventHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final EventProperties properties;
+    private final ExecutorService[] lanes;
+    private final ScheduledExecutorService poller =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("post-event-poll-"));
+
+    // 이 노드의 전달 위치 (poll 과 커밋 직후 전달이 함께 사용하므로 this 로 동기화)
+    private long cursor = -1;  // 여기까지 읽음 (-1 이면 첫 poll 전)
+    private final Map<Long, LocalDateTime> gaps = new LinkedHashMap<>();  // cursor 아래에서 아직 보지 못한 id -> 건너뛴 시각
+    private final Set<Long> dispatchedAhead = new HashSet<>();  // 커밋 직후 바로 전달했고 poll 은 아직 읽지 않은 id
+
+    private final Map<Long, Retry> retries = new ConcurrentHashMap<>();  // 전달에 실패하여 다시 보낼 이벤트
+
+    public PostEventOutbox(DomainEventRepository domainEventRepository,
+                           List<PostEventHandler> handlers,
+                           ObjectMapper objectMapper,
+                           EventProperties properties) {
+        this.domainEventRepository = domainEventRepository;
+        this.handlers = handlers;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.lanes = new ExecutorService[properties.lanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(properties.queueCapacity()),
+                    new CustomizableThreadFactory("post-event-" + i + "-"));
+        }
+    }
+
+    /**
+     * 발행한 트랜잭션에 이벤트를 기록하고, 커밋되면 이 노드의 처리기에 바로 전달합니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 기록 즉시 전달합니다.
+     */
+    @EventListener
+    public void record(PostEvent event) {
+        DomainEvent saved = domainEventRepository.save(
+                DomainEvent.of(event.postId(), event.getClass().getSimpleName(), serialize(event), event.occurredAt()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatchCommitted(saved.getId(), event);
+                }
+            });
+        } else {
+            dispatchCommitted(saved.getId(), event);
+        }
+    }
+
+    /**
+     * 전용 스레드에서 poll 과 오래된 이벤트 삭제를 시작합니다.
+     * (다른 @Scheduled 작업이 오래 걸려도 다른 노드의 이벤트가 늦어지지 않도록 공용 스케줄러를 쓰지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        schedule(this::poll, properties.pollInterval());
+        schedule(this::purge, properties.purgeInterval());
+    }
+
+    /**
+     * 이 노드가 아직 읽지 않은 이벤트를 전달합니다.
+     */
+    void poll() {
+        if (currentCursor() < 0) {
+            Long last = domainEventRepository.findMaxIdOccurredBefore(LocalDateTime.now().minus(properties.gapTimeout()));
+            startAt(last == null ? 0 : last);
+        }
+        List<DomainEvent> rows;
+        do {
+            rows = domainEventRepository.findAfter(currentCursor(), PageRequest.of(0, properties.pollBatchSize()));
+            for (DomainEvent row : accept(rows)) {
+                dispatchStored(row, false);
+            }
+        } while (rows.size() == properties.pollBatchSize());
+
+        for (DomainEvent row : recheckGaps()) {
+            dispatchStored(row, true);
+        }
+        retryFailed();
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트를 지웁니다. (모든 노드가 실행하지만 같은 행을 지우므로 결과는 같음)
+     */
+    void purge() {
+        int deleted = domainEventRepository.deleteOccurredBefore(LocalDateTime.now().minus(properties.retention()));
+        if (deleted > 0) {
+            log.info("Purged {} post events older than {}", deleted, properties.retention());
+        }
+    }
+
+    private synchronized long currentCursor() {
+        return cursor;
+    }
+
+    private synchronized void startAt(long id) {
+        cursor = id;
+        dispatchedAhead.removeIf(dispatched -> dispatched <= id);
+        log.info("Post events will be read after id {}", id);
+    }
+
+    /**
+     * 커밋 직후 전달 (poll 이 이미 읽은 이벤트는 poll 이 전달했으므로 건너뜀)
+     */
+    private void dispatchCommitted(Long id, PostEvent event) {
+        boolean late;
+        synchronized (this) {
+            if (id > cursor) {
+                dispatchedAhead.add(id);
+                late = false;
+            } else if (gaps.remove(id) != null) {
+                late = true;
+            } else {
+                return;
+            }
+        }
+        dispatch(id, event, 0, late);
+    }
+
+    /**
+     * 읽은 행으로 cursor 를 옮기고 전달할 행을 돌려줍니다. 사이에 빠진 id 는 다시 확인할 목록에 넣습니다.
+     */
+    private synchronized List<DomainEvent> accept(List<DomainEvent> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DomainEvent> accepted = new ArrayList<>(rows.size());
+        for (DomainEvent row : rows) {
+            long id = row.getId();
+            if (id - cursor - 1 <= MAX_GAP_SPAN) {
+                for (long missing = cursor + 1; missing < id; missing++) {
+                    if (!dispatchedAhead.remove(missing)) {  // 커밋 직후 전달한 이벤트가 아직 조회에 보이지 않은 경우 제외
+                        gaps.put(missing, now);
+                    }
+                }
+            } else {
+                log.warn("Post event ids jumped from {} to {}, skipped ids are not rechecked", cursor, id);
+            }
+            cursor = Math.max(cursor, id);
+            if (!dispatchedAhead.remove(id)) {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 건너뛴 id 중 그 사이 커밋된 행을 돌려줍니다. gapTimeout 이 지난 id 는 롤백된 것으로 보고 잊습니다.
+     */
+    private List<DomainEvent> recheckGaps() {
+        List<Long> ids;
+        synchronized (this) {
+            LocalDateTime expired = LocalDateTime.now().minus(properties.gapTimeout());
+            Iterator<LocalDateTime> iterator = gaps.values().iterator();  // 건너뛴 순서
+            while (iterator.hasNext() && iterator.next().isBefore(expired)) {
+                iterator.remove();
+            }
+            ids = new ArrayList<>(gaps.keySet());
+        }
+        List<DomainEvent> found = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.pollBatchSize()) {
+            List<DomainEvent> rows = domainEventRepository.findAllById(
+                    ids.subList(from, Math.min(ids.size(), from + properties.pollBatchSize())));
+            synchronized (this) {
+                for (DomainEvent row : rows) {
+                    if (gaps.remove(row.getId()) != null) {  // 그 사이 커밋 직후 전달로 처리되지 않았으면
+                        found.add(row);
+                    }
+                }
+            }
+        }
+        found.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return found;
+    }
+
+    private void retryFailed() {
+        LocalDateTime due = LocalDateTime.now().minus(properties.retryDelay());
+        for (Long id : new ArrayList<>(retries.keySet())) {
+            Retry retry = retries.get(id);
+            if (retry != null && !retry.failedAt().isAfter(due) && retries.remove(id, retry)) {
+                dispatch(id, retry.event(), retry.attempts(), true);
+            }
+        }
+    }
+
+    private void dispatchStored(DomainEvent row, boolean late) {
+        PostEvent event;
+        try {
+            event = deserialize(row);
+        } catch (IllegalStateException e) {
+            log.error("Cannot read domain event {}", row.getId(), e);
+            return;
+        }
+        dispatch(row.getId(), event, 0, late);
+    }
+
+    /**
+     * @param late 같은 게시글의 더 최근 이벤트보다 늦게 도착했을 수 있는 이벤트 (늦게 커밋되었거나 재시도)
+     */
+    private void dispatch(Long id, PostEvent event, int attempts, boolean late) {
+        try {
+            lanes[Math.floorMod(event.postId().hashCode(), lanes.length)].execute(() -> deliver(id, event, attempts, late));
+        } catch (RejectedExecutionException e) {
+            retries.put(id, new Retry(event, attempts, LocalDateTime.now()));
+            log.warn("Post event lane is full, event {} will be retried later", id);
+        }
+    }
+
+    private void deliver(Long id, PostEvent event, int attempts, boolean late) {
+        try {
+            // 같은 게시글의 이벤트는 같은 레인에서 처리되므로, 확인과 전달 사이에 더 최근 이벤트가 끼어들지 않는다.
+            if (late && domainEventRepository.existsByPostIdAndIdGreaterThan(event.postId(), id)) {
+                log.info("Skipped stale post event {}: post {} has a newer event", id, event.postId());
+                return;
+            }
+            for (PostEventHandler handler : handlers) {
+                handler.onPostEvent(event);
+            }
+        } catch (RuntimeException e) {
+            if (attempts + 1 >= properties.maxAttempts()) {
+                log.error("Gave up post event {} after {} attempts", id, attempts + 1, e);
+            } else {
+                log.warn("Failed to handle post event {}, retrying later", id, e);
+                retries.put(id, new Retry(event, attempts + 1, LocalDateTime.now()));
+            }
+        }
+    }
+
+    private void schedule(Runnable task, Duration interval) {
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Post event task failed", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private String serialize(PostEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event, e);
+        }
+    }
+
+    private PostEvent deserialize(DomainEvent domainEvent) {
+        Class<? extends PostEvent> type = switch (domainEvent.getEventType()) {
+            case "PostCreated" -> PostCreated.class;
+            case "PostUpdated" -> PostUpdated.class;
+            case "PostDeleted" -> PostDeleted.class;
+            default -> throw new IllegalStateException("Unknown event type: " + domainEvent.getEventType());
+        };
+        try {
+            return objectMapper.readValue(domainEvent.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize domain event " + domainEvent.getId(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        poller.shutdown();
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        poller.awaitTermination(5, TimeUnit.SECONDS);
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(5, TimeUnit.SECONDS);  // 남은 이벤트는 처리기들이 다음 기동 시 DB 에서 다시 만듦
+        }
+    }
+
+    private record Retry(PostEvent event, int attempts, LocalDateTime failedAt) {
+    }
+}
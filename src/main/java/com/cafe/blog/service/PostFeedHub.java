@@ -0,0 +1,251 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.FeedProperties;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostEvent;
+import com.cafe.blog.event.PostEventHandler;
+import com.cafe.blog.event.PostUpdated;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.cafe.blog.exception.FeedUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 변경 이벤트를 SSE 구독자에게 전달하는 인프로세스 fan-out 허브
+ *
+ * - 구독자마다 고정 크기 버퍼를 두고, 버퍼가 가득 차면 느린 구독자로 보고 연결을 끊습니다.
+ * - 전송은 고정 크기 executor 에서 구독자 단위로 직렬화하여 처리하므로 연결 수만큼 스레드가 필요하지 않습니다.
+ * - SseEmitter.send 는 소켓 쓰기가 끝날 때까지 블로킹되므로, 응답하지 않는 클라이언트가 전송 스레드를 모두 붙잡지 않도록
+ *   한 번의 전송이 sendTimeout 을 넘은 구독자는 연결을 끊고 전송 중인 스레드를 깨웁니다.
+ * - 유휴 연결이 프록시에서 끊기지 않도록 주기적으로 하트비트(comment)를 보냅니다.
+ */
+@Slf4j
+public class PostFeedHub implements PostEventHandler, SchedulingConfigurer, DisposableBean {
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final FeedProperties properties;
+    private final Executor executor;
+    private final Counter droppedCounter;
+
+    public PostFeedHub(FeedProperties properties, MeterRegistry meterRegistry, Executor executor) {
+        this.properties = properties;
+        this.executor = executor;
+        Gauge.builder("blog.feed.subscribers", subscribers, Map::size)
+                .description("SSE 피드 구독자 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("blog.feed.dropped")
+                .description("버퍼 초과 또는 전송 지연으로 연결이 끊긴 구독자 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            throw new FeedUnavailableException("Too many feed subscribers", properties.retryAfter());
+        }
+
+        SseEmitter emitter = createEmitter(properties.emitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(UUID.randomUUID().toString(), emitter, properties.bufferSize());
+        subscribers.put(subscriber.id, subscriber);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber.id));
+
+        offer(subscriber, FeedMessage.comment("connected"));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 커밋된 변경만 전달합니다. (롤백된 트랜잭션의 이벤트는 전달하지 않음)
+     */
+    @Override
+    public void onPostEvent(PostEvent event) {
+        broadcast(FeedMessage.event(eventName(event), event.postId() + ":" + event.occurredAt(), event));
+    }
+
+    /**
+     * 하트비트와 멈춘 전송 확인은 설정값(heartbeatInterval, sendTimeout) 주기로 실행합니다.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::heartbeat, properties.heartbeatInterval());
+        Duration checkInterval = properties.sendTimeout().dividedBy(2);
+        registrar.addFixedDelayTask(this::evictStalled, checkInterval.compareTo(Duration.ofSeconds(1)) < 0 ? Duration.ofSeconds(1) : checkInterval);
+    }
+
+    public void heartbeat() {
+        broadcast(FeedMessage.comment("heartbeat"));
+    }
+
+    /**
+     * 한 번의 전송이 sendTimeout 을 넘은 구독자의 연결을 끊습니다.
+     * emitter 를 오류로 완료하면 컨테이너가 연결을 닫고, 블로킹된 전송 스레드는 인터럽트하여 다른 구독자 전송에 돌려줍니다.
+     */
+    void evictStalled() {
+        long now = System.nanoTime();
+        long timeout = properties.sendTimeout().toNanos();
+        for (Subscriber subscriber : subscribers.values()) {
+            Thread sender = subscriber.sender;
+            long startedAt = subscriber.sendStartedAt;
+            if (sender == null || now - startedAt < timeout) {
+                continue;
+            }
+            if (subscribers.remove(subscriber.id) != null) {
+                log.debug("Dropping stalled feed subscriber {}", subscriber.id);
+                droppedCounter.increment();
+                subscriber.emitter.completeWithError(new IOException("Feed send timed out"));
+                if (subscriber.sender == sender) {  // 그 사이 전송을 마치고 다른 구독자로 넘어간 스레드는 깨우지 않는다.
+                    sender.interrupt();
+                }
+            }
+        }
+    }
+
+    void broadcast(FeedMessage message) {
+        for (Subscriber subscriber : subscribers.values()) {
+            offer(subscriber, message);
+        }
+    }
+
+    private void offer(Subscriber subscriber, FeedMessage message) {
+        if (!subscriber.buffer.offer(message)) {
+            // 버퍼가 가득 찼다 = 클라이언트가 따라오지 못한다. 다른 구독자에게 영향이 없도록 끊는다.
+            log.debug("Dropping slow feed subscriber {}", subscriber.id);
+            droppedCounter.increment();
+            remove(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;  // 이미 전송 중인 작업이 버퍼를 비운다.
+        }
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            remove(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            FeedMessage message;
+            while (subscribers.containsKey(subscriber.id) && (message = subscriber.buffer.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                subscriber.sender = Thread.currentThread();
+                try {
+                    subscriber.emitter.send(message.toEvent());
+                } finally {
+                    subscriber.sender = null;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 클라이언트가 연결을 끊었거나, 이미 완료된 emitter 이거나, 전송 지연으로 끊긴 구독자
+            subscribers.remove(subscriber.id);
+            return;
+        } finally {
+            Thread.interrupted();  // evictStalled 의 인터럽트가 다음 작업에 남지 않도록
+            subscriber.draining.set(false);
+        }
+
+        // drain 종료 직전에 들어온 메시지가 남아 있을 수 있다.
+        if (!subscriber.buffer.isEmpty() && subscribers.containsKey(subscriber.id)) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.id) != null) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static String eventName(PostEvent event) {
+        if (event instanceof PostCreated) {
+            return "post-created";
+        }
+        if (event instanceof PostUpdated) {
+            return "post-updated";
+        }
+        if (event instanceof PostDeleted) {
+            return "post-deleted";
+        }
+        throw new IllegalArgumentException("Unknown post event: " + event);
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static final class Subscriber {
+        private final String id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<FeedMessage> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile Thread sender;  // 전송 중인 스레드 (전송 중이 아니면 null)
+        private volatile long sendStartedAt;
+
+        private Subscriber(String id, SseEmitter emitter, int bufferSize) {
+            this.id = id;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    /**
+     * 구독자 버퍼에 저장되는 메시지
+     * SseEventBuilder 는 build 시 상태가 바뀌므로 구독자마다 전송 시점에 새로 만든다.
+     */
+    record FeedMessage(String name, String id, Object data, String comment) {
+
+        static FeedMessage event(String name, String id, Object data) {
+            return new FeedMessage(name, id, data, null);
+        }
+
+        static FeedMessage comment(String comment) {
+            return new FeedMessage(null, null, null, comment);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (comment != null) {
+                return builder.comment(comment);
+            }
+            return builder.name(name).id(id).data(data);
+        }
+    }
+}
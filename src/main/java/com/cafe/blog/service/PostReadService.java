@@ -0,0 +1,75 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.ReactiveReadProperties;
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.entity.constant.SearchType;
+import com.cafe.blog.entity.constant.TagMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글 조회를 논블로킹(Reactor) 타입으로 제공합니다.
+ * JPA 호출은 블로킹이므로 boundedElastic 스케줄러에서 실행하여 요청 스레드를 점유하지 않습니다.
+ * 쓰기는 기존 PostService 의 트랜잭션 경로를 그대로 사용합니다.
+ */
+@Service
+public class PostReadService {
+
+    private final PostService postService;
+    private final ReactiveReadProperties properties;
+    private final Scheduler scheduler = Schedulers.boundedElastic();
+
+    public PostReadService(PostService postService, ReactiveReadProperties properties) {
+        this.postService = postService;
+        this.properties = properties;
+    }
+
+    public Mono<Page<PostDto>> searchPost(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return Mono.fromCallable(() -> postService.searchPost(searchType, searchKeyword, pageable))
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Page<PostDto>> searchPostByTags(Set<String> tags, TagMatch tagMatch, SearchType searchType, String searchKeyword, Pageable pageable) {
+        return Mono.fromCallable(() -> postService.searchPostByTags(tags, tagMatch, searchType, searchKeyword, pageable))
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<PostDto> getPost(Long postId) {
+        return Mono.fromCallable(() -> postService.getPost(postId))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 검색 결과 전체를 스트리밍합니다.
+     * 구독자의 요청량(backpressure)에 맞춰 keyset 배치를 하나씩 조회하므로
+     * 결과가 아무리 커도 메모리에는 한 배치만 올라갑니다.
+     */
+    public Flux<PostDto> streamPost(SearchType searchType, String searchKeyword) {
+        int batchSize = properties.batchSize();
+
+        return Flux.<List<PostDto>, Long>generate(() -> 0L, (lastId, sink) -> {
+                    List<PostDto> batch = postService.searchPostAfter(searchType, searchKeyword, lastId, batchSize);
+                    if (batch.isEmpty()) {
+                        sink.complete();
+                        return lastId;
+                    }
+
+                    sink.next(batch);
+                    if (batch.size() < batchSize) {
+                        sink.complete();  // 마지막 배치
+                    }
+                    return batch.get(batch.size() - 1).id();
+                })
+                .concatMapIterable(Function.identity(), 1)
+                .subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,168 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.RetentionProperties;
+import com.cafe.blog.entity.ArchivedPost;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.PostContent;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import com.cafe.blog.storage.AttachmentStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시글 정리/보관 배치
+ *
+ * - 보관 기간이 지난 소프트 삭제 게시글을 본문, 댓글, 태그, 수정 이력과 함께 묶음 단위로 삭제하고, 커밋 후 첨부파일을 지웁니다.
+ * - 오래된 게시글은 post_archive 로 옮겨 post 테이블과 title/createdAt 인덱스를 작게 유지합니다.
+ *   댓글과 수정 이력은 그대로 두며(게시글 FK 없음), 보관된 게시글은 PostService.getPost 에서 그대로 조회됩니다.
+ *   보관된 게시글의 삭제와 댓글 작성은 ArchivedPostService 가 처리하고, 수정은 할 수 없습니다.
+ * - 지우거나 옮긴 게시글마다 PostDeleted 를 발행하므로, outbox 를 통해 모든 처리기(태그/제목/연관 게시글 인덱스, SSE 피드)에 전달됩니다.
+ *
+ * 묶음마다 짧은 트랜잭션을 사용하여 긴 잠금 없이 조금씩 처리합니다.
+ * 대상 행은 SELECT ... FOR UPDATE SKIP LOCKED 로 잠가서 가져오므로, 모든 노드에서 실행되어도 같은 게시글을 함께 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostRetentionJob {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final PostRevisionRepository postRevisionRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetentionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostRetentionJob(PostRepository postRepository,
+                            CommentRepository commentRepository,
+                            ArchivedPostRepository archivedPostRepository,
+                            PostRevisionRepository postRevisionRepository,
+                            AttachmentStorage attachmentStorage,
+                            ApplicationEventPublisher eventPublisher,
+                            RetentionProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.postRevisionRepository = postRevisionRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.retention.interval:PT1H}")
+    public void run() {
+        int purged = purgeDeleted();
+        int archived = archiveOld();
+        if (purged > 0 || archived > 0) {
+            log.info("Post retention: purged {}, archived {}", purged, archived);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 소프트 삭제 게시글을 완전히 삭제합니다.
+     * @return 삭제한 게시글 수
+     */
+    public int purgeDeleted() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.purgeAfter());
+        int total = 0;
+        while (true) {
+            List<PostRepository.PurgeTarget> batch = transactionTemplate.execute(status -> {
+                List<PostRepository.PurgeTarget> targets = postRepository.findPurgeTargets(before, properties.batchSize());
+                if (!targets.isEmpty()) {
+                    List<Long> postIds = targets.stream().map(PostRepository.PurgeTarget::getPostId).toList();
+                    commentRepository.deleteByPostIdIn(postIds);
+                    postRevisionRepository.deleteByPostIdIn(postIds);
+                    postRepository.deleteTagsByPostIdIn(postIds);
+                    postRepository.deleteAllByIdInIncludingDeleted(postIds);
+                    deleteContents(targets.stream().map(PostRepository.PurgeTarget::getContentId).toList());
+                    publishDeleted(postIds);
+                }
+                return targets;
+            });
+
+            // 첨부파일은 커밋 후 삭제 (행이 삭제되지 않았는데 파일만 사라지는 일이 없도록)
+            for (PostRepository.PurgeTarget target : batch) {
+                if (target.getFilePath() != null) {
+                    deleteAttachment(target.getFilePath());
+                }
+            }
+
+            total += batch.size();
+            if (batch.size() < properties.batchSize()) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 작성 후 archiveAfter 가 지난 게시글을 post_archive 로 옮깁니다.
+     * @return 옮긴 게시글 수
+     */
+    public int archiveOld() {
+        if (properties.archiveAfter().isZero()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(properties.archiveAfter());
+        int total = 0;
+        while (true) {
+            List<Long> postIds = transactionTemplate.execute(status -> {
+                List<Long> ids = postRepository.lockArchiveTargetIds(before, properties.batchSize());
+                if (ids.isEmpty()) {
+                    return ids;
+                }
+                List<Post> posts = postRepository.findArchiveTargets(ids);
+                archivedPostRepository.saveAll(posts.stream().map(post -> ArchivedPost.from(post, now)).toList());
+                postRepository.deleteTagsByPostIdIn(ids);
+                postRepository.deleteAllByIdInIncludingDeleted(ids);
+                deleteContents(posts.stream().map(Post::getPostContent).filter(Objects::nonNull).map(PostContent::getId).toList());
+                publishDeleted(ids);  // 보관된 게시글은 태그 검색, 제목 자동완성, 연관 게시글 대상에서 제외
+                return ids;
+            });
+
+            total += postIds.size();
+            if (postIds.size() < properties.batchSize()) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * outbox 에 기록되어 커밋 후 전달됩니다.
+     */
+    private void publishDeleted(List<Long> postIds) {
+        postIds.forEach(postId -> eventPublisher.publishEvent(PostDeleted.of(postId)));
+    }
+
+    private void deleteContents(List<Long> contentIds) {
+        List<Long> ids = contentIds.stream().filter(Objects::nonNull).toList();
+        if (!ids.isEmpty()) {
+            postRepository.deleteContentsByIdIn(ids);
+        }
+    }
+
+    private void deleteAttachment(String key) {
+        try {
+            attachmentStorage.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to delete attachment {} of purged post", key, e);
+        }
+    }
+}
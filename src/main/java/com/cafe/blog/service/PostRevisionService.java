@@ -0,0 +1,173 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.RevisionProperties;
+import com.cafe.blog.dto.PostRevisionDiffDto;
+import com.cafe.blog.dto.PostRevisionDto;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.PostRevision;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.exception.RevisionNotFoundException;
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import com.cafe.blog.revision.LineDiff;
+import com.cafe.blog.revision.RevisionDelta;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시글 수정 이력
+ *
+ * - 기록: PostService.updatePost 와 같은 트랜잭션에서 수정 전 본문과 새 본문의 줄 단위 diff 만 저장합니다.
+ *   마지막 리비전 번호만 읽고 (본문은 이미 메모리에 있음) INSERT 한 번으로 끝나므로 수정 요청에 큰 비용을 더하지 않습니다.
+ * - 조회: 기준 snapshot 부터 해당 리비전까지를 한 번에 읽어 변경분을 차례로 적용합니다. (최대 snapshotInterval 개)
+ *   getPost 와 같이 게시글(또는 보관된 게시글)이 있을 때만 조회되며, 삭제된 게시글의 이력은 정리되기 전에도 보이지 않습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostRevisionService {
+
+    private static final int MAX_REVISIONS_PER_PAGE = 100;
+
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRepository postRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final RevisionProperties properties;
+    private final AuditorAware<String> auditorAware;
+
+    public PostRevisionService(PostRevisionRepository postRevisionRepository, PostRepository postRepository,
+                               ArchivedPostRepository archivedPostRepository, RevisionProperties properties,
+                               AuditorAware<String> auditorAware) {
+        this.postRevisionRepository = postRevisionRepository;
+        this.postRepository = postRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.properties = properties;
+        this.auditorAware = auditorAware;
+    }
+
+    /**
+     * 수정 전 게시글 상태
+     */
+    public record PostState(String title, String content, LocalDateTime modifiedAt, String modifiedBy) {
+
+        public static PostState of(Post post) {
+            return new PostState(post.getTitle(), Objects.toString(post.getContent(), ""), post.getModifiedAt(), post.getModifiedBy());
+        }
+    }
+
+    /**
+     * 제목이나 본문이 바뀌었으면 새 리비전을 기록합니다.
+     * 이력이 없는 게시글은 수정 전 상태를 리비전 1 로 함께 기록합니다.
+     * @param previous 수정 전 상태 (PostState.of 로 수정 전에 읽어 둔 값)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Post post, PostState previous) {
+        String content = Objects.toString(post.getContent(), "");
+        if (Objects.equals(previous.title(), post.getTitle()) && previous.content().equals(content)) {
+            return;  // 태그, 첨부파일만 바뀐 경우
+        }
+
+        List<PostRevision> revisions = new ArrayList<>(2);
+        List<PostRevisionRepository.RevisionHead> heads = postRevisionRepository.findHeads(post.getId(), PageRequest.of(0, 1));
+        int revision;
+        int baseRevision;
+        if (heads.isEmpty()) {
+            revisions.add(PostRevision.snapshot(post.getId(), 1, previous.title(), previous.content(),
+                    previous.modifiedAt(), previous.modifiedBy()));
+            revision = 2;
+            baseRevision = 1;
+        } else {
+            revision = heads.get(0).getRevision() + 1;
+            baseRevision = heads.get(0).getBaseRevision();
+        }
+
+        LocalDateTime editedAt = LocalDateTime.now();
+        String editedBy = auditorAware.getCurrentAuditor().orElse(post.getModifiedBy());
+        String delta = revision - baseRevision < properties.snapshotInterval() ? delta(previous.content(), content) : null;
+        if (delta == null || delta.length() * 2L > content.length()) {  // 변경분이 본문 절반보다 크면 전체 본문이 낫다.
+            revisions.add(PostRevision.snapshot(post.getId(), revision, post.getTitle(), content, editedAt, editedBy));
+        } else {
+            revisions.add(PostRevision.delta(post.getId(), revision, baseRevision, post.getTitle(), delta, editedAt, editedBy));
+        }
+        postRevisionRepository.saveAll(revisions);
+    }
+
+    /**
+     * 리비전 목록 (최신순, 본문 제외)
+     */
+    public List<PostRevisionDto> getRevisions(Long postId, int size) {
+        checkVisible(postId);
+        return postRevisionRepository.findSummaries(postId, PageRequest.of(0, Math.min(Math.max(size, 1), MAX_REVISIONS_PER_PAGE))).stream()
+                .map(summary -> PostRevisionDto.summaryFrom(postId, summary))
+                .toList();
+    }
+
+    public PostRevisionDto getRevision(Long postId, int revision) {
+        checkVisible(postId);
+        List<PostRevision> chain = findChain(postId, revision);
+        PostRevision target = chain.get(chain.size() - 1);
+        return new PostRevisionDto(postId, revision, target.getTitle(), LineDiff.join(reconstruct(chain)),
+                target.getEditedAt(), target.getEditedBy());
+    }
+
+    /**
+     * 두 리비전의 본문을 비교합니다.
+     */
+    public PostRevisionDiffDto diff(Long postId, int fromRevision, int toRevision) {
+        checkVisible(postId);
+        List<PostRevision> fromChain = findChain(postId, fromRevision);
+        List<PostRevision> toChain = findChain(postId, toRevision);
+        List<String> from = reconstruct(fromChain);
+        List<String> to = reconstruct(toChain);
+        List<LineDiff.Edit> edits = LineDiff.diff(from, to, properties.maxDiffEdits());
+        return new PostRevisionDiffDto(postId, fromRevision, toRevision,
+                fromChain.get(fromChain.size() - 1).getTitle(), toChain.get(toChain.size() - 1).getTitle(),
+                LineDiff.hunks(edits, from, to, properties.diffContext()));
+    }
+
+    /**
+     * 소프트 삭제된 게시글은 post 조회에서 제외되므로(@SQLRestriction) 게시글도 보관된 게시글도 없으면 404 입니다.
+     */
+    private void checkVisible(Long postId) {
+        if (!postRepository.existsById(postId) && !archivedPostRepository.existsById(postId)) {
+            throw new PostNotFoundException("Post with id " + postId + " not found.");
+        }
+    }
+
+    private String delta(String previousContent, String content) {
+        List<String> previousLines = LineDiff.lines(previousContent);
+        List<String> lines = LineDiff.lines(content);
+        return RevisionDelta.encode(LineDiff.diff(previousLines, lines, properties.maxDiffEdits()), lines);
+    }
+
+    private List<PostRevision> findChain(Long postId, int revision) {
+        List<PostRevision> chain = postRevisionRepository.findChain(postId, revision);
+        if (chain.isEmpty()) {
+            throw new RevisionNotFoundException("Revision " + revision + " of post " + postId + " not found.");
+        }
+        return chain;
+    }
+
+    /**
+     * 기준 snapshot 에 변경분을 차례로 적용합니다.
+     */
+    private static List<String> reconstruct(List<PostRevision> chain) {
+        PostRevision base = chain.get(0);
+        if (!base.isSnapshot() || chain.get(chain.size() - 1).getRevision() - base.getRevision() + 1 != chain.size()) {
+            throw new IllegalStateException("Revision chain of post " + base.getPostId() + " is broken at " + base.getRevision());
+        }
+        List<String> lines = LineDiff.lines(base.getContent());
+        for (PostRevision revision : chain.subList(1, chain.size())) {
+            lines = RevisionDelta.apply(lines, revision.getContent());
+        }
+        return lines;
+    }
+}
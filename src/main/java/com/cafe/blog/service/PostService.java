@@ -1,136 +1,335 @@
 package com.cafe.blog.service;
 
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
 import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.PostHtmlDto;
+import com.cafe.blog.entity.ArchivedPost;
 import com.cafe.blog.entity.Post;
 import com.cafe.blog.entity.UserAccount;
 import com.cafe.blog.entity.constant.SearchType;
+import com.cafe.blog.entity.constant.TagMatch;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.exception.PostArchivedException;
 import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.markdown.MarkdownRenderer;
+import com.cafe.blog.repository.ArchivedPostRepository;
 import com.cafe.blog.repository.PostRepository;
 import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.storage.AttachmentStorage;
+import com.cafe.blog.storage.UploadAdmission;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PostService {
 
+    private static final int TAG_FILTER_CHUNK_SIZE = 1000;  // IN 절 하나에 넣는 후보 id 수
+
     private final PostRepository postRepository;
     private final UserAccountRepository userAccountRepository;
-
-    @Setter
-    @Value("${spring.servlet.multipart.location}")
-    private String uploadDir;  // 파일 저장 경로
+    private final ArchivedPostRepository archivedPostRepository;
+    private final ArchivedPostService archivedPostService;
+    private final PostTagIndex postTagIndex;
+    private final PostRevisionService postRevisionService;
+    private final AttachmentStorage attachmentStorage;
+    private final UploadAdmission uploadAdmission;
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VersionedCache<PostDto> postCache;
+    private final InvalidationBus invalidationBus;
+    private final TransactionOperations transactionOperations;  // 파일 저장 후 DB 작업만 트랜잭션으로 묶을 때 사용
 
     @Transactional(readOnly = true)
     public Page<PostDto> searchPost(SearchType searchType, String searchKeyword, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return postRepository.findAll(pageable).map(PostDto::from);
+            return postRepository.findAll(pageable).map(PostDto::summaryFrom);
         }
 
         return switch (searchType) {
-            case TITLE -> postRepository.findByTitleContainingIgnoreCase(searchKeyword, pageable).map(PostDto::from);
-            case CONTENT -> postRepository.findByContentContainingIgnoreCase(searchKeyword, pageable).map(PostDto::from);
-            case ID -> postRepository.findByUserAccount_UserId(searchKeyword, pageable).map(PostDto::from);
+            case TITLE -> postRepository.findByTitleContainingIgnoreCase(searchKeyword, pageable).map(PostDto::summaryFrom);
+            case CONTENT -> postRepository.findByPostContent_ContentContainingIgnoreCase(searchKeyword, pageable).map(PostDto::summaryFrom);
+            case ID -> postRepository.findByUserAccount_UserId(searchKeyword, pageable).map(PostDto::summaryFrom);
         };
     }
 
+    /**
+     * 태그 조건과 검색어를 함께 적용하여 조회합니다.
+     * 태그 조건은 비트맵 인덱스에서 먼저 계산하고, 검색어가 있으면 후보 id 를 묶음 단위로 DB 에서 걸러낸 뒤
+     * 최종적으로 한 페이지의 행만 조회합니다. 정렬은 최신(id 내림차순) 고정입니다.
+     */
     @Transactional(readOnly = true)
+    public Page<PostDto> searchPostByTags(Set<String> tags, TagMatch tagMatch, SearchType searchType, String searchKeyword, Pageable pageable) {
+        Roaring64NavigableMap candidates = postTagIndex.match(tags, tagMatch);
+
+        if (searchKeyword != null && !searchKeyword.isBlank()) {
+            Roaring64NavigableMap matched = new Roaring64NavigableMap();
+            for (List<Long> chunk : PostTagIndex.chunksOf(candidates, TAG_FILTER_CHUNK_SIZE)) {
+                List<Long> ids = switch (searchType) {
+                    case TITLE -> postRepository.filterIdsByTitle(chunk, searchKeyword);
+                    case CONTENT -> postRepository.filterIdsByContent(chunk, searchKeyword);
+                    case ID -> postRepository.filterIdsByUserId(chunk, searchKeyword);
+                };
+                ids.forEach(matched::addLong);
+            }
+            candidates = matched;
+        }
+
+        List<Long> pageIds = PostTagIndex.pageOf(candidates, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Post> posts = postRepository.findAllWithUserByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostDto> content = pageIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(PostDto::summaryFrom)
+                .toList();
+
+        return new PageImpl<>(content, pageable, candidates.getLongCardinality());
+    }
+
+    /**
+     * lastId 이후의 게시글을 최대 size 건 조회합니다. (keyset 페이지)
+     * 스트리밍 조회에서 배치 단위로 호출하며, 배치마다 짧은 읽기 트랜잭션만 사용하므로
+     * 느린 클라이언트가 DB 커넥션을 오래 붙잡지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostDto> searchPostAfter(SearchType searchType, String searchKeyword, Long lastId, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        List<Post> posts;
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            posts = postRepository.findAllAfter(lastId, limit);
+        } else {
+            posts = switch (searchType) {
+                case TITLE -> postRepository.findByTitleAfter(searchKeyword, lastId, limit);
+                case CONTENT -> postRepository.findByContentAfter(searchKeyword, lastId, limit);
+                case ID -> postRepository.findByUserIdAfter(searchKeyword, lastId, limit);
+            };
+        }
+
+        return posts.stream().map(PostDto::summaryFrom).toList();
+    }
+
+    /**
+     * 게시글을 본문과 함께 조회합니다. post 테이블에 없으면 보관(post_archive)된 게시글에서 찾습니다.
+     * 조회 결과는 로컬 캐시(postCache)에 modifiedAt 버전과 함께 저장하며, 수정/삭제되면 모든 노드에서 무효화됩니다.
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다. (조회 쿼리가 작성자, 본문, 태그를 함께 가져옴)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostDto getPost(Long postId) {
-        return postRepository.findById(postId)
+        String key = postId.toString();
+        PostDto cached = postCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        PostDto post = postRepository.findWithContentById(postId)
                 .map(PostDto::from)
+                .or(() -> archivedPostRepository.findById(postId).map(PostDto::from))
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - postId: " + postId));
+        postCache.put(key, VersionedCache.versionOf(post.modifiedAt()), post);
+        return post;
     }
 
+    /**
+     * 렌더링된 본문 HTML 을 조회합니다. 작성/수정 시 저장해 둔 HTML 을 그대로 반환하므로 조회 시 렌더링 비용이 없습니다.
+     * HTML 이 없는 (렌더링 도입 전에 작성된) 게시글은 처음 조회할 때 한 번 렌더링하여 저장합니다.
+     * 보관된 게시글은 드물게 조회되므로 저장하지 않고 그때 렌더링합니다.
+     */
+    public PostHtmlDto getPostHtml(Long postId) {
+        Post post = postRepository.findWithContentById(postId).orElse(null);
+        if (post != null) {
+            if (post.getRenderedHtml() == null) {
+                post.setRenderedHtml(markdownRenderer.render(post.getContent()));
+            }
+            return new PostHtmlDto(post.getId(), post.getModifiedAt(), post.getRenderedHtml());
+        }
+
+        ArchivedPost archivedPost = archivedPostRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post with id " + postId + " not found."));
+        return new PostHtmlDto(archivedPost.getId(), archivedPost.getModifiedAt(), markdownRenderer.render(archivedPost.getContent()));
+    }
+
+    /**
+     * 게시글을 작성합니다.
+     * 첨부파일은 트랜잭션을 열기 전에 저장하므로, 쓰기 슬롯 대기나 느린 파일 전송 동안 DB 커넥션을 붙잡지 않습니다.
+     * 게시글을 저장하지 못하면 저장한 파일을 삭제합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostDto createPost(PostDto postDto, MultipartFile file) throws IOException {
-        UserAccount userAccount = userAccountRepository.getReferenceById(postDto.userAccountDto().userId());
-        Post post = postDto.toEntity(userAccount);
+        StoredFile stored = saveFile(file);
+        try {
+            return transactionOperations.execute(status -> {
+                UserAccount userAccount = userAccountRepository.getReferenceById(postDto.userAccountDto().userId());
+                Post post = postDto.toEntity(userAccount);
+                post.setRenderedHtml(markdownRenderer.render(post.getContent()));  // 조회 때마다 렌더링하지 않도록 저장
+                if (stored != null) {
+                    post.withFileDetails(stored.fileName(), stored.key(), stored.contentType());
+                }
 
-        // 파일 저장
-        if (file != null && !file.isEmpty()) {
-            String fileName = saveFile(file);
-            post.setFileName(fileName);
-            post.setFilePath(Paths.get(uploadDir).resolve(fileName).toString());
-            post.setFileType(file.getContentType());
+                postRepository.save(post);
+                eventPublisher.publishEvent(PostCreated.of(post.getId(), post.getTitle(), userAccount.getUserId(), post.getTags()));
+                log.info("Post {} created by {}", post.getId(), userAccount.getUserId());
+                return PostDto.from(post);  // 반환하는 객체
+            });
+        } catch (RuntimeException e) {
+            deleteStored(stored);
+            throw e;
         }
-
-        postRepository.save(post);
-        return PostDto.from(post);  // 반환하는 객체
     }
 
+    /**
+     * 게시글을 수정합니다.
+     * 새 첨부파일은 트랜잭션을 열기 전에 저장하므로, 파일 전송 동안 DB 커넥션과 게시글 행 잠금을 붙잡지 않습니다.
+     * 기존 첨부파일은 커밋된 후에 삭제하고, 수정하지 못하면 새로 저장한 파일을 삭제합니다.
+     * 보관된 게시글은 읽기 전용이므로 PostArchivedException(409) 입니다.
+     */
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostDto updatePost(Long postId, PostDto postDto, MultipartFile file) throws IOException {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+        StoredFile stored = saveFile(file);
+        Updated updated;
+        try {
+            updated = transactionOperations.execute(status -> update(postId, postDto, stored));
+        } catch (RuntimeException e) {
+            deleteStored(stored);
+            throw e;
+        }
+
+        if (updated.replacedKey() != null) {
+            attachmentStorage.delete(updated.replacedKey());
+        }
+        return updated.post();
+    }
+
+    private Updated update(Long postId, PostDto postDto, StoredFile stored) {
+        Post post = postRepository.findByIdForUpdate(postId)  // 동시 수정은 앞의 수정이 커밋된 후 그 결과를 읽고 진행
+                .orElseThrow(() -> archivedPostService.exists(postId)
+                        ? new PostArchivedException("Post with id " + postId + " is archived and read-only.")
+                        : new PostNotFoundException("Post with id " + postId + " not found."));
+        PostRevisionService.PostState previous = PostRevisionService.PostState.of(post);  // 수정 이력 (본문은 아래 비교에서도 읽음)
 
         // 게시글 수정
         post.setTitle(postDto.title());
-        post.setContent(postDto.content());
-
-        // 파일 처리
-        if (file != null && !file.isEmpty()) {
-            // 기존 파일 삭제
-            if (post.getFilePath() != null) {
-                Files.deleteIfExists(Paths.get(post.getFilePath()));
-            }
+        if (!Objects.equals(post.getContent(), postDto.content())) {
+            post.setContent(postDto.content(), markdownRenderer.render(postDto.content()));  // 본문이 바뀐 경우에만 다시 렌더링
+        }
+        if (postDto.tags() != null) {
+            post.setTags(postDto.tags());
+        }
 
-            // 새 파일 저장
-            String fileName = saveFile(file);
-            post.setFileName(fileName);
-            post.setFilePath(Paths.get(uploadDir).resolve(fileName).toString());
-            post.setFileType(file.getContentType());
+        // 파일 교체 (기존 파일은 커밋 후 삭제)
+        String replacedKey = null;
+        if (stored != null) {
+            replacedKey = post.getFilePath();
+            post.withFileDetails(stored.fileName(), stored.key(), stored.contentType());
         }
 
         postRepository.save(post);
-        return PostDto.from(post);  // 반환하는 객체
+        postRevisionService.record(post, previous);
+        eventPublisher.publishEvent(PostUpdated.of(post.getId(), post.getTitle(), post.getUserAccount().getUserId(), post.getTags()));
+        invalidationBus.invalidate(CacheNames.POSTS, postId.toString(), () -> VersionedCache.versionOf(post.getModifiedAt()));
+        log.info("Post {} updated", postId);
+        return new Updated(PostDto.from(post), replacedKey);  // 반환하는 객체
     }
 
+    /**
+     * 게시글을 소프트 삭제합니다.
+     * 댓글, 태그, 첨부파일은 보관 기간이 지난 뒤 PostRetentionJob 이 묶어서 정리하므로 요청 시간에 포함되지 않습니다.
+     * 보관(post_archive)된 게시글은 바로 삭제합니다. (ArchivedPostService.delete)
+     */
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    public void deletePost(Long postId) throws IOException {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("Post with id " + postId + " not found."));
-
-        // 파일 삭제
-        if (post.getFilePath() != null) {
-            Files.deleteIfExists(Paths.get(post.getFilePath()));
+    public void deletePost(Long postId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (postRepository.softDelete(postId, now) == 0 && !archivedPostService.delete(postId)) {
+            throw new PostNotFoundException("Post with id " + postId + " not found.");
         }
-
-        postRepository.deleteById(postId);
+        eventPublisher.publishEvent(PostDeleted.of(postId));
+        invalidationBus.invalidate(CacheNames.POSTS, postId.toString(), () -> VersionedCache.versionOf(now));
+        log.info("Post {} deleted", postId);
     }
 
-    private String saveFile(MultipartFile file) throws IOException {
-        if (file.isEmpty()) {
-            throw new IOException("Failed to store empty file.");
+    /**
+     * 파일을 첨부파일 저장소에 저장하고 저장소 key 를 반환합니다. (파일이 없으면 null)
+     * 같은 이름의 파일이 서로 덮어쓰지 않도록 key 앞에 UUID 를 붙입니다.
+     * 동시 쓰기 수와 쓰기 대역폭은 UploadAdmission 으로 제한합니다.
+     */
+    private StoredFile saveFile(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            return null;
         }
 
-        // 파일 저장 위치 경로 가져오기
-        Path locationPath = Paths.get(uploadDir);
+        String fileName = StringUtils.getFilename(StringUtils.cleanPath(file.getOriginalFilename()));
+        String key = UUID.randomUUID() + "/" + fileName;
 
-        // 경로가 존재하지 않으면 디렉토리 생성
-        if (!Files.exists(locationPath)) {
-            Files.createDirectories(locationPath);
+        // 파일을 저장소에 저장
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire();
+             InputStream content = uploadAdmission.throttle(file.getInputStream())) {
+            attachmentStorage.put(key, content, file.getSize(), file.getContentType());
         }
 
-        // 저장할 파일의 전체 경로 생성
-        Path filePath = locationPath.resolve(file.getOriginalFilename());
+        return new StoredFile(key, file.getOriginalFilename(), file.getContentType());  // 저장된 파일의 key 반환
+    }
+
+    /**
+     * 게시글에 연결하지 못한 파일은 남기지 않습니다.
+     */
+    private void deleteStored(StoredFile stored) {
+        if (stored == null) {
+            return;
+        }
+        try {
+            attachmentStorage.delete(stored.key());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to delete unattached file {}", stored.key(), e);
+        }
+    }
 
-        // 파일을 지정된 경로에 저장
-        Files.copy(file.getInputStream(), filePath);
+    /**
+     * 저장한 첨부파일
+     * @param key 저장소 key
+     * @param fileName 원본 파일 이름
+     * @param contentType 파일 형식
+     */
+    private record StoredFile(String key, String fileName, String contentType) {
+    }
 
-        return file.getOriginalFilename();  // 저장된 파일의 이름 반환
+    /**
+     * 수정 결과
+     * @param post 수정 후 게시글
+     * @param replacedKey 교체되어 삭제할 기존 첨부파일 key (없으면 null)
+     */
+    private record Updated(PostDto post, String replacedKey) {
     }
 
 }
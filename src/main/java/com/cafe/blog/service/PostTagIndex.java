@@ -0,0 +1,209 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.entity.constant.TagMatch;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostEvent;
+import com.cafe.blog.event.PostEventHandler;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 태그 -> 게시글 id 압축 비트맵(Roaring64NavigableMap, BIGINT id 그대로) 인덱스
+ *
+ * 태그 AND/OR 조건은 DB 조회 전에 비트맵 교집합/합집합으로 계산하고,
+ * DB 에서는 선택된 한 페이지의 행만 조회합니다.
+ * 비트맵은 읽기 중 변경되지 않도록 copy-on-write 로 교체합니다. (쓰기는 게시글 저장 시에만 발생)
+ * 재구축 중 받은 이벤트는 새 인덱스로 교체한 후 다시 적용합니다.
+ */
+@Slf4j
+@Component
+public class PostTagIndex implements PostEventHandler {
+
+    private final PostRepository postRepository;
+    private final Map<String, Roaring64NavigableMap> postIdsByTag = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> tagsByPostId = new ConcurrentHashMap<>();
+    private List<PostEvent> eventsDuringRebuild;  // 재구축 중 받은 이벤트 (교체 후 다시 적용), this 로 동기화
+
+    public PostTagIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 기동 시 (게시글 id, 태그) 쌍을 스트리밍하여 인덱스를 구축합니다.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Map<String, Roaring64NavigableMap> bitmaps = new HashMap<>();
+            Map<Long, Set<String>> tags = new HashMap<>();
+            try (Stream<PostRepository.PostTagView> rows = postRepository.streamAllTags()) {
+                rows.forEach(row -> {
+                    bitmaps.computeIfAbsent(row.getTag(), tag -> new Roaring64NavigableMap()).addLong(row.getPostId());
+                    tags.computeIfAbsent(row.getPostId(), id -> new HashSet<>()).add(row.getTag());
+                });
+            }
+
+            bitmaps.values().forEach(Roaring64NavigableMap::runOptimize);
+            synchronized (this) {
+                postIdsByTag.clear();
+                postIdsByTag.putAll(bitmaps);
+                tagsByPostId.clear();
+                tags.forEach((postId, postTags) -> tagsByPostId.put(postId, Set.copyOf(postTags)));
+                eventsDuringRebuild.forEach(this::apply);
+            }
+            log.info("Post tag index built: {} tags, {} posts", bitmaps.size(), tags.size());
+        } finally {
+            synchronized (this) {
+                eventsDuringRebuild = null;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onPostEvent(PostEvent event) {
+        if (eventsDuringRebuild != null) {
+            eventsDuringRebuild.add(event);
+        }
+        apply(event);
+    }
+
+    private void apply(PostEvent event) {
+        if (event instanceof PostCreated created) {
+            index(created.postId(), created.tags());
+        } else if (event instanceof PostUpdated updated) {
+            index(updated.postId(), updated.tags());
+        } else if (event instanceof PostDeleted deleted) {
+            index(deleted.postId(), Set.of());
+        }
+    }
+
+    /**
+     * 게시글의 태그를 교체합니다. 빈 집합이면 인덱스에서 제거됩니다.
+     */
+    public synchronized void index(Long postId, Set<String> tags) {
+        long id = postId;
+        Set<String> previous = tagsByPostId.getOrDefault(id, Set.of());
+
+        for (String tag : previous) {
+            if (!tags.contains(tag)) {
+                postIdsByTag.computeIfPresent(tag, (key, bitmap) -> {
+                    Roaring64NavigableMap copy = copyOf(bitmap);
+                    copy.removeLong(id);
+                    return copy.isEmpty() ? null : copy;
+                });
+            }
+        }
+        for (String tag : tags) {
+            if (!previous.contains(tag)) {
+                postIdsByTag.compute(tag, (key, bitmap) -> {
+                    Roaring64NavigableMap copy = bitmap == null ? new Roaring64NavigableMap() : copyOf(bitmap);
+                    copy.addLong(id);
+                    return copy;
+                });
+            }
+        }
+
+        if (tags.isEmpty()) {
+            tagsByPostId.remove(id);
+        } else {
+            tagsByPostId.put(id, Set.copyOf(tags));
+        }
+    }
+
+    /**
+     * 태그 조건을 만족하는 게시글 id 집합을 계산합니다.
+     * @param tags 조회할 태그 (대소문자 무시)
+     * @param match ALL: 교집합, ANY: 합집합
+     * @return 결과 비트맵 (호출자가 수정해도 인덱스에 영향 없음)
+     */
+    public Roaring64NavigableMap match(Collection<String> tags, TagMatch match) {
+        List<Roaring64NavigableMap> bitmaps = new ArrayList<>();
+        for (String tag : tags) {
+            Roaring64NavigableMap bitmap = postIdsByTag.get(tag.trim().toLowerCase(Locale.ROOT));
+            if (bitmap == null) {
+                if (match == TagMatch.ALL) {
+                    return new Roaring64NavigableMap();  // 없는 태그가 하나라도 있으면 교집합은 비어 있다.
+                }
+                continue;
+            }
+            bitmaps.add(bitmap);
+        }
+
+        if (bitmaps.isEmpty()) {
+            return new Roaring64NavigableMap();
+        }
+        Roaring64NavigableMap result = copyOf(bitmaps.get(0));
+        for (int i = 1; i < bitmaps.size(); i++) {
+            if (match == TagMatch.ALL) {
+                result.and(bitmaps.get(i));
+            } else {
+                result.or(bitmaps.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 비트맵에서 최신(id 내림차순) 기준 offset 부터 size 개의 id 를 꺼냅니다. (rank 기반 select, 전체 순회 없음)
+     */
+    public static List<Long> pageOf(Roaring64NavigableMap postIds, long offset, int size) {
+        long cardinality = postIds.getLongCardinality();
+        List<Long> page = new ArrayList<>(size);
+        for (long i = offset; i < offset + size && i < cardinality; i++) {
+            page.add(postIds.select(cardinality - 1 - i));
+        }
+        return page;
+    }
+
+    /**
+     * 비트맵의 id 를 내림차순으로 chunkSize 개씩 나눕니다.
+     */
+    public static List<List<Long>> chunksOf(Roaring64NavigableMap postIds, int chunkSize) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        LongIterator iterator = postIds.getReverseLongIterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * 읽는 중인 비트맵은 수정하지 않으므로 새 비트맵에 합쳐서 복사합니다.
+     */
+    private static Roaring64NavigableMap copyOf(Roaring64NavigableMap bitmap) {
+        Roaring64NavigableMap copy = new Roaring64NavigableMap();
+        copy.or(bitmap);
+        return copy;
+    }
+}
@@ -0,0 +1,497 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.AutocompleteProperties;
+import com.cafe.blog.dto.PostSuggestionDto;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostEvent;
+import com.cafe.blog.event.PostEventHandler;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목 자동완성 인덱스 (압축 트라이, radix tree)
+ *
+ * - 제목을 정규화(NFKC, 소문자, 연속 공백은 하나로)하여 단어 시작 위치마다 색인하므로 "boot" 로 "Spring Boot 입문" 을 찾습니다.
+ * - 노드마다 하위 트리의 상위 topK 개(댓글 수, 최신 순)를 미리 계산해 두어, 조회는 입력 길이만큼 트리를 내려가는 것으로 끝납니다.
+ * - 자식이 하나뿐인 경로는 한 노드로 합쳐 노드 수를 색인한 단어 수의 2배 이하로 유지합니다.
+ * - 쓰기(게시글 생성/수정/삭제)는 하나씩 처리하고 노드의 배열은 copy-on-write 로 교체하므로, 조회는 잠금 없이 수행됩니다.
+ * - 댓글 수(인기도)는 rebuildInterval 마다 전체를 다시 구축하여 반영합니다.
+ */
+@Slf4j
+@Component
+public class PostTitleIndex implements PostEventHandler {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int ID_BITS = 39;  // 정렬 key 하위 비트의 게시글 id (약 5500억까지 색인)
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final int MAX_COMMENT_COUNT = (1 << (Long.SIZE - 1 - ID_BITS)) - 1;  // 넘으면 같은 인기도로 봄
+    private static final long[] NO_KEYS = new long[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final PostRepository postRepository;
+    private final AutocompleteProperties properties;
+    private volatile Trie trie;
+    private List<PostEvent> eventsDuringRebuild;  // 재구축 중 받은 이벤트 (교체 후 다시 적용), this 로 동기화
+
+    public PostTitleIndex(PostRepository postRepository, AutocompleteProperties properties) {
+        this.postRepository = postRepository;
+        this.properties = properties;
+        this.trie = new Trie(properties);
+    }
+
+    /**
+     * 기동 시와 rebuildInterval 마다 (게시글 id, 제목, 댓글 수) 를 스트리밍하여 인덱스를 새로 구축한 후 교체합니다.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${blog.autocomplete.rebuild-interval:PT1H}", fixedDelayString = "${blog.autocomplete.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (this) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        try {
+            // maxTitles 를 넘으면 인기 순으로 남긴다. (가장 낮은 key 를 꺼내는 min-heap)
+            PriorityQueue<Title> titles = new PriorityQueue<>(Comparator.comparingLong(Title::key));
+            try (Stream<PostRepository.PostTitleView> rows = postRepository.streamAllTitles()) {
+                rows.forEach(row -> {
+                    long postId = row.getPostId();
+                    if (!indexable(postId)) {
+                        return;
+                    }
+                    titles.add(new Title(postId, row.getTitle(), key(row.getCommentCount(), postId)));
+                    if (titles.size() > properties.maxTitles()) {
+                        titles.poll();
+                    }
+                });
+            }
+
+            Trie rebuilt = new Trie(properties);
+            titles.forEach(title -> rebuilt.put(title.postId(), title.title(), title.key()));
+            synchronized (this) {
+                trie = rebuilt;
+                eventsDuringRebuild.forEach(this::apply);
+            }
+            log.info("Post title index built: {} titles", titles.size());
+        } finally {
+            synchronized (this) {
+                eventsDuringRebuild = null;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onPostEvent(PostEvent event) {
+        if (eventsDuringRebuild != null) {
+            eventsDuringRebuild.add(event);
+        }
+        apply(event);
+    }
+
+    private void apply(PostEvent event) {
+        if (event instanceof PostCreated created) {
+            put(created.postId(), created.title());
+        } else if (event instanceof PostUpdated updated) {
+            put(updated.postId(), updated.title());
+        } else if (event instanceof PostDeleted deleted) {
+            remove(deleted.postId());
+        }
+    }
+
+    /**
+     * 게시글 제목을 색인합니다. 이미 있으면 교체하며 인기도는 유지합니다.
+     * 인덱스가 가득 찼으면 새 게시글은 다음 재구축 때 인기 순으로 반영됩니다.
+     */
+    public synchronized void put(Long postId, String title) {
+        if (!indexable(postId)) {
+            return;
+        }
+        Trie current = trie;
+        if (!current.put(postId, title, key(current.commentCount(postId), postId))) {
+            log.debug("Post title index is full, post {} will be indexed on the next rebuild", postId);
+        }
+    }
+
+    public synchronized void remove(Long postId) {
+        trie.remove(postId);
+    }
+
+    /**
+     * 입력한 접두어로 시작하는 단어가 제목에 있는 게시글을 댓글 수, 최신 순으로 돌려줍니다.
+     * @param query 입력 중인 검색어 (대소문자, 공백 무시)
+     * @param size 최대 결과 수 (topK 를 넘을 수 없음)
+     */
+    public List<PostSuggestionDto> suggest(String query, int size) {
+        return trie.suggest(normalize(query), Math.min(size, properties.topK()));
+    }
+
+    public int size() {
+        return trie.titles.size();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    /**
+     * 정렬 key: 상위 비트는 댓글 수, 하위 ID_BITS 비트는 게시글 id (클수록 인기, 같으면 최신)
+     */
+    private static long key(int commentCount, long postId) {
+        return ((long) Math.min(Math.max(commentCount, 0), MAX_COMMENT_COUNT) << ID_BITS) | postId;
+    }
+
+    private static boolean indexable(long postId) {
+        if (postId > ID_MASK) {
+            log.warn("Post {} is beyond the title index key range and is not indexed", postId);
+            return false;
+        }
+        return true;
+    }
+
+    private record Title(long postId, String title, long key) {
+    }
+
+    /**
+     * 압축 트라이의 노드. label 은 부모에서 이 노드까지의 글자들이며, 배열은 교체만 하고 수정하지 않는다.
+     */
+    private static final class Node {
+
+        private final String label;
+        private volatile Node[] children;  // label 첫 글자 순
+        private volatile long[] top;  // 하위 트리의 상위 topK 개 key (내림차순)
+        private volatile long[] terminals;  // 이 노드에서 끝나는 단어의 key (내림차순)
+
+        private Node(String label, Node[] children, long[] top, long[] terminals) {
+            this.label = label;
+            this.children = children;
+            this.top = top;
+            this.terminals = terminals;
+        }
+
+        private Node relabel(String newLabel) {
+            return new Node(newLabel, children, top, terminals);
+        }
+    }
+
+    /**
+     * 한 번 구축한 인덱스. 재구축 시에는 새로 만들어 통째로 교체합니다.
+     */
+    private static final class Trie {
+
+        private final int maxTitles;
+        private final int maxTermsPerTitle;
+        private final int maxPrefixLength;
+        private final int topK;
+        private final Node root = new Node("", NO_CHILDREN, NO_KEYS, NO_KEYS);  // 빈 입력은 조회하지 않으므로 top 을 유지하지 않음
+        private final Map<Long, Title> titles = new ConcurrentHashMap<>();
+
+        private Trie(AutocompleteProperties properties) {
+            this.maxTitles = properties.maxTitles();
+            this.maxTermsPerTitle = properties.maxTermsPerTitle();
+            this.maxPrefixLength = properties.maxPrefixLength();
+            this.topK = properties.topK();
+        }
+
+        private int commentCount(long postId) {
+            Title title = titles.get(postId);
+            return title == null ? 0 : (int) (title.key() >>> ID_BITS);
+        }
+
+        private boolean put(long postId, String title, long key) {
+            Title previous = titles.get(postId);
+            if (previous == null && titles.size() >= maxTitles) {
+                return false;
+            }
+            if (previous != null) {
+                terms(previous.title()).forEach(term -> delete(term, previous.key()));
+            }
+            titles.put(postId, new Title(postId, title, key));
+            terms(title).forEach(term -> insert(term, key));
+            return true;
+        }
+
+        private void remove(long postId) {
+            Title previous = titles.remove(postId);
+            if (previous != null) {
+                terms(previous.title()).forEach(term -> delete(term, previous.key()));
+            }
+        }
+
+        /**
+         * 정규화한 제목의 단어 시작 위치마다 maxPrefixLength 글자까지 (최대 maxTermsPerTitle 개)
+         */
+        private Set<String> terms(String title) {
+            String normalized = normalize(title);
+            Set<String> terms = new LinkedHashSet<>();
+            int start = 0;
+            while (start < normalized.length() && terms.size() < maxTermsPerTitle) {
+                terms.add(normalized.substring(start, Math.min(normalized.length(), start + maxPrefixLength)));
+                int space = normalized.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+            return terms;
+        }
+
+        private void insert(String term, long key) {
+            Node node = root;
+            int i = 0;
+            while (i < term.length()) {
+                Node[] children = node.children;
+                int index = indexOf(children, term.charAt(i));
+                if (index < 0) {
+                    long[] keys = {key};
+                    node.children = inserted(children, -index - 1, new Node(term.substring(i), NO_CHILDREN, keys, keys));
+                    return;
+                }
+
+                Node child = children[index];
+                int common = commonPrefix(child.label, term, i);
+                if (common < child.label.length()) {
+                    // 라벨 중간에서 갈라지면 공통 부분을 새 노드로 나눈다.
+                    Node split = new Node(child.label.substring(0, common),
+                            new Node[]{child.relabel(child.label.substring(common))}, child.top, NO_KEYS);
+                    node.children = replaced(children, index, split);
+                    child = split;
+                }
+                child.top = offer(child.top, key, topK);
+                node = child;
+                i += common;
+            }
+            node.terminals = offer(node.terminals, key, Integer.MAX_VALUE);
+        }
+
+        private void delete(String term, long key) {
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            int i = 0;
+            while (i < term.length()) {
+                Node[] children = node.children;
+                int index = indexOf(children, term.charAt(i));
+                if (index < 0 || !term.startsWith(children[index].label, i)) {
+                    return;
+                }
+                node = children[index];
+                path.add(node);
+                i += node.label.length();
+            }
+            node.terminals = without(node.terminals, key);
+
+            // 아래에서부터 빈 노드는 지우고, 자식이 하나만 남은 노드는 자식과 합치고, 상위 목록은 다시 계산
+            for (int depth = path.size() - 1; depth > 0; depth--) {
+                Node current = path.get(depth);
+                Node parent = path.get(depth - 1);
+                Node[] children = current.children;
+                int index = indexOf(parent.children, current.label.charAt(0));
+                if (current.terminals.length == 0 && children.length == 0) {
+                    parent.children = removed(parent.children, index);
+                } else if (current.terminals.length == 0 && children.length == 1) {
+                    parent.children = replaced(parent.children, index, children[0].relabel(current.label + children[0].label));
+                } else if (contains(current.top, key)) {
+                    current.top = topOf(current);
+                }
+            }
+        }
+
+        private long[] topOf(Node node) {
+            long[] terminals = node.terminals;
+            long[] top = terminals.length <= topK ? terminals : Arrays.copyOf(terminals, topK);
+            for (Node child : node.children) {
+                for (long key : child.top) {
+                    top = offer(top, key, topK);
+                }
+            }
+            return top;
+        }
+
+        private List<PostSuggestionDto> suggest(String prefix, int limit) {
+            if (prefix.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            boolean truncated = prefix.length() > maxPrefixLength;
+            Node node = find(truncated ? prefix.substring(0, maxPrefixLength) : prefix);
+            if (node == null) {
+                return List.of();
+            }
+
+            // maxPrefixLength 보다 긴 입력은 그 길이까지 일치하는 (소수의) 후보 전체에서 다시 거른다.
+            long[] candidates = truncated ? collect(node) : node.top;
+            List<PostSuggestionDto> suggestions = new ArrayList<>(limit);
+            for (long key : candidates) {
+                Title title = titles.get(key & ID_MASK);
+                if (title == null || (truncated && !hasWordStartingWith(normalize(title.title()), prefix))) {
+                    continue;
+                }
+                suggestions.add(new PostSuggestionDto(title.postId(), title.title()));
+                if (suggestions.size() == limit) {
+                    break;
+                }
+            }
+            return suggestions;
+        }
+
+        /**
+         * 접두어가 끝나는 노드 (라벨 중간에서 끝나면 그 라벨의 노드)
+         */
+        private Node find(String prefix) {
+            Node node = root;
+            int i = 0;
+            while (i < prefix.length()) {
+                Node[] children = node.children;
+                int index = indexOf(children, prefix.charAt(i));
+                if (index < 0) {
+                    return null;
+                }
+                Node child = children[index];
+                int common = commonPrefix(child.label, prefix, i);
+                if (i + common == prefix.length()) {
+                    return child;
+                }
+                if (common < child.label.length()) {
+                    return null;
+                }
+                node = child;
+                i += common;
+            }
+            return node;
+        }
+
+        private static long[] collect(Node node) {
+            LongStream.Builder keys = LongStream.builder();
+            collect(node, keys);
+            long[] sorted = keys.build().distinct().sorted().toArray();
+            long[] descending = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                descending[i] = sorted[sorted.length - 1 - i];
+            }
+            return descending;
+        }
+
+        private static void collect(Node node, LongStream.Builder keys) {
+            for (long key : node.terminals) {
+                keys.add(key);
+            }
+            for (Node child : node.children) {
+                collect(child, keys);
+            }
+        }
+
+        private static boolean hasWordStartingWith(String normalizedTitle, String prefix) {
+            return normalizedTitle.startsWith(prefix) || normalizedTitle.contains(" " + prefix);
+        }
+    }
+
+    private static int indexOf(Node[] children, char c) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = children[mid].label.charAt(0);
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefix(String label, String text, int offset) {
+        int length = Math.min(label.length(), text.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == text.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 내림차순 배열에 key 를 넣은 새 배열 (이미 있거나 limit 안에 들지 못하면 그대로)
+     */
+    private static long[] offer(long[] keys, long key, int limit) {
+        int position = 0;
+        while (position < keys.length && keys[position] > key) {
+            position++;
+        }
+        if (position >= limit || (position < keys.length && keys[position] == key)) {
+            return keys;
+        }
+        int length = Math.min(keys.length + 1, limit);
+        long[] result = new long[length];
+        System.arraycopy(keys, 0, result, 0, position);
+        result[position] = key;
+        System.arraycopy(keys, position, result, position + 1, length - position - 1);
+        return result;
+    }
+
+    private static long[] without(long[] keys, long key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                long[] result = new long[keys.length - 1];
+                System.arraycopy(keys, 0, result, 0, i);
+                System.arraycopy(keys, i + 1, result, i, keys.length - i - 1);
+                return result;
+            }
+        }
+        return keys;
+    }
+
+    private static boolean contains(long[] keys, long key) {
+        for (long k : keys) {
+            if (k == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Node[] inserted(Node[] children, int index, Node child) {
+        Node[] result = new Node[children.length + 1];
+        System.arraycopy(children, 0, result, 0, index);
+        result[index] = child;
+        System.arraycopy(children, index, result, index + 1, children.length - index);
+        return result;
+    }
+
+    private static Node[] replaced(Node[] children, int index, Node child) {
+        Node[] result = children.clone();
+        result[index] = child;
+        return result;
+    }
+
+    private static Node[] removed(Node[] children, int index) {
+        Node[] result = new Node[children.length - 1];
+        System.arraycopy(children, 0, result, 0, index);
+        System.arraycopy(children, index + 1, result, index, children.length - index - 1);
+        return result;
+    }
+}
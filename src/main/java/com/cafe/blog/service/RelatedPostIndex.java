@@ -0,0 +1,363 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.RelatedPostProperties;
+import com.cafe.blog.dto.RelatedPostDto;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostEvent;
+import com.cafe.blog.event.PostEventHandler;
+import com.cafe.blog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 연관 게시글 인덱스 (MinHash + LSH)
+ *
+ * - 제목과 본문을 정규화하여 shingleSize 글자 단위 shingle 집합으로 보고, hashes 개의 해시 함수별 최솟값(MinHash 서명)을 구합니다.
+ *   두 서명에서 같은 위치의 값이 일치하는 비율이 두 shingle 집합의 Jaccard 유사도 추정치입니다.
+ * - 서명을 bands 개의 밴드로 나누어 밴드별 버킷(LSH)에 넣고, 조회 시 같은 버킷에 들어 있는 게시글만 비교하므로
+ *   전체 게시글을 훑지 않고 메모리에서 바로 답합니다.
+ * - 게시글 생성/수정 이벤트마다 그 게시글만 다시 계산하고, 전체 재구축은 읽어 온 묶음의 서명을 fork-join 으로 병렬 계산합니다.
+ */
+@Slf4j
+@Component
+public class RelatedPostIndex implements PostEventHandler, DisposableBean {
+
+    private static final long BAND_SEED = 0x9E3779B97F4A7C15L;
+
+    private final PostRepository postRepository;
+    private final RelatedPostProperties properties;
+    private final long[] multipliers;  // 해시 함수 i: multipliers[i] * x + increments[i] 의 상위 비트
+    private final long[] increments;
+    private final int rows;  // 밴드 하나의 서명 길이
+    private final ForkJoinPool pool;
+    private volatile State state;
+    private List<Consumer<State>> changesDuringRebuild;  // 재구축 중 반영한 변경 (교체 후 다시 적용), this 로 동기화
+
+    public RelatedPostIndex(PostRepository postRepository, RelatedPostProperties properties) {
+        this.postRepository = postRepository;
+        this.properties = properties;
+        this.multipliers = new long[properties.hashes()];
+        this.increments = new long[properties.hashes()];
+        Random random = new Random(0x5EED);  // 고정 seed: 재구축 전후의 서명을 서로 비교할 수 있도록
+        for (int i = 0; i < properties.hashes(); i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+        this.rows = properties.hashes() / properties.bands();
+        this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        this.state = new State();
+    }
+
+    /**
+     * 기동 시와 rebuildCron 마다 최신 게시글부터 maxPosts 개를 스트리밍하여 인덱스를 새로 구축한 후 교체합니다.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${blog.related.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            State rebuilt = new State();
+            List<PostRepository.PostTextView> batch = new ArrayList<>(properties.rebuildBatchSize());
+            try (Stream<PostRepository.PostTextView> texts = postRepository.streamRecentTexts(PageRequest.of(0, properties.maxPosts()))) {
+                texts.forEach(row -> {
+                    batch.add(row);
+                    if (batch.size() == properties.rebuildBatchSize()) {
+                        addAll(rebuilt, batch);
+                        batch.clear();
+                    }
+                });
+            }
+            addAll(rebuilt, batch);
+
+            synchronized (this) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                state = rebuilt;
+            }
+            log.info("Related post index built: {} posts", rebuilt.entries.size());
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 읽어 온 묶음의 서명을 병렬로 계산한 후 인덱스에 넣습니다.
+     */
+    private void addAll(State target, List<PostRepository.PostTextView> rows) {
+        String[] texts = new String[rows.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = text(rows.get(i).getTitle(), rows.get(i).getContent());
+        }
+        int[][] signatures = new int[texts.length][];
+        pool.invoke(new SignatureTask(texts, signatures, 0, texts.length));
+        for (int i = 0; i < signatures.length; i++) {
+            if (signatures[i] != null) {
+                target.put(rows.get(i).getPostId(), rows.get(i).getTitle(), signatures[i]);
+            }
+        }
+    }
+
+    /**
+     * 생성/수정된 게시글은 커밋된 제목과 본문을 다시 읽어 서명을 계산합니다.
+     */
+    @Override
+    public void onPostEvent(PostEvent event) {
+        long postId = event.postId();
+        if (event instanceof PostDeleted) {
+            apply(current -> current.remove(postId));
+            return;
+        }
+
+        Post post = postRepository.findWithContentById(event.postId()).orElse(null);
+        int[] signature = post == null ? null : signature(text(post.getTitle(), post.getContent()));
+        if (signature == null) {
+            apply(current -> current.remove(postId));
+        } else {
+            String title = post.getTitle();
+            apply(current -> current.put(postId, title, signature));
+        }
+    }
+
+    public void remove(Long postId) {
+        apply(current -> current.remove(postId));
+    }
+
+    private synchronized void apply(Consumer<State> change) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        change.accept(state);
+    }
+
+    /**
+     * 게시글과 비슷한 게시글을 추정 유사도, 최신 순으로 돌려줍니다. (인덱스에 없는 게시글이면 빈 목록)
+     * @param size 최대 결과 수
+     */
+    public List<RelatedPostDto> related(Long postId, int size) {
+        State current = state;
+        Entry entry = current.entries.get(postId);
+        if (entry == null || size <= 0) {
+            return List.of();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < properties.bands(); band++) {
+            long[] bucket = current.buckets.get(bandKey(entry.signature(), band));
+            if (bucket != null) {
+                for (long candidate : bucket) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        candidates.remove(entry.postId());
+
+        List<RelatedPostDto> related = new ArrayList<>();
+        for (long candidate : candidates) {
+            Entry other = current.entries.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = similarity(entry.signature(), other.signature());
+            if (similarity >= properties.minSimilarity()) {
+                related.add(new RelatedPostDto(candidate, other.title(), similarity));
+            }
+        }
+        related.sort(Comparator.comparingDouble(RelatedPostDto::similarity).reversed()
+                .thenComparing(RelatedPostDto::postId, Comparator.reverseOrder()));
+        return related.size() <= size ? related : List.copyOf(related.subList(0, size));
+    }
+
+    public int size() {
+        return state.entries.size();
+    }
+
+    private String text(String title, String content) {
+        String text = content == null ? title : title + " " + content;
+        if (text.length() > properties.maxTextLength()) {
+            text = text.substring(0, properties.maxTextLength());
+        }
+        return PostTitleIndex.normalize(text);
+    }
+
+    /**
+     * MinHash 서명: shingle 마다 해시 함수별 값을 구해 함수별 최솟값을 남깁니다. (빈 글이면 null)
+     * shingle 해시는 글자 창을 한 칸씩 옮기며 갱신(rolling hash)하므로 shingle 문자열을 만들지 않습니다.
+     */
+    int[] signature(String text) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int k = Math.min(properties.shingleSize(), text.length());
+        long power = 1;  // 31^(k-1), 창에서 빠지는 글자의 가중치
+        long hash = 0;
+        for (int i = 0; i < k; i++) {
+            hash = hash * 31 + text.charAt(i);
+            if (i > 0) {
+                power *= 31;
+            }
+        }
+        for (int end = k; ; end++) {
+            long x = mix(hash);
+            for (int i = 0; i < signature.length; i++) {
+                int value = (int) ((multipliers[i] * x + increments[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+            if (end == text.length()) {
+                return signature;
+            }
+            hash = (hash - text.charAt(end - k) * power) * 31 + text.charAt(end);
+        }
+    }
+
+    static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = key * BAND_SEED + signature[i];
+        }
+        return key;
+    }
+
+    /**
+     * shingle 해시의 비트를 고르게 섞습니다. (MurmurHash3 fmix64)
+     */
+    private static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private record Entry(long postId, String title, int[] signature) {
+    }
+
+    /**
+     * 한 번 구축한 인덱스. 재구축 시에는 새로 만들어 통째로 교체합니다.
+     * 버킷의 배열은 교체만 하고 수정하지 않으므로 조회는 잠금 없이 수행됩니다.
+     */
+    private final class State {
+
+        private final ConcurrentSkipListMap<Long, Entry> entries = new ConcurrentSkipListMap<>();
+        private final Map<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+        /**
+         * maxPosts 를 넘으면 가장 오래된 게시글을 뺍니다.
+         */
+        private void put(long postId, String title, int[] signature) {
+            remove(postId);
+            if (entries.size() >= properties.maxPosts()) {
+                if (entries.isEmpty() || entries.firstKey() > postId) {
+                    return;
+                }
+                remove(entries.firstKey());
+            }
+
+            entries.put(postId, new Entry(postId, title, signature));
+            for (int band = 0; band < properties.bands(); band++) {
+                buckets.compute(bandKey(signature, band), (key, postIds) -> {
+                    if (postIds == null) {
+                        return new long[]{postId};
+                    }
+                    if (postIds.length >= properties.maxBucketSize()) {
+                        return postIds;  // 다른 밴드로는 여전히 후보가 될 수 있다.
+                    }
+                    long[] added = Arrays.copyOf(postIds, postIds.length + 1);
+                    added[postIds.length] = postId;
+                    return added;
+                });
+            }
+        }
+
+        private void remove(long postId) {
+            Entry entry = entries.remove(postId);
+            if (entry == null) {
+                return;
+            }
+            for (int band = 0; band < properties.bands(); band++) {
+                buckets.computeIfPresent(bandKey(entry.signature(), band), (key, postIds) -> {
+                    long[] rest = Arrays.stream(postIds).filter(id -> id != postId).toArray();
+                    return rest.length == 0 ? null : rest;
+                });
+            }
+        }
+    }
+
+    /**
+     * 묶음을 반씩 나누어 서명을 병렬로 계산합니다.
+     */
+    private final class SignatureTask extends RecursiveAction {
+
+        private static final int THRESHOLD = 8;
+
+        private final String[] texts;
+        private final int[][] signatures;
+        private final int from;
+        private final int to;
+
+        private SignatureTask(String[] texts, int[][] signatures, int from, int to) {
+            this.texts = texts;
+            this.signatures = signatures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    signatures[i] = signature(texts[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SignatureTask(texts, signatures, from, mid), new SignatureTask(texts, signatures, mid, to));
+        }
+    }
+}
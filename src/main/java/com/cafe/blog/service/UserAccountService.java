@@ -1,16 +1,24 @@
 package com.cafe.blog.service;
 
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
 import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.dto.UserRemovalDto;
 import com.cafe.blog.dto.security.BlogPrincipal;
 import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.entity.UserRemoval;
 import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.repository.UserRemovalRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -19,12 +27,27 @@ import java.util.Optional;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final UserRemovalRepository userRemovalRepository;
+    private final VersionedCache<UserAccountDto> userCache;
+    private final InvalidationBus invalidationBus;
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-    @Transactional(readOnly = true)
+    /**
+     * 사용자 정보를 조회합니다.
+     * 조회 결과는 로컬 캐시(userCache, 로그인 시 CustomUserDetailsService 와 공유)에 modifiedAt 버전과 함께 저장하며,
+     * 수정/삭제되면 모든 노드에서 무효화됩니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<UserAccountDto> searchUser(String username) {
-        return userAccountRepository.findById(username)
+        UserAccountDto cached = userCache.get(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserAccountDto> user = userAccountRepository.findById(username)
                 .map(UserAccountDto::from);
+        user.ifPresent(found -> userCache.put(username, VersionedCache.versionOf(found.modifiedAt()), found));
+        return user;
     }
 
     // 회원 가입
@@ -71,17 +94,37 @@ public class UserAccountService {
 
         // UserAccount 저장
         UserAccount updatedUser = userAccountRepository.save(userAccount);
+        invalidationBus.invalidate(CacheNames.USERS, userId, () -> VersionedCache.versionOf(updatedUser.getModifiedAt()));
         return UserAccountDto.from(updatedUser);
     }
 
-    // 회원 삭제
+    /**
+     * 회원 삭제를 요청합니다.
+     * 게시글이 많은 회원도 한 트랜잭션에서 지우지 않도록 진행 상태만 기록하고, UserRemovalJob 이 묶음 단위로 지웁니다.
+     * 요청한 시점부터 로그인할 수 없으며, 진행 상태는 getUserRemoval 로 확인합니다.
+     */
     @PreAuthorize("hasRole('ROLE_ADMIN') or #principal.username == #userId")
-    public void deleteUser(String userId, BlogPrincipal principal) {
+    public UserRemovalDto deleteUser(String userId, BlogPrincipal principal) {
         // 사용자 존재 여부 확인
         userAccountRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        // 사용자 삭제
-        userAccountRepository.deleteById(userId);
+        // 삭제 요청 기록 (이미 진행 중이면 그대로 이어서 진행)
+        LocalDateTime requestedAt = LocalDateTime.now();
+        UserRemoval removal = userRemovalRepository.findById(userId).orElse(null);
+        if (removal == null) {
+            removal = userRemovalRepository.save(UserRemoval.of(userId, requestedAt));
+        } else if (removal.isDone()) {
+            removal.restart(requestedAt);  // 같은 ID 로 다시 가입한 회원
+        }
+        invalidationBus.invalidate(CacheNames.USERS, userId, () -> VersionedCache.versionOf(requestedAt));
+        return UserRemovalDto.from(removal);
+    }
+
+    // 회원 삭제 진행 상태
+    @PreAuthorize("hasRole('ROLE_ADMIN') or #principal.username == #userId")
+    @Transactional(readOnly = true)
+    public Optional<UserRemovalDto> getUserRemoval(String userId, BlogPrincipal principal) {
+        return userRemovalRepository.findById(userId).map(UserRemovalDto::from);
     }
 }
@@ -0,0 +1,226 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.config.UserRemovalProperties;
+import com.cafe.blog.entity.UserRemoval;
+import com.cafe.blog.entity.constant.RemovalStep;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.AttachmentDeletionRepository;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.repository.UserRemovalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 회원 삭제 배치
+ * UserAccountService.deleteUser 가 기록한 UserRemoval 을 단계(RemovalStep) 순서대로 진행합니다.
+ *
+ * - 게시글: id 순서(keyset)로 batchSize 개씩 댓글, 태그, 본문, 수정 이력과 함께 set 단위 DELETE 로 지웁니다. (소프트 삭제된 게시글 포함)
+ *   첨부파일 key 는 같은 트랜잭션에서 삭제 큐에 옮기고, 파일은 AttachmentDeletionQueue 가 따로 지웁니다.
+ *   지운 게시글마다 PostDeleted 를 발행하므로, outbox 를 통해 모든 처리기(태그/제목/연관 게시글 인덱스, SSE 피드)에 전달됩니다.
+ * - 보관된 게시글, 다른 게시글에 남긴 댓글(댓글 수 함께 갱신)도 같은 방식으로 지운 후 마지막으로 계정을 지웁니다.
+ *
+ * 묶음마다 진행 행을 잠근 짧은 트랜잭션에서 지우고 커서를 기록하므로, 긴 잠금이 없고 서버가 종료되어도 다음 주기에 이어서 진행합니다.
+ */
+@Slf4j
+@Component
+public class UserRemovalJob {
+
+    private final UserRemovalRepository userRemovalRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final PostRevisionRepository postRevisionRepository;
+    private final AttachmentDeletionRepository attachmentDeletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InvalidationBus invalidationBus;
+    private final UserRemovalProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserRemovalJob(UserRemovalRepository userRemovalRepository,
+                          UserAccountRepository userAccountRepository,
+                          PostRepository postRepository,
+                          CommentRepository commentRepository,
+                          ArchivedPostRepository archivedPostRepository,
+                          PostRevisionRepository postRevisionRepository,
+                          AttachmentDeletionRepository attachmentDeletionRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          InvalidationBus invalidationBus,
+                          UserRemovalProperties properties,
+                          PlatformTransactionManager transactionManager) {
+        this.userRemovalRepository = userRemovalRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.postRevisionRepository = postRevisionRepository;
+        this.attachmentDeletionRepository = attachmentDeletionRepository;
+        this.eventPublisher = eventPublisher;
+        this.invalidationBus = invalidationBus;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.user-removal.interval:PT10S}")
+    public void run() {
+        for (String userId : userRemovalRepository.findUserIdsByStepNot(RemovalStep.DONE)) {
+            try {
+                remove(userId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to remove user {}, resuming on next run", userId, e);
+            }
+        }
+    }
+
+    /**
+     * 회원 삭제를 끝까지 진행합니다. 실패하면 마지막으로 커밋한 묶음 다음부터 다시 진행할 수 있습니다.
+     */
+    public void remove(String userId) {
+        while (true) {
+            Batch batch = transactionTemplate.execute(status -> removeBatch(userId));
+            if (batch.removal() == null) {
+                return;
+            }
+            if (batch.removal().getStep() != batch.step()) {
+                log.info("User removal {}: {} finished ({} posts, {} comments deleted so far)", userId,
+                        batch.step(), batch.removal().getDeletedPosts(), batch.removal().getDeletedComments());
+            }
+            if (batch.removal().isDone()) {
+                return;
+            }
+        }
+    }
+
+    private Batch removeBatch(String userId) {
+        UserRemoval removal = userRemovalRepository.findByIdForUpdate(userId).orElse(null);
+        if (removal == null || removal.isDone()) {
+            return new Batch(null, RemovalStep.DONE);
+        }
+
+        RemovalStep step = removal.getStep();
+        LocalDateTime now = LocalDateTime.now();
+        switch (step) {
+            case POSTS -> removePosts(removal, now);
+            case ARCHIVED_POSTS -> removeArchivedPosts(removal, now);
+            case COMMENTS -> removeComments(removal, now);
+            case ACCOUNT -> removeAccount(removal, now);
+            case DONE -> {
+            }
+        }
+        return new Batch(removal, step);
+    }
+
+    private void removePosts(UserRemoval removal, LocalDateTime now) {
+        List<PostRepository.PurgeTarget> targets = postRepository.findRemovalTargets(removal.getUserId(), removal.getLastId(), properties.batchSize());
+        if (targets.isEmpty()) {
+            removal.nextStep(now);
+            return;
+        }
+
+        List<Long> postIds = targets.stream().map(PostRepository.PurgeTarget::getPostId).toList();
+        int comments = commentRepository.deleteByPostIdIn(postIds);
+        postRevisionRepository.deleteByPostIdIn(postIds);
+        attachmentDeletionRepository.enqueueByPostIdIn(postIds, now);
+        postRepository.deleteTagsByPostIdIn(postIds);
+        postRepository.deleteAllByIdInIncludingDeleted(postIds);
+        List<Long> contentIds = targets.stream().map(PostRepository.PurgeTarget::getContentId).filter(Objects::nonNull).toList();
+        if (!contentIds.isEmpty()) {
+            postRepository.deleteContentsByIdIn(contentIds);
+        }
+        postIds.forEach(postId -> {
+            invalidatePost(postId);
+            eventPublisher.publishEvent(PostDeleted.of(postId));  // 커밋 후 태그 검색, 제목 자동완성, 연관 게시글 대상에서 제외
+        });
+
+        removal.advance(postIds.get(postIds.size() - 1), postIds.size(), comments, now);
+        if (postIds.size() < properties.batchSize()) {
+            removal.nextStep(now);
+        }
+    }
+
+    private void removeArchivedPosts(UserRemoval removal, LocalDateTime now) {
+        List<Long> postIds = archivedPostRepository.findIdsByUserIdAfter(removal.getUserId(), removal.getLastId(), PageRequest.of(0, properties.batchSize()));
+        if (postIds.isEmpty()) {
+            removal.nextStep(now);
+            return;
+        }
+
+        int comments = commentRepository.deleteByPostIdIn(postIds);  // 보관된 게시글의 댓글은 post_archive 로 옮길 때 그대로 남아 있음
+        postRevisionRepository.deleteByPostIdIn(postIds);
+        attachmentDeletionRepository.enqueueByArchivedPostIdIn(postIds, now);
+        archivedPostRepository.deleteAllByIdInBatch(postIds);
+        postIds.forEach(this::invalidatePost);  // 인덱스에서는 보관할 때 이미 PostDeleted 로 제외됨
+
+        removal.advance(postIds.get(postIds.size() - 1), postIds.size(), comments, now);
+        if (postIds.size() < properties.batchSize()) {
+            removal.nextStep(now);
+        }
+    }
+
+    private void removeComments(UserRemoval removal, LocalDateTime now) {
+        List<CommentRepository.CommentTarget> targets = commentRepository.findRemovalTargets(removal.getUserId(), removal.getLastId(), PageRequest.of(0, properties.batchSize()));
+        if (targets.isEmpty()) {
+            removal.nextStep(now);
+            return;
+        }
+
+        // 게시글별로 모아 한 번씩 갱신 (id 순서로 갱신하여 다른 트랜잭션과 잠금 순서를 맞춤)
+        Map<Long, Integer> removedPerPost = new TreeMap<>();
+        targets.forEach(target -> removedPerPost.merge(target.getPostId(), 1, Integer::sum));
+        removedPerPost.forEach((postId, count) -> {
+            postRepository.adjustCommentCount(postId, -count);
+            invalidatePost(postId);
+        });
+        List<Long> commentIds = targets.stream().map(CommentRepository.CommentTarget::getCommentId).toList();
+        commentRepository.deleteAllByIdInBatch(commentIds);
+
+        removal.advance(commentIds.get(commentIds.size() - 1), 0, commentIds.size(), now);
+        if (commentIds.size() < properties.batchSize()) {
+            removal.nextStep(now);
+        }
+    }
+
+    private void removeAccount(UserRemoval removal, LocalDateTime now) {
+        String userId = removal.getUserId();
+        // 삭제 요청 전에 로그인한 세션으로 그 사이에 글을 남겼다면 처음 단계부터 다시 지운다. (계정 행의 FK)
+        if (!postRepository.findRemovalTargets(userId, 0L, 1).isEmpty()
+                || !commentRepository.findRemovalTargets(userId, 0L, PageRequest.of(0, 1)).isEmpty()) {
+            removal.rewind(now);
+            return;
+        }
+
+        userAccountRepository.deleteById(userId);
+        invalidationBus.invalidate(CacheNames.USERS, userId, () -> VersionedCache.versionOf(now));
+        removal.nextStep(now);
+    }
+
+    private void invalidatePost(Long postId) {
+        invalidationBus.invalidate(CacheNames.POSTS, postId.toString(), () -> VersionedCache.UNVERSIONED);
+    }
+
+    /**
+     * 한 묶음의 처리 결과
+     * @param removal 처리 후 진행 상태 (없으면 null)
+     * @param step 처리한 단계
+     */
+    private record Batch(UserRemoval removal, RemovalStep step) {
+    }
+}
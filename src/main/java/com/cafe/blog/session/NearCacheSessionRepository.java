@@ -0,0 +1,289 @@
+package com.cafe.blog.session;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DB 공유 세션 저장소 앞의 near cache
+ * 모든 노드가 같은 세션 테이블(Spring Session JDBC)을 사용하므로 sticky 로드 밸런싱이 필요 없고 재배포해도 로그인이 유지됩니다.
+ *
+ * - 조회: 역직렬화된 세션(보안 컨텍스트 포함)을 nearCacheTtl 동안 노드에 두고 사본을 돌려주므로, 대부분의 요청은 DB 를 읽지 않습니다.
+ * - 변경: 속성 변경(로그인, 로그아웃), 세션 id 변경은 바로 DB 에 쓰고 다른 노드의 near cache 를 무효화합니다.
+ * - 마지막 접근 시각: 요청마다 쓰지 않고 모아 두었다가 writeBehindInterval 마다 batch UPDATE 합니다.
+ * - 만료 세션: cleanupBatchSize 개씩 나누어 지워 큰 DELETE 로 테이블을 오래 잠그지 않습니다.
+ */
+@Slf4j
+public class NearCacheSessionRepository implements SessionRepository<NearCacheSessionRepository.NearCacheSession>, DisposableBean {
+
+    private final SessionRepository<Session> delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VersionedCache<MapSession> nearCache;
+    private final InvalidationBus invalidationBus;
+    private final int cleanupBatchSize;
+    private final String updateAccessSql;
+    private final String selectExpiredSql;
+    private final String deleteSql;
+    private final Map<String, Access> pendingAccess = new ConcurrentHashMap<>();
+
+    public NearCacheSessionRepository(SessionRepository<Session> delegate,
+                                      JdbcTemplate jdbcTemplate,
+                                      String tableName,
+                                      VersionedCache<MapSession> nearCache,
+                                      InvalidationBus invalidationBus,
+                                      int cleanupBatchSize) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.nearCache = nearCache;
+        this.invalidationBus = invalidationBus;
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.updateAccessSql = "update " + tableName + " set LAST_ACCESS_TIME = ?, EXPIRY_TIME = ? where SESSION_ID = ? and LAST_ACCESS_TIME < ?";
+        this.selectExpiredSql = "select PRIMARY_ID from " + tableName + " where EXPIRY_TIME < ? order by EXPIRY_TIME limit ?";
+        this.deleteSql = "delete from " + tableName + " where PRIMARY_ID in (%s)";  // 속성 행은 FK cascade 로 함께 삭제
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        return new NearCacheSession(null, delegate.createSession(), true);
+    }
+
+    @Override
+    public void save(NearCacheSession session) {
+        if (session.changed && session.stored != null) {
+            delegate.save(session.stored);
+            String id = session.stored.getId();
+            if (!id.equals(session.originalId)) {
+                evict(session.originalId);  // 로그인 시 세션 고정 공격 방지로 id 가 바뀜
+            }
+            evict(id);
+            nearCache.put(id, VersionedCache.UNVERSIONED, new MapSession(session.stored));
+            pendingAccess.remove(id);
+        } else if (!session.gone) {
+            pendingAccess.merge(session.getId(), new Access(session.getLastAccessedTime(), session.getMaxInactiveInterval()),
+                    (a, b) -> a.lastAccessedTime().isAfter(b.lastAccessedTime()) ? a : b);
+        }
+    }
+
+    @Override
+    public NearCacheSession findById(String id) {
+        MapSession cached = nearCache.get(id);
+        if (cached != null && !cached.isExpired()) {
+            return new NearCacheSession(new MapSession(cached), null, false);
+        }
+
+        // 다른 요청의 접근 시각이 아직 기록되지 않았다면 먼저 기록 (JDBC 저장소가 만료로 판단하여 지우지 않도록)
+        Access access = pendingAccess.remove(id);
+        if (access != null) {
+            writeAccess(List.of(Map.entry(id, access)));
+        }
+        Session stored = delegate.findById(id);
+        if (stored == null) {
+            nearCache.invalidate(id, VersionedCache.UNVERSIONED);
+            return null;
+        }
+        nearCache.put(id, VersionedCache.UNVERSIONED, new MapSession(stored));
+        return new NearCacheSession(new MapSession(stored), stored, false);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        pendingAccess.remove(id);
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    /**
+     * 모아 둔 마지막 접근 시각을 batch UPDATE 합니다. (이미 더 최근 시각이 기록된 세션과 삭제된 세션은 갱신되지 않음)
+     */
+    @Scheduled(fixedDelayString = "${blog.session.write-behind-interval:PT10S}")
+    public void flushAccessTimes() {
+        if (pendingAccess.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Access>> batch = new ArrayList<>(pendingAccess.size());
+        for (String id : pendingAccess.keySet()) {
+            Access access = pendingAccess.remove(id);
+            if (access != null) {
+                batch.add(Map.entry(id, access));
+            }
+        }
+        writeAccess(batch);
+    }
+
+    /**
+     * 만료된 세션을 묶음 단위로 지웁니다.
+     * @return 지운 세션 수
+     */
+    @Scheduled(fixedDelayString = "${blog.session.cleanup-interval:PT1M}")
+    public int cleanupExpired() {
+        flushAccessTimes();  // 최근에 접근한 세션이 만료로 지워지지 않도록
+        long now = System.currentTimeMillis();
+        int total = 0;
+        while (true) {
+            List<String> ids = jdbcTemplate.queryForList(selectExpiredSql, String.class, now, cleanupBatchSize);
+            if (!ids.isEmpty()) {
+                jdbcTemplate.update(deleteSql.formatted(String.join(",", Collections.nCopies(ids.size(), "?"))), ids.toArray());
+            }
+            total += ids.size();
+            if (ids.size() < cleanupBatchSize) {
+                if (total > 0) {
+                    log.info("Deleted {} expired sessions", total);
+                }
+                return total;
+            }
+        }
+    }
+
+    private void writeAccess(List<Map.Entry<String, Access>> batch) {
+        jdbcTemplate.batchUpdate(updateAccessSql, batch, batch.size(), (ps, entry) -> {
+            long lastAccessed = entry.getValue().lastAccessedTime().toEpochMilli();
+            ps.setLong(1, lastAccessed);
+            ps.setLong(2, lastAccessed + entry.getValue().maxInactiveInterval().toMillis());
+            ps.setString(3, entry.getKey());
+            ps.setLong(4, lastAccessed);
+        });
+    }
+
+    /**
+     * 이 노드와 다른 노드의 near cache 에서 지웁니다.
+     */
+    private void evict(String id) {
+        invalidationBus.invalidate(CacheNames.SESSIONS, id, () -> VersionedCache.UNVERSIONED);
+    }
+
+    @Override
+    public void destroy() {
+        flushAccessTimes();
+    }
+
+    private record Access(Instant lastAccessedTime, Duration maxInactiveInterval) {
+    }
+
+    /**
+     * near cache 의 사본으로 읽고, 변경할 때만 JDBC 세션을 불러와 함께 변경합니다.
+     */
+    public final class NearCacheSession implements Session {
+
+        private final MapSession cached;  // near cache 사본 (새 세션이면 null)
+        private final String originalId;
+        private Session stored;  // JDBC 세션 (새 세션이거나, DB 에서 읽었거나, 변경할 때 불러옴)
+        private boolean changed;
+        private boolean gone;  // 다른 노드에서 삭제됨 (로그아웃 등), 저장하지 않는다.
+
+        private NearCacheSession(MapSession cached, Session stored, boolean isNew) {
+            this.cached = cached;
+            this.stored = stored;
+            this.changed = isNew;
+            this.originalId = stored != null ? stored.getId() : cached.getId();
+        }
+
+        private Session read() {
+            return stored != null ? stored : cached;
+        }
+
+        private Session write() {
+            if (stored == null && !gone) {
+                stored = delegate.findById(originalId);
+                if (stored == null) {
+                    gone = true;
+                } else {
+                    stored.setLastAccessedTime(cached.getLastAccessedTime());
+                }
+            }
+            changed = true;
+            return stored != null ? stored : cached;
+        }
+
+        @Override
+        public String getId() {
+            return read().getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return write().changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return read().getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return read().getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            if (attributeValue == null) {
+                removeAttribute(attributeName);
+                return;
+            }
+            Object current = read().getAttribute(attributeName);
+            if (current != attributeValue) {  // 같은 객체를 다시 넣는 경우(요청마다 보안 컨텍스트 저장 등)는 변경이 아님
+                write().setAttribute(attributeName, attributeValue);
+            }
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            if (read().getAttribute(attributeName) != null) {
+                write().removeAttribute(attributeName);
+            }
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return read().getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            if (cached != null) {
+                cached.setLastAccessedTime(lastAccessedTime);
+            }
+            if (stored != null) {
+                stored.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return read().getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            if (!interval.equals(read().getMaxInactiveInterval())) {
+                write().setMaxInactiveInterval(interval);
+            }
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return read().getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return read().isExpired();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cafe.blog.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장된 첨부파일 정보
+ * @param key 저장소 key
+ * @param size 파일 크기 (byte)
+ * @param contentType MIME 타입 (알 수 없으면 null)
+ * @param lastModified 마지막 수정 시각
+ */
+public record AttachmentStat(
+        String key,
+        long size,
+        String contentType,
+        Instant lastModified
+) {
+
+    public static AttachmentStat of(String key, long size, String contentType, Instant lastModified) {
+        return new AttachmentStat(key, size, contentType, lastModified);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.cafe.blog.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 첨부파일 저장소 SPI
+ * 게시글은 파일 경로 대신 저장소 key 만 보관하고, 실제 저장 위치(로컬 디스크, S3 호환 스토리지)는 구현체가 결정합니다.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * 파일을 저장합니다. 같은 key 가 있으면 덮어씁니다.
+     * @param key 저장소 key
+     * @param content 파일 내용 (호출자가 닫는다)
+     * @param size 파일 크기 (byte)
+     * @param contentType MIME 타입 (null 가능)
+     */
+    void put(String key, InputStream content, long size, String contentType) throws IOException;
+
+    /**
+     * 파일의 일부 구간을 읽습니다.
+     * @param key 저장소 key
+     * @param offset 시작 위치 (byte)
+     * @param length 읽을 길이, 음수면 끝까지
+     * @return 구간 스트림 (호출자가 닫는다)
+     */
+    InputStream getRange(String key, long offset, long length) throws IOException;
+
+    /**
+     * 파일을 삭제합니다. 없으면 아무것도 하지 않습니다.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 파일 정보를 조회합니다.
+     */
+    Optional<AttachmentStat> stat(String key) throws IOException;
+
+    /**
+     * 앱을 거치지 않고 클라이언트가 직접 내려받을 수 있는 서명된 URL 을 만듭니다.
+     * 지원하지 않는 저장소는 비어 있는 값을 반환하며, 이때는 앱이 getRange 로 직접 전송합니다.
+     */
+    default Optional<URI> presignedDownloadUrl(String key, Duration ttl) {
+        return Optional.empty();
+    }
+
+}
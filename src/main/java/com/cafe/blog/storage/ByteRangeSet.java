@@ -0,0 +1,118 @@
+package com.cafe.blog.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 수신한 바이트 구간 집합
+ * 구간은 [start, end) 이며, 겹치거나 맞닿은 구간은 하나로 합쳐 저장합니다.
+ * 병렬로 받은 chunk 가 순서 없이 도착해도 구간 수가 작게 유지되어 "0-1048576,2097152-3145728" 형태로 저장할 수 있습니다.
+ */
+public class ByteRangeSet {
+
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();  // start -> end (exclusive)
+
+    public static ByteRangeSet parse(String encoded) {
+        ByteRangeSet set = new ByteRangeSet();
+        if (encoded == null || encoded.isBlank()) {
+            return set;
+        }
+        for (String range : encoded.split(",")) {
+            int dash = range.indexOf('-');
+            set.add(Long.parseLong(range.substring(0, dash)), Long.parseLong(range.substring(dash + 1)));
+        }
+        return set;
+    }
+
+    public void add(long start, long end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid range: " + start + "-" + end);
+        }
+        if (start == end) {
+            return;
+        }
+
+        // 앞쪽에서 맞닿거나 겹치는 구간과 병합
+        Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+        if (floor != null && floor.getValue() >= start) {
+            start = floor.getKey();
+            end = Math.max(end, floor.getValue());
+        }
+
+        // 뒤쪽에 포함되거나 맞닿는 구간들을 흡수
+        Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+        while (next != null && next.getKey() <= end) {
+            end = Math.max(end, next.getValue());
+            ranges.remove(next.getKey());
+            next = ranges.ceilingEntry(start);
+        }
+
+        ranges.put(start, end);
+    }
+
+    /**
+     * [0, total) 전체를 받았는지 여부
+     */
+    public boolean covers(long total) {
+        if (total == 0) {
+            return true;
+        }
+        Map.Entry<Long, Long> first = ranges.firstEntry();
+        return first != null && first.getKey() == 0 && first.getValue() >= total;
+    }
+
+    public long receivedBytes() {
+        long sum = 0;
+        for (Map.Entry<Long, Long> range : ranges.entrySet()) {
+            sum += range.getValue() - range.getKey();
+        }
+        return sum;
+    }
+
+    /**
+     * [0, total) 중 아직 받지 못한 구간
+     */
+    public List<Range> missing(long total) {
+        List<Range> missing = new ArrayList<>();
+        long position = 0;
+        for (Map.Entry<Long, Long> range : ranges.entrySet()) {
+            if (range.getKey() >= total) {
+                break;
+            }
+            if (range.getKey() > position) {
+                missing.add(new Range(position, range.getKey()));
+            }
+            position = Math.max(position, range.getValue());
+        }
+        if (position < total) {
+            missing.add(new Range(position, total));
+        }
+        return missing;
+    }
+
+    public List<Range> ranges() {
+        return ranges.entrySet().stream()
+                .map(range -> new Range(range.getKey(), range.getValue()))
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Long, Long> range : ranges.entrySet()) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(range.getKey()).append('-').append(range.getValue());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 바이트 구간 [start, end)
+     */
+    public record Range(long start, long end) {
+    }
+}
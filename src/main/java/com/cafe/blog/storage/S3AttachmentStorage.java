@@ -0,0 +1,106 @@
+package com.cafe.blog.storage;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * S3 호환 스토리지 (AWS S3, MinIO 등)
+ *
+ * 업로드는 multipart 가 활성화된 비동기 클라이언트를 사용하여 큰 파일을 여러 part 로 나눠 병렬 전송합니다.
+ * 다운로드는 presigned URL 로 클라이언트가 스토리지에서 직접 받도록 하여 파일 바이트가 앱을 거치지 않게 합니다.
+ */
+public class S3AttachmentStorage implements AttachmentStorage, AutoCloseable {
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService uploadExecutor;
+    private final String bucket;
+
+    public S3AttachmentStorage(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner,
+                               ExecutorService uploadExecutor, String bucket) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.uploadExecutor = uploadExecutor;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+        try {
+            s3AsyncClient.putObject(request, AsyncRequestBody.fromInputStream(content, size, uploadExecutor)).join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to upload attachment: " + key, e.getCause());
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long offset, long length) {
+        String range = length < 0
+                ? "bytes=" + offset + "-"
+                : "bytes=" + offset + "-" + (offset + length - 1);
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range(range)
+                .build());
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+    }
+
+    @Override
+    public Optional<AttachmentStat> stat(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+            return Optional.of(AttachmentStat.of(key, response.contentLength(), response.contentType(), response.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<URI> presignedDownloadUrl(String key, Duration ttl) {
+        try {
+            return Optional.of(s3Presigner.presignGetObject(builder -> builder
+                            .signatureDuration(ttl)
+                            .getObjectRequest(request -> request.bucket(bucket).key(key)))
+                    .url()
+                    .toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid presigned url for " + key, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        uploadExecutor.shutdown();
+        s3Presigner.close();
+        s3AsyncClient.close();
+        s3Client.close();
+    }
+}
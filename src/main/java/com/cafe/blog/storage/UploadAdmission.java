@@ -0,0 +1,141 @@
+package com.cafe.blog.storage;
+
+import com.cafe.blog.config.UploadProperties;
+import com.cafe.blog.exception.UploadRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 디스크 I/O 입장 제어
+ *
+ * 동시에 파일을 쓰는 요청 수를 제한하고, 모든 업로드가 나눠 쓰는 초당 바이트 예산을 적용합니다.
+ * 업로드가 몰려도 디스크 대역폭을 다 쓰지 않으므로 DB 위주의 다른 요청이 밀리지 않습니다.
+ * 대기열이 가득 찼거나 대기 시간이 지나면 바로 거절하고, 클라이언트는 Retry-After 이후 재시도합니다.
+ */
+public class UploadAdmission {
+
+    private final UploadProperties.Admission properties;
+    private final Semaphore writers;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+    private final long bytesPerSecond;
+    private long nextFreeNanos;  // 대역폭 예산상 다음 바이트를 보낼 수 있는 시각
+
+    public UploadAdmission(UploadProperties.Admission properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writers = new Semaphore(properties.maxConcurrentWriters(), true);
+        this.bytesPerSecond = properties.bytesPerSecond().toBytes();
+        this.nextFreeNanos = System.nanoTime();
+
+        Gauge.builder("blog.upload.queue.depth", writers, Semaphore::getQueueLength)
+                .description("Uploads waiting for a writer slot")
+                .register(meterRegistry);
+        Gauge.builder("blog.upload.active", writers, semaphore -> properties.maxConcurrentWriters() - semaphore.availablePermits())
+                .description("Uploads currently writing")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("blog.upload.admission.wait")
+                .description("Time spent waiting for a writer slot")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("blog.upload.rejected")
+                .description("Uploads rejected because writers were saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쓰기 슬롯을 얻습니다. 반환된 Permit 을 닫으면 슬롯을 반납합니다.
+     * @throws UploadRejectedException 대기열이 가득 찼거나 queueTimeout 안에 슬롯을 얻지 못한 경우
+     */
+    public Permit acquire() {
+        if (writers.getQueueLength() >= properties.maxQueueDepth()) {
+            throw reject("Upload queue is full");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = writers.tryAcquire(properties.queueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("Interrupted while waiting for upload slot");
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            throw reject("Timed out waiting for upload slot");
+        }
+        return writers::release;
+    }
+
+    /**
+     * 읽은 만큼 대역폭 예산을 차감하는 스트림으로 감쌉니다. (bytesPerSecond 가 0 이면 제한 없음)
+     */
+    public InputStream throttle(InputStream in) {
+        return bytesPerSecond <= 0 ? in : new ThrottledInputStream(in);
+    }
+
+    private void consume(long bytes) throws InterruptedIOException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFreeNanos);
+            nextFreeNanos = start + bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling upload");
+            }
+        }
+    }
+
+    private UploadRejectedException reject(String message) {
+        rejectedCounter.increment();
+        return new UploadRejectedException(message, properties.retryAfter());
+    }
+
+    /**
+     * 쓰기 슬롯
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final class ThrottledInputStream extends FilterInputStream {
+
+        private ThrottledInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            int n = super.read(buffer, off, len);
+            if (n > 0) {
+                consume(n);
+            }
+            return n;
+        }
+    }
+}
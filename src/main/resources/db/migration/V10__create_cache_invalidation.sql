@@ -0,0 +1,12 @@
+-- 노드 사이의 캐시 무효화 (blog.cache.invalidation.backend: jdbc)
+
+create table cache_invalidation (
+    id bigint not null auto_increment,
+    cache_name varchar(50) not null,
+    cache_key varchar(200) not null,
+    version bigint not null,
+    published_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_cache_invalidation_published_at on cache_invalidation (published_at);
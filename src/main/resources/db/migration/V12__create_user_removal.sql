@@ -0,0 +1,23 @@
+-- 회원 삭제 진행 상태와 실패한 첨부파일 삭제 대기열
+
+create table user_removal (
+    user_id varchar(50) not null,
+    step enum ('POSTS','ARCHIVED_POSTS','COMMENTS','ACCOUNT','DONE') not null,
+    last_id bigint not null,
+    deleted_posts bigint not null,
+    deleted_comments bigint not null,
+    requested_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    finished_at datetime(6),
+    primary key (user_id)
+) engine=InnoDB;
+
+create index idx_user_removal_step on user_removal (step);
+
+create table attachment_deletion (
+    id bigint not null auto_increment,
+    file_key varchar(2048) not null,
+    attempts integer not null,
+    enqueued_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
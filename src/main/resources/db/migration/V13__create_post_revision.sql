@@ -0,0 +1,14 @@
+-- 게시글 수정 이력 (보관된 게시글의 이력도 유지하므로 게시글 FK 없음)
+
+create table post_revision (
+    id bigint not null auto_increment,
+    post_id bigint not null,
+    revision integer not null,
+    base_revision integer not null,
+    title varchar(500) not null,
+    content text not null,
+    edited_at datetime(6) not null,
+    edited_by varchar(100) not null,
+    primary key (id),
+    constraint uk_post_revision_post_id_revision unique (post_id, revision)
+) engine=InnoDB;
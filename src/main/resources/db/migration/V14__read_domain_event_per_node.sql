@@ -0,0 +1,7 @@
+-- 게시글 이벤트를 노드마다 읽어 감 (처리 여부를 테이블에 기록하지 않음)
+-- processed_at, attempts, last_error 는 이전 버전 노드가 함께 실행되는 동안(rolling 배포) 쓰므로 남겨 두고,
+-- 새 버전은 attempts 를 넣지 않으므로 기본값을 줍니다. 보관 기간이 지난 행은 발생 시각으로 지웁니다.
+
+alter table domain_event alter column attempts set default 0;
+
+create index idx_domain_event_occurred_at on domain_event (occurred_at);
@@ -0,0 +1,41 @@
+-- 기준 스키마 (MariaDB)
+-- Flyway 도입 전 버전이 ddl-auto: update 로 만들던 스키마와 같다. (회원, 게시글)
+-- 그런 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용하므로, 이후 추가된 테이블과 컬럼은 여기에 넣지 않고 새 버전으로 만든다.
+-- 엔티티 매핑(CamelCaseToUnderscoresNamingStrategy)과 모든 migration 을 적용한 결과가 같아야 한다. prod 는 ddl-auto: validate 로 검증만 한다.
+
+create table user_account (
+    user_id varchar(50) not null,
+    user_password varchar(255) not null,
+    email varchar(100),
+    nickname varchar(100),
+    memo varchar(255),
+    created_at datetime(6) not null,
+    created_by varchar(100) not null,
+    modified_at datetime(6) not null,
+    modified_by varchar(100) not null,
+    primary key (user_id)
+) engine=InnoDB;
+
+create unique index idx_user_account_email on user_account (email);
+create index idx_user_account_created_at on user_account (created_at);
+create index idx_user_account_created_by on user_account (created_by);
+
+create table post (
+    id bigint not null auto_increment,
+    user_id varchar(50) not null,
+    title varchar(500) not null,
+    content text not null,
+    file_name varchar(255),
+    file_path varchar(2048),
+    file_type varchar(255),
+    created_at datetime(6) not null,
+    created_by varchar(100) not null,
+    modified_at datetime(6) not null,
+    modified_by varchar(100) not null,
+    primary key (id),
+    constraint fk_post_user_account foreign key (user_id) references user_account (user_id)
+) engine=InnoDB;
+
+create index idx_post_title on post (title);
+create index idx_post_created_at on post (created_at);
+create index idx_post_created_by on post (created_by);
@@ -0,0 +1,13 @@
+-- 게시글 본문을 post_content 테이블로 분리한다. (기존 post.content 의 이전은 V3__MovePostContent)
+-- content_id 는 이전이 끝나기 전까지 비어 있을 수 있으므로 NULL 을 허용한다.
+
+create table post_content (
+    id bigint not null auto_increment,
+    content text not null,
+    rendered_html text,
+    primary key (id)
+) engine=InnoDB;
+
+alter table post add column content_id bigint;
+alter table post add constraint uk_post_content_id unique (content_id);
+alter table post add constraint fk_post_post_content foreign key (content_id) references post_content (id);
@@ -0,0 +1,21 @@
+-- 댓글과 게시글별 댓글 수 (비정규화, 기존 게시글은 댓글이 없으므로 0)
+
+alter table post add column comment_count integer not null default 0;
+
+-- 게시글 FK 없음: 보관(post_archive)으로 옮긴 게시글의 댓글도 유지
+create table comment (
+    id bigint not null auto_increment,
+    post_id bigint not null,
+    user_id varchar(50) not null,
+    content varchar(1000) not null,
+    created_at datetime(6) not null,
+    created_by varchar(100) not null,
+    modified_at datetime(6) not null,
+    modified_by varchar(100) not null,
+    primary key (id),
+    constraint fk_comment_user_account foreign key (user_id) references user_account (user_id)
+) engine=InnoDB;
+
+create index idx_comment_post_id_id on comment (post_id, id);
+create index idx_comment_created_at on comment (created_at);
+create index idx_comment_created_by on comment (created_by);
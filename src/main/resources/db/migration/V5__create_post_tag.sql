@@ -0,0 +1,10 @@
+-- 게시글 태그 (소문자로 정규화)
+
+create table post_tag (
+    post_id bigint not null,
+    tag varchar(50) not null,
+    primary key (post_id, tag),
+    constraint fk_post_tag_post foreign key (post_id) references post (id)
+) engine=InnoDB;
+
+create index idx_post_tag_tag on post_tag (tag);
@@ -0,0 +1,19 @@
+-- 분할 업로드 진행 상태
+
+create table upload_session (
+    id varchar(36) not null,
+    file_name varchar(255) not null,
+    content_type varchar(255),
+    total_size bigint not null,
+    received_ranges varchar(4000) not null,
+    status enum ('IN_PROGRESS','COMPLETED') not null,
+    expires_at datetime(6) not null,
+    created_at datetime(6) not null,
+    created_by varchar(100) not null,
+    modified_at datetime(6) not null,
+    modified_by varchar(100) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_upload_session_expires_at on upload_session (expires_at);
+create index idx_upload_session_created_by on upload_session (created_by);
@@ -0,0 +1,10 @@
+-- 여러 노드가 공유하는 요청 한도 창 (blog.rate-limit.backend: jdbc)
+
+create table rate_limit_window (
+    bucket_key varchar(300) not null,
+    hits integer not null,
+    window_end datetime(6) not null,
+    primary key (bucket_key)
+) engine=InnoDB;
+
+create index idx_rate_limit_window_window_end on rate_limit_window (window_end);
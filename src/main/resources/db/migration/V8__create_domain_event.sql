@@ -0,0 +1,16 @@
+-- 게시글 이벤트 outbox (커밋 후 전달, 실패하면 재전달)
+
+create table domain_event (
+    id bigint not null auto_increment,
+    post_id bigint not null,
+    event_type varchar(50) not null,
+    payload text not null,
+    occurred_at datetime(6) not null,
+    processed_at datetime(6),
+    attempts integer not null,
+    last_error varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_domain_event_processed_at_id on domain_event (processed_at, id);
+create index idx_domain_event_post_id on domain_event (post_id);
@@ -0,0 +1,26 @@
+-- 게시글 소프트 삭제와 오래된 게시글 보관 (기존 게시글은 삭제되지 않은 상태)
+
+alter table post add column deleted bit not null default false;
+alter table post add column deleted_at datetime(6);
+create index idx_post_deleted_at on post (deleted_at);
+
+create table post_archive (
+    id bigint not null,
+    user_id varchar(50) not null,
+    title varchar(500) not null,
+    content text not null,
+    file_name varchar(255),
+    file_path varchar(2048),
+    file_type varchar(255),
+    comment_count integer not null,
+    tags varchar(600),
+    created_at datetime(6) not null,
+    created_by varchar(100) not null,
+    modified_at datetime(6) not null,
+    modified_by varchar(100) not null,
+    archived_at datetime(6) not null,
+    primary key (id),
+    constraint fk_post_archive_user_account foreign key (user_id) references user_account (user_id)
+) engine=InnoDB;
+
+create index idx_post_archive_archived_at on post_archive (archived_at);
@@ -0,0 +1,121 @@
+package com.cafe.blog.cache;
+
+import com.cafe.blog.migration.V3__MovePostContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 H2 에 migration 으로 만든 cache_invalidation 테이블로 확인합니다.
+ * 다른 노드의 batch 는 id 를 지정한 INSERT 로 흉내 냅니다. (먼저 받은 id 가 늦게 커밋되는 경우)
+ */
+class JdbcInvalidationBusTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcInvalidationBus bus;
+    private final List<String> invalidated = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        Flyway.configure()
+                .dataSource(jdbcTemplate.getDataSource())
+                .locations("classpath:db/migration")
+                .javaMigrations(new V3__MovePostContent())
+                .load()
+                .migrate();
+        insert(1, "before-start");  // 기동 전 무효화는 적용하지 않음 (캐시가 비어 있음)
+
+        // 주기 실행은 테스트가 직접 호출 (poll)
+        bus = new JdbcInvalidationBus(jdbcTemplate, Duration.ofHours(1), Duration.ofHours(1), 50,
+                Duration.ofMinutes(1), Duration.ofMinutes(10), new SimpleMeterRegistry());
+        bus.subscribe(CacheNames.POSTS, (key, version) -> invalidated.add(key));
+        bus.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bus.destroy();
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void poll_shouldApplyRowsAfterStart_acrossSeveralBatches() {
+        // given: poll-batch-size(50) 보다 많은 행
+        for (int id = 2; id <= 121; id++) {
+            insert(id, "post-" + id);
+        }
+
+        // when
+        bus.poll();
+        bus.poll();  // 다시 읽어도 중복 적용하지 않음
+
+        // then
+        assertThat(invalidated).hasSize(120).doesNotContain("before-start").startsWith("post-2").endsWith("post-121");
+    }
+
+    @Test
+    void poll_shouldApplyBatchCommittedLate_evenAfterManyLaterIds() {
+        // given: id 2~3 을 받은 다른 노드의 batch 가 커밋되기 전에 그 뒤의 id 가 여러 batch 만큼 보임
+        for (int id = 4; id <= 300; id++) {
+            insert(id, "post-" + id);
+        }
+        bus.poll();
+        assertThat(invalidated).hasSize(297);
+
+        // when
+        insert(2, "late-2");
+        insert(3, "late-3");
+        bus.poll();
+
+        // then: 건너뛴 id 를 다시 확인하여 적용
+        assertThat(invalidated).hasSize(299).endsWith("late-2", "late-3");
+    }
+
+    @Test
+    void poll_shouldForgetSkippedIds_afterGapTimeout() {
+        // given: 건너뛴 id 를 기다리는 시간 없음
+        bus = replace(Duration.ZERO);
+        insert(3, "post-3");
+        bus.poll();
+
+        // when: gap-timeout 이 지난 뒤 커밋된 행
+        insert(2, "too-late");
+        bus.poll();
+
+        // then
+        assertThat(invalidated).containsExactly("post-3");
+    }
+
+    private JdbcInvalidationBus replace(Duration gapTimeout) {
+        try {
+            bus.destroy();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        JdbcInvalidationBus replaced = new JdbcInvalidationBus(jdbcTemplate, Duration.ofHours(1), Duration.ofHours(1), 50,
+                gapTimeout, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        replaced.subscribe(CacheNames.POSTS, (key, version) -> invalidated.add(key));
+        replaced.afterPropertiesSet();
+        return replaced;
+    }
+
+    private void insert(long id, String key) {
+        jdbcTemplate.update("insert into cache_invalidation (id, cache_name, cache_key, version, published_at) values (?, ?, ?, ?, ?)",
+                id, CacheNames.POSTS, key, 1L, Timestamp.from(Instant.now()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.cafe.blog.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 하나의 LocalInvalidationTransport 를 공유하는 두 버스로 두 노드를 흉내 냅니다.
+ */
+class PubSubInvalidationBusTest {
+
+    private final LocalInvalidationTransport transport = new LocalInvalidationTransport();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Invalidation>> sent = new ArrayList<>();
+
+    private PubSubInvalidationBus nodeA;
+    private PubSubInvalidationBus nodeB;
+    private VersionedCache<String> cacheA;
+    private VersionedCache<String> cacheB;
+
+    @BeforeEach
+    void setUp() {
+        transport.subscribe(sent::add);
+        nodeA = node();
+        nodeB = node();
+        cacheA = cache(nodeA);
+        cacheB = cache(nodeB);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    @Test
+    void invalidate_shouldApplyLocallyAtOnce_andOnOtherNodesAfterFlush() {
+        // given
+        cacheA.put("1", 10, "a");
+        cacheB.put("1", 10, "b");
+
+        // when
+        nodeA.invalidate(CacheNames.POSTS, "1", () -> 20);
+
+        // then
+        assertThat(cacheA.get("1")).isNull();
+        assertThat(cacheB.get("1")).isEqualTo("b");  // 아직 전송 전
+
+        nodeA.flush();
+        assertThat(cacheB.get("1")).isNull();
+        assertThat(cacheB.put("1", 10, "stale")).isFalse();
+        assertThat(meterRegistry.get("blog.cache.invalidation.lag").timer().count()).isEqualTo(2);  // 두 노드가 각각 받음
+    }
+
+    @Test
+    void flush_shouldCoalesceInvalidationsOfSameKey() {
+        // when
+        nodeA.invalidate(CacheNames.POSTS, "1", () -> 20);
+        nodeA.invalidate(CacheNames.POSTS, "1", () -> 30);
+        nodeA.invalidate(CacheNames.POSTS, "2", () -> 20);
+        nodeA.flush();
+        nodeA.flush();  // 보낼 것이 없으면 전송하지 않음
+
+        // then
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).extracting(Invalidation::key, Invalidation::version)
+                .containsExactlyInAnyOrder(tuple("1", 30L), tuple("2", 20L));
+    }
+
+    private PubSubInvalidationBus node() {
+        PubSubInvalidationBus bus = new PubSubInvalidationBus(transport, Duration.ofHours(1), meterRegistry);
+        bus.afterPropertiesSet();
+        return bus;
+    }
+
+    private static VersionedCache<String> cache(InvalidationBus bus) {
+        VersionedCache<String> cache = new VersionedCache<>(CacheNames.POSTS, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        bus.subscribe(CacheNames.POSTS, cache);
+        return cache;
+    }
+}
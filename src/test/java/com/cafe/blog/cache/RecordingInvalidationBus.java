@@ -0,0 +1,29 @@
+package com.cafe.blog.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 테스트용 무효화 전달: 발행한 (캐시 이름, key) 를 순서대로 기록만 합니다.
+ */
+public class RecordingInvalidationBus implements InvalidationBus {
+
+    private final List<String> invalidated = new ArrayList<>();
+
+    /**
+     * 발행한 무효화 ("캐시 이름:key")
+     */
+    public List<String> invalidated() {
+        return invalidated;
+    }
+
+    @Override
+    public void invalidate(String cache, String key, LongSupplier version) {
+        invalidated.add(cache + ":" + key);
+    }
+
+    @Override
+    public void subscribe(String cache, InvalidationListener listener) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.cafe.blog.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedCacheTest {
+
+    private final long[] now = {0};
+    private final VersionedCache<String> cache =
+            new VersionedCache<>("posts", 100, Duration.ofMinutes(5), Duration.ofSeconds(30), () -> now[0]);
+
+    @Test
+    void invalidate_shouldRemoveOlderValue_andRejectStaleReadArrivingLater() {
+        // given
+        cache.put("1", 10, "v10");
+
+        // when: 다른 노드에서 버전 20 으로 수정
+        cache.invalidate("1", 20);
+
+        // then: 무효화 전에 읽은 버전 10 은 거부, 수정 후 읽은 버전 20 은 저장
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.put("1", 10, "v10")).isFalse();
+        assertThat(cache.put("1", 20, "v20")).isTrue();
+        assertThat(cache.get("1")).isEqualTo("v20");
+        assertThat(cache.staleRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_shouldKeepValue_whenAlreadyNewer() {
+        // given
+        cache.put("1", 20, "v20");
+
+        // when: 자기 노드가 발행한 무효화를 늦게 다시 받은 경우
+        cache.invalidate("1", 20);
+        cache.invalidate("1", 10);
+
+        // then
+        assertThat(cache.get("1")).isEqualTo("v20");
+    }
+
+    @Test
+    void invalidate_shouldRemoveRegardlessOfVersion_whenUnversioned() {
+        // given
+        cache.put("1", 20, "v20");
+
+        // when
+        cache.invalidate("1", VersionedCache.UNVERSIONED);
+
+        // then
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.put("1", 20, "v20")).isTrue();
+    }
+
+    @Test
+    void get_shouldExpireValue_afterTtl_andTombstoneAfterTombstoneTtl() {
+        // given
+        cache.put("1", 10, "v10");
+        cache.invalidate("2", 20);
+
+        // when
+        now[0] += Duration.ofMinutes(6).toNanos();
+
+        // then
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.put("2", 10, "v10")).isTrue();  // tombstone 만료 후에는 다시 저장 가능
+    }
+
+    @Test
+    void put_shouldEvict_whenFull() {
+        // when
+        for (int i = 0; i < 150; i++) {
+            cache.put(String.valueOf(i), 1, "v");
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void versionOf_shouldKeepMicrosecondPrecision() {
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 1_000);
+        assertThat(VersionedCache.versionOf(modifiedAt)).isEqualTo(VersionedCache.versionOf(modifiedAt.withNano(0)) + 1);
+        assertThat(VersionedCache.versionOf(null)).isEqualTo(VersionedCache.UNVERSIONED);
+    }
+}
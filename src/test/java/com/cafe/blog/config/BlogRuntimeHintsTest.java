@@ -0,0 +1,34 @@
+package com.cafe.blog.config;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.dto.security.BlogPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlogRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new BlogRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_shouldRegisterReflection_forDtoRecords() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(PostDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(UserAccountDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BlogPrincipal.class)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_shouldRegisterSerialization_forBlogPrincipal() {
+        assertThat(RuntimeHintsPredicates.serialization().onType(BlogPrincipal.class)).accepts(hints);
+    }
+}
@@ -0,0 +1,52 @@
+package com.cafe.blog.entity.converter;
+
+import com.cafe.blog.config.ContentCompressionProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter =
+            new CompressedTextConverter(new ContentCompressionProperties(true, DataSize.ofBytes(100), 6, false, 200));
+
+    @Test
+    void largeContent_shouldBeCompressed_andRestored() {
+        // given
+        String content = "카페 블로그 본문입니다. ".repeat(200);
+
+        // when
+        String stored = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(ContentCodec.isEncoded(stored)).isTrue();
+        assertThat(stored.length()).isLessThan(content.length());
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void smallOrLegacyContent_shouldBeStoredAndReadAsIs() {
+        assertThat(converter.convertToDatabaseColumn("short")).isEqualTo("short");
+        assertThat(converter.convertToEntityAttribute("legacy raw body")).isEqualTo("legacy raw body");
+        assertThat(new CompressedTextConverter().convertToDatabaseColumn("x".repeat(10_000))).isEqualTo("x".repeat(10_000));
+    }
+
+    @Test
+    void rawContentStartingWithMarker_shouldRoundTrip() {
+        String content = ContentCodec.MARKER + "9abc";
+
+        for (CompressedTextConverter each : new CompressedTextConverter[]{converter, new CompressedTextConverter()}) {
+            String stored = each.convertToDatabaseColumn(content);
+            assertThat(each.convertToEntityAttribute(stored)).isEqualTo(content);
+        }
+        assertThat(ContentCodec.decode(ContentCodec.encode(content, 6))).isEqualTo(content);  // 압축해도 짧아지지 않는 경우
+    }
+
+    @Test
+    void unknownVersion_shouldFail() {
+        assertThatThrownBy(() -> ContentCodec.decode(ContentCodec.MARKER + "9abc"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
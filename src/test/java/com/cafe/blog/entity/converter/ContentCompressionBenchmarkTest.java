@@ -0,0 +1,67 @@
+package com.cafe.blog.entity.converter;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 압축 전후의 저장 바이트 비교 (./gradlew benchmark)
+ * post.content 바이트는 InnoDB 버퍼 풀의 페이지 사용량과 findAll 시 전송량에 그대로 비례하므로,
+ * 같은 게시글 집합을 현재 스키마(원문)와 압축 저장으로 저장했을 때의 컬럼 바이트 합을 비교합니다.
+ */
+@Tag("benchmark")
+class ContentCompressionBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "카페", "블로그", "게시글", "커피", "원두", "라떼", "에스프레소", "추천", "후기", "메뉴",
+            "spring", "java", "database", "index", "query", "the", "and", "with", "post", "comment"
+    };
+
+    @Test
+    void compareStoredBytes() {
+        List<String> posts = corpus(2_000);
+
+        long rawBytes = 0;
+        long storedBytes = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (String post : posts) {
+            long start = System.nanoTime();
+            String stored = ContentCodec.encode(post, 6);
+            encodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            String restored = ContentCodec.decode(stored);
+            decodeNanos += System.nanoTime() - start;
+
+            assertThat(restored).isEqualTo(post);
+            rawBytes += post.getBytes(StandardCharsets.UTF_8).length;
+            storedBytes += stored.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        System.out.printf("posts=%d raw=%,d bytes stored=%,d bytes (%.1f%%) encode=%.1fus/post decode=%.1fus/post%n",
+                posts.size(), rawBytes, storedBytes, 100.0 * storedBytes / rawBytes,
+                encodeNanos / 1e3 / posts.size(), decodeNanos / 1e3 / posts.size());
+        assertThat(storedBytes).isLessThan(rawBytes);
+    }
+
+    private static List<String> corpus(int count) {
+        Random random = new Random(42);
+        List<String> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int words = 500 + random.nextInt(3_000);  // 약 3KB ~ 25KB
+            StringBuilder sb = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                sb.append(WORDS[random.nextInt(WORDS.length)]).append(w % 15 == 14 ? ".\n" : " ");
+            }
+            posts.add(sb.toString());
+        }
+        return posts;
+    }
+}
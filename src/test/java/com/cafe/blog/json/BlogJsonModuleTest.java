@@ -0,0 +1,71 @@
+package com.cafe.blog.json;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlogJsonModuleTest {
+
+    private final ObjectMapper reflective = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper mapper = reflective.copy().registerModule(new BlogJsonModule());
+
+    @Test
+    void writesSameFieldsAsReflectionWithoutPasswordAndNulls() throws Exception {
+        UserAccountDto user = UserAccountDto.of("user1", "{bcrypt}hash", "user1@cafe.com", "닉네임", null,
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5), "user1", LocalDateTime.of(2024, 1, 2, 3, 4, 5, 120_000_000), "user1");
+        PostDto post = new PostDto(7L, user, "제목 \"따옴표\"", null,
+                LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123_456_000), "user1", LocalDateTime.of(2024, 5, 6, 7, 8, 9), "user1",
+                "a.png", "uuid/a.png", "image/png", 3, Set.of("java"));
+
+        JsonNode expected = reflective.readTree(reflective.writeValueAsString(post));
+        ((ObjectNode) expected).remove("content");
+        ((ObjectNode) expected.get("userAccountDto")).remove(List.of("userPassword", "memo"));
+
+        assertThat(mapper.readTree(mapper.writeValueAsString(post))).isEqualTo(expected);
+    }
+
+    @Test
+    void writesPageInCompactFormat() throws Exception {
+        PostDto post = new PostDto(1L, null, "title", null, null, null, null, null, null, null, null, 0, Set.of());
+        String json = mapper.writeValueAsString(new PageImpl<>(List.of(post), PageRequest.of(2, 10), 21));
+
+        assertThat(json).isEqualTo("{\"content\":[{\"id\":1,\"title\":\"title\",\"commentCount\":0,\"tags\":[]}],"
+                + "\"page\":{\"size\":10,\"number\":2,\"totalElements\":21,\"totalPages\":3}}");
+    }
+
+    @Test
+    void formatsDateTimesLikeIsoFormatter() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            int nano = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            LocalDateTime value = LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), nano);
+            UserAccountDto user = UserAccountDto.of("u", null, null, null, null, value, null, null, null);
+
+            assertThat(mapper.readTree(mapper.writeValueAsString(user)).get("createdAt").asText())
+                    .isEqualTo(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
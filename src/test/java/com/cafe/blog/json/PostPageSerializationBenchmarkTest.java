@@ -0,0 +1,108 @@
+package com.cafe.blog.json;
+
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 응답(Page&lt;PostDto&gt;) 직렬화 비용 비교 (./gradlew benchmark)
+ * 리플렉션 직렬화 + PageImpl 구조(이전)와 BlogJsonModule(현재)의 응답 하나당 할당 바이트, 처리 시간, 응답 크기를 비교합니다.
+ * 할당량은 현재 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 측정하며,
+ * 출력은 버리는 스트림으로 보내므로 네트워크가 아닌 직렬화 경로 자체의 비용만 측정합니다.
+ */
+@Tag("benchmark")
+class PostPageSerializationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20_000;
+    private static final int RESPONSES = 50_000;
+
+    @Test
+    void compareAllocations() throws IOException {
+        ObjectMapper reflective = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper tuned = reflective.copy().registerModule(new BlogJsonModule());
+        Page<PostDto> page = samplePage();
+
+        Result before = run("reflection, PageImpl", reflective.writer(), page);
+        Result after = run("BlogJsonModule", tuned.writer(), page);
+
+        System.out.println(before);
+        System.out.println(after);
+        assertThat(after.bytesAllocated()).isLessThan(before.bytesAllocated());
+        assertThat(after.bytesWritten()).isLessThan(before.bytesWritten());
+    }
+
+    private Result run(String name, ObjectWriter writer, Page<PostDto> page) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        for (int i = 0; i < WARMUP; i++) {
+            writer.writeValue(out, page);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        out.bytes = 0;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < RESPONSES; i++) {
+            writer.writeValue(out, page);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(name, allocated / RESPONSES, elapsed / 1000.0 / RESPONSES, out.bytes / RESPONSES);
+    }
+
+    private Page<PostDto> samplePage() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123_456_000);
+        List<PostDto> posts = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            UserAccountDto user = UserAccountDto.of("user" + i, "{bcrypt}$2a$10$abcdefghijklmnopqrstuv", "user" + i + "@cafe.com",
+                    "닉네임" + i, null, now, "user" + i, now, "user" + i);
+            posts.add(new PostDto((long) i, user, "게시글 제목 " + i, null, now, "user" + i, now, "user" + i,
+                    null, null, null, i % 5, Set.of("java", "spring")));
+        }
+        return new PageImpl<>(posts, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000);
+    }
+
+    private record Result(String name, long bytesAllocated, double micros, long bytesWritten) {
+
+        @Override
+        public String toString() {
+            return String.format("%-22s allocated=%,8d bytes/response  %,8.1f us/response  written=%,d bytes", name, bytesAllocated, micros, bytesWritten);
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
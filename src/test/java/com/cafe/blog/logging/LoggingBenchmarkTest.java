@@ -0,0 +1,168 @@
+package com.cafe.blog.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 설정별 요청 스레드 처리량 비교 (./gradlew benchmark)
+ * 요청 하나가 남기는 로그(정보 로그 몇 줄 + SQL/바인드 로그)를 여러 스레드에서 반복하여,
+ * 로그 끔 / 이전 local 설정(동기 패턴 로그, SQL·바인드 전역) / 현재 prod 설정(비동기 JSON, SQL 은 요청 단위)을 비교합니다.
+ * 출력은 버리는 스트림으로 보내므로 디스크/터미널 속도가 아닌 로깅 경로 자체의 비용만 측정합니다.
+ */
+@Tag("benchmark")
+class LoggingBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 50_000;
+    private static final int SQL_PER_REQUEST = 5;
+
+    @Test
+    void compareThroughput() throws InterruptedException {
+        List<Result> results = List.of(
+                run("off", Level.WARN, null, false, false),
+                run("sync pattern, SQL always", Level.INFO, this::patternEncoder, false, true),
+                run("async JSON, SQL always", Level.INFO, this::jsonEncoder, true, true),
+                run("async JSON, SQL sampled", Level.INFO, this::jsonEncoder, true, false));  // 표본이 아닌 요청
+
+        results.forEach(System.out::println);
+        assertThat(results.get(0).requestsPerSecond()).isGreaterThan(results.get(1).requestsPerSecond());
+    }
+
+    private Result run(String name, Level level, EncoderFactory encoderFactory, boolean async, boolean sqlLogging) throws InterruptedException {
+        LoggerContext context = new LoggerContext();
+        CountingOutputStream out = new CountingOutputStream();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(level);
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        if (encoderFactory != null) {
+            OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+            appender.setContext(context);
+            appender.setEncoder(encoderFactory.create(context));
+            appender.setOutputStream(out);
+            appender.start();
+            appenders.add(appender);
+
+            if (async) {
+                LoggingEventAsyncDisruptorAppender asyncAppender = new LoggingEventAsyncDisruptorAppender();
+                asyncAppender.setContext(context);
+                asyncAppender.setRingBufferSize(16384);
+                asyncAppender.addAppender(appender);
+                asyncAppender.start();
+                appenders.add(asyncAppender);
+                root.addAppender(asyncAppender);
+            } else {
+                root.addAppender(appender);
+            }
+        }
+
+        Logger service = context.getLogger("com.cafe.blog.service.PostService");
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        sql.setLevel(sqlLogging ? Level.DEBUG : Level.WARN);
+
+        LongAdder requests = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    MDC.put(RequestCorrelationFilter.MDC_KEY, UUID.randomUUID().toString());
+                    service.info("Post {} created by {}", i, "user1");
+                    for (int q = 0; q < SQL_PER_REQUEST; q++) {
+                        sql.debug("select p1_0.id,p1_0.title,p1_0.created_at from post p1_0 where p1_0.id=? [{}]", i);
+                    }
+                    MDC.clear();
+                    requests.increment();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        for (int i = appenders.size() - 1; i >= 0; i--) {
+            appenders.get(i).stop();  // 비동기 appender 는 남은 이벤트를 모두 쓰고 멈춤
+        }
+        context.stop();
+        return new Result(name, requests.sum() * 1e9 / elapsed, out.bytes);
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] %t %-40.40logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder(LoggerContext context) {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setIncludeCallerData(false);
+        encoder.setIncludeContext(false);
+        encoder.start();
+        return encoder;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface EncoderFactory {
+        Encoder<ILoggingEvent> create(LoggerContext context);
+    }
+
+    private record Result(String name, double requestsPerSecond, long bytes) {
+
+        @Override
+        public String toString() {
+            return String.format("%-26s %,12.0f requests/s  written=%,d bytes", name, requestsPerSecond, bytes);
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
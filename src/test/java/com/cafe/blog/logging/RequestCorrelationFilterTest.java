@@ -0,0 +1,67 @@
+package com.cafe.blog.logging;
+
+import com.cafe.blog.config.LoggingProperties;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCorrelationFilterTest {
+
+    private final RequestCorrelationFilter filter =
+            new RequestCorrelationFilter(new LoggingProperties("X-Request-Id", 0, "X-Sql-Trace", "secret"));
+
+    @Test
+    void doFilter_shouldPutRequestIdIntoMdcAndResponse() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("X-Request-Id", "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, String> seen = new HashMap<>();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> seen.putAll(MDC.getCopyOfContextMap()));
+
+        // then
+        assertThat(seen).containsEntry(RequestCorrelationFilter.MDC_KEY, "abc-123").doesNotContainKey(SqlTrace.MDC_KEY);
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo("abc-123");
+        assertThat(MDC.get(RequestCorrelationFilter.MDC_KEY)).isNull();  // 요청이 끝나면 정리
+    }
+
+    @Test
+    void doFilter_shouldReplaceMalformedRequestId() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("X-Request-Id", "forged\nline");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+        });
+
+        // then
+        assertThat(response.getHeader("X-Request-Id")).isNotEqualTo("forged\nline").hasSize(36);
+    }
+
+    @Test
+    void doFilter_shouldEnableSqlTrace_onlyWithMatchingToken() throws Exception {
+        assertThat(sqlTraceWith("secret")).isTrue();
+        assertThat(sqlTraceWith("wrong")).isFalse();
+        assertThat(sqlTraceWith(null)).isFalse();
+    }
+
+    private boolean sqlTraceWith(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        if (token != null) {
+            request.addHeader("X-Sql-Trace", token);
+        }
+        boolean[] active = {false};
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> active[0] = SqlTrace.isActive());
+        return active[0];
+    }
+}
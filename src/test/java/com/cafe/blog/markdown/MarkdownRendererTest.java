@@ -0,0 +1,48 @@
+package com.cafe.blog.markdown;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    void render_shouldConvertMarkdown() {
+        assertThat(renderer.render("**커피** 추천\n\n- 라떼\n- 모카"))
+                .contains("<strong>커피</strong>")
+                .contains("<li>라떼</li>");
+    }
+
+    @Test
+    void render_shouldEscapeRawHtmlAndDropUnsafeUrls() {
+        String html = renderer.render("<script>alert(1)</script>\n\n[click](javascript:alert(1)) <img src=x onerror=alert(1)>");
+
+        assertThat(html)
+                .doesNotContain("<script>")
+                .doesNotContain("<img")
+                .doesNotContain("javascript:")
+                .contains("&lt;script&gt;");
+    }
+
+    @Test
+    void render_shouldMarkLinksAsNofollow() {
+        assertThat(renderer.render("[cafe](https://example.com)"))
+                .contains("href=\"https://example.com\"")
+                .contains("rel=\"nofollow noopener noreferrer\"");
+    }
+
+    @Test
+    void streamingRender_shouldMatchStringRender() {
+        String markdown = "## 제목\n\n본문 단락입니다.\n\n".repeat(1_000);
+        StringWriter out = new StringWriter();
+
+        renderer.render(new StringReader(markdown), out);
+
+        assertThat(out.toString()).isEqualTo(renderer.render(markdown));
+    }
+}
@@ -0,0 +1,156 @@
+package com.cafe.blog.migration;
+
+import jakarta.persistence.Entity;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.ClassUtils;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 DB 를 올린 결과가 빈 DB 에 모든 migration 을 적용한 결과, 그리고 엔티티 매핑과 같은지 확인합니다.
+ * (prod 는 ddl-auto: validate 이므로 빠진 테이블이나 컬럼이 있으면 기동하지 못함)
+ * MariaDB 호환 모드의 H2 에서 실제 migration 파일을 application.yml 과 같은 설정(baseline-on-migrate)으로 실행합니다.
+ */
+class FlywayMigrationTest {
+
+    private JdbcTemplate upgraded;
+    private JdbcTemplate created;
+
+    @BeforeEach
+    void setUp() {
+        upgraded = new JdbcTemplate(new DriverManagerDataSource(newDatabaseUrl(), "sa", ""));
+        created = new JdbcTemplate(new DriverManagerDataSource(newDatabaseUrl(), "sa", ""));
+    }
+
+    @AfterEach
+    void tearDown() {
+        upgraded.execute("shutdown");
+        created.execute("shutdown");
+    }
+
+    @Test
+    void migrate_shouldUpgradeLegacyDatabase_toSameSchemaAsNewDatabase() {
+        // given: 이전 버전이 만든 DB 와 빈 DB
+        LegacySchema.create(upgraded);
+        LegacySchema.insertPost(upgraded, "old title", "old body");
+
+        // when
+        flyway(upgraded).migrate();
+        flyway(created).migrate();
+
+        // then: 기존 DB 는 V1 을 baseline 으로 건너뛰고 나머지를 모두 적용
+        assertThat(upgraded.queryForObject("select version from flyway_schema_history where type = 'BASELINE'", String.class)).isEqualTo("1");
+        assertThat(columns(upgraded)).isEqualTo(columns(created));
+
+        // then: 기존 게시글은 그대로 (본문 이전, 새 컬럼은 기본값)
+        assertThat(upgraded.queryForObject("select c.content from post p join post_content c on c.id = p.content_id", String.class)).isEqualTo("old body");
+        assertThat(upgraded.queryForObject("select comment_count from post", Integer.class)).isZero();
+        assertThat(upgraded.queryForObject("select deleted from post", Boolean.class)).isFalse();
+    }
+
+    @Test
+    void migrate_shouldCreateEveryMappedTableAndColumn() {
+        // given: 이전 버전이 만든 DB
+        LegacySchema.create(upgraded);
+
+        // when
+        flyway(upgraded).migrate();
+
+        // then: 엔티티가 사용하는 모든 테이블과 컬럼, 세션 테이블이 있음
+        Map<String, Set<String>> columns = columns(upgraded);
+        mappedColumns().forEach((table, mapped) -> assertThat(columns.get(table)).as(table).isNotNull().containsAll(mapped));
+        assertThat(columns).containsKeys("spring_session", "spring_session_attributes");
+    }
+
+    private static String newDatabaseUrl() {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    private static Flyway flyway(JdbcTemplate jdbcTemplate) {
+        return Flyway.configure()
+                .dataSource(jdbcTemplate.getDataSource())
+                .locations("classpath:db/migration")
+                .javaMigrations(new V3__MovePostContent())  // 앱에서는 Spring 빈으로 등록되어 Boot 가 전달
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    /**
+     * 테이블별 컬럼 (소문자, Flyway history 테이블 제외)
+     */
+    private static Map<String, Set<String>> columns(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, Set<String>>>) connection -> {
+            Map<String, Set<String>> columns = new TreeMap<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), "%", "%")) {
+                while (rs.next()) {
+                    String table = rs.getString("TABLE_NAME").toLowerCase();
+                    if (!table.equals("flyway_schema_history")) {
+                        columns.computeIfAbsent(table, key -> new TreeSet<>()).add(rs.getString("COLUMN_NAME").toLowerCase());
+                    }
+                }
+            }
+            return columns;
+        });
+    }
+
+    /**
+     * 엔티티 매핑이 요구하는 테이블별 컬럼 (Boot 와 같은 이름 규칙, DB 연결 없이 MariaDB dialect 로 계산)
+     */
+    private static Map<String, Set<String>> mappedColumns() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, MariaDBDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+            for (BeanDefinition entity : scanner.findCandidateComponents("com.cafe.blog.entity")) {
+                sources.addAnnotatedClass(ClassUtils.resolveClassName(entity.getBeanClassName(), null));
+            }
+            Metadata metadata = sources.buildMetadata();
+
+            Map<String, Set<String>> columns = new TreeMap<>();
+            for (Namespace namespace : metadata.getDatabase().getNamespaces()) {
+                for (Table table : namespace.getTables()) {
+                    for (Column column : table.getColumns()) {
+                        columns.computeIfAbsent(table.getName().toLowerCase(), key -> new TreeSet<>()).add(column.getName().toLowerCase());
+                    }
+                }
+            }
+            return columns;
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.cafe.blog.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Flyway 도입 전 버전이 ddl-auto: update 로 만든 스키마 (회원, 게시글, post.content 에 본문)
+ * 이런 DB 는 history 테이블 없이 baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용됩니다.
+ */
+final class LegacySchema {
+
+    private static final String DDL = """
+            create table user_account (
+                user_id varchar(50) not null,
+                created_at datetime(6) not null,
+                created_by varchar(100) not null,
+                modified_at datetime(6) not null,
+                modified_by varchar(100) not null,
+                email varchar(100),
+                memo varchar(255),
+                nickname varchar(100),
+                user_password varchar(255) not null,
+                primary key (user_id)
+            ) engine=InnoDB;
+            create table post (
+                id bigint not null auto_increment,
+                created_at datetime(6) not null,
+                created_by varchar(100) not null,
+                modified_at datetime(6) not null,
+                modified_by varchar(100) not null,
+                content text not null,
+                file_name varchar(255),
+                file_path varchar(2048),
+                file_type varchar(255),
+                title varchar(500) not null,
+                user_id varchar(50) not null,
+                primary key (id)
+            ) engine=InnoDB;
+            alter table post add constraint fk_post_user_account foreign key (user_id) references user_account (user_id);
+            """;
+
+    private LegacySchema() {
+    }
+
+    /**
+     * 이전 버전의 스키마와 회원(user1) 하나를 만듭니다.
+     */
+    static void create(JdbcTemplate jdbcTemplate) {
+        for (String statement : DDL.split(";")) {
+            if (!statement.isBlank()) {
+                jdbcTemplate.execute(statement);
+            }
+        }
+        jdbcTemplate.update("insert into user_account (user_id, created_at, created_by, modified_at, modified_by, user_password) " +
+                "values ('user1', current_timestamp, 'user1', current_timestamp, 'user1', 'password')");
+    }
+
+    /**
+     * 이전 버전처럼 post.content 에 본문을 넣어 게시글을 저장합니다.
+     */
+    static void insertPost(JdbcTemplate jdbcTemplate, String title, String content) {
+        jdbcTemplate.update("insert into post (created_at, created_by, modified_at, modified_by, content, title, user_id) " +
+                "values (current_timestamp, 'user1', current_timestamp, 'user1', ?, ?, 'user1')", content, title);
+    }
+}
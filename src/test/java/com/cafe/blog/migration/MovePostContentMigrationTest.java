@@ -0,0 +1,112 @@
+package com.cafe.blog.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 post.content 에 본문이 있는 DB 를 V2(post_content 생성), V3(본문 이전) 까지 올려 봅니다.
+ * MariaDB 호환 모드의 H2 에서 실제 migration 파일을 application.yml 과 같은 설정(baseline-on-migrate)으로 실행합니다.
+ */
+class MovePostContentMigrationTest {
+
+    private static final int POSTS = 1_201;  // V3 의 묶음(500)을 여러 번 넘기도록
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void migrate_shouldMoveEveryLegacyBody_toPostContent() {
+        // given: 이전 버전의 DB 와 본문
+        LegacySchema.create(jdbcTemplate);
+        insertLegacyPosts(POSTS);
+
+        // when
+        flyway("3").migrate();
+
+        // then: 모든 게시글이 자기 본문을 가진 post_content 행 하나에 연결됨
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post where content_id is null", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(distinct content_id) from post", Integer.class)).isEqualTo(POSTS);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_content", Integer.class)).isEqualTo(POSTS);
+        List<String[]> bodies = jdbcTemplate.query("select p.content, c.content from post p join post_content c on c.id = p.content_id",
+                (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)});
+        assertThat(bodies).hasSize(POSTS).allSatisfy(body -> assertThat(body[1]).isEqualTo(body[0]));
+
+        // then: 새 버전은 post.content 에 쓰지 않으므로 NULL 허용
+        assertThat(isLegacyContentNullable()).isTrue();
+    }
+
+    @Test
+    void migrate_shouldSkipLinkedPosts_whenResumedAfterInterruption() {
+        // given: 앞의 실행에서 첫 게시글만 옮긴 상태 (V2 까지 적용)
+        LegacySchema.create(jdbcTemplate);
+        insertLegacyPosts(3);
+        flyway("2").migrate();
+        jdbcTemplate.update("insert into post_content (content) values ('already moved')");
+        Long contentId = jdbcTemplate.queryForObject("select max(id) from post_content", Long.class);
+        Long firstPostId = jdbcTemplate.queryForObject("select min(id) from post", Long.class);
+        jdbcTemplate.update("update post set content_id = ? where id = ?", contentId, firstPostId);
+
+        // when
+        flyway("3").migrate();
+
+        // then: 연결된 게시글은 건너뛰고 나머지만 옮김
+        assertThat(jdbcTemplate.queryForObject("select content_id from post where id = ?", Long.class, firstPostId)).isEqualTo(contentId);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_content", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post where content_id is null", Integer.class)).isZero();
+    }
+
+    @Test
+    void migrate_shouldCreateEmptyPostContent_onNewDatabase() {
+        // when: 빈 DB 는 V1 부터 실행
+        flyway("3").migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_content", Integer.class)).isZero();
+        assertThat(isLegacyContentNullable()).isTrue();
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(jdbcTemplate.getDataSource())
+                .locations("classpath:db/migration")
+                .javaMigrations(new V3__MovePostContent())  // 앱에서는 Spring 빈으로 등록되어 Boot 가 전달
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target(target)
+                .load();
+    }
+
+    private void insertLegacyPosts(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{"본문 " + i + "\n".repeat(i % 3), "title " + i});
+        }
+        jdbcTemplate.batchUpdate("insert into post (created_at, created_by, modified_at, modified_by, content, title, user_id) " +
+                "values (current_timestamp, 'user1', current_timestamp, 'user1', ?, ?, 'user1')", rows);
+    }
+
+    private boolean isLegacyContentNullable() {
+        return "YES".equals(jdbcTemplate.queryForObject(
+                "select is_nullable from information_schema.columns where table_name = 'post' and column_name = 'content'", String.class));
+    }
+}
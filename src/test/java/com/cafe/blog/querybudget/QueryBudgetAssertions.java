@@ -0,0 +1,75 @@
+package com.cafe.blog.querybudget;
+
+import org.assertj.core.api.AbstractAssert;
+
+import java.util.Map;
+
+/**
+ * 테스트에서 실행된 SQL 수와 반복 쿼리를 확인합니다.
+ *
+ * <pre>
+ * assertQueries(() -> postService.searchPost(SearchType.TITLE, "java", pageable))
+ *         .hasStatementsAtMost(2)
+ *         .hasNoRepeatedQueries();
+ * </pre>
+ *
+ * DataSource 가 QueryCountingDataSource 로 감싸져 있어야 합니다. (@Import(QueryCountingDataSourcePostProcessor.class))
+ */
+public final class QueryBudgetAssertions {
+
+    private QueryBudgetAssertions() {
+    }
+
+    public static QueryScopeAssert assertQueries(Runnable work) {
+        return new QueryScopeAssert(QueryCounter.capture(work));
+    }
+
+    public static class QueryScopeAssert extends AbstractAssert<QueryScopeAssert, QueryScope> {
+
+        QueryScopeAssert(QueryScope actual) {
+            super(actual, QueryScopeAssert.class);
+        }
+
+        public QueryScopeAssert hasStatements(int expected) {
+            if (actual.statements() != expected) {
+                failWithMessage("Expected %d statements but %d were executed: %s", expected, actual.statements(), actual.shapes());
+            }
+            return this;
+        }
+
+        public QueryScopeAssert hasStatementsAtMost(int max) {
+            if (actual.statements() > max) {
+                failWithMessage("Expected at most %d statements but %d were executed: %s", max, actual.statements(), actual.shapes());
+            }
+            return this;
+        }
+
+        public QueryScopeAssert hasRowsAtMost(long max) {
+            if (actual.rows() > max) {
+                failWithMessage("Expected at most %d rows but %d were read", max, actual.rows());
+            }
+            return this;
+        }
+
+        /**
+         * 값만 다른 같은 쿼리가 두 번 이상 실행되지 않았는지 확인합니다.
+         */
+        public QueryScopeAssert hasNoRepeatedQueries() {
+            Map<String, Integer> repeated = actual.repeatedShapes(2);
+            if (!repeated.isEmpty()) {
+                failWithMessage("Expected no repeated queries (N+1) but found %s", repeated);
+            }
+            return this;
+        }
+
+        /**
+         * 같은 모양의 쿼리가 times 번 이상 반복되었는지 확인합니다. (N+1 을 재현하는 테스트용)
+         */
+        public QueryScopeAssert hasRepeatedQuery(int times) {
+            if (actual.repeatedShapes(times).isEmpty()) {
+                failWithMessage("Expected a query repeated at least %d times but found %s", times, actual.shapes());
+            }
+            return this;
+        }
+    }
+}
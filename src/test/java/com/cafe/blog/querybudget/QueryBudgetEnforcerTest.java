@@ -0,0 +1,78 @@
+package com.cafe.blog.querybudget;
+
+import com.cafe.blog.config.QueryBudgetProperties;
+import com.cafe.blog.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBudgetEnforcerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shapeOf_shouldIgnoreLiteralsAndInListLength() {
+        assertThat(QueryCounter.shapeOf("select * from post where id in (?, ?, ?) and title = 'a''b'"))
+                .isEqualTo(QueryCounter.shapeOf("select *  from post\n where id in (?) and title = 'c'"));
+        assertThat(QueryCounter.shapeOf("select * from post where id = 10"))
+                .isEqualTo("select * from post where id = ?");
+    }
+
+    @Test
+    void nestedScopes_shouldBothCountStatements() {
+        QueryScope outer = QueryCounter.open("outer", Integer.MAX_VALUE, false);
+        QueryScope inner = QueryCounter.capture(() -> QueryCounter.onStatement("select 1"));
+        QueryCounter.onStatement("select 2");
+        QueryCounter.close(outer);
+
+        assertThat(inner.statements()).isEqualTo(1);
+        assertThat(outer.statements()).isEqualTo(2);
+    }
+
+    @Test
+    void close_shouldFailOnRepeatedQueries_inFailMode() {
+        QueryBudgetEnforcer enforcer = new QueryBudgetEnforcer(properties(QueryBudgetProperties.Mode.FAIL, Map.of()), meterRegistry);
+
+        QueryScope scope = enforcer.open("PostService.searchPost");
+        for (long userId = 0; userId < 5; userId++) {
+            QueryCounter.onStatement("select * from user_account where user_id = " + userId);
+        }
+
+        assertThatThrownBy(() -> enforcer.close(scope, "PostService.searchPost"))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("N+1: 5x select * from user_account where user_id = ?")
+                .hasCauseInstanceOf(Throwable.class);  // 반복이 확인된 지점의 스택
+        assertThat(meterRegistry.counter("blog.query-budget.violations", "kind", "repeated").count()).isEqualTo(1);
+    }
+
+    @Test
+    void close_shouldUseScopeBudget_andOnlyWarnInWarnMode() {
+        QueryBudgetProperties properties = properties(QueryBudgetProperties.Mode.WARN,
+                Map.of("PostService.searchPostByTags", new QueryBudgetProperties.Budget(200, 10_000, 200)));
+        QueryBudgetEnforcer enforcer = new QueryBudgetEnforcer(properties, meterRegistry);
+
+        QueryScope tags = enforcer.open("PostService.searchPostByTags");
+        for (int chunk = 0; chunk < 10; chunk++) {
+            QueryCounter.onStatement("select p.id from post p where p.id in (?, ?)");
+        }
+        enforcer.close(tags, "PostService.searchPostByTags");
+
+        QueryScope other = enforcer.open("PostService.getPost");
+        for (int i = 0; i < 31; i++) {
+            QueryCounter.onStatement("select " + i + " from post_" + i);
+        }
+        assertThatCode(() -> enforcer.close(other, "PostService.getPost")).doesNotThrowAnyException();
+
+        assertThat(meterRegistry.counter("blog.query-budget.violations", "kind", "repeated").count()).isZero();
+        assertThat(meterRegistry.counter("blog.query-budget.violations", "kind", "statements").count()).isEqualTo(1);
+    }
+
+    private static QueryBudgetProperties properties(QueryBudgetProperties.Mode mode, Map<String, QueryBudgetProperties.Budget> budgets) {
+        return new QueryBudgetProperties(true, mode, 0.0, new QueryBudgetProperties.Budget(30, 10_000, 4), budgets);
+    }
+}
@@ -0,0 +1,63 @@
+package com.cafe.blog.querybudget;
+
+import com.cafe.blog.config.QueryBudgetProperties;
+import com.cafe.blog.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBudgetFilterTest {
+
+    private final QueryBudgetFilter filter = new QueryBudgetFilter(new QueryBudgetEnforcer(
+            new QueryBudgetProperties(true, QueryBudgetProperties.Mode.FAIL, 0.0, new QueryBudgetProperties.Budget(30, 10_000, 4),
+                    Map.of("GET /posts", new QueryBudgetProperties.Budget(200, 10_000, 200))),
+            new SimpleMeterRegistry()));
+
+    @Test
+    void doFilter_shouldPropagateBudgetFailureToCaller_inFailMode() {
+        // given: 게시글마다 작성자를 따로 조회하는 요청 (N+1)
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+
+        // when & then: 예외가 삼켜지지 않고 필터를 호출한 쪽으로 전달됨
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/posts/{postId}");
+            for (long userId = 0; userId < 5; userId++) {
+                QueryCounter.onStatement("select * from user_account where user_id = " + userId);
+            }
+        }))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /posts/{postId}")
+                .hasMessageContaining("N+1: 5x select * from user_account where user_id = ?");
+    }
+
+    @Test
+    void doFilter_shouldUseBudgetOfMatchedPattern() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+
+        assertThatCode(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/posts");
+            for (int chunk = 0; chunk < 10; chunk++) {
+                QueryCounter.onStatement("select p.id from post p where p.id in (?, ?)");
+            }
+        })).doesNotThrowAnyException();
+    }
+
+    @Test
+    void doFilter_shouldNotCheckBudget_whenRequestFailed() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (long userId = 0; userId < 5; userId++) {
+                QueryCounter.onStatement("select * from user_account where user_id = " + userId);
+            }
+            throw new IllegalStateException("handler failed");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
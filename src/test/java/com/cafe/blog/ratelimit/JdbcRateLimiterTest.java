@@ -0,0 +1,105 @@
+package com.cafe.blog.ratelimit;
+
+import com.cafe.blog.config.RateLimitProperties;
+import com.cafe.blog.migration.V3__MovePostContent;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 H2 에 migration 으로 만든 rate_limit_window 테이블로 확인합니다.
+ * 여러 노드는 같은 DB 를 쓰는 여러 JdbcRateLimiter 로 흉내 냅니다.
+ */
+class JdbcRateLimiterTest {
+
+    private static final Instant WINDOW_START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final RateLimitProperties.Policy POLICY = new RateLimitProperties.Policy(null, "/posts/**", 3, Duration.ofMinutes(1));
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        Flyway.configure()
+                .dataSource(jdbcTemplate.getDataSource())
+                .locations("classpath:db/migration")
+                .javaMigrations(new V3__MovePostContent())
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void tryAcquire_shouldRejectOverCapacity_andAllowAgainInNextWindow() {
+        // given: 두 노드
+        JdbcRateLimiter nodeA = limiterAt(WINDOW_START.plusSeconds(10));
+        JdbcRateLimiter nodeB = limiterAt(WINDOW_START.plusSeconds(20));
+
+        // when & then: 한도를 두 노드가 나눠 씀
+        assertThat(nodeA.tryAcquire("ip:1", POLICY)).isEqualTo(RateLimitResult.allowed(2));  // 창을 만든 요청
+        assertThat(nodeB.tryAcquire("ip:1", POLICY).allowed()).isTrue();
+        assertThat(nodeA.tryAcquire("ip:1", POLICY).allowed()).isTrue();
+        RateLimitResult rejected = nodeB.tryAcquire("ip:1", POLICY);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(40));  // 창이 끝날 때까지
+        assertThat(nodeA.tryAcquire("ip:2", POLICY).allowed()).isTrue();  // 다른 key 는 따로 셈
+
+        // when & then: 다음 창에서는 다시 허용하고, 끝난 창은 정리됨
+        JdbcRateLimiter nextWindow = limiterAt(WINDOW_START.plus(Duration.ofSeconds(70)));
+        assertThat(nextWindow.tryAcquire("ip:1", POLICY)).isEqualTo(RateLimitResult.allowed(2));
+        nextWindow.cleanup();
+        assertThat(jdbcTemplate.queryForList("select bucket_key from rate_limit_window", String.class))
+                .containsExactly("ip:1@" + WINDOW_START.plus(Duration.ofMinutes(1)).toEpochMilli());
+    }
+
+    @Test
+    void tryAcquire_shouldNeverExceedCapacity_underContention() {
+        // given: 같은 창에 여러 노드가 동시에 요청 (창을 만드는 INSERT 도 경합)
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy(null, "/posts/**", 50, Duration.ofHours(1));
+        JdbcRateLimiter[] nodes = {limiterAt(WINDOW_START), limiterAt(WINDOW_START), limiterAt(WINDOW_START)};
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 300)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        if (nodes[i % nodes.length].tryAcquire("ip:1", policy).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(allowed.get()).isEqualTo(50);
+        assertThat(jdbcTemplate.queryForObject("select hits from rate_limit_window", Integer.class)).isEqualTo(50);
+    }
+
+    private JdbcRateLimiter limiterAt(Instant now) {
+        return new JdbcRateLimiter(jdbcTemplate, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,52 @@
+package com.cafe.blog.ratelimit;
+
+import com.cafe.blog.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitInterceptorTest {
+
+    private final long[] now = {0};
+    private final RateLimitInterceptor interceptor;
+
+    RateLimitInterceptorTest() {
+        Map<String, RateLimitProperties.Policy> policies = new LinkedHashMap<>();
+        policies.put("post-write", new RateLimitProperties.Policy("POST", "/posts", 2, Duration.ofMinutes(1)));
+        interceptor = new RateLimitInterceptor(new LocalRateLimiter(() -> now[0]), policies, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void preHandle_shouldRejectWith429_whenClientExceedsPolicy() {
+        // when & then
+        assertThat(handle("POST", "/posts", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(handle("POST", "/posts", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = handle("POST", "/posts", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+
+        // 다른 클라이언트, 정책이 없는 요청은 영향 없음
+        assertThat(handle("POST", "/posts", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(handle("GET", "/posts", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        // 충전 후 다시 허용
+        now[0] += Duration.ofSeconds(30).toNanos();
+        assertThat(handle("POST", "/posts", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse handle(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        return response;
+    }
+}
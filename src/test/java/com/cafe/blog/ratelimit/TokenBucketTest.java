@@ -0,0 +1,50 @@
+package com.cafe.blog.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void tryConsume_shouldRejectWhenEmpty_andRefillOverTime() {
+        // given: 1초에 2개
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+
+        // when & then
+        assertThat(bucket.tryConsume(0).allowed()).isTrue();
+        assertThat(bucket.tryConsume(0).allowed()).isTrue();
+        RateLimitResult rejected = bucket.tryConsume(0);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofMillis(500));
+
+        assertThat(bucket.tryConsume(SECOND / 2).allowed()).isTrue();  // 0.5초 뒤 한 개 충전
+        assertThat(bucket.isFull(10 * SECOND)).isTrue();
+    }
+
+    @Test
+    void tryConsume_shouldNeverExceedCapacity_underContention() {
+        // given
+        TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1).toNanos(), 0);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when: 충전 없이 1000건 동시 요청
+        CompletableFuture.allOf(IntStream.range(0, 1000)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    if (bucket.tryConsume(0).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
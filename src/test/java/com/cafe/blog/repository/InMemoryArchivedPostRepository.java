@@ -0,0 +1,37 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.ArchivedPost;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 보관 게시글 저장소 (키: 원본 게시글 ID)
+ */
+public class InMemoryArchivedPostRepository extends InMemoryJpaRepository<ArchivedPost, Long> implements ArchivedPostRepository {
+
+    public InMemoryArchivedPostRepository() {
+        super(ArchivedPost::getId);
+    }
+
+    @Override
+    public List<Long> findIdsByUserIdAfter(String userId, Long lastId, Pageable pageable) {
+        return entities.entrySet().stream()
+                .filter(entry -> entry.getKey() > lastId && entry.getValue().getUserAccount().getUserId().equals(userId))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public int adjustCommentCount(Long postId, int delta) {
+        throw unsupported();
+    }
+
+    @Override
+    public int deleteArchived(Long postId) {
+        return entities.remove(postId) == null ? 0 : 1;
+    }
+}
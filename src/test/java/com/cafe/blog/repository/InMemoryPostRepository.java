@@ -0,0 +1,193 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 테스트용 게시글 저장소 (키: 게시글 ID)
+ *
+ * 단건 조회, 소프트 삭제, 태그 스트리밍만 지원하며 호출한 메소드 이름을 순서대로 기록합니다. (calls)
+ * 소프트 삭제된 게시글은 @SQLRestriction 처럼 이후 조회에서 제외합니다.
+ */
+public class InMemoryPostRepository extends InMemoryJpaRepository<Post, Long> implements PostRepository {
+
+    private final List<String> calls = new ArrayList<>();
+
+    public InMemoryPostRepository() {
+        super(Post::getId);
+    }
+
+    /**
+     * 호출한 메소드 이름 (호출 순서대로)
+     */
+    public List<String> calls() {
+        return calls;
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        calls.add("findById");
+        return super.findById(id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        calls.add("deleteById");
+        super.deleteById(id);
+    }
+
+    @Override
+    public Optional<Post> findWithContentById(Long postId) {
+        calls.add("findWithContentById");
+        return Optional.ofNullable(entities.get(postId));
+    }
+
+    @Override
+    public Optional<Post> findByIdForUpdate(Long postId) {
+        calls.add("findByIdForUpdate");
+        return Optional.ofNullable(entities.get(postId));
+    }
+
+    @Override
+    public int softDelete(Long postId, LocalDateTime deletedAt) {
+        calls.add("softDelete");
+        return entities.remove(postId) == null ? 0 : 1;
+    }
+
+    @Override
+    public List<Post> findAllWithUserByIdIn(Collection<Long> ids) {
+        calls.add("findAllWithUserByIdIn");
+        return ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Stream<PostTagView> streamAllTags() {
+        calls.add("streamAllTags");
+        return entities.entrySet().stream()
+                .flatMap(entry -> entry.getValue().getTags().stream().map(tag -> tagView(entry, tag)));
+    }
+
+    private static PostTagView tagView(Map.Entry<Long, Post> entry, String tag) {
+        return new PostTagView() {
+            @Override
+            public Long getPostId() {
+                return entry.getKey();
+            }
+
+            @Override
+            public String getTag() {
+                return tag;
+            }
+        };
+    }
+
+    @Override
+    public Page<Post> findByTitleContainingIgnoreCase(String title, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<Post> findByPostContent_ContentContainingIgnoreCase(String content, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<Post> findByUserAccount_UserId(String userId, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Post> findAllAfter(Long lastId, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Post> findByTitleAfter(String title, Long lastId, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Post> findByContentAfter(String content, Long lastId, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Post> findByUserIdAfter(String userId, Long lastId, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Long> filterIdsByTitle(Collection<Long> ids, String title) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Long> filterIdsByContent(Collection<Long> ids, String content) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Long> filterIdsByUserId(Collection<Long> ids, String userId) {
+        throw unsupported();
+    }
+
+    @Override
+    public Stream<PostTitleView> streamAllTitles() {
+        throw unsupported();
+    }
+
+    @Override
+    public Stream<PostTextView> streamRecentTexts(Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public int adjustCommentCount(Long postId, int delta) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Long> lockArchiveTargetIds(LocalDateTime before, int limit) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<Post> findArchiveTargets(Collection<Long> ids) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<PurgeTarget> findPurgeTargets(LocalDateTime before, int limit) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<PurgeTarget> findRemovalTargets(String userId, Long lastId, int limit) {
+        throw unsupported();
+    }
+
+    @Override
+    public int deleteTagsByPostIdIn(Collection<Long> postIds) {
+        throw unsupported();
+    }
+
+    @Override
+    public int deleteAllByIdInIncludingDeleted(Collection<Long> postIds) {
+        throw unsupported();
+    }
+
+    @Override
+    public int deleteContentsByIdIn(Collection<Long> contentIds) {
+        throw unsupported();
+    }
+}
@@ -0,0 +1,13 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.UserAccount;
+
+/**
+ * 테스트용 회원 저장소 (키: userId)
+ */
+public class InMemoryUserAccountRepository extends InMemoryJpaRepository<UserAccount, String> implements UserAccountRepository {
+
+    public InMemoryUserAccountRepository() {
+        super(UserAccount::getUserId);
+    }
+}
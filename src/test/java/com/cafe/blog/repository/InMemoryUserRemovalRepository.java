@@ -0,0 +1,37 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.UserRemoval;
+import com.cafe.blog.entity.constant.RemovalStep;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 테스트용 회원 삭제 진행 상태 저장소 (키: userId, 잠금 없음)
+ */
+public class InMemoryUserRemovalRepository extends InMemoryJpaRepository<UserRemoval, String> implements UserRemovalRepository {
+
+    public InMemoryUserRemovalRepository() {
+        super(UserRemoval::getUserId);
+    }
+
+    @Override
+    public Optional<UserRemoval> findByIdForUpdate(String userId) {
+        return findById(userId);
+    }
+
+    @Override
+    public List<String> findUserIdsByStepNot(RemovalStep step) {
+        return entities.values().stream()
+                .filter(removal -> removal.getStep() != step)
+                .sorted(Comparator.comparing(UserRemoval::getRequestedAt))
+                .map(UserRemoval::getUserId)
+                .toList();
+    }
+
+    @Override
+    public boolean existsByUserIdAndStepNot(String userId, RemovalStep step) {
+        return findById(userId).filter(removal -> removal.getStep() != step).isPresent();
+    }
+}
@@ -0,0 +1,111 @@
+package com.cafe.blog.repository;
+
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UserAccount;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PostRepository 주요 작업의 JDBC 비용 비교 (./gradlew benchmark)
+ *
+ * 같은 작업을 기본 설정(Default)과 prod 프로필의 batch 설정(Batched)으로 실행하여
+ * 소요 시간과 Hibernate 가 준비(prepare)한 statement 수를 출력합니다.
+ * 기본은 H2 이며, 실제 DB 로 비교하려면 -Dspring.datasource.url=jdbc:mariadb://...?useServerPrepStmts=true... 처럼 지정합니다.
+ */
+@Tag("benchmark")
+class PostRepositoryBenchmarkTest {
+
+    private static final int POSTS = 2_000;
+
+    @TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+    static class Default extends Workload {
+    }
+
+    @TestPropertySource(properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+            "spring.jpa.properties.hibernate.order_inserts=true",
+            "spring.jpa.properties.hibernate.order_updates=true",
+            "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true"
+    })
+    static class Batched extends Workload {
+    }
+
+    @DataJpaTest
+    @Import(PostRepositoryTests.TestJpaConfig.class)
+    @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+    @ActiveProfiles("test")
+    abstract static class Workload {
+
+        @Autowired
+        PostRepository postRepository;
+
+        @Autowired
+        UserAccountRepository userAccountRepository;
+
+        @Autowired
+        TestEntityManager entityManager;
+
+        @Autowired
+        EntityManagerFactory entityManagerFactory;
+
+        @Test
+        void run() {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            UserAccount userAccount = userAccountRepository.save(UserAccount.of("bench", "password", "bench@example.com", "bench", null));
+            String name = getClass().getSimpleName();
+
+            List<Post> posts = new ArrayList<>(POSTS);
+            measure(name, "insert", statistics, () -> {
+                for (int i = 0; i < POSTS; i++) {
+                    Post post = Post.of(userAccount, "title " + i, "content " + i);
+                    post.setTags(Set.of("java", "tag" + (i % 10)));
+                    posts.add(post);
+                }
+                postRepository.saveAll(posts);
+            });
+
+            measure(name, "update", statistics, () -> posts.forEach(post -> post.setTitle(post.getTitle() + " (edited)")));
+
+            measure(name, "search", statistics, () -> {
+                for (int page = 0; page < 20; page++) {
+                    postRepository.findByTitleContainingIgnoreCase("edited", PageRequest.of(page, 20));
+                }
+            });
+
+            measure(name, "fetchByIds", statistics, () -> {
+                for (int i = 0; i < 100; i++) {
+                    List<Long> ids = posts.subList(i * 10, i * 10 + 3 + i % 7).stream().map(Post::getId).toList();
+                    postRepository.findAllWithUserByIdIn(ids);
+                }
+            });
+
+            measure(name, "delete", statistics, () -> postRepository.deleteAll(posts));
+        }
+
+        private void measure(String name, String operation, Statistics statistics, Runnable work) {
+            statistics.clear();
+            long start = System.nanoTime();
+            work.run();
+            entityManager.flush();
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%-8s %-10s %8.1f ms  statements=%d%n",
+                    name, operation, elapsed / 1e6, statistics.getPrepareStatementCount());
+        }
+    }
+}
@@ -2,25 +2,33 @@ package com.cafe.blog.repository;
 
 import com.cafe.blog.entity.Post;
 import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.querybudget.QueryCountingDataSourcePostProcessor;
+import jakarta.persistence.LockModeType;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import static com.cafe.blog.querybudget.QueryBudgetAssertions.assertQueries;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({PostRepositoryTests.TestJpaConfig.class})
+@Import({PostRepositoryTests.TestJpaConfig.class, QueryCountingDataSourcePostProcessor.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")  // Use the 'test' profile to avoid conflicts with dev/prod environments
 class PostRepositoryTests {
@@ -38,9 +46,13 @@ class PostRepositoryTests {
 
     private final UserAccountRepository userAccountRepository;
 
-    PostRepositoryTests(@Autowired PostRepository postRepository, @Autowired UserAccountRepository userAccountRepository) {
+    private final TestEntityManager entityManager;
+
+    PostRepositoryTests(@Autowired PostRepository postRepository, @Autowired UserAccountRepository userAccountRepository,
+                        @Autowired TestEntityManager entityManager) {
         this.postRepository = postRepository;
         this.userAccountRepository = userAccountRepository;
+        this.entityManager = entityManager;
     }
 
     private UserAccount userAccount;
@@ -84,6 +96,22 @@ class PostRepositoryTests {
         assertThat(foundPost.get().getTitle()).isEqualTo("Test Title");
     }
 
+    @Test
+    @DisplayName("Lock Post For Update Test")
+    void givenPost_whenFindByIdForUpdate_thenGetLockedPost() {
+        // given
+        Long postId = postRepository.save(Post.of(userAccount, "Test Title", "Test Content")).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<Post> lockedPost = postRepository.findByIdForUpdate(postId);
+
+        // then: 행 잠금(select ... for update)으로 읽은 게시글
+        assertThat(lockedPost).isPresent();
+        assertThat(entityManager.getEntityManager().getLockMode(lockedPost.get())).isEqualTo(LockModeType.PESSIMISTIC_WRITE);
+    }
+
     @Test
     @DisplayName("Update Post Test")
     void givenPost_whenUpdate_thenGetUpdatedOk() {
@@ -114,4 +142,61 @@ class PostRepositoryTests {
         // then
         assertThat(deletedPost).isNotPresent();
     }
+
+    @Test
+    @DisplayName("Post Content Lazy Loading Test")
+    void givenPost_whenFindById_thenContentIsNotLoaded() {
+        // given
+        Long postId = postRepository.save(Post.of(userAccount, "Test Title", "Test Content")).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Post listed = postRepository.findById(postId).orElseThrow();
+        entityManager.clear();
+        Post detailed = postRepository.findWithContentById(postId).orElseThrow();
+
+        // then
+        assertThat(Hibernate.isInitialized(listed.getPostContent())).isFalse();
+        assertThat(Hibernate.isInitialized(detailed.getPostContent())).isTrue();
+        assertThat(detailed.getContent()).isEqualTo("Test Content");
+    }
+
+    @Test
+    @DisplayName("Search Post By Content Test")
+    void givenPost_whenSearchByContent_thenJoinsContentTable() {
+        // given
+        postRepository.save(Post.of(userAccount, "Coffee", "Ethiopia beans"));
+        postRepository.save(Post.of(userAccount, "Tea", "Green leaves"));
+
+        // when & then
+        assertThat(postRepository.findByPostContent_ContentContainingIgnoreCase("BEANS", PageRequest.of(0, 10)))
+                .extracting(Post::getTitle)
+                .containsExactly("Coffee");
+    }
+
+    @Test
+    @DisplayName("Eager Author Loading N+1 Test")
+    void givenPostsOfManyUsers_whenSearch_thenAuthorsAreLoadedOneByOne_unlessFetchJoined() {
+        // given
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UserAccount author = userAccountRepository.save(UserAccount.of("author" + i, "password", "author" + i + "@example.com", "nickname", "memo"));
+            postIds.add(postRepository.save(Post.of(author, "Title " + i, "Content")).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then: 작성자(EAGER)를 게시글마다 따로 조회
+        assertQueries(() -> postRepository.findByTitleContainingIgnoreCase("Title", PageRequest.of(0, 10)))
+                .hasRepeatedQuery(5);
+
+        entityManager.clear();
+
+        // when & then: fetch join 은 한 번에 조회
+        assertQueries(() -> postRepository.findAllWithUserByIdIn(postIds))
+                .hasStatements(1)
+                .hasRowsAtMost(5)
+                .hasNoRepeatedQueries();
+    }
 }
@@ -0,0 +1,111 @@
+package com.cafe.blog.revision;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LineDiffTest {
+
+    @Test
+    void diff_shouldFindMinimalEdits_andDeltaShouldRestoreNewText() {
+        // given: 무작위 본문과 몇 줄을 고친 본문
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            List<String> a = randomLines(random);
+            List<String> b = mutate(random, a);
+
+            // when
+            List<LineDiff.Edit> edits = LineDiff.diff(a, b, 1000);
+            String delta = RevisionDelta.encode(edits, b);
+
+            // then: 변경분을 적용하면 새 본문이 되고, 편집 수는 LCS 로 계산한 최소값과 같다.
+            assertThat(RevisionDelta.apply(a, delta)).isEqualTo(b);
+            int changed = edits.stream().filter(edit -> edit.type() != LineDiff.Type.EQUAL).mapToInt(LineDiff.Edit::length).sum();
+            assertThat(changed).isEqualTo(a.size() + b.size() - 2 * lcs(a, b));
+        }
+    }
+
+    @Test
+    void diff_shouldReplaceWholeRange_whenEditDistanceExceedsLimit() {
+        List<String> a = List.of("a", "b", "c", "d");
+        List<String> b = List.of("a", "x", "y", "d");
+
+        List<LineDiff.Edit> edits = LineDiff.diff(a, b, 1);
+
+        assertThat(edits).extracting(LineDiff.Edit::type)
+                .containsExactly(LineDiff.Type.EQUAL, LineDiff.Type.DELETE, LineDiff.Type.INSERT, LineDiff.Type.EQUAL);
+        assertThat(RevisionDelta.apply(a, RevisionDelta.encode(edits, b))).isEqualTo(b);
+    }
+
+    @Test
+    void lines_shouldKeepTrailingNewline() {
+        assertThat(LineDiff.join(LineDiff.lines("a\n\nb\n"))).isEqualTo("a\n\nb\n");
+        assertThat(LineDiff.lines("")).isEmpty();
+    }
+
+    @Test
+    void hunks_shouldIncludeContextAndMergeNearbyChanges() {
+        List<String> a = List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+        List<String> b = List.of("1", "2", "three", "4", "5", "6", "7", "8", "9", "10", "11");
+
+        List<LineDiff.Hunk> hunks = LineDiff.hunks(LineDiff.diff(a, b, 100), a, b, 1);
+
+        assertThat(hunks).containsExactly(
+                new LineDiff.Hunk(2, 3, 2, 3, List.of(" 2", "-3", "+three", " 4")),
+                new LineDiff.Hunk(10, 1, 10, 2, List.of(" 10", "+11")));
+    }
+
+    @Test
+    void apply_shouldRejectDeltaOfAnotherRevision() {
+        String delta = RevisionDelta.encode(LineDiff.diff(List.of("a", "b"), List.of("a", "c"), 100), List.of("a", "c"));
+
+        assertThatThrownBy(() -> RevisionDelta.apply(List.of("a"), delta)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<String> randomLines(Random random) {
+        List<String> lines = new ArrayList<>();
+        int size = random.nextInt(15);
+        for (int i = 0; i < size; i++) {
+            lines.add(String.valueOf((char) ('a' + random.nextInt(4))));
+        }
+        return lines;
+    }
+
+    private static List<String> mutate(Random random, List<String> lines) {
+        List<String> mutated = new ArrayList<>(lines);
+        int edits = random.nextInt(5);
+        for (int i = 0; i < edits; i++) {
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.add(random.nextInt(mutated.size() + 1), String.valueOf((char) ('a' + random.nextInt(5))));
+                case 1 -> {
+                    if (!mutated.isEmpty()) {
+                        mutated.remove(random.nextInt(mutated.size()));
+                    }
+                }
+                default -> {
+                    if (!mutated.isEmpty()) {
+                        mutated.set(random.nextInt(mutated.size()), "");
+                    }
+                }
+            }
+        }
+        return mutated;
+    }
+
+    private static int lcs(List<String> a, List<String> b) {
+        int[][] lengths = new int[a.size() + 1][b.size() + 1];
+        for (int i = 1; i <= a.size(); i++) {
+            for (int j = 1; j <= b.size(); j++) {
+                lengths[i][j] = a.get(i - 1).equals(b.get(j - 1))
+                        ? lengths[i - 1][j - 1] + 1
+                        : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+            }
+        }
+        return lengths[a.size()][b.size()];
+    }
+}
@@ -0,0 +1,61 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.AttachmentDeletionRepository;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.InOrder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class ArchivedPostServiceTest {
+
+    private final ArchivedPostRepository archivedPostRepository = mock(ArchivedPostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final PostRevisionRepository postRevisionRepository = mock(PostRevisionRepository.class);
+    private final AttachmentDeletionRepository attachmentDeletionRepository = mock(AttachmentDeletionRepository.class);
+    private final ArchivedPostService archivedPostService = new ArchivedPostService(
+            archivedPostRepository, commentRepository, postRevisionRepository, attachmentDeletionRepository);
+
+    @Test
+    void delete_shouldRemoveArchiveRow_thenCommentsAndRevisions() {
+        // given
+        given(archivedPostRepository.deleteArchived(7L)).willReturn(1);
+
+        // when
+        boolean deleted = archivedPostService.delete(7L);
+
+        // then: 첨부파일은 보관 행에서 읽어 삭제 대기열에 넣고, 보관 행을 먼저 지워 동시 댓글 작성과 순서를 정함
+        assertThat(deleted).isTrue();
+        InOrder order = inOrder(attachmentDeletionRepository, archivedPostRepository, commentRepository, postRevisionRepository);
+        order.verify(attachmentDeletionRepository).enqueueByArchivedPostIdIn(eq(List.of(7L)), any(LocalDateTime.class));
+        order.verify(archivedPostRepository).deleteArchived(7L);
+        order.verify(commentRepository).deleteByPostId(7L);
+        order.verify(postRevisionRepository).deleteByPostIdIn(List.of(7L));
+    }
+
+    @Test
+    void delete_shouldReturnFalse_whenNotArchived() {
+        // when
+        boolean deleted = archivedPostService.delete(7L);
+
+        // then
+        assertThat(deleted).isFalse();
+        verify(commentRepository, never()).deleteByPostId(anyLong());
+        verify(postRevisionRepository, never()).deleteByPostIdIn(any());
+    }
+}
@@ -0,0 +1,176 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.config.UploadProperties;
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UploadSessionDto;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UploadSession;
+import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.entity.constant.UploadStatus;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.UploadSessionRepository;
+import com.cafe.blog.storage.AttachmentStorage;
+import com.cafe.blog.storage.UploadAdmission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class ChunkedUploadServiceTest {
+
+    @TempDir
+    Path stagingDir;
+
+    private final UploadSessionRepository uploadSessionRepository = mock(UploadSessionRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final AttachmentStorage attachmentStorage = mock(AttachmentStorage.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final Map<String, UploadSession> sessions = new HashMap<>();
+    private String currentUser = "user1";
+
+    private UploadAdmission uploadAdmission;
+    private ChunkedUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        UploadProperties.Admission admission = new UploadProperties.Admission(2, 2, Duration.ofSeconds(1), DataSize.ofBytes(0), Duration.ofSeconds(1));
+        UploadProperties properties = new UploadProperties(stagingDir.toString(), DataSize.ofMegabytes(1),
+                DataSize.ofBytes(4), DataSize.ofBytes(8), Duration.ofHours(1), Duration.ofHours(1), admission);
+        uploadAdmission = new UploadAdmission(admission, new SimpleMeterRegistry());
+        service = new ChunkedUploadService(uploadSessionRepository, postRepository, attachmentStorage,
+                uploadAdmission, eventPublisher, mock(InvalidationBus.class), properties,
+                () -> Optional.ofNullable(currentUser), mock(PlatformTransactionManager.class));
+
+        given(uploadSessionRepository.save(any(UploadSession.class))).willAnswer(invocation -> {
+            UploadSession session = invocation.getArgument(0);
+            ReflectionTestUtils.setField(session, "createdBy", currentUser);  // JPA auditing
+            sessions.put(session.getId(), session);
+            return session;
+        });
+        given(uploadSessionRepository.findById(anyString())).willAnswer(invocation -> Optional.ofNullable(sessions.get(invocation.<String>getArgument(0))));
+        given(uploadSessionRepository.findByIdForUpdate(anyString())).willAnswer(invocation -> Optional.ofNullable(sessions.get(invocation.<String>getArgument(0))));
+    }
+
+    @Test
+    void chunksWrittenOutOfOrder_shouldBeAssembledOnComplete() throws Exception {
+        // given
+        byte[] content = "hello chunked upload".getBytes(StandardCharsets.UTF_8);  // 20 bytes
+        UploadSessionDto session = service.init(UploadSessionDto.of("big.txt", "text/plain", content.length));
+
+        Post post = Post.of(UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo"), "Title", "Content");
+        ReflectionTestUtils.setField(post, "createdBy", "user1");
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        byte[][] stored = new byte[1][];
+        willAnswer(invocation -> {
+            stored[0] = invocation.<InputStream>getArgument(1).readAllBytes();
+            return null;
+        }).given(attachmentStorage).put(anyString(), any(InputStream.class), eq((long) content.length), eq("text/plain"));
+
+        // when: 뒤쪽 chunk 부터 전송
+        writeChunk(session.uploadId(), content, 16, 4);
+        writeChunk(session.uploadId(), content, 8, 8);
+        writeChunk(session.uploadId(), content, 0, 8);
+        PostDto result = service.complete(session.uploadId(), 1L);
+
+        // then
+        assertThat(stored[0]).isEqualTo(content);
+        assertThat(result.fileName()).isEqualTo("big.txt");
+        assertThat(result.filePath()).isEqualTo(session.uploadId() + "/big.txt");
+        assertThat(sessions.get(session.uploadId()).getStatus()).isEqualTo(UploadStatus.COMPLETED);
+        assertThat(stagingDir.resolve(session.uploadId() + ".part")).doesNotExist();
+        verify(eventPublisher).publishEvent(any(PostUpdated.class));
+    }
+
+    @Test
+    void complete_shouldFail_whenRangesAreMissing() throws Exception {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        UploadSessionDto session = service.init(UploadSessionDto.of("file.txt", "text/plain", content.length));
+        writeChunk(session.uploadId(), content, 0, 4);
+
+        // when & then
+        UploadSessionDto status = service.getStatus(session.uploadId());
+        assertThat(status.receivedBytes()).isEqualTo(4);
+        assertThat(status.missing()).hasSize(1);
+        assertThrows(IllegalStateException.class, () -> service.complete(session.uploadId(), 1L));
+        verify(attachmentStorage, never()).put(anyString(), any(InputStream.class), any(Long.class), anyString());
+    }
+
+    @Test
+    void otherUser_shouldNotAccessSession() throws Exception {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        UploadSessionDto session = service.init(UploadSessionDto.of("file.txt", "text/plain", content.length));
+
+        // when & then
+        currentUser = "user2";
+        assertThrows(AccessDeniedException.class, () -> service.writeChunk(session.uploadId(), 0, 4, new ByteArrayInputStream(content, 0, 4)));
+        assertThrows(AccessDeniedException.class, () -> service.getStatus(session.uploadId()));
+        assertThrows(AccessDeniedException.class, () -> service.abort(session.uploadId()));
+        assertThrows(AccessDeniedException.class, () -> service.complete(session.uploadId(), 1L));
+
+        currentUser = "user1";
+        assertThat(service.getStatus(session.uploadId()).receivedBytes()).isZero();
+        assertThat(stagingDir.resolve(session.uploadId() + ".part")).hasSize(content.length);
+    }
+
+    @Test
+    void writeChunk_shouldNotHoldWriterSlot_whileReadingFromClient() throws Exception {
+        // given: 읽을 때마다 쓰기 슬롯 2 개를 모두 얻어 보는 클라이언트 (슬롯을 잡고 읽으면 1 초 후 거절)
+        byte[] content = "01234567".getBytes(StandardCharsets.UTF_8);
+        UploadSessionDto session = service.init(UploadSessionDto.of("file.txt", "text/plain", content.length));
+        InputStream slowClient = new ByteArrayInputStream(content) {
+            @Override
+            public synchronized int read(byte[] buffer, int off, int len) {
+                try (UploadAdmission.Permit first = uploadAdmission.acquire();
+                     UploadAdmission.Permit second = uploadAdmission.acquire()) {
+                    return super.read(buffer, off, Math.min(len, 3));
+                }
+            }
+        };
+
+        // when
+        UploadSessionDto status = service.writeChunk(session.uploadId(), 0, content.length, slowClient);
+
+        // then
+        assertThat(status.receivedBytes()).isEqualTo(content.length);
+        assertThat(stagingDir.resolve(session.uploadId() + ".part")).hasBinaryContent(content);
+    }
+
+    private void writeChunk(String uploadId, byte[] content, int offset, int length) {
+        try {
+            service.writeChunk(uploadId, offset, length, new ByteArrayInputStream(content, offset, length));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
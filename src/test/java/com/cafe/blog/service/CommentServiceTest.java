@@ -0,0 +1,209 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.dto.CommentDto;
+import com.cafe.blog.dto.CommentPageDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.dto.security.BlogPrincipal;
+import com.cafe.blog.entity.Comment;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @InjectMocks
+    private CommentService commentService;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private ArchivedPostService archivedPostService;
+
+    private final UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+    private final Post post = Post.of(userAccount, "Test Title", "Test Content");
+
+    @Test
+    void getComments_shouldReturnNextCursor_whenMoreCommentsExist() {
+        // given: size 2 요청에 3건이 조회되면 다음 페이지가 있다.
+        given(commentRepository.findPageByPostId(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(comment(30L), comment(20L), comment(10L)));
+
+        // when
+        CommentPageDto result = commentService.getComments(1L, null, 2);
+
+        // then
+        assertThat(result.comments()).extracting(CommentDto::id).containsExactly(30L, 20L);
+        assertThat(result.nextCursor()).isEqualTo(20L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void getComments_shouldReturnNoCursor_onLastPage() {
+        // given
+        given(commentRepository.findPageByPostId(eq(1L), eq(20L), any(Pageable.class)))
+                .willReturn(List.of(comment(10L)));
+
+        // when
+        CommentPageDto result = commentService.getComments(1L, 20L, 2);
+
+        // then
+        assertThat(result.comments()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void getCommentCounts_shouldFillZero_forPostsWithoutComments() {
+        // given
+        given(commentRepository.countByPostIds(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(new Count(1L, 5L), new Count(3L, 1L)));
+
+        // when
+        Map<Long, Long> counts = commentService.getCommentCounts(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L, 2L, 0L, 3L, 1L));
+    }
+
+    @Test
+    void createComment_shouldIncrementCount_andSaveComment() {
+        // given
+        CommentDto commentDto = CommentDto.of(1L, UserAccountDto.from(userAccount), "comment");
+        given(postRepository.adjustCommentCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userAccountRepository.getReferenceById("user1")).willReturn(userAccount);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CommentDto result = commentService.createComment(1L, commentDto, BlogPrincipal.from(UserAccountDto.from(userAccount)));
+
+        // then
+        assertThat(result.content()).isEqualTo("comment");
+        verify(commentRepository).save(any(Comment.class));
+    }
+
+    @Test
+    void createComment_shouldUseLoggedInUser_notUserInRequest() {
+        // given: 요청 본문에 다른 사용자를 넣거나 사용자 정보를 빼고 보낸 경우
+        UserAccount other = UserAccount.of("user2", "password", "user2@example.com", "other", null);
+        given(postRepository.adjustCommentCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userAccountRepository.getReferenceById("user2")).willReturn(other);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CommentDto spoofed = commentService.createComment(1L, CommentDto.of(1L, UserAccountDto.from(userAccount), "spoofed"),
+                BlogPrincipal.from(UserAccountDto.from(other)));
+        CommentDto anonymous = commentService.createComment(1L, CommentDto.of(1L, null, "no user"),
+                BlogPrincipal.from(UserAccountDto.from(other)));
+
+        // then
+        assertThat(spoofed.userAccountDto().userId()).isEqualTo("user2");
+        assertThat(anonymous.userAccountDto().userId()).isEqualTo("user2");
+        verify(userAccountRepository, never()).getReferenceById("user1");
+    }
+
+    @Test
+    void createComment_shouldCountOnArchive_whenPostWasArchived() {
+        // given: 보관된 게시글은 post 에 없음
+        given(postRepository.adjustCommentCount(1L, 1)).willReturn(0);
+        given(archivedPostService.adjustCommentCount(1L, 1)).willReturn(true);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userAccountRepository.getReferenceById("user1")).willReturn(userAccount);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CommentDto result = commentService.createComment(1L, CommentDto.of(1L, null, "comment"), BlogPrincipal.from(UserAccountDto.from(userAccount)));
+
+        // then
+        assertThat(result.content()).isEqualTo("comment");
+        verify(commentRepository).save(any(Comment.class));
+    }
+
+    @Test
+    void createComment_shouldThrowException_whenPostDoesNotExist() {
+        // given
+        CommentDto commentDto = CommentDto.of(1L, UserAccountDto.from(userAccount), "comment");
+        given(postRepository.adjustCommentCount(1L, 1)).willReturn(0);
+
+        // when & then
+        assertThrows(PostNotFoundException.class, () -> commentService.createComment(1L, commentDto, BlogPrincipal.from(UserAccountDto.from(userAccount))));
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    void deleteComment_shouldDecrementCount() {
+        // given
+        ReflectionTestUtils.setField(post, "id", 1L);
+        Comment comment = comment(10L);
+        given(commentRepository.findById(10L)).willReturn(Optional.of(comment));
+
+        // when
+        commentService.deleteComment(1L, 10L, BlogPrincipal.from(UserAccountDto.from(userAccount)));
+
+        // then
+        verify(commentRepository).delete(comment);
+        verify(postRepository).adjustCommentCount(1L, -1);
+    }
+
+    @Test
+    void deleteComment_shouldBeRefused_forNonAuthor() {
+        // given
+        ReflectionTestUtils.setField(post, "id", 1L);
+        given(commentRepository.findById(10L)).willReturn(Optional.of(comment(10L)));
+        BlogPrincipal other = BlogPrincipal.of("user2", "password", "user2@example.com", "other", null);
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> commentService.deleteComment(1L, 10L, other));
+        verify(commentRepository, never()).delete(any(Comment.class));
+        verify(postRepository, never()).adjustCommentCount(anyLong(), anyInt());
+    }
+
+    private Comment comment(Long id) {
+        Comment comment = Comment.of(post, userAccount, "comment " + id);
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "createdBy", userAccount.getUserId());  // JPA auditing
+        return comment;
+    }
+
+    private record Count(Long getPostId, Long getCommentCount) implements CommentRepository.PostCommentCount {
+    }
+}
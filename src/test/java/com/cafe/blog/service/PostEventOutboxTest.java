@@ -0,0 +1,202 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.EventProperties;
+import com.cafe.blog.entity.DomainEvent;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostEvent;
+import com.cafe.blog.event.PostEventHandler;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.DomainEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class PostEventOutboxTest {
+
+    private final DomainEventRepository domainEventRepository = mock(DomainEventRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<PostEvent> handled = new CopyOnWriteArrayList<>();
+    private final PostEventHandler received = mock(PostEventHandler.class);  // 비동기 전달 대기용
+    private final AtomicBoolean failNextUpdate = new AtomicBoolean();
+
+    // domain_event 테이블 흉내 (커밋된 행만 보임)
+    private final NavigableMap<Long, DomainEvent> committed = new ConcurrentSkipListMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private PostEventOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        EventProperties properties = new EventProperties(2, 100, Duration.ofSeconds(1), 100, Duration.ofMinutes(5),
+                Duration.ZERO, 5, Duration.ofMinutes(10), Duration.ofDays(7));
+        PostEventHandler handler = event -> {
+            if (event instanceof PostUpdated && failNextUpdate.getAndSet(false)) {
+                throw new IllegalStateException("handler failed");
+            }
+            handled.add(event);
+            received.onPostEvent(event);
+        };
+        outbox = new PostEventOutbox(domainEventRepository, List.of(handler), objectMapper, properties);
+
+        given(domainEventRepository.save(any(DomainEvent.class))).willAnswer(invocation -> {
+            DomainEvent event = invocation.getArgument(0);
+            ReflectionTestUtils.setField(event, "id", ids.incrementAndGet());
+            committed.put(event.getId(), event);
+            return event;
+        });
+        given(domainEventRepository.findAfter(anyLong(), any(Pageable.class))).willAnswer(invocation ->
+                committed.tailMap(invocation.<Long>getArgument(0), false).values().stream()
+                        .limit(invocation.<Pageable>getArgument(1).getPageSize())
+                        .toList());
+        given(domainEventRepository.findAllById(any())).willAnswer(invocation -> {
+            List<DomainEvent> found = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(id -> {
+                if (committed.containsKey(id)) {
+                    found.add(committed.get(id));
+                }
+            });
+            return found;
+        });
+        given(domainEventRepository.existsByPostIdAndIdGreaterThan(any(), any())).willAnswer(invocation ->
+                committed.tailMap(invocation.<Long>getArgument(1), false).values().stream()
+                        .anyMatch(event -> event.getPostId().equals(invocation.getArgument(0))));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        outbox.destroy();
+    }
+
+    @Test
+    void record_shouldDeliverInOrderPerPost_andNotAgainWhenPolled() {
+        // given
+        PostCreated created = PostCreated.of(1L, "title", "user1", Set.of("java"));
+        PostDeleted deleted = PostDeleted.of(1L);
+
+        // when: 트랜잭션 밖에서 발행하면 기록 즉시 전달, 이후 poll 은 같은 이벤트를 다시 읽음
+        outbox.record(created);
+        outbox.record(deleted);
+        outbox.poll();
+
+        // then
+        verify(received, timeout(1000)).onPostEvent(deleted);
+        outbox.poll();
+        verify(received, after(200)).onPostEvent(created);
+        assertThat(handled).containsExactly(created, deleted);
+    }
+
+    @Test
+    void poll_shouldDeliverEventsRecordedByOtherNodes() throws Exception {
+        // given: 시작 위치 이후 다른 노드가 기록한 이벤트
+        outbox.poll();
+        PostCreated created = PostCreated.of(7L, "title", "user1", Set.of("spring"));
+        commitFromOtherNode(created);
+
+        // when
+        outbox.poll();
+
+        // then
+        verify(received, timeout(1000)).onPostEvent(created);
+        assertThat(handled).containsExactly(created);
+    }
+
+    @Test
+    void poll_shouldStartBeforeGapTimeout_soRecentEventsAreNotMissed() throws Exception {
+        // given: gapTimeout 이전의 이벤트(처리기가 기동 시 DB 에서 다시 만듦)와 기동 직전에 다른 노드가 기록한 이벤트
+        PostCreated old = PostCreated.of(3L, "old", "user1", Set.of("java"));
+        PostCreated recent = PostCreated.of(7L, "title", "user1", Set.of("spring"));
+        commitFromOtherNode(old);
+        commitFromOtherNode(recent);
+        given(domainEventRepository.findMaxIdOccurredBefore(any(LocalDateTime.class))).willReturn(1L);
+
+        // when
+        outbox.poll();
+
+        // then: 처리기의 재구성과 겹칠 수 있는 최근 이벤트부터 전달
+        verify(received, timeout(1000)).onPostEvent(recent);
+        assertThat(handled).containsExactly(recent);
+    }
+
+    @Test
+    void poll_shouldDeliverEvent_whenSmallerIdCommitsLater() throws Exception {
+        // given: id 1 을 받은 트랜잭션이 id 2 보다 늦게 커밋됨
+        outbox.poll();
+        PostCreated first = PostCreated.of(1L, "first", "user1", Set.of("java"));
+        PostCreated second = PostCreated.of(2L, "second", "user1", Set.of("java"));
+        DomainEvent late = stored(first);
+        commitFromOtherNode(second);
+        outbox.poll();
+        verify(received, timeout(1000)).onPostEvent(second);
+
+        // when
+        committed.put(late.getId(), late);
+        outbox.poll();
+
+        // then: 건너뛴 id 를 다시 확인하여 전달
+        verify(received, timeout(1000)).onPostEvent(first);
+        assertThat(handled).containsExactly(second, first);
+    }
+
+    @Test
+    void retry_shouldSkipEvent_whenNewerEventOfSamePostExists() {
+        // given
+        outbox.poll();
+        PostCreated created = PostCreated.of(1L, "title", "user1", Set.of("java"));
+        PostUpdated updated = PostUpdated.of(1L, "new title", "user1", Set.of("spring"));
+        PostDeleted deleted = PostDeleted.of(1L);
+
+        // when: Updated 전달에 실패한 뒤 Deleted 가 전달되고, 그 다음 poll 에서 Updated 를 다시 전달
+        failNextUpdate.set(true);
+        outbox.record(created);
+        outbox.record(updated);
+        outbox.record(deleted);
+        verify(received, timeout(1000)).onPostEvent(deleted);
+        outbox.poll();
+
+        // then: 늦게 도착한 Updated 는 처리기에 전달하지 않음 (삭제된 게시글이 인덱스에 다시 들어가지 않음)
+        verify(received, after(200).never()).onPostEvent(updated);
+        assertThat(handled).containsExactly(created, deleted);
+    }
+
+    private void commitFromOtherNode(PostEvent event) throws Exception {
+        DomainEvent row = stored(event);
+        committed.put(row.getId(), row);
+    }
+
+    private DomainEvent stored(PostEvent event) throws Exception {
+        DomainEvent row = DomainEvent.of(event.postId(), event.getClass().getSimpleName(),
+                objectMapper.writeValueAsString(event), event.occurredAt());
+        ReflectionTestUtils.setField(row, "id", ids.incrementAndGet());
+        return row;
+    }
+}
@@ -0,0 +1,124 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.FeedProperties;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.exception.FeedUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostFeedHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 실행하지 않고 쌓아 두는 executor: 전송이 밀리는 느린 구독자를 흉내 낸다.
+    private final List<Runnable> pendingSends = new ArrayList<>();
+
+    private PostFeedHub hub(int bufferSize, int maxSubscribers) {
+        return new PostFeedHub(properties(bufferSize, maxSubscribers, Duration.ofSeconds(10)), meterRegistry, pendingSends::add);
+    }
+
+    private FeedProperties properties(int bufferSize, int maxSubscribers, Duration sendTimeout) {
+        return new FeedProperties(bufferSize, maxSubscribers, Duration.ofSeconds(15), Duration.ofMinutes(30), 1, sendTimeout, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void subscribe_shouldExposeSubscriberCountMetric() {
+        // given
+        PostFeedHub hub = hub(8, 10);
+
+        // when
+        hub.subscribe();
+        hub.subscribe();
+
+        // then
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("blog.feed.subscribers").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void onPostEvent_shouldDropSubscriber_whenBufferOverflows() {
+        // given: 버퍼 2 = 연결 직후 comment 1건 + 이벤트 1건까지
+        PostFeedHub hub = hub(2, 10);
+        hub.subscribe();
+
+        // when
+        hub.onPostEvent(PostCreated.of(1L, "title", "user1", Set.of()));
+        hub.onPostEvent(PostCreated.of(2L, "title", "user1", Set.of()));
+
+        // then
+        assertThat(hub.getSubscriberCount()).isZero();
+        assertThat(meterRegistry.get("blog.feed.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(pendingSends).hasSize(1);  // 구독자당 전송 작업은 하나만 예약된다.
+    }
+
+    @Test
+    void subscribe_shouldReject_whenSubscriberLimitReached() {
+        // given
+        PostFeedHub hub = hub(8, 1);
+        hub.subscribe();
+
+        // when & then
+        FeedUnavailableException e = assertThrows(FeedUnavailableException.class, hub::subscribe);
+        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void evictStalled_shouldDropSubscriberBlockedInSend_andFreeSender() throws Exception {
+        // given: 전송 스레드 1개, 첫 번째 구독자는 전송에서 멈춘다. (응답하지 않는 클라이언트)
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch delivered = new CountDownLatch(1);
+        CountDownLatch stalled = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        PostFeedHub hub = new PostFeedHub(properties(8, 10, Duration.ofMillis(50)), meterRegistry, executor) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                boolean first = created.getAndIncrement() == 0;
+                return new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        if (first) {
+                            stalled.countDown();
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (InterruptedException e) {
+                                throw new IOException("interrupted", e);
+                            }
+                        }
+                        delivered.countDown();
+                    }
+                };
+            }
+        };
+        try {
+            hub.subscribe();
+            assertThat(stalled.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            Thread.sleep(100);
+            hub.evictStalled();
+            hub.subscribe();
+
+            // then: 멈춘 구독자는 끊기고, 전송 스레드는 다음 구독자에게 전송한다.
+            assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(hub.getSubscriberCount()).isEqualTo(1);
+            assertThat(meterRegistry.get("blog.feed.dropped").counter().count()).isEqualTo(1.0);
+        } finally {
+            hub.destroy();
+        }
+    }
+}
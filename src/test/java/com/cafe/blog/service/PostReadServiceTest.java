@@ -0,0 +1,69 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.ReactiveReadProperties;
+import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.entity.constant.SearchType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+@ExtendWith(MockitoExtension.class)
+class PostReadServiceTest {
+
+    @Mock
+    private PostService postService;
+
+    private PostReadService postReadService;
+
+    @BeforeEach
+    void setUp() {
+        postReadService = new PostReadService(postService, new ReactiveReadProperties(true, 2));
+    }
+
+    @Test
+    void streamPost_shouldFetchKeysetBatches_untilLastBatchIsShort() {
+        // given: 배치 크기 2, 총 3건
+        given(postService.searchPostAfter(SearchType.TITLE, "java", 0L, 2)).willReturn(List.of(post(1L), post(2L)));
+        given(postService.searchPostAfter(SearchType.TITLE, "java", 2L, 2)).willReturn(List.of(post(5L)));
+
+        // when & then
+        StepVerifier.create(postReadService.streamPost(SearchType.TITLE, "java"))
+                .expectNextMatches(post -> post.id() == 1L)
+                .expectNextMatches(post -> post.id() == 2L)
+                .expectNextMatches(post -> post.id() == 5L)
+                .verifyComplete();
+
+        verify(postService, never()).searchPostAfter(SearchType.TITLE, "java", 5L, 2);
+    }
+
+    @Test
+    void streamPost_shouldNotFetchNextBatch_beforeDemand() {
+        // given
+        given(postService.searchPostAfter(SearchType.TITLE, null, 0L, 2)).willReturn(List.of(post(1L), post(2L)));
+
+        // when & then: 1건만 요청하고 취소하면 다음 배치는 조회하지 않는다.
+        StepVerifier.create(postReadService.streamPost(SearchType.TITLE, null), 1)
+                .expectNextMatches(post -> post.id() == 1L)
+                .thenCancel()
+                .verify();
+
+        verify(postService, never()).searchPostAfter(SearchType.TITLE, null, 2L, 2);
+    }
+
+    private PostDto post(Long id) {
+        UserAccountDto userAccountDto = UserAccountDto.of("user1", "password", "user1@example.com", "nickname", "memo");
+        return PostDto.of(id, userAccountDto, "java " + id, "content", null, null, null, null, null, null, null);
+    }
+}
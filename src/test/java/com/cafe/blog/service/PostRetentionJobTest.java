@@ -0,0 +1,109 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.RetentionProperties;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import com.cafe.blog.storage.AttachmentStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class PostRetentionJobTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final ArchivedPostRepository archivedPostRepository = mock(ArchivedPostRepository.class);
+    private final PostRevisionRepository postRevisionRepository = mock(PostRevisionRepository.class);
+    private final AttachmentStorage attachmentStorage = mock(AttachmentStorage.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final PostRetentionJob job = new PostRetentionJob(postRepository, commentRepository, archivedPostRepository, postRevisionRepository,
+            attachmentStorage, eventPublisher,
+            new RetentionProperties(Duration.ofDays(30), Duration.ofDays(730), 10, Duration.ofHours(1)),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void purgeDeleted_shouldDeleteRowsThenAttachments() throws Exception {
+        // given
+        given(postRepository.findPurgeTargets(any(LocalDateTime.class), eq(10)))
+                .willReturn(List.of(target(1L, 11L, "key/a.txt"), target(2L, 12L, null)));
+
+        // when
+        int purged = job.purgeDeleted();
+
+        // then
+        assertThat(purged).isEqualTo(2);
+        verify(commentRepository).deleteByPostIdIn(List.of(1L, 2L));
+        verify(postRevisionRepository).deleteByPostIdIn(List.of(1L, 2L));
+        verify(postRepository).deleteTagsByPostIdIn(List.of(1L, 2L));
+        verify(postRepository).deleteAllByIdInIncludingDeleted(List.of(1L, 2L));
+        verify(postRepository).deleteContentsByIdIn(List.of(11L, 12L));
+        verify(attachmentStorage).delete("key/a.txt");
+        assertThat(publishedDeletes(2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void archiveOld_shouldMovePostsToArchive_andPublishDeleted() {
+        // given
+        Post post = Post.of(UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo"), "Old", "Content");
+        ReflectionTestUtils.setField(post, "id", 5L);
+        given(postRepository.lockArchiveTargetIds(any(LocalDateTime.class), eq(10))).willReturn(List.of(5L));
+        given(postRepository.findArchiveTargets(List.of(5L))).willReturn(List.of(post));
+
+        // when
+        int archived = job.archiveOld();
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        verify(archivedPostRepository).saveAll(anyList());
+        verify(postRepository).deleteAllByIdInIncludingDeleted(List.of(5L));
+        assertThat(publishedDeletes(1)).containsExactly(5L);
+    }
+
+    private List<Long> publishedDeletes(int count) {
+        ArgumentCaptor<PostDeleted> captor = ArgumentCaptor.forClass(PostDeleted.class);
+        verify(eventPublisher, times(count)).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(PostDeleted::postId).toList();
+    }
+
+    private static PostRepository.PurgeTarget target(Long postId, Long contentId, String filePath) {
+        return new PostRepository.PurgeTarget() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public Long getContentId() {
+                return contentId;
+            }
+
+            @Override
+            public String getFilePath() {
+                return filePath;
+            }
+        };
+    }
+}
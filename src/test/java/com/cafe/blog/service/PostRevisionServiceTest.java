@@ -0,0 +1,165 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.RevisionProperties;
+import com.cafe.blog.dto.PostRevisionDiffDto;
+import com.cafe.blog.entity.ArchivedPost;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.PostRevision;
+import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.exception.PostNotFoundException;
+import com.cafe.blog.repository.InMemoryArchivedPostRepository;
+import com.cafe.blog.repository.InMemoryPostRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import com.cafe.blog.revision.LineDiff;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class PostRevisionServiceTest {
+
+    private final PostRevisionRepository postRevisionRepository = mock(PostRevisionRepository.class);
+    private final InMemoryPostRepository postRepository = new InMemoryPostRepository();
+    private final InMemoryArchivedPostRepository archivedPostRepository = new InMemoryArchivedPostRepository();
+    private final PostRevisionService postRevisionService = new PostRevisionService(postRevisionRepository, postRepository,
+            archivedPostRepository, new RevisionProperties(3, 2000, 1), () -> Optional.of("admin"));
+
+    private final List<PostRevision> saved = new ArrayList<>();  // 저장된 리비전 (DB 대신)
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Post.of(UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo"), "Title", body(0));
+        ReflectionTestUtils.setField(post, "id", 1L);
+        postRepository.put(1L, post);
+
+        given(postRevisionRepository.saveAll(anyList())).willAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        given(postRevisionRepository.findHeads(eq(1L), any(Pageable.class))).willAnswer(invocation -> saved.isEmpty()
+                ? List.of()
+                : List.of(head(saved.get(saved.size() - 1))));
+        given(postRevisionRepository.findChain(eq(1L), anyInt())).willAnswer(invocation -> {
+            int revision = invocation.getArgument(1);
+            int baseRevision = saved.get(revision - 1).getBaseRevision();
+            return saved.subList(baseRevision - 1, revision);
+        });
+    }
+
+    @Test
+    void record_shouldStoreDeltasWithPeriodicSnapshots_andRestoreEveryRevision() {
+        // given & when: 한 줄씩 6 번 수정
+        for (int edit = 1; edit <= 6; edit++) {
+            edit("Title " + edit, body(edit));
+        }
+
+        // then: 리비전 1 은 수정 전 본문, snapshot 은 3 리비전마다
+        assertThat(saved).extracting(PostRevision::getRevision).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(saved).extracting(PostRevision::isSnapshot).containsExactly(true, false, false, true, false, false, true);
+        assertThat(saved.get(1).getContent().length()).isLessThan(body(1).length() / 10);
+        for (int revision = 1; revision <= 7; revision++) {
+            assertThat(postRevisionService.getRevision(1L, revision).content()).isEqualTo(body(revision - 1));
+        }
+        assertThat(postRevisionService.getRevision(1L, 7).title()).isEqualTo("Title 6");
+        assertThat(postRevisionService.getRevision(1L, 7).editedBy()).isEqualTo("admin");
+    }
+
+    @Test
+    void record_shouldSkip_whenTitleAndContentAreUnchanged() {
+        // when
+        edit("Title", body(0));
+
+        // then
+        verify(postRevisionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void diff_shouldReturnChangedLinesBetweenRevisions() {
+        // given
+        edit("Title", body(1));
+        edit("Title", body(2));
+
+        // when
+        PostRevisionDiffDto diff = postRevisionService.diff(1L, 1, 3);
+
+        // then
+        assertThat(diff.hunks()).hasSize(2);
+        assertThat(diff.hunks().get(0)).isEqualTo(new LineDiff.Hunk(1, 3, 1, 3,
+                List.of(" line 0", "-line 1", "+line 1 (edit 1)", " line 2")));
+    }
+
+    @Test
+    void revisions_shouldNotBeReadable_afterPostIsDeleted() {
+        // given
+        edit("Title", body(1));
+        postRepository.softDelete(1L, LocalDateTime.now());
+
+        // when & then: 정리(purge)되기 전에도 삭제된 게시글의 본문은 보이지 않음
+        assertThrows(PostNotFoundException.class, () -> postRevisionService.getRevisions(1L, 20));
+        assertThrows(PostNotFoundException.class, () -> postRevisionService.getRevision(1L, 1));
+        assertThrows(PostNotFoundException.class, () -> postRevisionService.diff(1L, 1, 2));
+        verify(postRevisionRepository, never()).findChain(eq(1L), anyInt());
+    }
+
+    @Test
+    void revisions_shouldBeReadable_whilePostIsArchived() {
+        // given: 보관된 게시글은 getPost 로 계속 조회됨
+        edit("Title", body(1));
+        postRepository.softDelete(1L, LocalDateTime.now());
+        archivedPostRepository.put(1L, ArchivedPost.from(post, LocalDateTime.now()));
+
+        // when & then
+        assertThat(postRevisionService.getRevision(1L, 2).content()).isEqualTo(body(1));
+    }
+
+    private void edit(String title, String content) {
+        PostRevisionService.PostState previous = PostRevisionService.PostState.of(post);
+        post.setTitle(title);
+        post.setContent(content, null);
+        postRevisionService.record(post, previous);
+    }
+
+    /**
+     * 40 줄 본문, k 번째 수정은 5k-4 번째 줄을 고친다.
+     */
+    private static String body(int edits) {
+        return IntStream.range(0, 40)
+                .mapToObj(line -> line % 5 == 1 && line / 5 < edits ? "line " + line + " (edit " + (line / 5 + 1) + ")" : "line " + line)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static PostRevisionRepository.RevisionHead head(PostRevision revision) {
+        return new PostRevisionRepository.RevisionHead() {
+            @Override
+            public int getRevision() {
+                return revision.getRevision();
+            }
+
+            @Override
+            public int getBaseRevision() {
+                return revision.getBaseRevision();
+            }
+        };
+    }
+}
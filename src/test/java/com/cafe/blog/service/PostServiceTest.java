@@ -1,75 +1,122 @@
 package com.cafe.blog.service;
 
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.RecordingInvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.config.UploadProperties;
 import com.cafe.blog.dto.PostDto;
+import com.cafe.blog.dto.PostHtmlDto;
 import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.entity.ArchivedPost;
 import com.cafe.blog.entity.Post;
 import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.exception.PostArchivedException;
 import com.cafe.blog.exception.PostNotFoundException;
-import com.cafe.blog.repository.PostRepository;
-import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.markdown.MarkdownRenderer;
+import com.cafe.blog.repository.InMemoryArchivedPostRepository;
+import com.cafe.blog.repository.InMemoryPostRepository;
+import com.cafe.blog.repository.InMemoryUserAccountRepository;
+import com.cafe.blog.storage.AttachmentStat;
+import com.cafe.blog.storage.AttachmentStorage;
+import com.cafe.blog.storage.UploadAdmission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+// Mockito 없이 메모리 fake 로 검증하므로 native image 에서도 실행된다. (nativeTest)
 public class PostServiceTest {
 
-    @InjectMocks
-    private PostService postService;
-
-    @Mock
-    private PostRepository postRepository;
+    private final InMemoryPostRepository postRepository = new InMemoryPostRepository();
+    private final InMemoryUserAccountRepository userAccountRepository = new InMemoryUserAccountRepository();
+    private final InMemoryArchivedPostRepository archivedPostRepository = new InMemoryArchivedPostRepository();
+    private final RecordingAttachmentStorage attachmentStorage = new RecordingAttachmentStorage();
+    private final RecordingInvalidationBus invalidationBus = new RecordingInvalidationBus();
+    private final List<Object> events = new ArrayList<>();  // 발행한 게시글 이벤트
+    private final List<String> renders = new ArrayList<>();  // 렌더링한 Markdown 원문
+    private final List<PostRevisionService.PostState> revisions = new ArrayList<>();  // 기록한 수정 전 상태
 
-    @Mock
-    private UserAccountRepository userAccountRepository;
+    private final VersionedCache<PostDto> postCache = new VersionedCache<>(CacheNames.POSTS, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
 
-    @Mock
-    private MultipartFile file;
+    private PostService postService;
 
-    private final String testUploadDir = "test/upload/dir";  // 테스트에서 사용할 임의의 업로드 경로
+    private final String testUploadDir = "test/upload/dir";  // 테스트에서 사용할 임의의 업로드 경로 (저장소 key)
 
     @BeforeEach
     void setUp() {
-        // 업로드 경로를 테스트에서 사용하는 디렉토리로 설정
-        postService.setUploadDir(testUploadDir);
+        UploadAdmission uploadAdmission = new UploadAdmission(
+                new UploadProperties.Admission(1, 1, Duration.ofSeconds(1), DataSize.ofBytes(0), Duration.ofSeconds(1)),
+                new SimpleMeterRegistry());
+        MarkdownRenderer markdownRenderer = new MarkdownRenderer() {
+            @Override
+            public String render(String markdown) {
+                renders.add(markdown);
+                return super.render(markdown);
+            }
+        };
+        PostRevisionService postRevisionService = new PostRevisionService(null, null, null, null, null) {
+            @Override
+            public void record(Post post, PostState previous) {
+                postRepository.calls().add("record");  // 게시글 조회와의 순서 확인
+                revisions.add(previous);
+            }
+        };
 
-        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
-        Post post = Post.of(userAccount, "Test Title", "Test Content");
-        PostDto postDto = PostDto.of(
-                UserAccountDto.from(userAccount),
-                "Test Title",
-                "Test Content",
-                null,
-                null,
-                null
-        );
+        ArchivedPostService archivedPostService = new ArchivedPostService(archivedPostRepository, null, null, null) {
+            @Override
+            public boolean delete(Long postId) {
+                return archivedPostRepository.deleteArchived(postId) > 0;  // 댓글, 이력, 첨부파일 정리는 ArchivedPostServiceTest
+            }
+        };
 
-        // 기타 초기화 작업
+        postService = new PostService(
+                postRepository,
+                userAccountRepository,
+                archivedPostRepository,
+                archivedPostService,
+                new PostTagIndex(postRepository),
+                postRevisionService,
+                attachmentStorage,
+                uploadAdmission,
+                markdownRenderer,
+                events::add,
+                postCache,
+                invalidationBus,
+                new TransactionOperations() {
+                    @Override
+                    public <T> T execute(TransactionCallback<T> action) {
+                        postRepository.calls().add("transaction");  // 파일 저장과의 순서 확인
+                        return action.doInTransaction(new SimpleTransactionStatus());
+                    }
+                }
+        );
     }
 
     @Test
     void createPost_shouldSavePost_whenPostDtoIsValidAndFileIsProvided() throws IOException {
         // given
         UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
-        Post post = Post.of(userAccount, "Test Title", "Test Content");
+        userAccountRepository.put(userAccount.getUserId(), userAccount);
         PostDto postDto = PostDto.of(
                 UserAccountDto.from(userAccount),
                 "Test Title",
@@ -78,24 +125,90 @@ public class PostServiceTest {
                 testUploadDir + "/testfile.txt",
                 "text/plain"
         );
+        MockMultipartFile file = new MockMultipartFile("file", "testfile.txt", "text/plain", "test".getBytes());
 
-        given(userAccountRepository.getReferenceById(any())).willReturn(userAccount);
-        given(postRepository.save(any(Post.class))).willReturn(post);
-        given(file.isEmpty()).willReturn(false);  // 파일이 비어있지 않다고 설정
-        given(file.getOriginalFilename()).willReturn("testfile.txt");
-        given(file.getContentType()).willReturn("text/plain");
+        // when
+        PostDto result = postService.createPost(postDto, file);
 
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.createDirectories(any(Path.class))).thenAnswer(invocation -> null);
-            mockedFiles.when(() -> Files.copy(any(), any())).thenAnswer(invocation -> null);
+        // then
+        assertThat(attachmentStorage.puts).singleElement().satisfies(put -> {
+            assertThat(put.key()).endsWith("/testfile.txt");
+            assertThat(put.size()).isEqualTo(4L);
+            assertThat(put.contentType()).isEqualTo("text/plain");
+        });
+        assertThat(postRepository.saved()).singleElement()
+                .satisfies(post -> assertThat(post.getUserAccount()).isSameAs(userAccount));
+        assertThat(events).singleElement().isInstanceOf(PostCreated.class);
+        assertThat(result.fileName()).isEqualTo("testfile.txt");
+        assertThat(result.filePath()).endsWith("/testfile.txt");
+    }
+
+    @Test
+    void createPost_shouldStoreFileBeforeOpeningTransaction() throws IOException {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        userAccountRepository.put(userAccount.getUserId(), userAccount);
+        PostDto postDto = PostDto.of(UserAccountDto.from(userAccount), "Title", "Content", null, null, null);
+        MockMultipartFile file = new MockMultipartFile("file", "testfile.txt", "text/plain", "test".getBytes());
 
-            // when
-            postService.createPost(postDto, file);
+        // when
+        postService.createPost(postDto, file);
 
-            // then
-            verify(userAccountRepository).getReferenceById(userAccount.getUserId());
-            verify(postRepository).save(any(Post.class));
-        }
+        // then: 쓰기 슬롯 대기와 파일 전송 동안 DB 커넥션을 잡지 않음
+        assertThat(postRepository.calls()).containsSubsequence("put", "transaction");
+    }
+
+    @Test
+    void updatePost_shouldDeleteStoredFile_whenPostCannotBeUpdated() {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        PostDto postDto = PostDto.of(UserAccountDto.from(userAccount), "Title", "Content", null, null, null);
+        MockMultipartFile file = new MockMultipartFile("file", "testfile.txt", "text/plain", "test".getBytes());
+
+        // when
+        assertThrows(PostNotFoundException.class, () -> postService.updatePost(1L, postDto, file));
+
+        // then: 게시글에 연결하지 못한 파일은 남기지 않음
+        assertThat(attachmentStorage.puts).singleElement()
+                .satisfies(put -> assertThat(attachmentStorage.deleted).containsExactly(put.key()));
+    }
+
+    @Test
+    void createPost_shouldIgnoreFileFieldsInRequest_whenNoFileIsUploaded() throws IOException {
+        // given: 요청 본문에 다른 사용자의 저장소 key 를 넣은 경우
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        userAccountRepository.put(userAccount.getUserId(), userAccount);
+        PostDto postDto = PostDto.of(UserAccountDto.from(userAccount), "Title", "Content",
+                "secret.pdf", "victim-uuid/secret.pdf", "application/pdf");
+
+        // when
+        PostDto result = postService.createPost(postDto, null);
+
+        // then: 첨부파일은 서버가 저장한 업로드에서만 설정
+        assertThat(postRepository.saved()).singleElement().satisfies(post -> {
+            assertThat(post.getFileName()).isNull();
+            assertThat(post.getFilePath()).isNull();
+            assertThat(post.getFileType()).isNull();
+        });
+        assertThat(result.filePath()).isNull();
+    }
+
+    @Test
+    void updatePost_shouldKeepStoredFile_whenRequestCarriesOtherFilePath() throws IOException {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        Post post = Post.of(userAccount, "Title", "Content");
+        post.setFilePath("own-key/own.txt");
+        postRepository.put(1L, post);
+        PostDto postDto = PostDto.of(UserAccountDto.from(userAccount), "Title", "Content",
+                "secret.pdf", "victim-uuid/secret.pdf", "application/pdf");
+
+        // when
+        PostDto result = postService.updatePost(1L, postDto, null);
+
+        // then
+        assertThat(result.filePath()).isEqualTo("own-key/own.txt");
+        assertThat(attachmentStorage.deleted).isEmpty();
     }
 
     @Test
@@ -103,6 +216,8 @@ public class PostServiceTest {
         // given
         UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
         Post post = Post.of(userAccount, "Test Title", "Test Content");
+        post.setFilePath("old-key/oldfile.txt");
+        postRepository.put(1L, post);
         PostDto updatedPostDto = PostDto.of(
                 UserAccountDto.from(userAccount),
                 "Updated Title",
@@ -111,59 +226,177 @@ public class PostServiceTest {
                 testUploadDir + "/updatedfile.txt",
                 "text/plain"
         );
+        MockMultipartFile file = new MockMultipartFile("file", "updatedfile.txt", "text/plain", "updated".getBytes());
+
+        // when
+        PostDto result = postService.updatePost(1L, updatedPostDto, file);
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(postRepository.save(any(Post.class))).willReturn(post);
-        given(file.isEmpty()).willReturn(false);  // 파일이 비어있지 않다고 설정
-        given(file.getOriginalFilename()).willReturn("updatedfile.txt");
-        given(file.getContentType()).willReturn("text/plain");
+        // then
+        assertThat(result.title()).isEqualTo("Updated Title");
+        assertThat(attachmentStorage.deleted).containsExactly("old-key/oldfile.txt");
+        assertThat(revisions).singleElement().satisfies(previous -> {
+            assertThat(previous.title()).isEqualTo("Test Title");
+            assertThat(previous.content()).isEqualTo("Test Content");
+        });
+        assertThat(attachmentStorage.puts).singleElement().satisfies(put -> {
+            assertThat(put.key()).endsWith("/updatedfile.txt");
+            assertThat(put.size()).isEqualTo(7L);
+            assertThat(put.contentType()).isEqualTo("text/plain");
+        });
+        assertThat(postRepository.saved()).containsExactly(post);
+    }
 
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.deleteIfExists(any(Path.class))).thenAnswer(invocation -> null);
-            mockedFiles.when(() -> Files.createDirectories(any(Path.class))).thenAnswer(invocation -> null);
-            mockedFiles.when(() -> Files.copy(any(), any())).thenAnswer(invocation -> null);
+    @Test
+    void updatePost_shouldLockPostRow_beforeReadingStateForRevision() throws IOException {
+        // given: 같은 게시글을 동시에 수정하면 같은 리비전 번호를 기록하려다 unique 제약 위반(500)이 된다.
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        Post post = Post.of(userAccount, "Test Title", "Test Content");
+        postRepository.put(1L, post);
+        PostDto updatedPostDto = PostDto.of(UserAccountDto.from(userAccount), "Updated Title", "Updated Content", null, null, null);
 
-            // when
-            PostDto result = postService.updatePost(1L, updatedPostDto, file);
+        // when
+        postService.updatePost(1L, updatedPostDto, null);
 
-            // then
-            assertThat(result.title()).isEqualTo("Updated Title");
-            verify(postRepository).findById(1L);
-            verify(postRepository).save(any(Post.class));
-        }
+        // then: 행 잠금으로 읽은 뒤에 이력을 기록하므로 두 번째 수정은 첫 번째가 커밋된 상태를 이전 상태로 사용
+        assertThat(postRepository.calls()).containsSubsequence("findByIdForUpdate", "record");
+        assertThat(postRepository.calls()).doesNotContain("findById");
     }
 
     @Test
-    public void deletePost_shouldDeletePost_whenPostExists() throws IOException {
+    public void deletePost_shouldSoftDeletePost_whenPostExists() {
         // Given
         Long postId = 1L;
-        String filePath = "path/to/file.txt";
         UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
-        Post post = Post.of(userAccount, "Test Title", "Test Content");
-        post.setFilePath(filePath);
+        postRepository.put(postId, Post.of(userAccount, "Test Title", "Test Content"));
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        // Mocking static method Files.deleteIfExists (requires Mockito 3.4.0 or higher)
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.deleteIfExists(Paths.get(filePath))).thenReturn(true);
+        // When
+        postService.deletePost(postId);
 
-            // When
-            postService.deletePost(postId);
-
-            // Then
-            verify(postRepository).deleteById(postId);
-            mockedFiles.verify(() -> Files.deleteIfExists(Paths.get(filePath)));
-        }
+        // Then: 댓글, 태그, 첨부파일은 PostRetentionJob 이 보관 기간 후 정리한다.
+        assertThat(postRepository.calls()).containsExactly("softDelete");
+        assertThat(events).singleElement().isInstanceOf(PostDeleted.class);
+        assertThat(invalidationBus.invalidated()).containsExactly(CacheNames.POSTS + ":1");
+        assertThat(attachmentStorage.puts).isEmpty();
+        assertThat(attachmentStorage.deleted).isEmpty();
     }
 
 
     @Test
     void deletePost_shouldThrowException_whenPostDoesNotExist() {
-        // given
-        given(postRepository.findById(anyLong())).willReturn(Optional.empty());
-
         // when & then
         assertThrows(PostNotFoundException.class, () -> postService.deletePost(1L));
-        verify(postRepository, never()).deleteById(1L);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void deletePost_shouldDeleteArchivedPost_whenPostWasArchived() {
+        // given: 보관된 게시글도 getPost 로 조회되므로 작성자가 삭제할 수 있어야 함
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        archivedPostRepository.put(1L, ArchivedPost.from(Post.of(userAccount, "Old Title", "Old Content"), LocalDateTime.now()));
+
+        // when
+        postService.deletePost(1L);
+
+        // then
+        assertThat(archivedPostRepository.existsById(1L)).isFalse();
+        assertThat(events).singleElement().isInstanceOf(PostDeleted.class);
+        assertThat(invalidationBus.invalidated()).containsExactly(CacheNames.POSTS + ":1");
+        assertThrows(EntityNotFoundException.class, () -> postService.getPost(1L));
+    }
+
+    @Test
+    void updatePost_shouldBeRefused_whenPostWasArchived() {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        archivedPostRepository.put(1L, ArchivedPost.from(Post.of(userAccount, "Old Title", "Old Content"), LocalDateTime.now()));
+        PostDto postDto = PostDto.of(UserAccountDto.from(userAccount), "New Title", "New Content", null, null, null);
+
+        // when & then: 보관된 게시글은 읽기 전용 (409)
+        assertThrows(PostArchivedException.class, () -> postService.updatePost(1L, postDto, null));
+        assertThat(events).isEmpty();
+        assertThat(postService.getPost(1L).title()).isEqualTo("Old Title");
+    }
+
+    @Test
+    void getPost_shouldFallBackToArchive_whenPostWasArchived() {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        Post post = Post.of(userAccount, "Archived Title", "Archived Content");
+        post.setTags(Set.of("java"));
+        archivedPostRepository.put(1L, ArchivedPost.from(post, LocalDateTime.now()));
+
+        // when
+        PostDto result = postService.getPost(1L);
+
+        // then
+        assertThat(result.title()).isEqualTo("Archived Title");
+        assertThat(result.tags()).containsExactly("java");
+    }
+
+    @Test
+    void getPost_shouldServeFromCache_untilInvalidated() {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        postRepository.put(1L, Post.of(userAccount, "Title", "Content"));
+
+        // when
+        PostDto first = postService.getPost(1L);
+        PostDto second = postService.getPost(1L);
+        postCache.invalidate("1", VersionedCache.UNVERSIONED);  // 다른 노드의 수정이 전달된 경우
+        postService.getPost(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(postRepository.calls()).containsExactly("findWithContentById", "findWithContentById");
+    }
+
+    @Test
+    void getPostHtml_shouldRenderOnlyWhenNoHtmlIsStored() {
+        // given
+        UserAccount userAccount = UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo");
+        postRepository.put(1L, Post.of(userAccount, "Title", "# Hello"));
+
+        // when
+        PostHtmlDto first = postService.getPostHtml(1L);
+        PostHtmlDto second = postService.getPostHtml(1L);
+
+        // then
+        assertThat(first.html()).isEqualTo("<h1>Hello</h1>\n");
+        assertThat(second.html()).isSameAs(first.html());
+        assertThat(renders).containsExactly("# Hello");
+    }
+
+    /**
+     * 저장/삭제 요청만 기록하는 첨부파일 저장소
+     */
+    private class RecordingAttachmentStorage implements AttachmentStorage {
+
+        private final List<Put> puts = new ArrayList<>();
+        private final List<String> deleted = new ArrayList<>();
+
+        @Override
+        public void put(String key, InputStream content, long size, String contentType) throws IOException {
+            content.transferTo(OutputStream.nullOutputStream());
+            puts.add(new Put(key, size, contentType));
+            postRepository.calls().add("put");  // 트랜잭션과의 순서 확인
+        }
+
+        @Override
+        public InputStream getRange(String key, long offset, long length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            deleted.add(key);
+        }
+
+        @Override
+        public Optional<AttachmentStat> stat(String key) {
+            return Optional.empty();
+        }
+
+        private record Put(String key, long size, String contentType) {
+        }
     }
 }
@@ -0,0 +1,117 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.constant.TagMatch;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.InMemoryPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostTagIndexTest {
+
+    private static final long LARGE_ID = (1L << 31) + 7;  // BIGINT IDENTITY 가 int 범위를 넘은 경우
+
+    private PostTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostTagIndex(new InMemoryPostRepository());
+        index.index(1L, Set.of("java", "spring"));
+        index.index(2L, Set.of("java"));
+        index.index(3L, Set.of("spring", "jpa"));
+    }
+
+    @Test
+    void match_shouldIntersect_whenAllTagsRequired() {
+        assertThat(index.match(List.of("java", "spring"), TagMatch.ALL).toArray()).containsExactly(1L);
+        assertThat(index.match(List.of("java", "unknown"), TagMatch.ALL).isEmpty()).isTrue();
+    }
+
+    @Test
+    void match_shouldUnion_whenAnyTagMatches() {
+        assertThat(index.match(List.of("JAVA", "jpa", "unknown"), TagMatch.ANY).toArray()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void onPostEvent_shouldReplaceTags_onUpdateAndRemove_onDelete() {
+        // when
+        index.onPostEvent(PostUpdated.of(2L, "title", "user1", Set.of("jpa")));
+        index.onPostEvent(PostDeleted.of(3L));
+
+        // then
+        assertThat(index.match(List.of("java"), TagMatch.ANY).toArray()).containsExactly(1L);
+        assertThat(index.match(List.of("jpa"), TagMatch.ANY).toArray()).containsExactly(2L);
+    }
+
+    @Test
+    void index_shouldKeepPostIdsBeyondIntRange() {
+        // when
+        index.onPostEvent(PostCreated.of(LARGE_ID, "title", "user1", Set.of("java", "spring")));
+
+        // then
+        Roaring64NavigableMap matched = index.match(List.of("java", "spring"), TagMatch.ALL);
+        assertThat(matched.toArray()).containsExactly(1L, LARGE_ID);
+        assertThat(PostTagIndex.pageOf(matched, 0, 1)).containsExactly(LARGE_ID);
+
+        index.onPostEvent(PostDeleted.of(LARGE_ID));
+        assertThat(index.match(List.of("java"), TagMatch.ANY).toArray()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rebuild_shouldApplyEventsReceivedWhileReading() {
+        // given: 재구축이 태그를 읽는 도중 게시글이 생성됨 (읽은 결과에는 없음)
+        AtomicBoolean created = new AtomicBoolean();
+        InMemoryPostRepository postRepository = new InMemoryPostRepository() {
+            @Override
+            public Stream<PostTagView> streamAllTags() {
+                return super.streamAllTags().peek(row -> {
+                    if (created.compareAndSet(false, true)) {
+                        index.onPostEvent(PostCreated.of(9L, "title", "user1", Set.of("kotlin")));
+                    }
+                });
+            }
+        };
+        postRepository.put(1L, post(Set.of("java")));
+        index = new PostTagIndex(postRepository);
+
+        // when
+        index.rebuild();
+
+        // then: 교체한 인덱스에도 반영됨
+        assertThat(index.match(List.of("java"), TagMatch.ANY).toArray()).containsExactly(1L);
+        assertThat(index.match(List.of("kotlin"), TagMatch.ANY).toArray()).containsExactly(9L);
+    }
+
+    @Test
+    void pageOf_shouldSliceNewestFirst() {
+        // given
+        Roaring64NavigableMap postIds = Roaring64NavigableMap.bitmapOf(3, 8, 10, 42, 57);
+
+        // when & then
+        assertThat(PostTagIndex.pageOf(postIds, 0, 2)).containsExactly(57L, 42L);
+        assertThat(PostTagIndex.pageOf(postIds, 4, 2)).containsExactly(3L);
+        assertThat(PostTagIndex.pageOf(postIds, 6, 2)).isEmpty();
+    }
+
+    @Test
+    void chunksOf_shouldSplitDescending() {
+        assertThat(PostTagIndex.chunksOf(Roaring64NavigableMap.bitmapOf(1, 2, 3, 4, 5), 2))
+                .containsExactly(List.of(5L, 4L), List.of(3L, 2L), List.of(1L));
+    }
+
+    private static Post post(Set<String> tags) {
+        Post post = Post.of(null, "title", "content");
+        post.setTags(tags);
+        return post;
+    }
+}
@@ -0,0 +1,99 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.AutocompleteProperties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 자동완성 조회 지연과 인덱스 메모리 (./gradlew benchmark)
+ * 임의의 단어로 만든 제목을 색인한 후 1~6 글자 접두어로 조회하여 p50/p99 를 출력하고,
+ * 같은 조회를 제목 목록 전체 검사(DB 의 title LIKE '%...%' 에 해당)로 수행한 경우와 비교합니다.
+ */
+@Tag("benchmark")
+class PostTitleIndexBenchmarkTest {
+
+    private static final int TITLES = 200_000;
+    private static final int WORDS = 5_000;
+    private static final int QUERIES = 200_000;
+    private static final int SCAN_QUERIES = 200;
+
+    @Test
+    void measureLatencyAndMemory() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            vocabulary[i] = word(random);
+        }
+        List<String> titles = new ArrayList<>(TITLES);
+        for (int i = 0; i < TITLES; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 2 + random.nextInt(6); w > 0; w--) {
+                title.append(vocabulary[random.nextInt(WORDS)]).append(' ');
+            }
+            titles.add(title.toString().strip());
+        }
+
+        long heapBefore = usedHeap();
+        PostTitleIndex index = new PostTitleIndex(null, new AutocompleteProperties(TITLES, 4, 20, 10, Duration.ofHours(1)));
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < TITLES; i++) {
+            index.put((long) i + 1, titles.get(i));
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        long heapAfter = usedHeap();
+
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String word = vocabulary[random.nextInt(WORDS)];
+            queries[i] = word.substring(0, 1 + random.nextInt(Math.min(6, word.length())));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            index.suggest(queries[i], 10);  // JIT 워밍업
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.suggest(queries[i], 10);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        long p50 = latencies[QUERIES / 2];
+        long p99 = latencies[(int) (QUERIES * 0.99)];
+
+        long scanStart = System.nanoTime();
+        for (int i = 0; i < SCAN_QUERIES; i++) {
+            String query = queries[i];
+            titles.stream().filter(title -> title.toLowerCase(Locale.ROOT).contains(query)).limit(10).toList();
+        }
+        long scanMicros = (System.nanoTime() - scanStart) / 1_000 / SCAN_QUERIES;
+
+        System.out.printf("titles=%d, build=%dms, heap=~%dMB%n", index.size(), buildMillis, (heapAfter - heapBefore) / (1024 * 1024));
+        System.out.printf("index: p50=%dus, p99=%dus%n", p50 / 1_000, p99 / 1_000);
+        System.out.printf("linear scan: avg=%dus%n", scanMicros);
+        assertThat(p99).isLessThan(1_000_000);  // 1ms
+    }
+
+    private static String word(Random random) {
+        char[] chars = new char[3 + random.nextInt(7)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
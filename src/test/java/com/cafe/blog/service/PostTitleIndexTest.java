@@ -0,0 +1,138 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.AutocompleteProperties;
+import com.cafe.blog.dto.PostSuggestionDto;
+import com.cafe.blog.event.PostCreated;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class PostTitleIndexTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    @Test
+    void suggest_shouldMatchWordPrefixes_orderedByCommentCountThenNewest() {
+        // given
+        PostTitleIndex index = index(new AutocompleteProperties(100, 4, 20, 10, Duration.ofHours(1)));
+        given(postRepository.streamAllTitles()).willReturn(Stream.of(
+                title(1L, "Spring Boot 입문", 3),
+                title(2L, "Spring  Security", 0),
+                title(3L, "Learning JPA with Spring", 10),
+                title(4L, "스프링 부트 시작하기", 0)));
+        index.rebuild();
+
+        // when & then
+        assertThat(postIds(index.suggest("spr", 10))).containsExactly(3L, 1L, 2L);
+        assertThat(postIds(index.suggest(" SPRING   s", 10))).containsExactly(2L);
+        assertThat(postIds(index.suggest("boot", 10))).containsExactly(1L);
+        assertThat(postIds(index.suggest("부트", 10))).containsExactly(4L);
+        assertThat(postIds(index.suggest("spr", 2))).containsExactly(3L, 1L);
+        assertThat(index.suggest("springs", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void onPostEvent_shouldReplaceTitle_andRemove_onDelete() {
+        // given
+        PostTitleIndex index = index(new AutocompleteProperties(100, 4, 20, 10, Duration.ofHours(1)));
+        index.onPostEvent(PostCreated.of(1L, "spring", "user1", Set.of()));
+        index.onPostEvent(PostCreated.of(2L, "spa", "user1", Set.of()));
+        index.onPostEvent(PostCreated.of(3L, "sp", "user1", Set.of()));
+
+        // when
+        index.onPostEvent(PostUpdated.of(1L, "summer", "user1", Set.of()));
+        index.onPostEvent(PostDeleted.of(3L));
+
+        // then
+        assertThat(postIds(index.suggest("s", 10))).containsExactly(2L, 1L);
+        assertThat(postIds(index.suggest("sp", 10))).containsExactly(2L);
+        assertThat(index.suggest("spr", 10)).isEmpty();
+        assertThat(index.suggest("summer", 10)).extracting(PostSuggestionDto::title).containsExactly("summer");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void suggest_shouldFilterCandidates_whenQueryIsLongerThanIndexedPrefix() {
+        // given
+        PostTitleIndex index = index(new AutocompleteProperties(100, 4, 5, 10, Duration.ofHours(1)));
+        index.put(1L, "abcdefgh");
+        index.put(2L, "abcdexyz");
+
+        // when & then
+        assertThat(postIds(index.suggest("abcde", 10))).containsExactly(2L, 1L);
+        assertThat(postIds(index.suggest("abcdef", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void rebuild_shouldKeepMostCommentedPosts_whenOverCapacity() {
+        // given
+        PostTitleIndex index = index(new AutocompleteProperties(2, 4, 20, 10, Duration.ofHours(1)));
+        given(postRepository.streamAllTitles()).willReturn(Stream.of(
+                title(1L, "java 1", 5),
+                title(2L, "java 2", 0),
+                title(3L, "java 3", 1)));
+
+        // when
+        index.rebuild();
+        index.put(4L, "java 4");  // 가득 찬 경우 다음 재구축까지 반영하지 않음
+
+        // then
+        assertThat(postIds(index.suggest("java", 10))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void put_shouldIndexPostIdsBeyondIntRange() {
+        // given: BIGINT IDENTITY 가 int 범위를 넘은 경우
+        PostTitleIndex index = index(new AutocompleteProperties(100, 4, 20, 10, Duration.ofHours(1)));
+        long largeId = (1L << 31) + 7;
+
+        // when
+        index.put(1L, "spring 1");
+        index.onPostEvent(PostCreated.of(largeId, "spring 2", "user1", Set.of()));
+
+        // then: 최신 순
+        assertThat(postIds(index.suggest("spring", 10))).containsExactly(largeId, 1L);
+        index.remove(largeId);
+        assertThat(postIds(index.suggest("spring", 10))).containsExactly(1L);
+    }
+
+    private PostTitleIndex index(AutocompleteProperties properties) {
+        return new PostTitleIndex(postRepository, properties);
+    }
+
+    private static List<Long> postIds(List<PostSuggestionDto> suggestions) {
+        return suggestions.stream().map(PostSuggestionDto::postId).toList();
+    }
+
+    private static PostRepository.PostTitleView title(Long postId, String title, int commentCount) {
+        return new PostRepository.PostTitleView() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public int getCommentCount() {
+                return commentCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.config.RelatedPostProperties;
+import com.cafe.blog.dto.RelatedPostDto;
+import com.cafe.blog.entity.Post;
+import com.cafe.blog.entity.UserAccount;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.event.PostUpdated;
+import com.cafe.blog.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class RelatedPostIndexTest {
+
+    private static final String ARTICLE = words(new Random(1), 300);
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private RelatedPostIndex index = index(1000);
+
+    @AfterEach
+    void tearDown() {
+        index.destroy();
+    }
+
+    @Test
+    void related_shouldReturnNearDuplicates_andSkipUnrelatedPosts() {
+        // given
+        given(postRepository.streamRecentTexts(any(Pageable.class))).willReturn(Stream.of(
+                text(3L, "Unrelated", words(new Random(3), 300)),
+                text(2L, "Copy", ARTICLE.replace("a", "e").substring(0, 10) + ARTICLE.substring(10)),
+                text(1L, "Original", ARTICLE),
+                text(4L, "Empty", "")));
+        index.rebuild();
+
+        // when
+        List<RelatedPostDto> related = index.related(1L, 5);
+
+        // then
+        assertThat(related).extracting(RelatedPostDto::postId).containsExactly(2L);
+        assertThat(related.get(0).title()).isEqualTo("Copy");
+        assertThat(related.get(0).similarity()).isGreaterThan(0.8);
+        assertThat(index.related(99L, 5)).isEmpty();
+    }
+
+    @Test
+    void onPostEvent_shouldRecomputeEditedPost_andRemoveDeletedPost() {
+        // given
+        given(postRepository.streamRecentTexts(any(Pageable.class))).willReturn(Stream.of(
+                text(3L, "Unrelated", words(new Random(3), 300)),
+                text(2L, "Copy", ARTICLE),
+                text(1L, "Original", ARTICLE)));
+        index.rebuild();
+        given(postRepository.findWithContentById(3L)).willReturn(Optional.of(post(3L, "Edited", ARTICLE)));
+
+        // when
+        index.onPostEvent(PostUpdated.of(3L, "Edited", "user1", Set.of()));
+        index.onPostEvent(PostDeleted.of(2L));
+
+        // then
+        assertThat(index.related(1L, 5)).extracting(RelatedPostDto::postId).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild_shouldKeepNewestPosts_whenOverCapacity() {
+        // given
+        index.destroy();
+        index = index(2);
+        given(postRepository.streamRecentTexts(PageRequest.of(0, 2))).willReturn(Stream.of(  // 최신 순, DB 에서 maxPosts 개만 조회
+                text(3L, "c", ARTICLE),
+                text(2L, "b", ARTICLE)));
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.related(3L, 5)).extracting(RelatedPostDto::postId).containsExactly(2L);
+        assertThat(index.related(1L, 5)).isEmpty();
+    }
+
+    @Test
+    void related_shouldKeepPostIdsBeyondIntRange() {
+        // given: BIGINT IDENTITY 가 int 범위를 넘은 경우
+        long largeId = (1L << 31) + 7;
+        given(postRepository.streamRecentTexts(any(Pageable.class))).willReturn(Stream.of(
+                text(largeId, "Copy", ARTICLE),
+                text(1L, "Original", ARTICLE)));
+        index.rebuild();
+
+        // when & then
+        assertThat(index.related(1L, 5)).extracting(RelatedPostDto::postId).containsExactly(largeId);
+        assertThat(index.related(largeId, 5)).extracting(RelatedPostDto::postId).containsExactly(1L);
+    }
+
+    @Test
+    void signature_shouldEstimateJaccardSimilarity() {
+        // given: 앞쪽 절반이 같은 두 글
+        index.destroy();
+        index = new RelatedPostIndex(postRepository, new RelatedPostProperties(256, 64, 5, 20000, 1000, 500, 0.2, 500, "-"));
+        String a = ARTICLE;
+        String b = ARTICLE.substring(0, ARTICLE.length() / 2) + words(new Random(2), 150);
+
+        // when
+        double estimated = RelatedPostIndex.similarity(index.signature(a), index.signature(b));
+
+        // then
+        assertThat(estimated).isCloseTo(jaccard(a, b, 5), within(0.1));
+    }
+
+    private RelatedPostIndex index(int maxPosts) {
+        return new RelatedPostIndex(postRepository, new RelatedPostProperties(64, 16, 5, 20000, maxPosts, 500, 0.2, 2, "-"));
+    }
+
+    private static double jaccard(String a, String b, int k) {
+        Set<String> x = shingles(a, k);
+        Set<String> y = shingles(b, k);
+        Set<String> union = new HashSet<>(x);
+        union.addAll(y);
+        x.retainAll(y);
+        return (double) x.size() / union.size();
+    }
+
+    private static Set<String> shingles(String text, int k) {
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + k <= text.length(); i++) {
+            shingles.add(text.substring(i, i + k));
+        }
+        return shingles;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            for (int c = 2 + random.nextInt(6); c > 0; c--) {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+            text.append(' ');
+        }
+        return text.toString().strip();
+    }
+
+    private static Post post(Long id, String title, String content) {
+        Post post = Post.of(UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo"), title, content);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private static PostRepository.PostTextView text(Long postId, String title, String content) {
+        return new PostRepository.PostTextView() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getContent() {
+                return content;
+            }
+        };
+    }
+}
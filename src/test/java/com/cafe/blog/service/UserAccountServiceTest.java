@@ -1,42 +1,46 @@
 package com.cafe.blog.service;
 
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.RecordingInvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
 import com.cafe.blog.dto.UserAccountDto;
+import com.cafe.blog.dto.UserRemovalDto;
 import com.cafe.blog.dto.security.BlogPrincipal;
 import com.cafe.blog.entity.UserAccount;
-import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.entity.UserRemoval;
+import com.cafe.blog.entity.constant.RemovalStep;
+import com.cafe.blog.repository.InMemoryUserAccountRepository;
+import com.cafe.blog.repository.InMemoryUserRemovalRepository;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)  // Mockito 확장을 사용하여 테스트 클래스 확장
+// Mockito 없이 메모리 fake 로 검증하므로 native image 에서도 실행된다. (nativeTest)
 class UserAccountServiceTest {
 
-    @Mock
-    private UserAccountRepository userAccountRepository;  // UserAccountRepository 목(Mock) 객체 생성
+    private final InMemoryUserAccountRepository userAccountRepository = new InMemoryUserAccountRepository();  // 회원 저장소 (메모리)
 
-    @InjectMocks
-    private UserAccountService userAccountService;  // UserAccountService 객체 생성 및 @Mock으로 생성된 객체 주입
+    private final InMemoryUserRemovalRepository userRemovalRepository = new InMemoryUserRemovalRepository();  // 회원 삭제 진행 상태
+
+    private final VersionedCache<UserAccountDto> userCache = new VersionedCache<>(CacheNames.USERS, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+    private final RecordingInvalidationBus invalidationBus = new RecordingInvalidationBus();  // 다른 노드로의 캐시 무효화 (기록만)
+
+    private final UserAccountService userAccountService = new UserAccountService(userAccountRepository, userRemovalRepository, userCache, invalidationBus);  // 메모리 저장소를 주입한 UserAccountService
 
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();  // PasswordEncoder 객체 생성
 
     // 회원 가입 테스트
     @Test
     void registerUser_shouldRegisterUser_whenUserDoesNotExist() {
-        // given: 사용자 DTO 생성 및 저장될 사용자 엔티티 설정
+        // given: 사용자 DTO 생성 (저장소는 비어 있음)
         UserAccountDto userAccountDto = UserAccountDto.of("user1", "password", "user1@example.com", "nickname", "memo");
-        UserAccount userAccount = UserAccount.of("user1", passwordEncoder.encode("password"), "user1@example.com", "nickname", "memo", "user1");
-        given(userAccountRepository.existsById(userAccountDto.userId())).willReturn(false);  // 사용자 존재 여부 설정
-        given(userAccountRepository.save(any(UserAccount.class))).willReturn(userAccount);  // 사용자 저장 설정
 
         // when: UserAccountService의 registerUser 메서드 호출
         UserAccountDto result = userAccountService.registerUser(userAccountDto);
@@ -44,7 +48,7 @@ class UserAccountServiceTest {
         // then: 결과 검증
         assertNotNull(result);  // 결과가 null이 아닌지 확인
         assertEquals(userAccountDto.userId(), result.userId());  // 결과의 사용자 ID가 입력된 사용자 ID와 동일한지 확인
-        verify(userAccountRepository).save(any(UserAccount.class));  // save 메서드가 호출되었는지 검증
+        assertEquals(1, userAccountRepository.saved().size());  // save 메서드가 호출되었는지 검증
     }
 
     // 회원 가입 실패 테스트: 이미 존재하는 사용자
@@ -52,11 +56,11 @@ class UserAccountServiceTest {
     void registerUser_shouldThrowException_whenUserAlreadyExists() {
         // given: 이미 존재하는 사용자 설정
         UserAccountDto userAccountDto = UserAccountDto.of("user1", "password", "user1@example.com", "nickname", "memo");
-        given(userAccountRepository.existsById(userAccountDto.userId())).willReturn(true);  // 이미 존재하는 사용자 설정
+        userAccountRepository.put(userAccountDto.userId(), UserAccount.of("user1", "password", "user1@example.com", "nickname", "memo"));  // 이미 존재하는 사용자 설정
 
         // when & then: UserAccountService의 registerUser 메서드를 호출했을 때, 예외 발생 검증
         assertThrows(IllegalArgumentException.class, () -> userAccountService.registerUser(userAccountDto));  // 예외 발생 확인
-        verify(userAccountRepository, never()).save(any(UserAccount.class));  // save 메서드가 호출되지 않았는지 확인
+        assertTrue(userAccountRepository.saved().isEmpty());  // save 메서드가 호출되지 않았는지 확인
     }
 
     // 회원 수정 테스트
@@ -65,8 +69,7 @@ class UserAccountServiceTest {
         // given: 사용자 DTO 생성 및 조회될 사용자 엔티티 설정
         UserAccountDto userAccountDto = UserAccountDto.of("user1", "newpassword", "newemail@example.com", "newnickname", "newmemo");
         UserAccount userAccount = UserAccount.of("user1", passwordEncoder.encode("password"), "user1@example.com", "nickname", "memo", "user1");
-        given(userAccountRepository.findById(userAccountDto.userId())).willReturn(Optional.of(userAccount));  // 사용자 조회 설정
-        given(userAccountRepository.save(any(UserAccount.class))).willReturn(userAccount);  // 사용자 저장 설정
+        userAccountRepository.put(userAccountDto.userId(), userAccount);  // 사용자 조회 설정
 
         // when: UserAccountService의 updateUser 메서드 호출
         BlogPrincipal principal = BlogPrincipal.of(userAccountDto.userId(), userAccountDto.userPassword(), userAccountDto.email(), userAccountDto.nickname(), userAccountDto.memo());  // BlogPrincipal 객체 생성
@@ -75,7 +78,8 @@ class UserAccountServiceTest {
         // then: 결과 검증
         assertNotNull(result);  // 결과가 null이 아닌지 확인
         assertEquals(userAccountDto.userId(), result.userId());  // 결과의 사용자 ID가 입력된 사용자 ID와 동일한지 확인
-        verify(userAccountRepository).save(any(UserAccount.class));  // save 메서드가 호출되었는지 검증
+        assertEquals(List.of(userAccount), userAccountRepository.saved());  // save 메서드가 호출되었는지 검증
+        assertEquals(List.of(CacheNames.USERS + ":user1"), invalidationBus.invalidated());  // 다른 노드의 캐시 무효화
     }
 
     // 회원 수정 실패 테스트: 존재하지 않는 사용자
@@ -83,38 +87,61 @@ class UserAccountServiceTest {
     void updateUser_shouldThrowException_whenUserDoesNotExist() {
         // given: 존재하지 않는 사용자 설정
         UserAccountDto userAccountDto = UserAccountDto.of("user1", "newpassword", "newemail@example.com", "newnickname", "newmemo");
-        given(userAccountRepository.findById(userAccountDto.userId())).willReturn(Optional.empty());  // 존재하지 않는 사용자 설정
 
         // when & then: UserAccountService의 updateUser 메서드를 호출했을 때, 예외 발생 검증
         BlogPrincipal principal = BlogPrincipal.of(userAccountDto.userId(), userAccountDto.userPassword(), userAccountDto.email(), userAccountDto.nickname(), userAccountDto.memo());  // BlogPrincipal 객체 생성
         assertThrows(IllegalArgumentException.class, () -> userAccountService.updateUser(userAccountDto.userId(), userAccountDto, principal));  // 예외 발생 확인
-        verify(userAccountRepository, never()).save(any(UserAccount.class));  // save 메서드가 호출되지 않았는지 확인
+        assertTrue(userAccountRepository.saved().isEmpty());  // save 메서드가 호출되지 않았는지 확인
     }
 
-    // 회원 삭제 테스트
+    // 회원 삭제 테스트: 계정을 바로 지우지 않고 삭제 진행 상태를 기록
     @Test
-    void deleteUser_shouldDeleteUser_whenUserExists() {
+    void deleteUser_shouldRecordRemoval_whenUserExists() {
         // given: 존재하는 사용자 설정
         UserAccount userAccount = UserAccount.of("user1", passwordEncoder.encode("password"), "user1@example.com", "nickname", "memo", "user1");
-        given(userAccountRepository.findById("user1")).willReturn(Optional.of(userAccount));  // 존재하는 사용자 설정
+        userAccountRepository.put("user1", userAccount);  // 존재하는 사용자 설정 (진행 중인 삭제 없음)
 
         // when: UserAccountService의 deleteUser 메서드 호출
         BlogPrincipal principal = BlogPrincipal.of("user1", "password", "user1@example.com", "nickname", "memo");  // BlogPrincipal 객체 생성
-        userAccountService.deleteUser("user1", principal);
+        UserRemovalDto result = userAccountService.deleteUser("user1", principal);
 
-        // then: 삭제 메서드 호출 검증
-        verify(userAccountRepository).deleteById("user1");  // deleteById 메서드가 호출되었는지 검증
+        // then: 삭제 요청 기록 검증 (게시글, 계정은 UserRemovalJob 이 묶음 단위로 삭제)
+        assertEquals(RemovalStep.POSTS, result.step());
+        assertEquals(1, userRemovalRepository.saved().size());  // 삭제 진행 상태가 저장되었는지 검증
+        assertTrue(userAccountRepository.existsById("user1"));  // 계정은 아직 삭제하지 않음
+        assertEquals(List.of(CacheNames.USERS + ":user1"), invalidationBus.invalidated());  // 로그인 캐시 무효화
+    }
+
+    // 회원 삭제 테스트: 완료된 삭제 기록이 있으면 (같은 ID 로 재가입) 처음부터 다시 진행
+    @Test
+    void deleteUser_shouldRestartRemoval_whenPreviousRemovalIsDone() {
+        // given: 이전에 삭제가 완료된 사용자 ID
+        UserAccount userAccount = UserAccount.of("user1", passwordEncoder.encode("password"), "user1@example.com", "nickname", "memo", "user1");
+        UserRemoval previous = UserRemoval.of("user1", LocalDateTime.now().minusDays(1));
+        while (!previous.isDone()) {
+            previous.nextStep(LocalDateTime.now());
+        }
+        userAccountRepository.put("user1", userAccount);
+        userRemovalRepository.put("user1", previous);
+
+        // when
+        BlogPrincipal principal = BlogPrincipal.of("user1", "password", "user1@example.com", "nickname", "memo");
+        UserRemovalDto result = userAccountService.deleteUser("user1", principal);
+
+        // then
+        assertEquals(RemovalStep.POSTS, result.step());
+        assertNull(result.finishedAt());
+        assertTrue(userRemovalRepository.saved().isEmpty());  // 변경 감지로 갱신
     }
 
     // 회원 삭제 실패 테스트: 존재하지 않는 사용자
     @Test
     void deleteUser_shouldThrowException_whenUserDoesNotExist() {
         // given: 존재하지 않는 사용자 설정
-        given(userAccountRepository.findById("user1")).willReturn(Optional.empty());  // 존재하지 않는 사용자 설정
 
         // when & then: UserAccountService의 deleteUser 메서드를 호출했을 때, 예외 발생 검증
         BlogPrincipal principal = BlogPrincipal.of("user1", "password", "user1@example.com", "nickname", "memo");  // BlogPrincipal 객체 생성
         assertThrows(IllegalArgumentException.class, () -> userAccountService.deleteUser("user1", principal));  // 예외 발생 확인
-        verify(userAccountRepository, never()).deleteById("user1");  // deleteById 메서드가 호출되지 않았는지 확인
+        assertTrue(userRemovalRepository.saved().isEmpty());  // 삭제 요청이 기록되지 않았는지 확인
     }
 }
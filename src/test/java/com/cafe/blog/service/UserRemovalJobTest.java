@@ -0,0 +1,164 @@
+package com.cafe.blog.service;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.InvalidationBus;
+import com.cafe.blog.config.UserRemovalProperties;
+import com.cafe.blog.entity.UserRemoval;
+import com.cafe.blog.entity.constant.RemovalStep;
+import com.cafe.blog.event.PostDeleted;
+import com.cafe.blog.repository.ArchivedPostRepository;
+import com.cafe.blog.repository.AttachmentDeletionRepository;
+import com.cafe.blog.repository.CommentRepository;
+import com.cafe.blog.repository.PostRepository;
+import com.cafe.blog.repository.PostRevisionRepository;
+import com.cafe.blog.repository.UserAccountRepository;
+import com.cafe.blog.repository.UserRemovalRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage  // Mockito inline mock 은 런타임 바이트코드 생성이 필요하여 native image 에서 동작하지 않음
+class UserRemovalJobTest {
+
+    private final UserRemovalRepository userRemovalRepository = mock(UserRemovalRepository.class);
+    private final UserAccountRepository userAccountRepository = mock(UserAccountRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final ArchivedPostRepository archivedPostRepository = mock(ArchivedPostRepository.class);
+    private final PostRevisionRepository postRevisionRepository = mock(PostRevisionRepository.class);
+    private final AttachmentDeletionRepository attachmentDeletionRepository = mock(AttachmentDeletionRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+
+    private final UserRemovalJob job = new UserRemovalJob(userRemovalRepository, userAccountRepository, postRepository,
+            commentRepository, archivedPostRepository, postRevisionRepository, attachmentDeletionRepository, eventPublisher,
+            invalidationBus, new UserRemovalProperties(10, Duration.ofSeconds(10), 100, 5, Duration.ofSeconds(30)),
+            mock(PlatformTransactionManager.class));
+
+    private final UserRemoval removal = UserRemoval.of("user1", LocalDateTime.now());
+
+    @Test
+    void remove_shouldDeletePostsArchivedPostsCommentsThenAccount() {
+        // given
+        given(userRemovalRepository.findByIdForUpdate("user1")).willReturn(Optional.of(removal));
+        given(postRepository.findRemovalTargets("user1", 0L, 10)).willReturn(List.of(target(1L, 11L), target(2L, null)));
+        given(commentRepository.deleteByPostIdIn(List.of(1L, 2L))).willReturn(4);
+        given(archivedPostRepository.findIdsByUserIdAfter("user1", 0L, PageRequest.of(0, 10))).willReturn(List.of(7L));
+        given(commentRepository.findRemovalTargets("user1", 0L, PageRequest.of(0, 10)))
+                .willReturn(List.of(comment(100L, 9L), comment(101L, 9L), comment(102L, 10L)));
+
+        // when
+        job.remove("user1");
+
+        // then: 게시글은 댓글, 태그, 본문과 함께 set 단위로 삭제하고 첨부파일은 큐에 기록
+        verify(attachmentDeletionRepository).enqueueByPostIdIn(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(postRepository).deleteTagsByPostIdIn(List.of(1L, 2L));
+        verify(postRepository).deleteAllByIdInIncludingDeleted(List.of(1L, 2L));
+        verify(postRepository).deleteContentsByIdIn(List.of(11L));
+        verify(postRevisionRepository).deleteByPostIdIn(List.of(1L, 2L));
+
+        // 지운 게시글마다 PostDeleted 를 발행 (보관된 게시글은 보관할 때 이미 발행됨)
+        ArgumentCaptor<PostDeleted> deleted = ArgumentCaptor.forClass(PostDeleted.class);
+        verify(eventPublisher, times(2)).publishEvent(deleted.capture());
+        assertThat(deleted.getAllValues()).extracting(PostDeleted::postId).containsExactly(1L, 2L);
+
+        // 보관된 게시글
+        verify(attachmentDeletionRepository).enqueueByArchivedPostIdIn(eq(List.of(7L)), any(LocalDateTime.class));
+        verify(archivedPostRepository).deleteAllByIdInBatch(List.of(7L));
+
+        // 다른 게시글에 남긴 댓글은 게시글별 댓글 수를 한 번씩 갱신
+        verify(postRepository).adjustCommentCount(9L, -2);
+        verify(postRepository).adjustCommentCount(10L, -1);
+        verify(commentRepository).deleteAllByIdInBatch(List.of(100L, 101L, 102L));
+
+        verify(userAccountRepository).deleteById("user1");
+        verify(invalidationBus).invalidate(eq(CacheNames.USERS), eq("user1"), any());
+        assertThat(removal.isDone()).isTrue();
+        assertThat(removal.getDeletedPosts()).isEqualTo(3);
+        assertThat(removal.getDeletedComments()).isEqualTo(7);
+        assertThat(removal.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void remove_shouldResumeFromRecordedCursor() {
+        // given: 이전 실행에서 id 5 까지 지우고 중단됨
+        removal.advance(5L, 5, 0, LocalDateTime.now());
+        given(userRemovalRepository.findByIdForUpdate("user1")).willReturn(Optional.of(removal));
+
+        // when
+        job.remove("user1");
+
+        // then
+        verify(postRepository).findRemovalTargets("user1", 5L, 10);
+        verify(postRepository, never()).findRemovalTargets("user1", 0L, 10);
+        assertThat(removal.getDeletedPosts()).isEqualTo(5);
+        assertThat(removal.isDone()).isTrue();
+    }
+
+    @Test
+    void remove_shouldRewind_whenPostWasCreatedDuringRemoval() {
+        // given: 계정 삭제 직전에 기존 세션으로 작성된 게시글
+        given(userRemovalRepository.findByIdForUpdate("user1")).willReturn(Optional.of(removal));
+        given(postRepository.findRemovalTargets("user1", 0L, 10)).willReturn(List.of(), List.of(target(30L, null)));
+        given(postRepository.findRemovalTargets("user1", 0L, 1)).willReturn(List.of(target(30L, null)), List.of());
+
+        // when
+        job.remove("user1");
+
+        // then
+        verify(postRepository).deleteAllByIdInIncludingDeleted(List.of(30L));
+        verify(userAccountRepository).deleteById("user1");
+        assertThat(removal.getStep()).isEqualTo(RemovalStep.DONE);
+        assertThat(removal.getDeletedPosts()).isEqualTo(1);
+    }
+
+    private static PostRepository.PurgeTarget target(Long postId, Long contentId) {
+        return new PostRepository.PurgeTarget() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public Long getContentId() {
+                return contentId;
+            }
+
+            @Override
+            public String getFilePath() {
+                return null;  // 파일 key 는 INSERT ... SELECT 로 큐에 옮김
+            }
+        };
+    }
+
+    private static CommentRepository.CommentTarget comment(Long commentId, Long postId) {
+        return new CommentRepository.CommentTarget() {
+            @Override
+            public Long getCommentId() {
+                return commentId;
+            }
+
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.cafe.blog.session;
+
+import com.cafe.blog.cache.CacheNames;
+import com.cafe.blog.cache.LocalInvalidationTransport;
+import com.cafe.blog.cache.PubSubInvalidationBus;
+import com.cafe.blog.cache.VersionedCache;
+import com.cafe.blog.querybudget.QueryCountingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.cafe.blog.querybudget.QueryBudgetAssertions.assertQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 의 Spring Session 테이블을 공유하는 두 노드(A, B)
+ */
+class NearCacheSessionRepositoryTest {
+
+    private static final String SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
+
+    private final LocalInvalidationTransport transport = new LocalInvalidationTransport();
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PubSubInvalidationBus busA;
+    private PubSubInvalidationBus busB;
+    private NearCacheSessionRepository nodeA;
+    private NearCacheSessionRepository nodeB;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("org/springframework/session/jdbc/schema-h2.sql")
+                .build();
+        DataSource dataSource = QueryCountingDataSource.wrap(database);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        busA = bus();
+        busB = bus();
+        nodeA = node(dataSource, busA);
+        nodeB = node(dataSource, busB);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        busA.destroy();
+        busB.destroy();
+        database.shutdown();
+    }
+
+    @Test
+    void findById_shouldNotQueryDatabase_whenCached_andWriteAccessTimeBehind() {
+        // given: 로그인
+        String id = login(nodeA);
+        Instant accessedAt = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+
+        // when & then: 이후 요청은 DB 를 읽거나 쓰지 않음
+        assertQueries(() -> {
+            NearCacheSessionRepository.NearCacheSession session = nodeA.findById(id);
+            assertThat((String) session.getAttribute(SECURITY_CONTEXT)).isEqualTo("user1");
+            session.setLastAccessedTime(accessedAt);
+            nodeA.save(session);
+        }).hasStatements(0);
+
+        // 마지막 접근 시각은 모아서 기록
+        assertQueries(nodeA::flushAccessTimes).hasStatements(1);
+        Long stored = jdbcTemplate.queryForObject("select LAST_ACCESS_TIME from SPRING_SESSION where SESSION_ID = ?", Long.class, id);
+        assertThat(stored).isEqualTo(accessedAt.toEpochMilli());
+    }
+
+    @Test
+    void deleteById_shouldEvictSessionFromOtherNodes() {
+        // given: A 에서 로그인한 세션을 B 가 읽어 캐시
+        String id = login(nodeA);
+        assertThat((String) nodeB.findById(id).getAttribute(SECURITY_CONTEXT)).isEqualTo("user1");
+
+        // when: A 에서 로그아웃
+        nodeA.deleteById(id);
+        busA.flush();
+
+        // then
+        assertThat(nodeB.findById(id)).isNull();
+    }
+
+    @Test
+    void save_shouldWriteThroughAndEvictOtherNodes_whenAttributeChanges() {
+        // given
+        String id = login(nodeA);
+        nodeB.findById(id);
+
+        // when: A 에서 세션 속성 변경
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(id);
+        session.setAttribute(SECURITY_CONTEXT, "user2");
+        nodeA.save(session);
+        busA.flush();
+
+        // then
+        assertThat((String) nodeB.findById(id).getAttribute(SECURITY_CONTEXT)).isEqualTo("user2");
+    }
+
+    @Test
+    void cleanupExpired_shouldDeleteExpiredSessionsInBatches() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            NearCacheSessionRepository.NearCacheSession session = nodeA.createSession();
+            session.setMaxInactiveInterval(Duration.ofMinutes(1));
+            session.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+            nodeA.save(session);
+        }
+        String active = login(nodeA);
+
+        // when
+        int deleted = nodeA.cleanupExpired();
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(nodeB.findById(active)).isNotNull();
+    }
+
+    private String login(NearCacheSessionRepository node) {
+        NearCacheSessionRepository.NearCacheSession session = node.createSession();
+        session.setAttribute(SECURITY_CONTEXT, "user1");
+        node.save(session);
+        return session.getId();
+    }
+
+    private PubSubInvalidationBus bus() {
+        PubSubInvalidationBus bus = new PubSubInvalidationBus(transport, Duration.ofHours(1), new SimpleMeterRegistry());
+        bus.afterPropertiesSet();
+        return bus;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static NearCacheSessionRepository node(DataSource dataSource, PubSubInvalidationBus bus) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcIndexedSessionRepository jdbcRepository = new JdbcIndexedSessionRepository(
+                jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        VersionedCache<MapSession> nearCache = new VersionedCache<>(CacheNames.SESSIONS, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        bus.subscribe(CacheNames.SESSIONS, nearCache);
+        return new NearCacheSessionRepository((SessionRepository<Session>) (SessionRepository<?>) jdbcRepository,
+                jdbcTemplate, "SPRING_SESSION", nearCache, bus, 2);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cafe.blog.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeSetTest {
+
+    @Test
+    void add_shouldMergeOverlappingAndAdjacentRanges() {
+        // given
+        ByteRangeSet set = new ByteRangeSet();
+
+        // when: 순서 없이 도착한 chunk
+        set.add(20, 30);
+        set.add(0, 10);
+        set.add(10, 15);
+        set.add(25, 40);
+
+        // then
+        assertThat(set.toString()).isEqualTo("0-15,20-40");
+        assertThat(set.receivedBytes()).isEqualTo(35);
+        assertThat(set.missing(50)).containsExactly(new ByteRangeSet.Range(15, 20), new ByteRangeSet.Range(40, 50));
+        assertThat(set.covers(40)).isFalse();
+
+        set.add(15, 20);
+        assertThat(set.covers(40)).isTrue();
+    }
+
+    @Test
+    void parse_shouldRestoreEncodedRanges() {
+        ByteRangeSet set = ByteRangeSet.parse("0-5,8-12");
+
+        assertThat(set.ranges()).containsExactly(new ByteRangeSet.Range(0, 5), new ByteRangeSet.Range(8, 12));
+        assertThat(ByteRangeSet.parse("").ranges()).isEmpty();
+    }
+}
@@ -0,0 +1,263 @@
+package com.cafe.blog.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 S3 호환 서버 (MinIO 대용, 메모리 저장)
+ *
+ * path-style 주소(/{bucket}/{key})의 PutObject, multipart 업로드(Create/UploadPart/Complete),
+ * Range GetObject, HeadObject, DeleteObject 만 지원합니다. 서명은 검사하지 않으며, aws-chunked 본문은 풀어서 저장합니다.
+ * 받은 요청을 "METHOD 동작" 형태로 기록합니다. (requests)
+ */
+class FakeS3Server implements AutoCloseable {
+
+    private static final String XMLNS = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * 저장된 객체 (없으면 null)
+     */
+    StoredObject object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    List<String> requests() {
+        return requests;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(1), StandardCharsets.UTF_8);
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (method.equals("POST") && query.containsKey("uploads")) {
+                createMultipartUpload(exchange, path);
+            } else if (method.equals("PUT") && query.containsKey("uploadId")) {
+                uploadPart(exchange, query.get("uploadId"), Integer.parseInt(query.get("partNumber")));
+            } else if (method.equals("POST") && query.containsKey("uploadId")) {
+                completeMultipartUpload(exchange, path, query.get("uploadId"));
+            } else if (method.equals("PUT")) {
+                putObject(exchange, path);
+            } else if (method.equals("GET")) {
+                getObject(exchange, path);
+            } else if (method.equals("HEAD")) {
+                headObject(exchange, path);
+            } else if (method.equals("DELETE")) {
+                requests.add("DELETE object");
+                objects.remove(path);
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private void createMultipartUpload(HttpExchange exchange, String path) throws IOException {
+        requests.add("POST createMultipartUpload");
+        exchange.getRequestBody().readAllBytes();
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        int slash = path.indexOf('/');
+        sendXml(exchange, "<InitiateMultipartUploadResult xmlns=\"" + XMLNS + "\">"
+                + "<Bucket>" + path.substring(0, slash) + "</Bucket>"
+                + "<Key>" + path.substring(slash + 1) + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId>"
+                + "</InitiateMultipartUploadResult>");
+    }
+
+    private void uploadPart(HttpExchange exchange, String uploadId, int partNumber) throws IOException {
+        requests.add("PUT uploadPart");
+        byte[] body = readBody(exchange);
+        uploads.get(uploadId).put(partNumber, body);
+        exchange.getResponseHeaders().set("ETag", etag(body));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void completeMultipartUpload(HttpExchange exchange, String path, String uploadId) throws IOException {
+        requests.add("POST completeMultipartUpload");
+        exchange.getRequestBody().readAllBytes();
+        Map<Integer, byte[]> parts = new TreeMap<>(uploads.remove(uploadId));
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] part : parts.values()) {
+            content.writeBytes(part);
+        }
+        String etag = "\"" + HexFormat.of().formatHex(md5(content.toByteArray())) + "-" + parts.size() + "\"";
+        objects.put(path, new StoredObject(content.toByteArray(), "application/octet-stream", parts.size()));
+        int slash = path.indexOf('/');
+        sendXml(exchange, "<CompleteMultipartUploadResult xmlns=\"" + XMLNS + "\">"
+                + "<Bucket>" + path.substring(0, slash) + "</Bucket>"
+                + "<Key>" + path.substring(slash + 1) + "</Key>"
+                + "<ETag>" + etag + "</ETag>"
+                + "</CompleteMultipartUploadResult>");
+    }
+
+    private void putObject(HttpExchange exchange, String path) throws IOException {
+        requests.add("PUT object");
+        byte[] body = readBody(exchange);
+        objects.put(path, new StoredObject(body, exchange.getRequestHeaders().getFirst("Content-Type"), 0));
+        exchange.getResponseHeaders().set("ETag", etag(body));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, String path) throws IOException {
+        requests.add("GET object");
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            sendNoSuchKey(exchange);
+            return;
+        }
+        byte[] content = object.content();
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range == null) {
+            exchange.sendResponseHeaders(200, content.length);
+            exchange.getResponseBody().write(content);
+            return;
+        }
+        String[] bounds = range.substring("bytes=".length()).split("-", -1);
+        int start = Integer.parseInt(bounds[0]);
+        int end = bounds[1].isEmpty() ? content.length - 1 : Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+        exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+        exchange.sendResponseHeaders(206, end - start + 1);
+        exchange.getResponseBody().write(content, start, end - start + 1);
+    }
+
+    private void headObject(HttpExchange exchange, String path) throws IOException {
+        requests.add("HEAD object");
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Length", Integer.toString(object.content().length));
+        if (object.contentType() != null) {
+            exchange.getResponseHeaders().set("Content-Type", object.contentType());
+        }
+        exchange.getResponseHeaders().set("Last-Modified",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+        exchange.getResponseHeaders().set("ETag", etag(object.content()));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private static void sendNoSuchKey(HttpExchange exchange) throws IOException {
+        byte[] body = ("<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(404, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * 요청 본문 (SDK 가 http 에서 사용하는 aws-chunked 인코딩이면 chunk 를 이어 붙임)
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        if (exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length") == null) {
+            return in.readAllBytes();
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        while (true) {
+            String header = readLine(in);  // "<hex 크기>;chunk-signature=..."
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            if (size == 0) {
+                in.readAllBytes();  // trailer (checksum 등)
+                return decoded.toByteArray();
+            }
+            decoded.write(in.readNBytes(size));
+            readLine(in);  // chunk 끝의 CRLF
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] nameValue = pair.split("=", 2);
+            query.put(URLDecoder.decode(nameValue[0], StandardCharsets.UTF_8),
+                    nameValue.length > 1 ? URLDecoder.decode(nameValue[1], StandardCharsets.UTF_8) : "");
+        }
+        return query;
+    }
+
+    private static String etag(byte[] content) {
+        return "\"" + HexFormat.of().formatHex(md5(content)) + "\"";
+    }
+
+    private static byte[] md5(byte[] content) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param parts multipart 로 올라온 part 수 (단일 PutObject 는 0)
+     */
+    record StoredObject(byte[] content, String contentType, int parts) {
+    }
+}
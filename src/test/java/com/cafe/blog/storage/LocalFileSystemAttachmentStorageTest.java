@@ -0,0 +1,67 @@
+package com.cafe.blog.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileSystemAttachmentStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileSystemAttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileSystemAttachmentStorage(root);
+    }
+
+    @Test
+    void put_thenGetRange_shouldReturnRequestedBytes() throws IOException {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        storage.put("a/file.txt", new ByteArrayInputStream(content), content.length, "text/plain");
+
+        // when & then
+        try (InputStream in = storage.getRange("a/file.txt", 2, 3)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("234");
+        }
+        try (InputStream in = storage.getRange("a/file.txt", 7, -1)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("789");
+        }
+        assertThat(storage.stat("a/file.txt")).hasValueSatisfying(stat -> assertThat(stat.size()).isEqualTo(10));
+    }
+
+    @Test
+    void delete_shouldRemoveFile() throws IOException {
+        // given
+        storage.put("b/file.txt", new ByteArrayInputStream(new byte[]{1}), 1, null);
+
+        // when
+        storage.delete("b/file.txt");
+
+        // then
+        assertThat(storage.stat("b/file.txt")).isEmpty();
+    }
+
+    @Test
+    void resolve_shouldRejectKeyOutsideRoot() {
+        assertThatThrownBy(() -> storage.resolve("../escape.txt")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("/etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resolve_shouldAcceptLegacyAbsolutePathUnderRoot() {
+        Path legacy = root.resolve("legacy/file.txt").toAbsolutePath();
+        assertThat(storage.resolve(legacy.toString())).isEqualTo(legacy.normalize());
+    }
+}
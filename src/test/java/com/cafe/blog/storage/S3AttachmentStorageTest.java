@@ -0,0 +1,125 @@
+package com.cafe.blog.storage;
+
+import com.cafe.blog.config.StorageConfig;
+import com.cafe.blog.config.StorageProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StorageConfig 가 만드는 S3 저장소를 테스트용 S3 호환 서버(FakeS3Server)에 연결하여 확인합니다.
+ * (MinIO 처럼 endpoint 와 path-style 주소 사용)
+ */
+class S3AttachmentStorageTest {
+
+    private static final String BUCKET = "cafe-blog";
+    private static final DataSize PART_SIZE = DataSize.ofMegabytes(5);
+
+    private FakeS3Server s3;
+    private S3AttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FakeS3Server();
+        StorageProperties properties = new StorageProperties("s3", new StorageProperties.Local("upload"), new StorageProperties.S3(
+                s3.endpoint().toString(), "us-east-1", BUCKET, "access", "secret", true, PART_SIZE, 2, Duration.ofMinutes(10)));
+        storage = (S3AttachmentStorage) new StorageConfig().s3AttachmentStorage(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.close();
+        s3.close();
+    }
+
+    @Test
+    void put_shouldUploadInParts_whenLargerThanPartSize() throws IOException {
+        // given: part 크기의 2.5 배
+        byte[] content = randomBytes((int) (PART_SIZE.toBytes() * 5 / 2));
+
+        // when
+        storage.put("uuid/large.bin", new ByteArrayInputStream(content), content.length, "application/octet-stream");
+
+        // then: 3 개 part 로 나눠 올리고 순서대로 합쳐짐
+        assertThat(s3.requests()).contains("POST createMultipartUpload", "POST completeMultipartUpload")
+                .filteredOn("PUT uploadPart"::equals).hasSize(3);
+        assertThat(s3.object(BUCKET, "uuid/large.bin")).satisfies(object -> {
+            assertThat(object.parts()).isEqualTo(3);
+            assertThat(object.content()).isEqualTo(content);
+        });
+    }
+
+    @Test
+    void put_thenGetRangeAndStat_shouldReturnStoredBytes() throws IOException {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        storage.put("uuid/small.txt", new ByteArrayInputStream(content), content.length, "text/plain");
+
+        // then: part 크기보다 작으면 한 번에 저장
+        assertThat(s3.requests()).doesNotContain("POST createMultipartUpload");
+        try (InputStream in = storage.getRange("uuid/small.txt", 2, 3)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("234");
+        }
+        try (InputStream in = storage.getRange("uuid/small.txt", 7, -1)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("789");
+        }
+        assertThat(storage.stat("uuid/small.txt")).hasValueSatisfying(stat -> {
+            assertThat(stat.size()).isEqualTo(10);
+            assertThat(stat.contentType()).isEqualTo("text/plain");
+        });
+    }
+
+    @Test
+    void presignedDownloadUrl_shouldPointAtObject_withSignatureAndTtl() throws IOException {
+        // given
+        byte[] content = "presigned".getBytes(StandardCharsets.UTF_8);
+        storage.put("uuid/file.txt", new ByteArrayInputStream(content), content.length, "text/plain");
+
+        // when
+        URI url = storage.presignedDownloadUrl("uuid/file.txt", Duration.ofMinutes(10)).orElseThrow();
+
+        // then: path-style 주소에 서명과 유효 시간이 붙고, 그 URL 로 바로 내려받을 수 있음
+        assertThat(url.getPath()).isEqualTo("/" + BUCKET + "/uuid/file.txt");
+        assertThat(url.getQuery()).contains("X-Amz-Signature=", "X-Amz-Expires=600");
+        HttpURLConnection connection = (HttpURLConnection) url.toURL().openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Test
+    void delete_shouldRemoveObject() throws IOException {
+        // given
+        storage.put("uuid/gone.txt", new ByteArrayInputStream(new byte[]{1}), 1, null);
+
+        // when
+        storage.delete("uuid/gone.txt");
+
+        // then
+        assertThat(s3.object(BUCKET, "uuid/gone.txt")).isNull();
+        assertThat(storage.stat("uuid/gone.txt")).isEmpty();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
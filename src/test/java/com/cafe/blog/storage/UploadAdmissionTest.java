@@ -0,0 +1,60 @@
+package com.cafe.blog.storage;
+
+import com.cafe.blog.config.UploadProperties;
+import com.cafe.blog.exception.UploadRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UploadAdmissionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_shouldReject_whenWritersAreSaturated() {
+        // given
+        UploadAdmission admission = new UploadAdmission(
+                new UploadProperties.Admission(1, 1, Duration.ofMillis(50), DataSize.ofBytes(0), Duration.ofSeconds(3)),
+                meterRegistry);
+        UploadAdmission.Permit permit = admission.acquire();
+
+        // when & then
+        UploadRejectedException e = assertThrows(UploadRejectedException.class, admission::acquire);
+        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(meterRegistry.get("blog.upload.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.upload.active").gauge().value()).isEqualTo(1);
+
+        // 슬롯을 반납하면 다시 받을 수 있다.
+        permit.close();
+        admission.acquire().close();
+    }
+
+    @Test
+    void throttle_shouldPaceReads_toBytesPerSecond() throws IOException {
+        // given: 초당 1000 바이트
+        UploadAdmission admission = new UploadAdmission(
+                new UploadProperties.Admission(1, 1, Duration.ofSeconds(1), DataSize.ofBytes(1000), Duration.ofSeconds(1)),
+                meterRegistry);
+
+        // when
+        long start = System.nanoTime();
+        try (InputStream in = admission.throttle(new ByteArrayInputStream(new byte[300]))) {
+            byte[] buffer = new byte[100];
+            while (in.read(buffer) > 0) {
+                // 100 바이트씩 읽음
+            }
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then: 첫 100 바이트는 바로, 나머지 200 바이트는 예산에 맞춰 약 200ms 대기
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(150);
+    }
+}